@@ -0,0 +1,84 @@
+package com.apitest.baseline;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link RegressionGate}: one comparison per operation seen in either run.
+ */
+public class GateReport {
+
+    public enum Verdict {
+        REGRESSED,
+        IMPROVED,
+        UNCHANGED,
+        INSUFFICIENT_DATA,
+        NEW,
+        MISSING
+    }
+
+    /**
+     * Latencies in milliseconds, throughput in calls per second of the whole run; {@code ratioInterval} is the
+     * bootstrap interval of the candidate/baseline percentile ratio, {@code null} when not compared.
+     */
+    public record Comparison(String environment, String operation, Verdict verdict, long baselineCount,
+                             long candidateCount, double baselineMedian, double candidateMedian,
+                             double baselinePercentile, double candidatePercentile,
+                             HistogramStatistics.Interval ratioInterval, double pSlower, double pFaster,
+                             double baselineThroughput, double candidateThroughput) {
+    }
+
+    private final String baselineCreatedAt;
+    private final double percentile;
+    private final double adjustedAlpha;
+    private final List<Comparison> comparisons;
+
+    GateReport(String baselineCreatedAt, double percentile, double adjustedAlpha, List<Comparison> comparisons) {
+        this.baselineCreatedAt = baselineCreatedAt;
+        this.percentile = percentile;
+        this.adjustedAlpha = adjustedAlpha;
+        this.comparisons = List.copyOf(comparisons);
+    }
+
+    public List<Comparison> getComparisons() {
+        return comparisons;
+    }
+
+    public List<Comparison> getComparisons(Verdict verdict) {
+        return comparisons.stream().filter(comparison -> comparison.verdict() == verdict).toList();
+    }
+
+    public List<Comparison> getRegressions() {
+        return getComparisons(Verdict.REGRESSED);
+    }
+
+    public boolean hasRegressions() {
+        return !getRegressions().isEmpty();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Performance gate against baseline from %s%n", baselineCreatedAt));
+        text.append(String.format("  per-operation significance level: %.5f (Bonferroni-adjusted)%n", adjustedAlpha));
+        text.append(String.format("  regressed: %d, improved: %d, unchanged: %d, insufficient data: %d, new: %d, missing: %d%n%n",
+                getComparisons(Verdict.REGRESSED).size(), getComparisons(Verdict.IMPROVED).size(),
+                getComparisons(Verdict.UNCHANGED).size(), getComparisons(Verdict.INSUFFICIENT_DATA).size(),
+                getComparisons(Verdict.NEW).size(), getComparisons(Verdict.MISSING).size()));
+        String percentileLabel = String.format("p%s", percentile % 1 == 0 ? String.valueOf((int) percentile) : String.valueOf(percentile));
+        text.append(String.format("  %-10s %-45s %-17s %11s %17s %17s %15s %9s %9s %17s%n",
+                "env", "operation", "verdict", "calls", "p50", percentileLabel, percentileLabel + " ratio CI",
+                "p(slower)", "p(faster)", "throughput"));
+        for (Comparison comparison : comparisons) {
+            HistogramStatistics.Interval interval = comparison.ratioInterval();
+            text.append(String.format("  %-10s %-45s %-17s %5d->%-5d %7.1f->%-7.1f %7.1f->%-7.1f %15s %9s %9s %7.2f->%.2f%n",
+                    comparison.environment(), comparison.operation(), comparison.verdict(),
+                    comparison.baselineCount(), comparison.candidateCount(),
+                    comparison.baselineMedian(), comparison.candidateMedian(),
+                    comparison.baselinePercentile(), comparison.candidatePercentile(),
+                    interval == null ? "-" : String.format("[%.2f, %.2f]", interval.lower(), interval.upper()),
+                    Double.isNaN(comparison.pSlower()) ? "-" : String.format("%.4f", comparison.pSlower()),
+                    Double.isNaN(comparison.pFaster()) ? "-" : String.format("%.4f", comparison.pFaster()),
+                    comparison.baselineThroughput(), comparison.candidateThroughput()));
+        }
+        return text.toString();
+    }
+}
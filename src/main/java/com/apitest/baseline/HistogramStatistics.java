@@ -0,0 +1,151 @@
+package com.apitest.baseline;
+
+import com.apitest.metrics.LatencyHistogram;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * Two-sample tests that work directly on {@link LatencyHistogram} bucket counts, so comparing two runs never
+ * needs the raw samples. Samples sharing a bucket are treated as tied.
+ */
+public final class HistogramStatistics {
+
+    /**
+     * Bootstrap resamples draw at most this many values per side. Larger samples only narrow the interval,
+     * so capping it keeps the cost bounded and errs towards not flagging a change.
+     */
+    private static final int MAX_RESAMPLE_SIZE = 10_000;
+
+    private HistogramStatistics() {
+    }
+
+    /**
+     * @param u            the Mann-Whitney U statistic of the candidate (pairs where it is slower, ties count half)
+     * @param z            normal approximation of U, tie- and continuity-corrected
+     * @param pSlower      one-sided p-value for "candidate latencies are stochastically larger"
+     * @param superiority  probability that a random candidate call is slower than a random baseline call
+     */
+    public record MannWhitney(double u, double z, double pSlower, double superiority) {
+    }
+
+    public record Interval(double lower, double upper) {
+    }
+
+    public static MannWhitney mannWhitney(Map<Integer, Long> baseline, Map<Integer, Long> candidate) {
+        long n1 = total(baseline);
+        long n2 = total(candidate);
+        if (n1 == 0 || n2 == 0) {
+            return new MannWhitney(0, 0, 1, 0.5);
+        }
+        TreeMap<Integer, long[]> merged = new TreeMap<>();
+        baseline.forEach((index, count) -> merged.computeIfAbsent(index, key -> new long[2])[0] += count);
+        candidate.forEach((index, count) -> merged.computeIfAbsent(index, key -> new long[2])[1] += count);
+
+        double u = 0;
+        double ties = 0;
+        long baselineBelow = 0;
+        for (long[] counts : merged.values()) {
+            u += counts[1] * (baselineBelow + 0.5 * counts[0]);
+            double tied = counts[0] + counts[1];
+            ties += tied * tied * tied - tied;
+            baselineBelow += counts[0];
+        }
+
+        double pairs = (double) n1 * n2;
+        double n = n1 + n2;
+        double variance = pairs / 12.0 * ((n + 1) - ties / (n * (n - 1)));
+        if (variance <= 0) {
+            return new MannWhitney(u, 0, 0.5, u / pairs);
+        }
+        double z = (u - pairs / 2 - 0.5) / Math.sqrt(variance);
+        return new MannWhitney(u, z, 0.5 * erfc(z / Math.sqrt(2)), u / pairs);
+    }
+
+    /**
+     * Percentile-method bootstrap interval for {@code candidate percentile / baseline percentile}.
+     *
+     * @param coverage  e.g. 0.98 for the 1st to 99th percentile of the resampled ratios
+     */
+    public static Interval percentileRatio(Map<Integer, Long> baseline, Map<Integer, Long> candidate,
+                                           double percentile, int resamples, double coverage, long seed) {
+        Sampler baselineSampler = new Sampler(baseline);
+        Sampler candidateSampler = new Sampler(candidate);
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] ratios = new double[resamples];
+        for (int i = 0; i < resamples; i++) {
+            long base = Math.max(1, baselineSampler.resamplePercentile(random, percentile));
+            long cand = Math.max(1, candidateSampler.resamplePercentile(random, percentile));
+            ratios[i] = (double) cand / base;
+        }
+        Arrays.sort(ratios);
+        double tail = (1 - coverage) / 2;
+        return new Interval(ratios[(int) Math.floor(tail * (resamples - 1))],
+                ratios[(int) Math.ceil((1 - tail) * (resamples - 1))]);
+    }
+
+    static long total(Map<Integer, Long> buckets) {
+        return buckets.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Complementary error function (Numerical Recipes {@code erfcc}), fractional error below 1.2e-7.
+     */
+    static double erfc(double x) {
+        double z = Math.abs(x);
+        double t = 1 / (1 + 0.5 * z);
+        double r = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? r : 2 - r;
+    }
+
+    /**
+     * Draws with replacement from a histogram by inverse CDF over its non-empty buckets.
+     */
+    private static final class Sampler {
+
+        private final long[] values;
+        private final long[] cumulative;
+        private final int size;
+        private final int[] drawn;
+
+        Sampler(Map<Integer, Long> buckets) {
+            TreeMap<Integer, Long> sorted = new TreeMap<>(buckets);
+            values = new long[sorted.size()];
+            cumulative = new long[sorted.size()];
+            int i = 0;
+            long running = 0;
+            for (Map.Entry<Integer, Long> bucket : sorted.entrySet()) {
+                running += bucket.getValue();
+                values[i] = LatencyHistogram.bucketUpperBoundMicros(bucket.getKey());
+                cumulative[i++] = running;
+            }
+            size = (int) Math.min(running, MAX_RESAMPLE_SIZE);
+            drawn = new int[values.length];
+        }
+
+        long resamplePercentile(SplittableRandom random, double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            long total = cumulative[cumulative.length - 1];
+            Arrays.fill(drawn, 0);
+            for (int i = 0; i < size; i++) {
+                int slot = Arrays.binarySearch(cumulative, random.nextLong(total) + 1);
+                drawn[slot < 0 ? -slot - 1 : slot]++;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * size));
+            long seen = 0;
+            for (int i = 0; i < drawn.length; i++) {
+                seen += drawn[i];
+                if (seen >= rank) {
+                    return values[i];
+                }
+            }
+            return values[values.length - 1];
+        }
+    }
+}
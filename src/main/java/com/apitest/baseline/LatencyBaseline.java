@@ -0,0 +1,101 @@
+package com.apitest.baseline;
+
+import com.apitest.metrics.LatencyHistogram;
+import com.apitest.metrics.MetricsRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A run's latency distribution and throughput per environment and operation, as stored in the baseline file.
+ * Histograms are kept as sparse bucket counts, so the file stays small and the next run can rebuild them
+ * exactly.
+ */
+public record LatencyBaseline(String createdAt, Map<String, Map<String, Distribution>> environments) {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    /**
+     * @param throughput calls per second over the whole run
+     */
+    public record Distribution(long count, double throughput, long totalMicros, long maxMicros,
+                               Map<Integer, Long> buckets) {
+
+        static Distribution of(LatencyHistogram histogram, long elapsedMillis) {
+            return new Distribution(histogram.getCount(),
+                    elapsedMillis == 0 ? 0 : histogram.getCount() * 1000.0 / elapsedMillis,
+                    histogram.getTotalMicros(), histogram.getMaxMicros(), histogram.toBucketCounts());
+        }
+
+        public LatencyHistogram toHistogram() {
+            return LatencyHistogram.fromBucketCounts(buckets, totalMicros, maxMicros);
+        }
+    }
+
+    /**
+     * Captures every operation that has completed at least one call so far.
+     */
+    public static LatencyBaseline capture(MetricsRegistry registry) {
+        long elapsedMillis = registry.getElapsed().toMillis();
+        Map<String, Map<String, Distribution>> environments = new TreeMap<>();
+        registry.snapshot().forEach((environment, endpoints) -> {
+            Map<String, Distribution> operations = new TreeMap<>();
+            endpoints.forEach((operation, metrics) -> {
+                LatencyHistogram latency = metrics.getLatency().copy();
+                if (latency.getCount() > 0) {
+                    operations.put(operation, Distribution.of(latency, elapsedMillis));
+                }
+            });
+            if (!operations.isEmpty()) {
+                environments.put(environment, operations);
+            }
+        });
+        return new LatencyBaseline(Instant.now().toString(), environments);
+    }
+
+    public boolean isEmpty() {
+        return environments.isEmpty();
+    }
+
+    /**
+     * This run's distributions, plus those operations of {@code previous} this run did not call, so a run of
+     * a single test class does not drop the rest of the baseline.
+     */
+    public LatencyBaseline mergedOver(LatencyBaseline previous) {
+        Map<String, Map<String, Distribution>> merged = new TreeMap<>();
+        previous.environments().forEach((environment, operations) -> merged.put(environment, new TreeMap<>(operations)));
+        environments.forEach((environment, operations) ->
+                merged.computeIfAbsent(environment, key -> new TreeMap<>()).putAll(operations));
+        return new LatencyBaseline(createdAt, merged);
+    }
+
+    public static Optional<LatencyBaseline> read(Path file) {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(MAPPER.readValue(Files.readString(file), LatencyBaseline.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(this));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
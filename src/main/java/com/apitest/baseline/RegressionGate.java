@@ -0,0 +1,108 @@
+package com.apitest.baseline;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Compares a run's latency distributions with a stored baseline, per environment and operation, and only calls
+ * a change a regression when it is both statistically significant and large enough to matter.
+ * <p>
+ * An operation regressed if either
+ * <ul>
+ *     <li>a one-sided Mann-Whitney U test says its latencies are stochastically larger and its median grew by
+ *     at least {@code min-relative-change}, or</li>
+ *     <li>the whole bootstrap confidence interval of its {@code percentile} ratio lies above
+ *     {@code 1 + min-relative-change}.</li>
+ * </ul>
+ * Improvements are the mirror image. The significance level is divided by the number of operations compared
+ * (Bonferroni), so a run with many endpoints does not fail by chance. Operations with fewer than
+ * {@code min-samples} calls on either side are reported but never gate.
+ */
+public class RegressionGate {
+
+    private static final long BOOTSTRAP_SEED = 0x5EEDL;
+
+    private final ApiConfig.PerfGateConfig config;
+
+    public RegressionGate(ApiConfig.PerfGateConfig config) {
+        this.config = config;
+    }
+
+    public GateReport compare(LatencyBaseline baseline, LatencyBaseline candidate) {
+        Map<String, LatencyBaseline.Distribution> baselineOperations = flatten(baseline);
+        Map<String, LatencyBaseline.Distribution> candidateOperations = flatten(candidate);
+        TreeSet<String> keys = new TreeSet<>(baselineOperations.keySet());
+        keys.addAll(candidateOperations.keySet());
+
+        long compared = keys.stream()
+                .filter(key -> sufficient(baselineOperations.get(key)) && sufficient(candidateOperations.get(key)))
+                .count();
+        double adjustedAlpha = config.getAlpha() / Math.max(1, compared);
+        double threshold = 1 + config.getMinRelativeChange();
+
+        List<GateReport.Comparison> comparisons = new ArrayList<>();
+        for (String key : keys) {
+            LatencyBaseline.Distribution before = baselineOperations.get(key);
+            LatencyBaseline.Distribution after = candidateOperations.get(key);
+            String[] names = key.split("\t", 2);
+            comparisons.add(compare(names[0], names[1], before, after, adjustedAlpha, threshold));
+        }
+        return new GateReport(baseline.createdAt(), config.getPercentile(), adjustedAlpha, comparisons);
+    }
+
+    private GateReport.Comparison compare(String environment, String operation, LatencyBaseline.Distribution before,
+                                          LatencyBaseline.Distribution after, double adjustedAlpha, double threshold) {
+        LatencyHistogram baseline = before == null ? new LatencyHistogram() : before.toHistogram();
+        LatencyHistogram candidate = after == null ? new LatencyHistogram() : after.toHistogram();
+        double baselineThroughput = before == null ? 0 : before.throughput();
+        double candidateThroughput = after == null ? 0 : after.throughput();
+
+        GateReport.Verdict verdict;
+        HistogramStatistics.Interval interval = null;
+        double pSlower = Double.NaN;
+        double pFaster = Double.NaN;
+        if (before == null) {
+            verdict = GateReport.Verdict.NEW;
+        } else if (after == null) {
+            verdict = GateReport.Verdict.MISSING;
+        } else if (!sufficient(before) || !sufficient(after)) {
+            verdict = GateReport.Verdict.INSUFFICIENT_DATA;
+        } else {
+            pSlower = HistogramStatistics.mannWhitney(before.buckets(), after.buckets()).pSlower();
+            pFaster = HistogramStatistics.mannWhitney(after.buckets(), before.buckets()).pSlower();
+            interval = HistogramStatistics.percentileRatio(before.buckets(), after.buckets(), config.getPercentile(),
+                    config.getBootstrapResamples(), 1 - 2 * adjustedAlpha, BOOTSTRAP_SEED);
+            double medianRatio = (double) Math.max(1, candidate.getPercentileMicros(50))
+                    / Math.max(1, baseline.getPercentileMicros(50));
+
+            if ((pSlower < adjustedAlpha && medianRatio >= threshold) || interval.lower() >= threshold) {
+                verdict = GateReport.Verdict.REGRESSED;
+            } else if ((pFaster < adjustedAlpha && medianRatio <= 1 / threshold) || interval.upper() <= 1 / threshold) {
+                verdict = GateReport.Verdict.IMPROVED;
+            } else {
+                verdict = GateReport.Verdict.UNCHANGED;
+            }
+        }
+        return new GateReport.Comparison(environment, operation, verdict, baseline.getCount(), candidate.getCount(),
+                baseline.getPercentileMillis(50), candidate.getPercentileMillis(50),
+                baseline.getPercentileMillis(config.getPercentile()), candidate.getPercentileMillis(config.getPercentile()),
+                interval, pSlower, pFaster, baselineThroughput, candidateThroughput);
+    }
+
+    private boolean sufficient(LatencyBaseline.Distribution distribution) {
+        return distribution != null && distribution.count() >= config.getMinSamples();
+    }
+
+    private static Map<String, LatencyBaseline.Distribution> flatten(LatencyBaseline baseline) {
+        Map<String, LatencyBaseline.Distribution> operations = new TreeMap<>();
+        baseline.environments().forEach((environment, endpoints) ->
+                endpoints.forEach((operation, distribution) -> operations.put(environment + "\t" + operation, distribution)));
+        return operations;
+    }
+}
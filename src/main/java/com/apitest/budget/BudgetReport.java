@@ -0,0 +1,58 @@
+package com.apitest.budget;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link LatencyBudgets#report()}: one row per budgeted operation and environment.
+ */
+public class BudgetReport {
+
+    /**
+     * Latencies in milliseconds; {@code maxViolations} counts calls over {@code x-latency-max-ms}.
+     */
+    public record Row(String environment, LatencyBudget budget, long calls, double p95Millis, double maxMillis,
+                      long maxViolations) {
+
+        boolean p95Exceeded(int minSamples) {
+            return budget.p95Millis() != null && calls >= minSamples && p95Millis > budget.p95Millis();
+        }
+    }
+
+    private final List<Row> rows;
+    private final int minSamples;
+
+    BudgetReport(List<Row> rows, int minSamples) {
+        this.rows = List.copyOf(rows);
+        this.minSamples = minSamples;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public List<Row> getViolations() {
+        return rows.stream().filter(row -> row.maxViolations() > 0 || row.p95Exceeded(minSamples)).toList();
+    }
+
+    public boolean isWithinBudget() {
+        return getViolations().isEmpty();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Latency budgets: %d operations checked, %d over budget (p95 needs %d calls)%n",
+                rows.size(), getViolations().size(), minSamples));
+        text.append(String.format("  %-10s %-45s %7s %17s %17s %10s  %s%n",
+                "env", "operation", "calls", "p95 / budget", "max / budget", "over max", "status"));
+        for (Row row : rows) {
+            LatencyBudget budget = row.budget();
+            String status = row.maxViolations() > 0 || row.p95Exceeded(minSamples) ? "OVER BUDGET"
+                    : budget.p95Millis() != null && row.calls() < minSamples ? "ok (p95 not checked)" : "ok";
+            text.append(String.format("  %-10s %-45s %7d %8.1f/%-8s %8.1f/%-8s %10d  %s%n",
+                    row.environment(), budget.operation(), row.calls(), row.p95Millis(),
+                    budget.p95Millis() == null ? "-" : budget.p95Millis(), row.maxMillis(),
+                    budget.maxMillis() == null ? "-" : budget.maxMillis(), row.maxViolations(), status));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,12 @@
+package com.apitest.budget;
+
+/**
+ * Response-time budget of one operation ({@code METHOD template}), from its {@code x-latency-p95-ms} and
+ * {@code x-latency-max-ms} contract extensions; either may be {@code null} when not declared.
+ */
+public record LatencyBudget(String operation, Long p95Millis, Long maxMillis) {
+
+    public boolean isDeclared() {
+        return p95Millis != null || maxMillis != null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.apitest.budget;
+
+/**
+ * A single call took longer than its operation's {@code x-latency-max-ms}.
+ */
+public class LatencyBudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public LatencyBudgetExceededException(LatencyBudget budget, long elapsedMillis) {
+        super(String.format("%s took %dms, over its %dms latency budget", budget.operation(), elapsedMillis,
+                budget.maxMillis()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.apitest.budget;
+
+import com.apitest.metrics.MetricsFilter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Checks every call against its operation's {@code x-latency-max-ms} and counts it in {@link LatencyBudgets};
+ * the p95 budgets are checked over the whole run from the same calls' metrics.
+ */
+public class LatencyBudgetFilter implements OrderedFilter {
+
+    private final LatencyBudgets budgets;
+    private final String environment;
+    private final boolean mayFail;
+
+    LatencyBudgetFilter(LatencyBudgets budgets, String environment, boolean mayFail) {
+        this.budgets = budgets;
+        this.environment = environment;
+        this.mayFail = mayFail;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        // getTime() is the exchange alone; transports that build their own response (HTTP/2) report -1
+        long elapsedMillis = response.getTime() >= 0 ? response.getTime() : (System.nanoTime() - start) / 1_000_000;
+        budgets.check(environment, MetricsFilter.operationOf(requestSpec), elapsedMillis, mayFail);
+        return response;
+    }
+
+    /**
+     * Ahead of the transport filter, which ends the chain and would otherwise never hand over to this one.
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+}
@@ -0,0 +1,141 @@
+package com.apitest.budget;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.EndpointMetrics;
+import com.apitest.metrics.LatencyHistogram;
+import com.apitest.metrics.MetricsRegistry;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency budgets declared in the OpenAPI contract as {@code x-latency-p95-ms} and
+ * {@code x-latency-max-ms} operation extensions, optionally overridden by an overlay file of the same
+ * {@code paths/<path>/<method>} shape.
+ * <p>
+ * Every service call is checked against its maximum as it happens, and failed on the spot when
+ * {@code fail-on-max} is set, unless it came through a bulk filter (see {@link #filterFor}). The p95 budget
+ * needs a distribution, so {@link #report()} checks it against the run's {@link MetricsRegistry} histograms.
+ * Calls made while metrics recording is suspended (the warm-up) are not checked.
+ */
+@Component
+public class LatencyBudgets {
+
+    public static final String P95_EXTENSION = "x-latency-p95-ms";
+    public static final String MAX_EXTENSION = "x-latency-max-ms";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final String CONTRACT = "/fakerestapi.json";
+
+    private final ApiConfig.LatencyBudgetConfig config;
+    private final MetricsRegistry metricsRegistry;
+    private final Map<String, LatencyBudget> budgets;
+    private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>> maxViolations = new ConcurrentHashMap<>();
+
+    public LatencyBudgets(ApiConfig apiConfig, MetricsRegistry metricsRegistry) {
+        this.config = apiConfig.getLatencyBudget();
+        this.metricsRegistry = metricsRegistry;
+        Map<String, LatencyBudget> declared = new TreeMap<>();
+        try (InputStream contract = LatencyBudgets.class.getResourceAsStream(CONTRACT)) {
+            if (contract == null) {
+                throw new IllegalStateException(CONTRACT + " is not on the classpath");
+            }
+            collect(MAPPER.readTree(contract), declared);
+            if (!config.getOverlay().isBlank()) {
+                collect(MAPPER.readTree(Files.readString(Path.of(config.getOverlay()))), declared);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.budgets = declared;
+    }
+
+    /**
+     * @param mayFail whether a call over its maximum may fail with {@code fail-on-max}; load engines and
+     *                background requests only count it
+     */
+    public LatencyBudgetFilter filterFor(String environment, boolean mayFail) {
+        return new LatencyBudgetFilter(this, environment, mayFail);
+    }
+
+    /**
+     * @return the operation's budget; neither limit is set when the contract declares none
+     */
+    public LatencyBudget forOperation(String operation) {
+        return budgets.getOrDefault(operation, new LatencyBudget(operation, null, null));
+    }
+
+    public Map<String, LatencyBudget> getBudgets() {
+        return budgets;
+    }
+
+    void check(String environment, String operation, long elapsedMillis, boolean mayFail) {
+        if (!config.isEnabled() || !metricsRegistry.isRecording()) {
+            return;
+        }
+        LatencyBudget budget = budgets.get(operation);
+        if (budget == null || budget.maxMillis() == null || elapsedMillis <= budget.maxMillis()) {
+            return;
+        }
+        maxViolations.computeIfAbsent(environment, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operation, key -> new LongAdder()).increment();
+        if (mayFail && config.isFailOnMax()) {
+            throw new LatencyBudgetExceededException(budget, elapsedMillis);
+        }
+    }
+
+    /**
+     * Every budgeted operation called so far, per environment, with its p95 and maximum checked.
+     */
+    public BudgetReport report() {
+        List<BudgetReport.Row> rows = new ArrayList<>();
+        metricsRegistry.snapshot().forEach((environment, endpoints) -> endpoints.forEach((operation, metrics) -> {
+            LatencyBudget budget = budgets.get(operation);
+            if (budget != null) {
+                rows.add(row(environment, budget, metrics));
+            }
+        }));
+        return new BudgetReport(rows, config.getMinSamples());
+    }
+
+    private BudgetReport.Row row(String environment, LatencyBudget budget, EndpointMetrics metrics) {
+        LatencyHistogram latency = metrics.getLatency();
+        LongAdder violations = maxViolations.getOrDefault(environment, new ConcurrentHashMap<>())
+                .get(budget.operation());
+        return new BudgetReport.Row(environment, budget, latency.getCount(), latency.getPercentileMillis(95),
+                latency.getMaxMicros() / 1000.0, violations == null ? 0 : violations.sum());
+    }
+
+    private static void collect(JsonNode document, Map<String, LatencyBudget> budgets) {
+        document.path("paths").properties().forEach(path -> path.getValue().properties().forEach(method -> {
+            JsonNode operation = method.getValue();
+            if (!operation.has(P95_EXTENSION) && !operation.has(MAX_EXTENSION)) {
+                return;
+            }
+            String name = method.getKey().toUpperCase(Locale.ROOT) + " " + path.getKey();
+            LatencyBudget existing = budgets.getOrDefault(name, new LatencyBudget(name, null, null));
+            Long p95 = operation.has(P95_EXTENSION)
+                    ? Long.valueOf(operation.get(P95_EXTENSION).asLong())
+                    : existing.p95Millis();
+            Long max = operation.has(MAX_EXTENSION)
+                    ? Long.valueOf(operation.get(MAX_EXTENSION).asLong())
+                    : existing.maxMillis();
+            budgets.put(name, new LatencyBudget(name, p95, max));
+        }));
+    }
+}
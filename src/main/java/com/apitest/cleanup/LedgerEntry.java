@@ -0,0 +1,13 @@
+package com.apitest.cleanup;
+
+/**
+ * An entity created by a test: where it lives and how to delete it, i.e. {@code DELETE baseUrl + path} with the
+ * {@code id} path parameter.
+ */
+public record LedgerEntry(String environment, String baseUrl, String path, long id) {
+
+    @Override
+    public String toString() {
+        return "DELETE " + baseUrl + path.replace("{id}", Long.toString(id)) + " (" + environment + ")";
+    }
+}
@@ -0,0 +1,89 @@
+package com.apitest.cleanup;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Registers successful {@code POST}s to a collection (for example {@code /api/v1/Books}) that return an
+ * {@code id} with the {@link TestDataLedger}, and tells it about successful deletes, so entities a test
+ * removed itself are not deleted again.
+ * <p>
+ * Only ids the backend assigned (the request sent none, or a different one) or the test data builders issued
+ * (see {@link TestDataIds}) are registered. A create that reuses an existing id, e.g. a fuzzed body or the
+ * warm-up, must not get that entity deleted.
+ */
+public class LedgerFilter implements OrderedFilter {
+
+    private final TestDataLedger ledger;
+    private final String environment;
+
+    LedgerFilter(TestDataLedger ledger, String environment) {
+        this.ledger = ledger;
+        this.environment = environment;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() / 100 != 2) {
+            return response;
+        }
+        String path = requestSpec.getUserDefinedPath();
+        if ("POST".equals(requestSpec.getMethod()) && !path.contains("{")) {
+            Long id = idOf(response);
+            if (id != null && (TestDataIds.isIssued(id) || !id.equals(sentIdOf(requestSpec)))) {
+                ledger.created(new LedgerEntry(environment, requestSpec.getBaseUri(), path + "/{id}", id));
+            }
+        } else if ("DELETE".equals(requestSpec.getMethod()) && path.endsWith("/{id}")) {
+            String id = requestSpec.getPathParams().get("id");
+            if (id != null) {
+                ledger.deleted(new LedgerEntry(environment, requestSpec.getBaseUri(), path, Long.parseLong(id)));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Runs after every other filter except Allure and metrics, next to recording.
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    private static Long sentIdOf(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        String json = body instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8)
+                : body instanceof String text ? text : null;
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            Object id = JsonPath.from(json).get("id");
+            return id instanceof Number number ? number.longValue() : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Long idOf(Response response) {
+        String contentType = response.getContentType();
+        if (contentType == null || !contentType.contains("json")) {
+            return null;
+        }
+        try {
+            Object id = response.path("id");
+            return id instanceof Number number ? number.longValue() : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.apitest.cleanup;
+
+/**
+ * One line of the ledger file. An entry is outstanding while it has a {@code CREATED} line and no
+ * {@code DELETED} line after it.
+ */
+record LedgerRecord(Event event, LedgerEntry entry) {
+
+    enum Event {
+        CREATED,
+        DELETED
+    }
+}
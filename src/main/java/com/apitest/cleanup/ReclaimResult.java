@@ -0,0 +1,21 @@
+package com.apitest.cleanup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of reclaiming part of the ledger. Failed entries stay outstanding for the next run.
+ */
+public record ReclaimResult(int deleted, List<LedgerEntry> failed) {
+
+    static final ReclaimResult NONE = new ReclaimResult(0, List.of());
+
+    ReclaimResult plus(ReclaimResult other) {
+        if (other.failed.isEmpty()) {
+            return new ReclaimResult(deleted + other.deleted, failed);
+        }
+        List<LedgerEntry> allFailed = new ArrayList<>(failed);
+        allFailed.addAll(other.failed);
+        return new ReclaimResult(deleted + other.deleted, allFailed);
+    }
+}
@@ -0,0 +1,30 @@
+package com.apitest.cleanup;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids the test data builders generated for new entities.
+ * <p>
+ * A create whose id the client chose is only registered by {@link LedgerFilter} when the id was issued here.
+ * Creates that reuse ids of existing data, such as fuzzed or hand-built bodies, are never deleted by the cleanup.
+ */
+public final class TestDataIds {
+
+    private static final Set<Long> ISSUED = ConcurrentHashMap.newKeySet();
+
+    private TestDataIds() {
+    }
+
+    /**
+     * Marks {@code id} as generated for a new entity and returns it.
+     */
+    public static int issue(int id) {
+        ISSUED.add((long) id);
+        return id;
+    }
+
+    static boolean isIssued(long id) {
+        return ISSUED.contains(id);
+    }
+}
@@ -0,0 +1,281 @@
+package com.apitest.cleanup;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.config.RestAssuredConfig;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Entities created by tests that still have to be deleted.
+ * <p>
+ * {@link LedgerFilter} registers every create under the test class running on the calling thread (see
+ * {@link #setOwner}). When a class finishes, its entries are deleted in batches on a small background pool, so
+ * test threads never wait for cleanup; whatever is left is reclaimed at the end of the run. Every create and
+ * delete is appended to a JSON-lines file outside {@code target/}, so entries of a run that was killed are
+ * reclaimed by the next one.
+ */
+@Slf4j
+@Component
+public class TestDataLedger implements DisposableBean {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final String NO_OWNER = "";
+    private static final String LEFTOVER = "<previous run>";
+
+    private final ApiConfig.CleanupConfig config;
+    private final ObjectProvider<RestAssuredConfig> restAssuredConfig;
+    private final Path file;
+    private final ConcurrentMap<LedgerEntry, String> outstanding = new ConcurrentHashMap<>();
+    private final Map<String, RestAssuredConfig> cleanupConfigs = new ConcurrentHashMap<>();
+    private final ThreadLocal<String> owner = new ThreadLocal<>();
+    private final AtomicBoolean leftoversReclaimed = new AtomicBoolean();
+    private final ExecutorService executor;
+    private BufferedWriter writer;
+
+    public TestDataLedger(ApiConfig apiConfig, ObjectProvider<RestAssuredConfig> restAssuredConfig) {
+        this.config = apiConfig.getCleanup();
+        this.restAssuredConfig = restAssuredConfig;
+        this.file = Path.of(config.getLedger());
+        this.executor = Executors.newFixedThreadPool(Math.max(1, config.getConcurrency()),
+                Thread.ofPlatform().name("cleanup-", 0).daemon().factory());
+        if (config.isEnabled()) {
+            load();
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public LedgerFilter filterFor(String environment) {
+        return new LedgerFilter(this, environment);
+    }
+
+    /**
+     * Attributes creates on this thread to {@code owner}, typically the running test class; {@code null} leaves
+     * them to the end of the run.
+     */
+    public void setOwner(String owner) {
+        if (owner == null) {
+            this.owner.remove();
+        } else {
+            this.owner.set(owner);
+        }
+    }
+
+    public List<LedgerEntry> outstanding() {
+        return List.copyOf(outstanding.keySet());
+    }
+
+    public List<LedgerEntry> outstanding(String owner) {
+        return outstanding.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(owner))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Deletes the entities created by {@code owner} in the background.
+     */
+    public CompletableFuture<ReclaimResult> reclaim(String owner) {
+        return reclaim(owner::equals);
+    }
+
+    /**
+     * Deletes, in the background, what earlier runs left behind. Only the first call does anything.
+     */
+    public CompletableFuture<ReclaimResult> reclaimLeftoversOnce() {
+        if (!leftoversReclaimed.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(ReclaimResult.NONE);
+        }
+        return reclaim(LEFTOVER::equals);
+    }
+
+    /**
+     * Deletes everything still outstanding and waits up to {@code api.cleanup.shutdown-timeout}, for the end of
+     * the run. Entries that could not be deleted in time stay in the file for the next run.
+     */
+    public ReclaimResult reclaimAllAndWait() {
+        CompletableFuture<ReclaimResult> all = reclaim(any -> true);
+        try {
+            return all.get(config.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Test data cleanup did not finish within {}, {} entries left for the next run",
+                    config.getShutdownTimeout(), outstanding.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Test data cleanup failed", e);
+        }
+        return ReclaimResult.NONE;
+    }
+
+    void created(LedgerEntry entry) {
+        outstanding.put(entry, Objects.requireNonNullElse(owner.get(), NO_OWNER));
+        append(List.of(new LedgerRecord(LedgerRecord.Event.CREATED, entry)));
+    }
+
+    void deleted(LedgerEntry entry) {
+        if (outstanding.remove(entry) != null) {
+            append(List.of(new LedgerRecord(LedgerRecord.Event.DELETED, entry)));
+        }
+    }
+
+    private CompletableFuture<ReclaimResult> reclaim(Predicate<String> owners) {
+        List<LedgerEntry> entries = new ArrayList<>();
+        for (Map.Entry<LedgerEntry, String> entry : outstanding.entrySet()) {
+            if (owners.test(entry.getValue()) && outstanding.remove(entry.getKey(), entry.getValue())) {
+                entries.add(entry.getKey());
+            }
+        }
+        if (entries.isEmpty()) {
+            return CompletableFuture.completedFuture(ReclaimResult.NONE);
+        }
+        CompletableFuture<ReclaimResult> result = CompletableFuture.completedFuture(ReclaimResult.NONE);
+        int batchSize = Math.max(1, config.getBatchSize());
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<LedgerEntry> batch = entries.subList(from, Math.min(entries.size(), from + batchSize));
+            result = result.thenCombine(CompletableFuture.supplyAsync(() -> deleteBatch(batch), executor),
+                    ReclaimResult::plus);
+        }
+        return result.whenComplete((reclaimed, failure) -> {
+            if (reclaimed != null) {
+                log.info("Reclaimed {} test entities, {} failed", reclaimed.deleted(), reclaimed.failed().size());
+            }
+        });
+    }
+
+    /**
+     * Deletes one batch and records the outcome with a single append. A 404 counts as deleted; other failures
+     * go back into the ledger as outstanding without an owner.
+     */
+    private ReclaimResult deleteBatch(List<LedgerEntry> batch) {
+        List<LedgerRecord> deleted = new ArrayList<>(batch.size());
+        List<LedgerEntry> failed = new ArrayList<>();
+        for (LedgerEntry entry : batch) {
+            try {
+                Response response = given()
+                        .spec(cleanupConfig(entry).getCleanupRequestSpecification())
+                        .pathParam("id", entry.id())
+                        .delete(entry.path());
+                int status = response.getStatusCode();
+                if (status / 100 == 2 || status == 404) {
+                    deleted.add(new LedgerRecord(LedgerRecord.Event.DELETED, entry));
+                } else {
+                    failed.add(entry);
+                }
+            } catch (RuntimeException e) {
+                log.debug("Could not delete {}", entry, e);
+                failed.add(entry);
+            }
+        }
+        failed.forEach(entry -> outstanding.putIfAbsent(entry, NO_OWNER));
+        append(deleted);
+        return new ReclaimResult(deleted.size(), failed);
+    }
+
+    private RestAssuredConfig cleanupConfig(LedgerEntry entry) {
+        return cleanupConfigs.computeIfAbsent(entry.environment() + " " + entry.baseUrl(),
+                key -> restAssuredConfig.getObject().forEnvironment(entry.environment(), entry.baseUrl()));
+    }
+
+    /**
+     * Reads what earlier runs left outstanding and compacts the file down to those entries.
+     */
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Map<LedgerEntry, Boolean> entries = new LinkedHashMap<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                LedgerRecord record;
+                try {
+                    record = MAPPER.readValue(line, LedgerRecord.class);
+                } catch (RuntimeException e) {
+                    log.warn("Skipping unreadable ledger line: {}", line);
+                    continue;
+                }
+                if (record.event() == LedgerRecord.Event.CREATED) {
+                    entries.put(record.entry(), Boolean.TRUE);
+                } else {
+                    entries.remove(record.entry());
+                }
+            }
+            entries.keySet().forEach(entry -> outstanding.put(entry, LEFTOVER));
+            List<String> lines = new ArrayList<>();
+            for (LedgerEntry entry : entries.keySet()) {
+                lines.add(MAPPER.writeValueAsString(new LedgerRecord(LedgerRecord.Event.CREATED, entry)));
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!entries.isEmpty()) {
+            log.info("Ledger {} has {} entities left by earlier runs", file, entries.size());
+        }
+    }
+
+    private synchronized void append(List<LedgerRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            if (writer == null) {
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            for (LedgerRecord record : records) {
+                writer.write(MAPPER.writeValueAsString(record));
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        executor.shutdownNow();
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
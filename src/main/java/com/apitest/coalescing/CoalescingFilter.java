@@ -0,0 +1,170 @@
+package com.apitest.coalescing;
+
+import com.apitest.metrics.MetricsFilter;
+import com.apitest.metrics.MetricsRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Single-flight for GETs: while a request is on the wire, identical ones (same method, URI with path and query
+ * parameters, and headers) wait for it instead of sending their own, and each gets a copy of its response.
+ * <p>
+ * It works in two places. This filter runs first and decides whether the caller leads or follows, so the rate
+ * limiter and recording can let followers through without a token or a log entry. {@link #exchange()} runs
+ * right after {@link MetricsFilter}, where followers wait for the leader's response, so every caller still has
+ * its own Allure attachment, validation and latency (including the wait), and only the network exchange is
+ * shared. A failed request fails all of its waiters.
+ */
+public class CoalescingFilter implements OrderedFilter {
+
+    private static final ThreadLocal<Flight> CURRENT = new ThreadLocal<>();
+
+    private final InFlightRequests inFlight;
+    private final MetricsRegistry metricsRegistry;
+    private final String environment;
+    private final OrderedFilter exchange = new Exchange();
+
+    CoalescingFilter(InFlightRequests inFlight, MetricsRegistry metricsRegistry, String environment) {
+        this.inFlight = inFlight;
+        this.metricsRegistry = metricsRegistry;
+        this.environment = environment;
+    }
+
+    /**
+     * Whether the request going through the filters on this thread is waiting for another caller's, and so
+     * sends nothing itself.
+     */
+    public static boolean isFollowing() {
+        Flight flight = CURRENT.get();
+        return flight != null && !flight.leads();
+    }
+
+    /**
+     * The filter that sends the leader's request and hands its response to the followers. Add it after
+     * {@link MetricsFilter} and before phase timing and the transport, together with this one.
+     */
+    public OrderedFilter exchange() {
+        return exchange;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!"GET".equals(requestSpec.getMethod())) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String key = keyOf(requestSpec);
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        CompletableFuture<Response> leader = inFlight.join(key, response);
+        Flight flight = leader == null ? new Flight(key, response, true) : new Flight(key, leader, false);
+
+        Flight previous = CURRENT.get();
+        CURRENT.set(flight);
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            CURRENT.set(previous);
+            if (flight.leads() && !flight.response().isDone()) {
+                inFlight.land(key, flight.response());
+                flight.response().completeExceptionally(
+                        new IllegalStateException("Coalesced request never reached the transport: " + key));
+            }
+        }
+    }
+
+    /**
+     * Runs before the rate limiter, recording and the ledger, so a follower never reaches them as a request of
+     * its own.
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 3;
+    }
+
+    private class Exchange implements OrderedFilter {
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            Flight flight = CURRENT.get();
+            if (flight == null) {
+                return ctx.next(requestSpec, responseSpec);
+            }
+            if (!flight.leads()) {
+                metricsRegistry.endpoint(environment, MetricsFilter.operationOf(requestSpec)).recordCoalesced();
+                return copyOf(await(flight.response()));
+            }
+
+            try {
+                Response response = ctx.next(requestSpec, responseSpec);
+                Response shared = new ResponseBuilder().clone(response).setBody(response.asByteArray()).build();
+                inFlight.land(flight.key(), flight.response());
+                flight.response().complete(shared);
+                return copyOf(shared);
+            } catch (RuntimeException | Error e) {
+                inFlight.land(flight.key(), flight.response());
+                flight.response().completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        /**
+         * Shares the order of Allure and {@link MetricsFilter} and is added after both, but before phase timing
+         * and the transport, so only the leader's exchange is timed and sent.
+         */
+        @Override
+        public int getOrder() {
+            return LOWEST_PRECEDENCE;
+        }
+    }
+
+    /**
+     * The request on this thread: the key it joined under, the response it waits for or completes, and
+     * whether it sends the request.
+     */
+    private record Flight(String key, CompletableFuture<Response> response, boolean leads) {
+    }
+
+    private static String keyOf(FilterableRequestSpecification requestSpec) {
+        StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ').append(requestSpec.getURI());
+        for (Header header : requestSpec.getHeaders()) {
+            key.append('\n').append(header.getName()).append(':').append(header.getValue());
+        }
+        return key.toString();
+    }
+
+    private static Response await(CompletableFuture<Response> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A cloned response shares its original's body stream, so the leader reads the body into the shared
+     * template once and every caller, the leader included, gets its own copy of that. Copies are made one at
+     * a time.
+     */
+    private static Response copyOf(Response response) {
+        synchronized (response) {
+            return new ResponseBuilder().clone(response).build();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.apitest.coalescing;
+
+import com.apitest.metrics.MetricsRegistry;
+import io.restassured.response.Response;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * GETs currently on the wire, shared by every {@link CoalescingFilter} so that services built from different
+ * configurations (bulk, other transport) still join each other's requests.
+ */
+@Component
+public class InFlightRequests {
+
+    private final ConcurrentMap<String, CompletableFuture<Response>> flights = new ConcurrentHashMap<>();
+    private final MetricsRegistry metricsRegistry;
+
+    public InFlightRequests(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    public CoalescingFilter filterFor(String environment) {
+        return new CoalescingFilter(this, metricsRegistry, environment);
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    CompletableFuture<Response> join(String key, CompletableFuture<Response> flight) {
+        return flights.putIfAbsent(key, flight);
+    }
+
+    void land(String key, CompletableFuture<Response> flight) {
+        flights.remove(key, flight);
+    }
+}
@@ -5,13 +5,44 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 @ConfigurationProperties(prefix = "api")
 @Getter
 @Setter
 public class ApiConfig {
 
+    public static final String DEFAULT_ENVIRONMENT = "default";
+
     private BaseConfig base = new BaseConfig();
+    private Map<String, EnvironmentConfig> environments = new LinkedHashMap<>();
+    private List<String> fanOut = new ArrayList<>();
+    private ConnectionConfig connection = new ConnectionConfig();
+    private RecordingConfig recording = new RecordingConfig();
+    private ReplayConfig replay = new ReplayConfig();
+    private DiffConfig diff = new DiffConfig();
+    private SoakConfig soak = new SoakConfig();
+    private FuzzConfig fuzz = new FuzzConfig();
+    private ConsistencyConfig consistency = new ConsistencyConfig();
+    private PaginationConfig pagination = new PaginationConfig();
+    private CrawlConfig crawl = new CrawlConfig();
+    private SnapshotConfig snapshot = new SnapshotConfig();
+    private RateLimitConfig rateLimit = new RateLimitConfig();
+    private TransportConfig transport = new TransportConfig();
+    private LeanConfig lean = new LeanConfig();
+    private WarmUpConfig warmUp = new WarmUpConfig();
+    private PerfGateConfig perfGate = new PerfGateConfig();
+    private DistributedConfig distributed = new DistributedConfig();
+    private LatencyBudgetConfig latencyBudget = new LatencyBudgetConfig();
+    private FaultProxyConfig faultProxy = new FaultProxyConfig();
+    private FingerprintConfig fingerprint = new FingerprintConfig();
+    private CleanupConfig cleanup = new CleanupConfig();
+    private CoalescingConfig coalescing = new CoalescingConfig();
 
     @Getter
     @Setter
@@ -19,8 +50,269 @@ public class ApiConfig {
         private String url;
     }
 
+    @Getter
+    @Setter
+    public static class EnvironmentConfig {
+        private String url;
+    }
+
+    @Getter
+    @Setter
+    public static class ConnectionConfig {
+        private int maxTotal = 64;
+        private int maxPerRoute = 32;
+        private int connectTimeoutMs = 10000;
+        private int socketTimeoutMs = 30000;
+        private boolean phaseTiming = true;
+    }
+
+    @Getter
+    @Setter
+    public static class RecordingConfig {
+        private boolean enabled = false;
+        private String file = "target/recordings/traffic.trl";
+        private int queueCapacity = 65536;
+        private int batchSize = 512;
+    }
+
+    @Getter
+    @Setter
+    public static class ReplayConfig {
+        private String file;
+        private double speedFactor = 1.0;
+        private int lanes = 8;
+        private int maxInFlight = 256;
+        private boolean lean = false;
+    }
+
+    @Getter
+    @Setter
+    public static class DiffConfig {
+        private String baseline = DEFAULT_ENVIRONMENT;
+        private String candidate;
+        private List<String> ignore = new ArrayList<>(List.of("traceId"));
+        private int iterations = 20;
+        private int concurrency = 8;
+        private boolean includeWrites = false;
+    }
+
+    @Getter
+    @Setter
+    public static class SoakConfig {
+        private boolean enabled = false;
+        private Duration duration = Duration.ofHours(1);
+        private double ratePerSecond = 5.0;
+        private int maxInFlight = 64;
+        private Duration sampleInterval = Duration.ofSeconds(30);
+        private Duration window = Duration.ofMinutes(5);
+        private double maxLatencyDrift = 0.5;
+        private long heapGrowthMb = 64;
+        private int connectionGrowth = 8;
+        private int threadGrowth = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class FuzzConfig {
+        private boolean enabled = false;
+        private int cases = 5000;
+        private int concurrency = 16;
+        private long seed = 42;
+        private int maxMutations = 3;
+        private double validRatio = 0.1;
+        private int idRange = 10;
+        private int minimizeAttempts = 64;
+        private String operations = ".*";
+        private String regressionFile = "src/test/resources/fuzz/regressions.jsonl";
+    }
+
+    @Getter
+    @Setter
+    public static class ConsistencyConfig {
+        private boolean enabled = false;
+        private int processes = 16;
+        private int operations = 2000;
+        private int keys = 8;
+        private int firstId = 900_000;
+        private long seed = 42;
+        private int createPercent = 15;
+        private int updatePercent = 30;
+        private int deletePercent = 15;
+        private int maxStatesPerEvent = 100_000;
+        private String historyFile = "target/consistency/history.jsonl";
+    }
+
+    @Getter
+    @Setter
+    public static class PaginationConfig {
+        private String pageParam = "page";
+        private String sizeParam = "pageSize";
+        private int firstPage = 1;
+        private int pageSize = 50;
+        private int prefetchDepth = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class CrawlConfig {
+        private boolean enabled = false;
+        private int concurrency = 8;
+        private boolean fetchListings = true;
+    }
+
+    @Getter
+    @Setter
+    public static class SnapshotConfig {
+        private boolean offHeap = false;
+        private String directory = "target/snapshots";
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimitConfig {
+        private boolean enabled = true;
+        private double ratePerSecond = 50.0;
+        private int burst = 50;
+        private double minRatePerSecond = 1.0;
+        private double backoffFactor = 0.5;
+        private Duration recovery = Duration.ofSeconds(30);
+    }
+
+    /**
+     * How requests leave the JVM: REST Assured's own Apache HttpClient (HTTP/1.1, one request per pooled
+     * connection at a time) or {@code java.net.http.HttpClient} with HTTP/2 multiplexing.
+     */
+    public enum Transport {
+        APACHE,
+        HTTP2
+    }
+
+    @Getter
+    @Setter
+    public static class TransportConfig {
+        private Transport type = Transport.APACHE;
+        private int http2Threads = 4;
+        private int benchmarkRequests = 5000;
+        private int benchmarkConcurrency = 32;
+        private double benchmarkMinSpeedup = 1.0;
+    }
+
+    @Getter
+    @Setter
+    public static class LeanConfig {
+        private int benchmarkRequests = 2000;
+        private int benchmarkConcurrency = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class WarmUpConfig {
+        private boolean enabled = true;
+        private int iterations = 3;
+        private int connections = 4;
+        private boolean includeWrites = false;
+    }
+
+    @Getter
+    @Setter
+    public static class PerfGateConfig {
+        private boolean enabled = true;
+        private String baseline = "target/perf/baseline.json";
+        private String output = "target/perf/current.json";
+        private boolean updateBaseline = false;
+        private double alpha = 0.01;
+        private double minRelativeChange = 0.10;
+        private int minSamples = 20;
+        private double percentile = 95;
+        private int bootstrapResamples = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class DistributedConfig {
+        private String coordinatorUrl = "http://localhost:8089";
+        private int port = 8089;
+        private int expectedWorkers = 1;
+        private Duration registrationWindow = Duration.ofSeconds(60);
+        private double ratePerSecond = 50.0;
+        private Duration duration = Duration.ofMinutes(5);
+        private int maxInFlight = 64;
+        private Duration reportInterval = Duration.ofSeconds(5);
+        private Map<String, Double> mix = new LinkedHashMap<>();
+        private double maxErrorRate = 0.01;
+        private double rateTolerance = 0.05;
+        private String reportFile = "target/distributed-report.txt";
+    }
+
+    @Getter
+    @Setter
+    public static class LatencyBudgetConfig {
+        private boolean enabled = true;
+        private String overlay = "";
+        private boolean failOnMax = false;
+        private int minSamples = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class FaultProxyConfig {
+        private long seed = 42;
+    }
+
+    @Getter
+    @Setter
+    public static class FingerprintConfig {
+        private String directory = "src/test/resources/fingerprints";
+        private List<String> mask = new ArrayList<>(List.of("traceId", "publishDate"));
+        private boolean update = false;
+    }
+
+    @Getter
+    @Setter
+    public static class CleanupConfig {
+        private boolean enabled = true;
+        private String ledger = "test-data/ledger.jsonl";
+        private int concurrency = 4;
+        private int batchSize = 20;
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class CoalescingConfig {
+        private boolean enabled = false;
+    }
+
     public String getBaseUrl() {
         return base.getUrl();
     }
 
+    /**
+     * Environments a fan-out test runs against: {@code api.fan-out} if set, otherwise every configured
+     * environment, otherwise just {@value #DEFAULT_ENVIRONMENT}.
+     */
+    public List<String> getFanOutEnvironments() {
+        if (!fanOut.isEmpty()) {
+            return List.copyOf(fanOut);
+        }
+        if (!environments.isEmpty()) {
+            return List.copyOf(environments.keySet());
+        }
+        return List.of(DEFAULT_ENVIRONMENT);
+    }
+
+    /**
+     * Resolves a named environment to its base URL; {@value #DEFAULT_ENVIRONMENT} is always {@code api.base.url}.
+     */
+    public String getEnvironmentUrl(String name) {
+        if (DEFAULT_ENVIRONMENT.equals(name) && !environments.containsKey(name)) {
+            return getBaseUrl();
+        }
+        EnvironmentConfig environment = environments.get(name);
+        if (environment == null || environment.getUrl() == null) {
+            throw new IllegalArgumentException("No url configured for environment '" + name + "' (api.environments." + name + ".url)");
+        }
+        return environment.getUrl();
+    }
+
 }
@@ -0,0 +1,98 @@
+package com.apitest.config;
+
+import com.apitest.timing.Phase;
+import com.apitest.timing.PhaseRecorder;
+import com.apitest.timing.PhaseTimings;
+import com.apitest.timing.TimedDnsResolver;
+import com.apitest.timing.TimedHttpClient;
+import com.apitest.timing.TimedSocketFactory;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One pooled HTTP client per environment, shared by every service and thread talking to it.
+ * REST Assured otherwise builds a fresh client, and a fresh connection, for every request.
+ * <p>
+ * The clients time every phase of an exchange (DNS, connect, TLS, write, first byte, download) for
+ * {@link PhaseRecorder}; the hooks cost a few {@code nanoTime} calls and record nothing unless a recording runs.
+ */
+@Component
+@SuppressWarnings("deprecation")
+public class ConnectionPools implements DisposableBean {
+
+    private final ApiConfig.ConnectionConfig config;
+    private final ConcurrentMap<String, Pool> pools = new ConcurrentHashMap<>();
+
+    public ConnectionPools(ApiConfig apiConfig) {
+        this.config = apiConfig.getConnection();
+    }
+
+    public io.restassured.config.RestAssuredConfig restAssuredConfigFor(String environment) {
+        return pool(environment).restAssuredConfig();
+    }
+
+    public PoolingClientConnectionManager connectionManagerFor(String environment) {
+        return pool(environment).connectionManager();
+    }
+
+    /**
+     * @return leased/available/pending connection counts per environment
+     */
+    public Map<String, PoolStats> stats() {
+        Map<String, PoolStats> stats = new TreeMap<>();
+        pools.forEach((environment, pool) -> stats.put(environment, pool.connectionManager().getTotalStats()));
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(pool -> pool.connectionManager().shutdown());
+        pools.clear();
+    }
+
+    private Pool pool(String environment) {
+        return pools.computeIfAbsent(environment, name -> {
+            PoolingClientConnectionManager connectionManager =
+                    new PoolingClientConnectionManager(TimedSocketFactory.schemeRegistry(), new TimedDnsResolver());
+            connectionManager.setMaxTotal(config.getMaxTotal());
+            connectionManager.setDefaultMaxPerRoute(config.getMaxPerRoute());
+
+            DefaultHttpClient client = new TimedHttpClient(connectionManager);
+            HttpConnectionParams.setConnectionTimeout(client.getParams(), config.getConnectTimeoutMs());
+            HttpConnectionParams.setSoTimeout(client.getParams(), config.getSocketTimeoutMs());
+            // REST Assured reads bodies lazily and never touches empty ones (e.g. DELETE 200), which would keep
+            // the connection leased forever; buffering hands it back to the pool as soon as the response arrives.
+            client.addResponseInterceptor((response, context) -> {
+                HttpEntity entity = response.getEntity();
+                if (entity != null && entity.isStreaming()) {
+                    long start = System.nanoTime();
+                    response.setEntity(new BufferedHttpEntity(entity));
+                    PhaseRecorder.record(Phase.DOWNLOAD, System.nanoTime() - start);
+                }
+                PhaseRecorder.current().ifPresent(timings -> response.addHeader(PhaseTimings.HEADER, timings.toHeaderValue()));
+            });
+
+            io.restassured.config.RestAssuredConfig restAssuredConfig = io.restassured.config.RestAssuredConfig.config()
+                    .httpClient(HttpClientConfig.httpClientConfig()
+                            .reuseHttpClientInstance()
+                            .httpClientFactory(() -> client));
+            return new Pool(connectionManager, restAssuredConfig);
+        });
+    }
+
+    private record Pool(PoolingClientConnectionManager connectionManager,
+                        io.restassured.config.RestAssuredConfig restAssuredConfig) {
+    }
+}
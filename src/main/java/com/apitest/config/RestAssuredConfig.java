@@ -1,28 +1,251 @@
 package com.apitest.config;
 
+import com.apitest.budget.LatencyBudgetFilter;
+import com.apitest.budget.LatencyBudgets;
+import com.apitest.cleanup.LedgerFilter;
+import com.apitest.cleanup.TestDataLedger;
+import com.apitest.coalescing.CoalescingFilter;
+import com.apitest.coalescing.InFlightRequests;
+import com.apitest.metrics.MetricsFilter;
+import com.apitest.metrics.MetricsRegistry;
+import com.apitest.ratelimit.RateLimitFilter;
+import com.apitest.ratelimit.RateLimiters;
+import com.apitest.recording.TrafficRecorder;
+import com.apitest.timing.PhaseTimingFilter;
+import com.apitest.transport.Http2Clients;
 import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.filter.log.LogDetail;
+import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RestAssuredConfig {
 
     private final ApiConfig apiConfig;
+    private final TrafficRecorder trafficRecorder;
+    private final ConnectionPools connectionPools;
+    private final MetricsRegistry metricsRegistry;
+    private final RateLimiters rateLimiters;
+    private final Http2Clients http2Clients;
+    private final LatencyBudgets latencyBudgets;
+    private final TestDataLedger testDataLedger;
+    private final InFlightRequests inFlightRequests;
+    private final String environment;
+    private final String baseUrl;
+    private final ApiConfig.Transport transport;
+    private final boolean bulk;
+    private final boolean coalescing;
+    private final MetricsFilter metricsFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final PhaseTimingFilter phaseTimingFilter;
+    private final PhaseTimingFilter bulkPhaseTimingFilter;
+    private final LedgerFilter ledgerFilter;
+    private final CoalescingFilter coalescingFilter;
 
-    public RestAssuredConfig(ApiConfig apiConfig) {
+    @Autowired
+    public RestAssuredConfig(ApiConfig apiConfig, TrafficRecorder trafficRecorder,
+                             ConnectionPools connectionPools, MetricsRegistry metricsRegistry,
+                             RateLimiters rateLimiters, Http2Clients http2Clients, LatencyBudgets latencyBudgets,
+                             TestDataLedger testDataLedger, InFlightRequests inFlightRequests) {
+        this(apiConfig, trafficRecorder, connectionPools, metricsRegistry, rateLimiters, http2Clients, latencyBudgets,
+                testDataLedger, inFlightRequests, ApiConfig.DEFAULT_ENVIRONMENT, null,
+                apiConfig.getTransport().getType(), false, apiConfig.getCoalescing().isEnabled());
+    }
+
+    private RestAssuredConfig(ApiConfig apiConfig, TrafficRecorder trafficRecorder, ConnectionPools connectionPools,
+                              MetricsRegistry metricsRegistry, RateLimiters rateLimiters, Http2Clients http2Clients,
+                              LatencyBudgets latencyBudgets, TestDataLedger testDataLedger,
+                              InFlightRequests inFlightRequests, String environment, String baseUrl,
+                              ApiConfig.Transport transport, boolean bulk, boolean coalescing) {
         this.apiConfig = apiConfig;
+        this.trafficRecorder = trafficRecorder;
+        this.connectionPools = connectionPools;
+        this.metricsRegistry = metricsRegistry;
+        this.rateLimiters = rateLimiters;
+        this.http2Clients = http2Clients;
+        this.latencyBudgets = latencyBudgets;
+        this.testDataLedger = testDataLedger;
+        this.inFlightRequests = inFlightRequests;
+        this.environment = environment;
+        this.baseUrl = baseUrl;
+        this.transport = transport;
+        this.bulk = bulk;
+        this.coalescing = coalescing;
+        this.metricsFilter = new MetricsFilter(metricsRegistry, environment);
+        this.rateLimitFilter = new RateLimitFilter(rateLimiters);
+        this.phaseTimingFilter = new PhaseTimingFilter(metricsRegistry, environment, true);
+        this.bulkPhaseTimingFilter = new PhaseTimingFilter(metricsRegistry, environment, false);
+        this.ledgerFilter = testDataLedger.filterFor(environment);
+        this.coalescingFilter = inFlightRequests.filterFor(environment);
+    }
+
+    /**
+     * Same configuration pointed at another deployment, with its own connection pool and metrics,
+     * for running services against several targets at once. Rate limits are per host and stay shared.
+     */
+    public RestAssuredConfig forEnvironment(String environment, String baseUrl) {
+        return new RestAssuredConfig(apiConfig, trafficRecorder, connectionPools, metricsRegistry, rateLimiters,
+                http2Clients, latencyBudgets, testDataLedger, inFlightRequests, environment, baseUrl, transport,
+                bulk, coalescing);
+    }
+
+    /**
+     * Same configuration sending requests over another transport, e.g. to compare the two side by side.
+     */
+    public RestAssuredConfig withTransport(ApiConfig.Transport transport) {
+        return new RestAssuredConfig(apiConfig, trafficRecorder, connectionPools, metricsRegistry, rateLimiters,
+                http2Clients, latencyBudgets, testDataLedger, inFlightRequests, environment, baseUrl, transport,
+                bulk, coalescing);
+    }
+
+    /**
+     * Same configuration whose {@link #getRequestSpecification()} is the bulk one, for service calls that
+     * should stay out of Allure and the console, e.g. the warm-up.
+     */
+    public RestAssuredConfig bulk() {
+        return new RestAssuredConfig(apiConfig, trafficRecorder, connectionPools, metricsRegistry, rateLimiters,
+                http2Clients, latencyBudgets, testDataLedger, inFlightRequests, environment, baseUrl, transport,
+                true, coalescing);
+    }
+
+    /**
+     * Same configuration with identical concurrent GETs coalesced into one request, whatever
+     * {@code api.coalescing.enabled} says.
+     */
+    public RestAssuredConfig coalescing() {
+        return new RestAssuredConfig(apiConfig, trafficRecorder, connectionPools, metricsRegistry, rateLimiters,
+                http2Clients, latencyBudgets, testDataLedger, inFlightRequests, environment, baseUrl, transport,
+                bulk, true);
+    }
+
+    public ApiConfig.Transport getTransport() {
+        return transport;
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl != null ? baseUrl : apiConfig.getBaseUrl();
+    }
+
+    /**
+     * Latency budget check for this environment's calls, added by the services next to contract validation.
+     * The {@link #bulk()} variant only counts calls over budget and never fails them.
+     */
+    public LatencyBudgetFilter latencyBudgetFilter() {
+        return latencyBudgets.filterFor(environment, !bulk);
+    }
+
+    /**
+     * Latency budget check for requests sent with {@link #getBulkRequestSpecification()}; it never fails a call.
+     */
+    public LatencyBudgetFilter bulkLatencyBudgetFilter() {
+        return latencyBudgets.filterFor(environment, false);
+    }
+
+    public ApiConfig.PaginationConfig getPagination() {
+        return apiConfig.getPagination();
     }
 
+    /**
+     * Attaches each request and response to Allure and logs both to the console. Response logging lives here
+     * rather than in the services, so the {@link #bulk()} variant really is silent.
+     */
     public RequestSpecification getRequestSpecification() {
-        return new RequestSpecBuilder()
-                .setBaseUri(apiConfig.getBaseUrl())
+        if (bulk) {
+            return getBulkRequestSpecification();
+        }
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(getBaseUrl())
+                .setConfig(connectionPools.restAssuredConfigFor(environment))
                 .setContentType(ContentType.JSON)
                 .setAccept(ContentType.JSON)
+                .addFilter(rateLimitFilter)
                 .addFilter(new AllureRestAssured())
-                .log(LogDetail.ALL)
-                .build();
+                .addFilter(metricsFilter)
+                .addFilter(new ResponseLoggingFilter(LogDetail.ALL))
+                .log(LogDetail.ALL);
+
+        trafficRecorder.filter().ifPresent(builder::addFilter);
+        addLedger(builder);
+        addCoalescing(builder);
+        addPhaseTiming(builder, phaseTimingFilter);
+        addTransport(builder);
+
+        return builder.build();
+    }
+
+    /**
+     * Same target, pool, metrics and recording as {@link #getRequestSpecification()}, but without Allure
+     * attachments or console logging, for engines that send thousands of requests per test.
+     */
+    public RequestSpecification getBulkRequestSpecification() {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(getBaseUrl())
+                .setConfig(connectionPools.restAssuredConfigFor(environment))
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .addFilter(rateLimitFilter)
+                .addFilter(metricsFilter);
+
+        trafficRecorder.filter().ifPresent(builder::addFilter);
+        addLedger(builder);
+        addCoalescing(builder);
+        addPhaseTiming(builder, bulkPhaseTimingFilter);
+        addTransport(builder);
+
+        return builder.build();
+    }
+
+    /**
+     * Same target and pool, rate limited, but outside metrics, recording and the ledger, for deleting test data
+     * in the background without it showing up as test traffic.
+     */
+    public RequestSpecification getCleanupRequestSpecification() {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(getBaseUrl())
+                .setConfig(connectionPools.restAssuredConfigFor(environment))
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .addFilter(rateLimitFilter);
+
+        addTransport(builder);
+
+        return builder.build();
+    }
+
+    private void addCoalescing(RequestSpecBuilder builder) {
+        if (coalescing) {
+            builder.addFilter(coalescingFilter);
+            builder.addFilter(coalescingFilter.exchange());
+        }
+    }
+
+    private void addLedger(RequestSpecBuilder builder) {
+        if (testDataLedger.isEnabled()) {
+            builder.addFilter(ledgerFilter);
+        }
+    }
+
+    private void addPhaseTiming(RequestSpecBuilder builder, PhaseTimingFilter filter) {
+        if (apiConfig.getConnection().isPhaseTiming()) {
+            builder.addFilter(filter);
+        }
+    }
+
+    /**
+     * The default transport is REST Assured's own client; any other one is a filter added last, so it ends
+     * the chain.
+     */
+    private void addTransport(RequestSpecBuilder builder) {
+        if (transport == ApiConfig.Transport.HTTP2) {
+            builder.addFilter(http2Clients.filterFor(environment));
+        }
     }
 }
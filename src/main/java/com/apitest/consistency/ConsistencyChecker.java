@@ -0,0 +1,31 @@
+package com.apitest.consistency;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Checks a {@link History} key by key. Partitions are independent, so they are checked in parallel.
+ */
+public class ConsistencyChecker {
+
+    private final LinearizabilityChecker linearizability;
+
+    public ConsistencyChecker(int maxStatesPerEvent) {
+        this.linearizability = new LinearizabilityChecker(maxStatesPerEvent);
+    }
+
+    public ConsistencyReport check(History history) {
+        long start = System.nanoTime();
+        Map<String, List<Operation>> partitions = history.byKey();
+        ConsistencyReport report = new ConsistencyReport(history.size(), partitions.size());
+        try (ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors())) {
+            pool.submit(() -> partitions.entrySet().parallelStream().forEach(partition -> {
+                report.add(linearizability.check(partition.getKey(), partition.getValue()));
+                report.addAll(partition.getKey(), ReadYourWritesChecker.check(partition.getValue()));
+            })).join();
+        }
+        report.finish((System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+}
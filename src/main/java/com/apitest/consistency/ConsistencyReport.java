@@ -0,0 +1,84 @@
+package com.apitest.consistency;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Outcome of a consistency check: the linearizability verdict per key and any read-your-writes violations.
+ */
+public class ConsistencyReport {
+
+    private static final int MAX_EXAMPLES = 10;
+
+    private final int operations;
+    private final int keys;
+    private final Map<String, LinearizabilityChecker.Result> results = new ConcurrentHashMap<>();
+    private final List<String> readYourWrites = Collections.synchronizedList(new ArrayList<>());
+    private volatile long checkMillis;
+
+    ConsistencyReport(int operations, int keys) {
+        this.operations = operations;
+        this.keys = keys;
+    }
+
+    void add(LinearizabilityChecker.Result result) {
+        results.put(result.key(), result);
+    }
+
+    void addAll(String key, List<ReadYourWritesChecker.Violation> violations) {
+        violations.forEach(violation -> readYourWrites.add(key + ": " + violation));
+    }
+
+    void finish(long checkMillis) {
+        this.checkMillis = checkMillis;
+    }
+
+    public List<LinearizabilityChecker.Result> getViolations() {
+        return withVerdict(LinearizabilityChecker.Verdict.VIOLATION);
+    }
+
+    public List<LinearizabilityChecker.Result> getUndecided() {
+        return withVerdict(LinearizabilityChecker.Verdict.UNKNOWN);
+    }
+
+    public List<String> getReadYourWritesViolations() {
+        synchronized (readYourWrites) {
+            return List.copyOf(readYourWrites);
+        }
+    }
+
+    public boolean isConsistent() {
+        return getViolations().isEmpty() && readYourWrites.isEmpty();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Consistency check: %d operations on %d keys checked in %dms%n", operations, keys, checkMillis));
+        text.append(String.format("  linearizable keys: %d, violations: %d, undecided (search budget exceeded): %d%n",
+                withVerdict(LinearizabilityChecker.Verdict.LINEARIZABLE).size(), getViolations().size(), getUndecided().size()));
+        text.append(String.format("  read-your-writes violations: %d%n", readYourWrites.size()));
+
+        for (LinearizabilityChecker.Result violation : getViolations().stream().limit(MAX_EXAMPLES).toList()) {
+            text.append(String.format("%n! %s is not linearizable (%d operations, %d states explored)%n",
+                    violation.key(), violation.operations(), violation.exploredStates()));
+            text.append("  no valid order reaches past ").append(violation.stuckAt()).append(System.lineSeparator());
+            violation.concurrent().forEach(operation -> text.append("    ").append(operation).append(System.lineSeparator()));
+        }
+        List<String> examples = getReadYourWritesViolations();
+        if (!examples.isEmpty()) {
+            text.append(String.format("%nRead-your-writes examples%n"));
+            examples.stream().limit(MAX_EXAMPLES).forEach(example -> text.append("  ").append(example).append(System.lineSeparator()));
+        }
+        return text.toString();
+    }
+
+    private List<LinearizabilityChecker.Result> withVerdict(LinearizabilityChecker.Verdict verdict) {
+        return new TreeMap<>(results).values().stream()
+                .filter(result -> result.verdict() == verdict)
+                .toList();
+    }
+}
@@ -0,0 +1,153 @@
+package com.apitest.consistency;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.report.QuietThreads;
+import com.apitest.services.ApiClients;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives concurrent create/update/getById/delete calls against a small shared set of Book and Author ids
+ * and records every call into a {@link History}.
+ * <p>
+ * Every write carries a unique value (the book title or author first name), so each read can be traced
+ * back to the write it observed. Ids start at {@code firstId}, well above the seeded data, so every key
+ * starts out absent. Client processes run without Allure context; pass bulk clients so the calls are neither
+ * logged nor attached.
+ */
+@Slf4j
+public class ConsistencyRunner {
+
+    private static final String BOOKS = "Books/";
+    private static final String AUTHORS = "Authors/";
+
+    private final ApiClients clients;
+    private final ApiConfig.ConsistencyConfig config;
+
+    public ConsistencyRunner(ApiClients clients, ApiConfig.ConsistencyConfig config) {
+        this.clients = clients;
+        this.config = config;
+    }
+
+    public History run() throws InterruptedException {
+        History history = new History();
+        AtomicInteger remaining = new AtomicInteger(config.getOperations());
+        List<Future<?>> processes = new ArrayList<>();
+        log.info("Running {} operations from {} clients on {} keys per resource",
+                config.getOperations(), config.getProcesses(), config.getKeys());
+        try (ExecutorService pool = Executors.newFixedThreadPool(config.getProcesses(),
+                QuietThreads.factory("consistency-"))) {
+            for (int process = 0; process < config.getProcesses(); process++) {
+                int id = process;
+                processes.add(pool.submit(() -> runProcess(id, history, remaining)));
+            }
+            for (Future<?> process : processes) {
+                try {
+                    process.get();
+                } catch (ExecutionException e) {
+                    log.warn("Client process failed", e.getCause());
+                }
+            }
+        }
+        return history;
+    }
+
+    private void runProcess(int process, History history, AtomicInteger remaining) {
+        Random random = new Random(config.getSeed() + process);
+        int sequence = 0;
+        while (remaining.getAndDecrement() > 0) {
+            boolean book = random.nextBoolean();
+            int id = config.getFirstId() + random.nextInt(config.getKeys());
+            Operation.Kind kind = pickKind(random);
+            String written = kind == Operation.Kind.CREATE || kind == Operation.Kind.UPDATE
+                    ? "w-" + process + "-" + sequence++
+                    : null;
+            int operationId = history.nextId();
+            long start = System.nanoTime();
+            int status = 0;
+            String observed = null;
+            long end = Long.MAX_VALUE;
+            try {
+                Response response = book ? callBooks(kind, id, written) : callAuthors(kind, id, written);
+                end = System.nanoTime();
+                status = response.getStatusCode();
+                if (kind == Operation.Kind.READ && status == 200) {
+                    observed = observedValue(book, response);
+                }
+            } catch (RuntimeException e) {
+                log.debug("Operation {} {} failed without a response", kind, id, e);
+            } finally {
+                history.add(new Operation(operationId, process, (book ? BOOKS : AUTHORS) + id, kind, written,
+                        start, end, status, observed));
+            }
+        }
+    }
+
+    private Operation.Kind pickKind(Random random) {
+        int roll = random.nextInt(100);
+        if (roll < config.getCreatePercent()) {
+            return Operation.Kind.CREATE;
+        }
+        if (roll < config.getCreatePercent() + config.getUpdatePercent()) {
+            return Operation.Kind.UPDATE;
+        }
+        if (roll < config.getCreatePercent() + config.getUpdatePercent() + config.getDeletePercent()) {
+            return Operation.Kind.DELETE;
+        }
+        return Operation.Kind.READ;
+    }
+
+    private Response callBooks(Operation.Kind kind, int id, String written) {
+        return switch (kind) {
+            case CREATE -> clients.books().create(book(id, written));
+            case UPDATE -> clients.books().update(id, book(id, written));
+            case READ -> clients.books().getById(id);
+            case DELETE -> clients.books().delete(id);
+        };
+    }
+
+    private Response callAuthors(Operation.Kind kind, int id, String written) {
+        return switch (kind) {
+            case CREATE -> clients.authors().create(author(id, written));
+            case UPDATE -> clients.authors().update(id, author(id, written));
+            case READ -> clients.authors().getById(id);
+            case DELETE -> clients.authors().delete(id);
+        };
+    }
+
+    private static String observedValue(boolean book, Response response) {
+        String value = book ? response.as(Book.class).getTitle() : response.as(Author.class).getFirstName();
+        return value != null ? value : RegisterModel.UNTITLED;
+    }
+
+    private static Book book(int id, String title) {
+        return Book.builder()
+                .id(id)
+                .title(title)
+                .description("consistency check")
+                .pageCount(1)
+                .excerpt("")
+                .publishDate("2024-01-01T00:00:00Z")
+                .build();
+    }
+
+    private static Author author(int id, String firstName) {
+        return Author.builder()
+                .id(id)
+                .idBook(1)
+                .firstName(firstName)
+                .lastName("Consistency")
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.apitest.consistency;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent history of operations. Each operation is added once it completes, with the invocation time taken
+ * before the call; calls that never returned get an end time of {@link Long#MAX_VALUE}.
+ */
+public class History {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private final ConcurrentLinkedQueue<Operation> operations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger ids = new AtomicInteger();
+
+    public int nextId() {
+        return ids.getAndIncrement();
+    }
+
+    public void add(Operation operation) {
+        operations.add(operation);
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Operations grouped by key, each group ordered by invocation time. Keys are independent registers,
+     * so each group can be checked on its own.
+     */
+    public Map<String, List<Operation>> byKey() {
+        Map<String, List<Operation>> partitions = new TreeMap<>();
+        for (Operation operation : operations) {
+            partitions.computeIfAbsent(operation.key(), key -> new ArrayList<>()).add(operation);
+        }
+        partitions.values().forEach(partition -> partition.sort(Comparator.comparingLong(Operation::startNanos)));
+        return partitions;
+    }
+
+    public void writeTo(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            List<Operation> ordered = new ArrayList<>(operations);
+            ordered.sort(Comparator.comparingLong(Operation::startNanos));
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (Operation operation : ordered) {
+                    writer.write(MAPPER.writeValueAsString(operation));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.apitest.consistency;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Linearizability check for the history of a single key, using Lowe's just-in-time linearization.
+ * <p>
+ * Checking keys separately is sound because registers compose (P-compositionality). Within a key, events
+ * are processed in time order while tracking every reachable configuration: the register state, plus
+ * which pending operations have already been placed. An operation is only placed when its completion
+ * forces it, so the search never commits early to an order it later has to undo. Configurations are
+ * deduplicated at every event, so memory depends on client concurrency rather than history length.
+ * <p>
+ * Operations that do not change the state (reads and rejections) are placed eagerly as soon as the
+ * state allows it. A configuration where such an operation is already placed is never worse than one
+ * where it is still pending, so the search only branches on the order of writes. A key where a single
+ * completion needs more than {@code maxStates} configurations is reported as {@link Verdict#UNKNOWN}
+ * rather than stalling the check.
+ */
+public final class LinearizabilityChecker {
+
+    private static final int[] NONE = new int[0];
+
+    public enum Verdict {
+        LINEARIZABLE,
+        VIOLATION,
+        UNKNOWN
+    }
+
+    public record Result(String key, Verdict verdict, int operations, long exploredStates, Operation stuckAt,
+                         List<Operation> concurrent) {
+    }
+
+    private final int maxStates;
+
+    public LinearizabilityChecker(int maxStates) {
+        this.maxStates = maxStates;
+    }
+
+    public Result check(String key, List<Operation> history) {
+        List<Operation> operations = history.stream()
+                .filter(operation -> operation.isWrite() || !operation.isUnknown())
+                .toList();
+        Set<Config> configs = Set.of(new Config(null, NONE));
+        List<Integer> pending = new ArrayList<>();
+        long explored = 0;
+
+        for (Event event : events(operations)) {
+            if (event.call()) {
+                pending.add(event.index());
+                Set<Config> next = new HashSet<>();
+                for (Config config : configs) {
+                    next.add(settle(config.state(), config.placed(), pending, operations));
+                }
+                configs = next;
+                continue;
+            }
+            if (event.time() == Long.MAX_VALUE) {
+                break;
+            }
+            Set<Config> next = complete(event.index(), configs, pending, operations);
+            if (next == null) {
+                return new Result(key, Verdict.UNKNOWN, operations.size(), explored, operations.get(event.index()), List.of());
+            }
+            explored += next.size();
+            if (next.isEmpty()) {
+                Operation stuckAt = operations.get(event.index());
+                List<Operation> concurrent = pending.stream().map(operations::get).limit(20).toList();
+                return new Result(key, Verdict.VIOLATION, operations.size(), explored, stuckAt, concurrent);
+            }
+            pending.remove(Integer.valueOf(event.index()));
+            configs = next;
+        }
+        return new Result(key, Verdict.LINEARIZABLE, operations.size(), explored, null, List.of());
+    }
+
+    /**
+     * Every configuration in which {@code completed} has been placed, reached by placing pending writes
+     * before it in any order; {@code null} if that takes more than {@code maxStates} configurations.
+     */
+    private Set<Config> complete(int completed, Set<Config> configs, List<Integer> pending, List<Operation> operations) {
+        Set<Config> next = new HashSet<>();
+        Set<Config> visited = new HashSet<>();
+        Deque<Config> frontier = new ArrayDeque<>();
+        for (Config config : configs) {
+            if (isPlaced(config, completed)) {
+                next.add(new Config(config.state(), without(config.placed(), completed)));
+            } else if (visited.add(config)) {
+                frontier.push(config);
+            }
+        }
+        Operation target = operations.get(completed);
+        while (!frontier.isEmpty()) {
+            Config config = frontier.pop();
+            if (RegisterModel.accepts(config.state(), target)) {
+                Config placed = settle(RegisterModel.next(config.state(), target), config.placed(), pending, operations);
+                next.add(isPlaced(placed, completed) ? new Config(placed.state(), without(placed.placed(), completed)) : placed);
+            }
+            for (int candidate : pending) {
+                Operation write = operations.get(candidate);
+                if (candidate == completed || !RegisterModel.changesState(write) || isPlaced(config, candidate)
+                        || !RegisterModel.accepts(config.state(), write)) {
+                    continue;
+                }
+                Config child = settle(RegisterModel.next(config.state(), write), with(config.placed(), candidate),
+                        pending, operations);
+                if (isPlaced(child, completed)) {
+                    // A read or rejection settled right after this write; nothing left to place for it
+                    next.add(new Config(child.state(), without(child.placed(), completed)));
+                } else if (visited.add(child)) {
+                    if (visited.size() > maxStates) {
+                        return null;
+                    }
+                    frontier.push(child);
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Places every pending operation that leaves the state unchanged and is valid in it.
+     */
+    private static Config settle(String state, int[] placed, List<Integer> pending, List<Operation> operations) {
+        int[] result = placed;
+        for (int candidate : pending) {
+            Operation operation = operations.get(candidate);
+            if (!RegisterModel.changesState(operation) && Arrays.binarySearch(result, candidate) < 0
+                    && RegisterModel.accepts(state, operation)) {
+                result = with(result, candidate);
+            }
+        }
+        return new Config(state, result);
+    }
+
+    private static List<Event> events(List<Operation> operations) {
+        List<Event> events = new ArrayList<>(operations.size() * 2);
+        for (int i = 0; i < operations.size(); i++) {
+            events.add(new Event(i, true, operations.get(i).startNanos()));
+            events.add(new Event(i, false, operations.get(i).endNanos()));
+        }
+        // On equal timestamps calls sort first, so touching operations count as concurrent
+        events.sort(Comparator.comparingLong(Event::time).thenComparing(event -> !event.call()));
+        return events;
+    }
+
+    private static boolean isPlaced(Config config, int operation) {
+        return Arrays.binarySearch(config.placed(), operation) >= 0;
+    }
+
+    private static int[] with(int[] sorted, int value) {
+        int position = -Arrays.binarySearch(sorted, value) - 1;
+        int[] result = new int[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(sorted, position, result, position + 1, sorted.length - position);
+        return result;
+    }
+
+    private static int[] without(int[] sorted, int value) {
+        int position = Arrays.binarySearch(sorted, value);
+        int[] result = new int[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, position);
+        System.arraycopy(sorted, position + 1, result, position, sorted.length - position - 1);
+        return result;
+    }
+
+    private record Event(int index, boolean call, long time) {
+    }
+
+    /**
+     * Register state plus the sorted indices of pending operations that are already placed.
+     */
+    private record Config(String state, int[] placed) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Config config && Objects.equals(state, config.state)
+                    && Arrays.equals(placed, config.placed);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(state) + Arrays.hashCode(placed);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.apitest.consistency;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * One recorded invocation against a single resource key, with invocation and completion timestamps
+ * from {@link System#nanoTime()}.
+ * <p>
+ * {@code written} is the unique value a create or update sent; {@code observed} is what a read returned
+ * ({@code null} for 404). A {@code status} of 0 means the call failed without a response, so its effect is unknown.
+ */
+public record Operation(int id, int process, String key, Kind kind, String written,
+                        long startNanos, long endNanos, int status, String observed) {
+
+    public enum Kind {
+        CREATE,
+        UPDATE,
+        READ,
+        DELETE
+    }
+
+    @JsonIgnore
+    public boolean isWrite() {
+        return kind != Kind.READ;
+    }
+
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+
+    @JsonIgnore
+    public boolean isUnknown() {
+        return status == 0;
+    }
+
+    /**
+     * Register value after this operation took effect: the written value, or {@code null} for a delete.
+     */
+    @JsonIgnore
+    public String effect() {
+        return kind == Kind.DELETE ? null : written;
+    }
+
+    @Override
+    public String toString() {
+        String detail = switch (kind) {
+            case READ -> status == 200 ? "-> " + observed : "-> " + status;
+            case DELETE -> "-> " + (isUnknown() ? "?" : status);
+            default -> written + " -> " + (isUnknown() ? "?" : status);
+        };
+        return String.format("#%d p%d %s %s %s [%d, %s]", id, process, kind, key, detail,
+                startNanos, endNanos == Long.MAX_VALUE ? "never" : String.valueOf(endNanos));
+    }
+}
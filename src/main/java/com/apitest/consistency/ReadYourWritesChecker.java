@@ -0,0 +1,75 @@
+package com.apitest.consistency;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Session check for a single key: once a client's write has completed, that client's later reads must not
+ * return a value the write definitely superseded.
+ * <p>
+ * A read of another value is fine as long as that value's write could have been ordered after the client's
+ * own write. A 404 is fine only if some delete could have followed it. Linearizability implies this
+ * guarantee, but a separate check points straight at the stale read.
+ */
+public final class ReadYourWritesChecker {
+
+    public record Violation(Operation ownWrite, Operation read, String reason) {
+
+        @Override
+        public String toString() {
+            return read + " after own " + ownWrite + ": " + reason;
+        }
+    }
+
+    private ReadYourWritesChecker() {
+    }
+
+    public static List<Violation> check(List<Operation> history) {
+        Map<String, Operation> writers = new HashMap<>();
+        List<Operation> deletes = new ArrayList<>();
+        for (Operation operation : history) {
+            if (operation.isWrite() && (operation.isSuccessful() || operation.isUnknown())) {
+                if (operation.kind() == Operation.Kind.DELETE) {
+                    deletes.add(operation);
+                } else {
+                    writers.put(operation.written(), operation);
+                }
+            }
+        }
+
+        List<Violation> violations = new ArrayList<>();
+        Map<Integer, Operation> lastOwnWrite = new HashMap<>();
+        for (Operation operation : history) {
+            if (operation.isWrite()) {
+                if (operation.isSuccessful()) {
+                    lastOwnWrite.put(operation.process(), operation);
+                }
+                continue;
+            }
+            Operation own = lastOwnWrite.get(operation.process());
+            if (own == null || operation.isUnknown() || own.endNanos() > operation.startNanos()) {
+                continue;
+            }
+            if (operation.status() == 200) {
+                if (operation.observed().equals(own.written())) {
+                    continue;
+                }
+                Operation source = writers.get(operation.observed());
+                if (source == null) {
+                    violations.add(new Violation(own, operation, "observed a value nobody wrote"));
+                } else if (source.endNanos() < own.startNanos()) {
+                    violations.add(new Violation(own, operation, "observed " + source + ", which completed before the own write"));
+                }
+            } else if (operation.status() == 404 && own.kind() != Operation.Kind.DELETE) {
+                boolean deleteCouldFollow = deletes.stream().anyMatch(delete ->
+                        delete.endNanos() >= own.startNanos() && delete.startNanos() <= operation.endNanos());
+                if (!deleteCouldFollow) {
+                    violations.add(new Violation(own, operation, "resource missing and no delete could follow the own write"));
+                }
+            }
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,40 @@
+package com.apitest.consistency;
+
+import java.util.Objects;
+
+/**
+ * Sequential specification of one resource: a register that is either absent ({@code null}) or holds the
+ * value of the last successful create or update.
+ * <p>
+ * Rejections other than 404 do not constrain the state, so validation errors or throttling never show up
+ * as consistency violations. Writes whose outcome is unknown are assumed to have taken effect; since they
+ * never complete, they can always be placed after everything else, which is equivalent to never happening.
+ */
+final class RegisterModel {
+
+    static final String UNTITLED = "<untitled>";
+
+    private RegisterModel() {
+    }
+
+    static boolean accepts(String state, Operation operation) {
+        if (operation.isUnknown() || operation.isSuccessful() && operation.isWrite()) {
+            return true;
+        }
+        if (operation.status() == 404) {
+            return state == null;
+        }
+        if (operation.kind() == Operation.Kind.READ && operation.status() == 200) {
+            return Objects.equals(state, operation.observed());
+        }
+        return true;
+    }
+
+    static String next(String state, Operation operation) {
+        return changesState(operation) ? operation.effect() : state;
+    }
+
+    static boolean changesState(Operation operation) {
+        return operation.isWrite() && (operation.isSuccessful() || operation.isUnknown());
+    }
+}
@@ -0,0 +1,119 @@
+package com.apitest.crawl;
+
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.models.CoverPhoto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * Referential-integrity checks over a {@link RelationshipIndex}:
+ * <ul>
+ *     <li>duplicate ids in the book listing, the author and cover listings, or across per-book lookups</li>
+ *     <li>authors and covers whose {@code idBook} points at no listed book</li>
+ *     <li>per-book lookups returning entities of another book, or missing entities the listing attributes
+ *     to that book</li>
+ *     <li>lookups that failed</li>
+ * </ul>
+ */
+public final class IntegrityChecker {
+
+    private IntegrityChecker() {
+    }
+
+    public static IntegrityReport check(RelationshipIndex index) {
+        IntegrityReport report = new IntegrityReport(index);
+
+        checkBooks(index, report);
+        checkRelation("Author", index, index::authorsOf, index::hasAuthorsOf, index.getAuthorListing(),
+                Author::getId, Author::getIdBook, report);
+        checkRelation("CoverPhoto", index, index::coversOf, index::hasCoversOf, index.getCoverListing(),
+                CoverPhoto::getId, CoverPhoto::getIdBook, report);
+        index.getFailedLookups().forEach((lookup, status) -> report.add(IntegrityReport.Kind.FAILED_LOOKUP,
+                lookup + " returned " + (status == 0 ? "no response" : status)));
+        return report;
+    }
+
+    private static void checkBooks(RelationshipIndex index, IntegrityReport report) {
+        Map<Integer, Integer> occurrences = new TreeMap<>();
+        for (Book book : index.getBooks()) {
+            if (book.getId() == null) {
+                report.add(IntegrityReport.Kind.MISSING_ID, "Book '" + book.getTitle() + "' has no id");
+            } else {
+                occurrences.merge(book.getId(), 1, Integer::sum);
+            }
+        }
+        occurrences.forEach((id, count) -> {
+            if (count > 1) {
+                report.add(IntegrityReport.Kind.DUPLICATE_ID, "Book id " + id + " appears " + count + " times in /Books");
+            }
+        });
+    }
+
+    private static <T> void checkRelation(String type, RelationshipIndex index, IntFunction<List<T>> lookup,
+                                          IntPredicate looked, List<T> listing,
+                                          Function<T, Integer> id, Function<T, Integer> idBook,
+                                          IntegrityReport report) {
+        // Per-book lookups: every entity belongs to the book it was looked up for, and no id is returned
+        // for more than one book
+        Map<Integer, Set<Integer>> booksById = new TreeMap<>();
+        for (int bookId : index.getBookIds()) {
+            for (T entity : lookup.apply(bookId)) {
+                Integer entityId = id.apply(entity);
+                Integer entityBook = idBook.apply(entity);
+                if (entityId == null) {
+                    report.add(IntegrityReport.Kind.MISSING_ID, type + " returned for book " + bookId + " has no id");
+                    continue;
+                }
+                if (!Integer.valueOf(bookId).equals(entityBook)) {
+                    report.add(IntegrityReport.Kind.MISMATCHED_REFERENCE, type + " " + entityId
+                            + " returned for book " + bookId + " has idBook " + entityBook);
+                }
+                booksById.computeIfAbsent(entityId, ignored -> new TreeSet<>()).add(bookId);
+            }
+        }
+        booksById.forEach((entityId, books) -> {
+            if (books.size() > 1) {
+                report.add(IntegrityReport.Kind.DUPLICATE_ID, type + " id " + entityId + " returned for "
+                        + books.size() + " books " + abbreviate(books));
+            }
+        });
+
+        // Full listing: ids are unique, idBook points at a listed book, and the book's lookup agrees
+        Map<Integer, Integer> occurrences = new HashMap<>();
+        for (T entity : listing) {
+            Integer entityId = id.apply(entity);
+            Integer entityBook = idBook.apply(entity);
+            if (entityId == null) {
+                report.add(IntegrityReport.Kind.MISSING_ID, type + " in listing has no id");
+                continue;
+            }
+            occurrences.merge(entityId, 1, Integer::sum);
+            if (entityBook == null || index.getBook(entityBook) == null) {
+                report.add(IntegrityReport.Kind.ORPHANED_REFERENCE, type + " " + entityId
+                        + " references missing book " + entityBook);
+            } else if (looked.test(entityBook) && !booksById.getOrDefault(entityId, Set.of()).contains(entityBook)) {
+                report.add(IntegrityReport.Kind.MISSING_FROM_LOOKUP, type + " " + entityId + " references book "
+                        + entityBook + " but is not returned by that book's lookup");
+            }
+        }
+        new TreeMap<>(occurrences).forEach((entityId, count) -> {
+            if (count > 1) {
+                report.add(IntegrityReport.Kind.DUPLICATE_ID, type + " id " + entityId + " appears " + count
+                        + " times in the listing");
+            }
+        });
+    }
+
+    private static String abbreviate(Set<Integer> ids) {
+        return ids.size() <= 5 ? ids.toString() : ids.stream().limit(5).toList().toString().replace("]", ", ...]");
+    }
+}
@@ -0,0 +1,72 @@
+package com.apitest.crawl;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of {@link IntegrityChecker}: every violation found, grouped by kind in {@link #toText()}.
+ */
+public class IntegrityReport {
+
+    private static final int MAX_EXAMPLES = 10;
+
+    public enum Kind {
+        DUPLICATE_ID,
+        MISSING_ID,
+        ORPHANED_REFERENCE,
+        MISMATCHED_REFERENCE,
+        MISSING_FROM_LOOKUP,
+        FAILED_LOOKUP
+    }
+
+    public record Violation(Kind kind, String detail) {
+    }
+
+    private final RelationshipIndex index;
+    private final List<Violation> violations = new ArrayList<>();
+
+    IntegrityReport(RelationshipIndex index) {
+        this.index = index;
+    }
+
+    void add(Kind kind, String detail) {
+        violations.add(new Violation(kind, detail));
+    }
+
+    public List<Violation> getViolations() {
+        return List.copyOf(violations);
+    }
+
+    public List<Violation> getViolations(Kind kind) {
+        return violations.stream().filter(violation -> violation.kind() == kind).toList();
+    }
+
+    public boolean isClean() {
+        return violations.isEmpty();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Relationship crawl: %d books (%d distinct ids) crawled in %dms%n",
+                index.getBooks().size(), index.getBookIds().size(), index.getCrawlMillis()));
+        text.append(String.format("  author lookups: %d, cover lookups: %d, failed lookups: %d%n",
+                index.getAuthorLookups(), index.getCoverLookups(), index.getFailedLookups().size()));
+        text.append(String.format("  author listing: %d, cover listing: %d%n",
+                index.getAuthorListing().size(), index.getCoverListing().size()));
+        text.append(String.format("  integrity violations: %d%n", violations.size()));
+
+        Map<Kind, List<Violation>> byKind = new EnumMap<>(Kind.class);
+        violations.forEach(violation -> byKind.computeIfAbsent(violation.kind(), kind -> new ArrayList<>()).add(violation));
+        byKind.forEach((kind, found) -> {
+            text.append(String.format("%n! %s: %d%n", kind, found.size()));
+            found.stream().limit(MAX_EXAMPLES)
+                    .forEach(violation -> text.append("    ").append(violation.detail()).append(System.lineSeparator()));
+            if (found.size() > MAX_EXAMPLES) {
+                text.append(String.format("    ... %d more%n", found.size() - MAX_EXAMPLES));
+            }
+        });
+        return text.toString();
+    }
+}
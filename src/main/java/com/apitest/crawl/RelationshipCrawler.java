@@ -0,0 +1,111 @@
+package com.apitest.crawl;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.models.CoverPhoto;
+import com.apitest.report.QuietThreads;
+import com.apitest.services.ApiClients;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Crawls the Book relationships: lists every book, then looks up the authors and cover photos of each
+ * distinct book id on a bounded pool, and builds a {@link RelationshipIndex} from the results.
+ * <p>
+ * A lookup that fails or returns a non-200 status is recorded on the index instead of aborting the crawl.
+ * Only the initial book listing is required to succeed. Lookups run without Allure context; pass bulk
+ * clients so they are neither logged nor attached.
+ */
+@Slf4j
+public class RelationshipCrawler {
+
+    private final ApiClients clients;
+    private final ApiConfig.CrawlConfig config;
+
+    public RelationshipCrawler(ApiClients clients, ApiConfig.CrawlConfig config) {
+        this.clients = clients;
+        this.config = config;
+    }
+
+    public RelationshipIndex crawl() throws InterruptedException {
+        long start = System.nanoTime();
+        RelationshipIndex index = new RelationshipIndex();
+
+        Response booksResponse = clients.books().getAll();
+        if (booksResponse.getStatusCode() != 200) {
+            throw new IllegalStateException("Book listing returned " + booksResponse.getStatusCode()
+                    + ", nothing to crawl");
+        }
+        List<Book> books = Stream.of(booksResponse.as(Book[].class)).filter(Objects::nonNull).toList();
+        index.addBooks(books);
+
+        Set<Integer> bookIds = new LinkedHashSet<>();
+        books.stream().map(Book::getId).filter(Objects::nonNull).forEach(bookIds::add);
+        log.info("Crawling authors and covers of {} books with {} concurrent lookups",
+                bookIds.size(), config.getConcurrency());
+
+        List<Future<?>> lookups = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(config.getConcurrency(),
+                QuietThreads.factory("crawler-"))) {
+            if (config.isFetchListings()) {
+                lookups.add(pool.submit(() -> fetch(index, "Authors", clients.authors()::getAllAuthors,
+                        Author[].class, index::setAuthorListing)));
+                lookups.add(pool.submit(() -> fetch(index, "CoverPhotos", clients.coverPhotos()::getAllCoverPhotos,
+                        CoverPhoto[].class, index::setCoverListing)));
+            }
+            for (int bookId : bookIds) {
+                lookups.add(pool.submit(() -> fetch(index, "Authors/authors/books/" + bookId,
+                        () -> clients.authors().getByBookId(bookId), Author[].class,
+                        authors -> index.putAuthors(bookId, authors))));
+                lookups.add(pool.submit(() -> fetch(index, "CoverPhotos/books/covers/" + bookId,
+                        () -> clients.coverPhotos().getByBookId(bookId), CoverPhoto[].class,
+                        covers -> index.putCovers(bookId, covers))));
+            }
+            for (Future<?> lookup : lookups) {
+                try {
+                    lookup.get();
+                } catch (ExecutionException e) {
+                    log.warn("Crawler lookup failed", e.getCause());
+                }
+            }
+        }
+
+        index.finish((System.nanoTime() - start) / 1_000_000);
+        log.info("Crawled {} books, {} author and {} cover lookups in {}ms ({} failed)", books.size(),
+                index.getAuthorLookups(), index.getCoverLookups(), index.getCrawlMillis(),
+                index.getFailedLookups().size());
+        return index;
+    }
+
+    private static <T> void fetch(RelationshipIndex index, String lookup, Supplier<Response> call,
+                                  Class<T[]> type, Consumer<List<T>> sink) {
+        Response response;
+        try {
+            response = call.get();
+        } catch (Exception e) {
+            // REST Assured rethrows checked I/O exceptions undeclared
+            log.debug("Lookup {} failed without a response", lookup, e);
+            index.failed(lookup, 0);
+            return;
+        }
+        if (response.getStatusCode() != 200) {
+            index.failed(lookup, response.getStatusCode());
+            return;
+        }
+        sink.accept(Stream.of(response.as(type)).filter(Objects::nonNull).toList());
+    }
+}
@@ -0,0 +1,125 @@
+package com.apitest.crawl;
+
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.models.CoverPhoto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of one crawl: every book, the authors and covers looked up for each book id, and,
+ * when fetched, the full author and cover listings.
+ * <p>
+ * Books are indexed by id with the first occurrence winning. The raw book list is kept as returned, so
+ * duplicate ids stay visible to {@link IntegrityChecker}.
+ */
+public class RelationshipIndex {
+
+    private final List<Book> books = new ArrayList<>();
+    private final Map<Integer, Book> booksById = new LinkedHashMap<>();
+    private final Map<Integer, List<Author>> authorsByBook = new ConcurrentHashMap<>();
+    private final Map<Integer, List<CoverPhoto>> coversByBook = new ConcurrentHashMap<>();
+    private final Map<String, Integer> failedLookups = new ConcurrentHashMap<>();
+    private volatile List<Author> authorListing;
+    private volatile List<CoverPhoto> coverListing;
+    private volatile long crawlMillis;
+
+    void addBooks(List<Book> crawled) {
+        books.addAll(crawled);
+        crawled.stream()
+                .filter(book -> book.getId() != null)
+                .forEach(book -> booksById.putIfAbsent(book.getId(), book));
+    }
+
+    void putAuthors(int bookId, List<Author> authors) {
+        authorsByBook.put(bookId, List.copyOf(authors));
+    }
+
+    void putCovers(int bookId, List<CoverPhoto> covers) {
+        coversByBook.put(bookId, List.copyOf(covers));
+    }
+
+    void setAuthorListing(List<Author> authors) {
+        this.authorListing = List.copyOf(authors);
+    }
+
+    void setCoverListing(List<CoverPhoto> covers) {
+        this.coverListing = List.copyOf(covers);
+    }
+
+    void failed(String lookup, int status) {
+        failedLookups.put(lookup, status);
+    }
+
+    void finish(long crawlMillis) {
+        this.crawlMillis = crawlMillis;
+    }
+
+    public List<Book> getBooks() {
+        return Collections.unmodifiableList(books);
+    }
+
+    public Set<Integer> getBookIds() {
+        return Collections.unmodifiableSet(booksById.keySet());
+    }
+
+    public Book getBook(int id) {
+        return booksById.get(id);
+    }
+
+    public List<Author> authorsOf(int bookId) {
+        return authorsByBook.getOrDefault(bookId, List.of());
+    }
+
+    public List<CoverPhoto> coversOf(int bookId) {
+        return coversByBook.getOrDefault(bookId, List.of());
+    }
+
+    public boolean hasAuthorsOf(int bookId) {
+        return authorsByBook.containsKey(bookId);
+    }
+
+    public boolean hasCoversOf(int bookId) {
+        return coversByBook.containsKey(bookId);
+    }
+
+    /**
+     * The {@code /Authors} listing, or an empty list when it was not fetched or the call failed.
+     */
+    public List<Author> getAuthorListing() {
+        return authorListing != null ? authorListing : List.of();
+    }
+
+    /**
+     * The {@code /CoverPhotos} listing, or an empty list when it was not fetched or the call failed.
+     */
+    public List<CoverPhoto> getCoverListing() {
+        return coverListing != null ? coverListing : List.of();
+    }
+
+    /**
+     * Lookups that returned a non-200 status or no response at all (status 0), keyed by resource path.
+     */
+    public Map<String, Integer> getFailedLookups() {
+        return Collections.unmodifiableMap(new TreeMap<>(failedLookups));
+    }
+
+    public int getAuthorLookups() {
+        return authorsByBook.size();
+    }
+
+    public int getCoverLookups() {
+        return coversByBook.size();
+    }
+
+    public long getCrawlMillis() {
+        return crawlMillis;
+    }
+}
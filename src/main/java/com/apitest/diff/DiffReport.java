@@ -0,0 +1,107 @@
+package com.apitest.diff;
+
+import com.apitest.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-operation outcome of a differential run: mismatch counts, example differences and
+ * baseline/candidate latency distributions side by side.
+ */
+public class DiffReport {
+
+    private static final int MAX_EXAMPLES = 5;
+
+    private final String baseline;
+    private final String candidate;
+    private final ConcurrentMap<String, OperationDiff> operations = new ConcurrentHashMap<>();
+
+    public DiffReport(String baseline, String candidate) {
+        this.baseline = baseline;
+        this.candidate = candidate;
+    }
+
+    OperationDiff operation(String name) {
+        return operations.computeIfAbsent(name, key -> new OperationDiff());
+    }
+
+    public Map<String, OperationDiff> getOperations() {
+        return new TreeMap<>(operations);
+    }
+
+    public long getMismatchCount() {
+        return operations.values().stream().mapToLong(OperationDiff::getMismatchCount).sum();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Differential run: %s vs %s, %d mismatching responses%n", baseline, candidate, getMismatchCount()));
+        text.append(String.format("%n%-45s %8s %10s %10s %10s %10s %9s%n",
+                "operation", "calls", "p50 base", "p50 cand", "p95 base", "p95 cand", "mismatch"));
+        getOperations().forEach((name, diff) -> text.append(String.format("%-45s %8d %8.1fms %8.1fms %8.1fms %8.1fms %9d%n",
+                name, diff.baselineLatency.getCount(),
+                diff.baselineLatency.getPercentileMillis(50), diff.candidateLatency.getPercentileMillis(50),
+                diff.baselineLatency.getPercentileMillis(95), diff.candidateLatency.getPercentileMillis(95),
+                diff.getMismatchCount())));
+        getOperations().forEach((name, diff) -> {
+            if (!diff.examples.isEmpty()) {
+                text.append(System.lineSeparator()).append(name).append(" examples:").append(System.lineSeparator());
+                diff.getExamples().forEach(example -> text.append("  ").append(example).append(System.lineSeparator()));
+            }
+        });
+        return text.toString();
+    }
+
+    public static class OperationDiff {
+
+        private final LatencyHistogram baselineLatency = new LatencyHistogram();
+        private final LatencyHistogram candidateLatency = new LatencyHistogram();
+        private final AtomicLong mismatches = new AtomicLong();
+        private final List<String> examples = Collections.synchronizedList(new ArrayList<>());
+
+        void record(long baselineNanos, long candidateNanos, List<String> differences) {
+            baselineLatency.recordNanos(baselineNanos);
+            candidateLatency.recordNanos(candidateNanos);
+            if (!differences.isEmpty()) {
+                recordMismatch(differences);
+            }
+        }
+
+        void recordMismatch(List<String> differences) {
+            mismatches.incrementAndGet();
+            synchronized (examples) {
+                for (String difference : differences) {
+                    if (examples.size() >= MAX_EXAMPLES) {
+                        break;
+                    }
+                    examples.add(difference);
+                }
+            }
+        }
+
+        public LatencyHistogram getBaselineLatency() {
+            return baselineLatency;
+        }
+
+        public LatencyHistogram getCandidateLatency() {
+            return candidateLatency;
+        }
+
+        public long getMismatchCount() {
+            return mismatches.get();
+        }
+
+        public List<String> getExamples() {
+            synchronized (examples) {
+                return List.copyOf(examples);
+            }
+        }
+    }
+}
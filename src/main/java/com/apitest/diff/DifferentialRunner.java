@@ -0,0 +1,81 @@
+package com.apitest.diff;
+
+import com.apitest.report.QuietThreads;
+import com.apitest.services.ApiClients;
+import com.apitest.services.ApiOperation;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs an operation mix against two deployments at once and compares the responses structurally.
+ * <p>
+ * Each operation is sent to baseline and candidate simultaneously, and up to {@code concurrency} operations
+ * are in flight, so a comparison takes about as long as a single run. Calls run on threads without Allure
+ * context, so pass bulk clients to keep the individual requests out of the report.
+ */
+@Slf4j
+public class DifferentialRunner {
+
+    private final ApiClients baseline;
+    private final ApiClients candidate;
+    private final IgnoreRules ignoreRules;
+    private final int concurrency;
+
+    public DifferentialRunner(ApiClients baseline, ApiClients candidate, IgnoreRules ignoreRules, int concurrency) {
+        this.baseline = baseline;
+        this.candidate = candidate;
+        this.ignoreRules = ignoreRules;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    public DiffReport run(Iterable<ApiOperation> operations) throws InterruptedException {
+        DiffReport report = new DiffReport(baseline.environment(), candidate.environment());
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2 * concurrency,
+                QuietThreads.factory("diff-"))) {
+            for (ApiOperation operation : operations) {
+                permits.acquire();
+                CompletableFuture<Timed> baselineCall = CompletableFuture.supplyAsync(() -> Timed.call(operation, baseline), executor);
+                CompletableFuture<Timed> candidateCall = CompletableFuture.supplyAsync(() -> Timed.call(operation, candidate), executor);
+                pending.add(baselineCall.thenAcceptBoth(candidateCall, (expected, actual) -> compare(operation, expected, actual, report))
+                        .whenComplete((ignored, failure) -> {
+                            permits.release();
+                            if (failure != null) {
+                                report.operation(operation.name()).recordMismatch(List.of("call failed: " + failure.getMessage()));
+                            }
+                        }));
+            }
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).exceptionally(failure -> null).join();
+        }
+        log.info("Differential run {} vs {} finished with {} mismatches",
+                baseline.environment(), candidate.environment(), report.getMismatchCount());
+        return report;
+    }
+
+    private void compare(ApiOperation operation, Timed expected, Timed actual, DiffReport report) {
+        List<String> differences = new ArrayList<>();
+        if (expected.response().getStatusCode() != actual.response().getStatusCode()) {
+            differences.add("status: " + expected.response().getStatusCode() + " != " + actual.response().getStatusCode());
+        }
+        JsonDiff.compare(expected.response().asString(), actual.response().asString(), ignoreRules)
+                .forEach(difference -> differences.add(difference.toString()));
+        report.operation(operation.name()).record(expected.nanos(), actual.nanos(), differences);
+    }
+
+    private record Timed(Response response, long nanos) {
+
+        static Timed call(ApiOperation operation, ApiClients clients) {
+            long start = System.nanoTime();
+            Response response = operation.apply(clients);
+            return new Timed(response, System.nanoTime() - start);
+        }
+    }
+}
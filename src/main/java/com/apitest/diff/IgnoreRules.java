@@ -0,0 +1,52 @@
+package com.apitest.diff;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Which JSON locations a structural comparison should skip.
+ * <ul>
+ *     <li>a bare name such as {@code traceId} ignores that property at any depth</li>
+ *     <li>a path such as {@code $.errors.*} or {@code $[*].publishDate} ignores matching locations,
+ *     where {@code *} matches one property name or array index</li>
+ * </ul>
+ */
+public class IgnoreRules {
+
+    private final List<String> propertyNames;
+    private final List<Pattern> paths;
+
+    public IgnoreRules(Collection<String> rules) {
+        this.propertyNames = rules.stream().filter(rule -> !rule.startsWith("$")).toList();
+        this.paths = rules.stream().filter(rule -> rule.startsWith("$")).map(IgnoreRules::compile).toList();
+    }
+
+    public static IgnoreRules none() {
+        return new IgnoreRules(List.of());
+    }
+
+    public boolean ignores(String path, String propertyName) {
+        if (propertyName != null && propertyNames.contains(propertyName)) {
+            return true;
+        }
+        for (Pattern pattern : paths) {
+            if (pattern.matcher(path).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Pattern compile(String rule) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : rule.toCharArray()) {
+            if (c == '*') {
+                regex.append("[^.\\[\\]]+");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
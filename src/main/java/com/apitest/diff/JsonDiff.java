@@ -0,0 +1,104 @@
+package com.apitest.diff;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Structural JSON comparison producing one {@link Difference} per differing location.
+ * Numbers are compared by value, so {@code 1} and {@code 1.0} are equal; object property order is ignored.
+ */
+public final class JsonDiff {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private JsonDiff() {
+    }
+
+    public record Difference(String path, String expected, String actual) {
+
+        @Override
+        public String toString() {
+            return path + ": " + expected + " != " + actual;
+        }
+    }
+
+    public static List<Difference> compare(String expectedJson, String actualJson, IgnoreRules rules) {
+        JsonNode expected = parse(expectedJson);
+        JsonNode actual = parse(actualJson);
+        if (expected == null || actual == null) {
+            return Objects.equals(expectedJson, actualJson)
+                    ? List.of()
+                    : List.of(new Difference("$", abbreviate(expectedJson), abbreviate(actualJson)));
+        }
+        return compare(expected, actual, rules);
+    }
+
+    public static List<Difference> compare(JsonNode expected, JsonNode actual, IgnoreRules rules) {
+        List<Difference> differences = new ArrayList<>();
+        compare("$", expected, actual, rules, differences);
+        return differences;
+    }
+
+    private static void compare(String path, JsonNode expected, JsonNode actual, IgnoreRules rules, List<Difference> out) {
+        if (expected == null || actual == null) {
+            if (expected != actual) {
+                out.add(new Difference(path, render(expected), render(actual)));
+            }
+            return;
+        }
+        if (expected.isObject() && actual.isObject()) {
+            Set<String> names = new LinkedHashSet<>(expected.propertyNames());
+            names.addAll(actual.propertyNames());
+            for (String name : names) {
+                String childPath = path + "." + name;
+                if (!rules.ignores(childPath, name)) {
+                    compare(childPath, expected.get(name), actual.get(name), rules, out);
+                }
+            }
+        } else if (expected.isArray() && actual.isArray()) {
+            int size = Math.max(expected.size(), actual.size());
+            for (int i = 0; i < size; i++) {
+                String childPath = path + "[" + i + "]";
+                if (!rules.ignores(childPath, null)) {
+                    compare(childPath, expected.get(i), actual.get(i), rules, out);
+                }
+            }
+        } else if (expected.isNumber() && actual.isNumber()) {
+            if (expected.decimalValue().compareTo(actual.decimalValue()) != 0) {
+                out.add(new Difference(path, render(expected), render(actual)));
+            }
+        } else if (!expected.equals(actual)) {
+            out.add(new Difference(path, render(expected), render(actual)));
+        }
+    }
+
+    private static JsonNode parse(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return MAPPER.readTree(json);
+        } catch (JacksonException e) {
+            return null;
+        }
+    }
+
+    private static String render(JsonNode node) {
+        return node == null ? "<missing>" : abbreviate(node.toString());
+    }
+
+    private static String abbreviate(String value) {
+        if (value == null) {
+            return "<missing>";
+        }
+        return value.length() > 120 ? value.substring(0, 117) + "..." : value;
+    }
+}
@@ -0,0 +1,11 @@
+package com.apitest.distributed;
+
+import java.util.Map;
+
+/**
+ * A worker's share of a distributed run: its slice of the total arrival rate, the operation mix (operation
+ * name to relative weight; empty means every operation equally), and a common wall-clock start.
+ */
+public record Assignment(String runId, int workerIndex, int workerCount, double ratePerSecond, long startAtMillis,
+                         long durationMillis, int maxInFlight, long reportIntervalMillis, Map<String, Double> mix) {
+}
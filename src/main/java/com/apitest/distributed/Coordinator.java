@@ -0,0 +1,180 @@
+package com.apitest.distributed;
+
+import com.apitest.config.ApiConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Hands out a distributed run's load to whichever {@link Worker}s register, then merges what they stream back.
+ * <p>
+ * Workers register with {@code POST /workers} until {@code expected-workers} have joined or the registration
+ * window closes. Each registered worker then gets an equal share of {@code rate-per-second}, the same operation
+ * mix and a common start time from {@code GET /assignment?worker=<id>}, and posts cumulative
+ * {@link WorkerReport}s to {@code /reports} until its final one. Capacity grows with the number of workers;
+ * nothing here needs to know it in advance beyond how long to wait for them.
+ */
+@Slf4j
+public class Coordinator {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final long START_DELAY_MILLIS = 3000;
+    private static final long FINAL_REPORT_GRACE_MILLIS = 60_000;
+
+    private final ApiConfig.DistributedConfig config;
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private final List<String> registered = new ArrayList<>();
+    private final Map<String, Assignment> assignments = new LinkedHashMap<>();
+    private final Map<String, WorkerReport> latest = new LinkedHashMap<>();
+
+    public Coordinator(ApiConfig.DistributedConfig config) {
+        this.config = config;
+    }
+
+    public DistributedReport run() throws IOException, InterruptedException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(config.getPort()), 0);
+        ExecutorService executor = Executors.newFixedThreadPool(4,
+                Thread.ofPlatform().name("coordinator-", 0).daemon().factory());
+        server.setExecutor(executor);
+        server.createContext("/workers", exchange -> handle(exchange, this::register));
+        server.createContext("/assignment", exchange -> handle(exchange, this::assignment));
+        server.createContext("/reports", exchange -> handle(exchange, this::report));
+        server.start();
+        log.info("Coordinator for run {} listening on port {}", runId, config.getPort());
+        try {
+            long startAtMillis = assign();
+            return awaitReports(startAtMillis + config.getDuration().toMillis()
+                    + 3 * config.getReportInterval().toMillis() + FINAL_REPORT_GRACE_MILLIS);
+        } finally {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private synchronized long assign() throws InterruptedException {
+        long closesAt = System.currentTimeMillis() + config.getRegistrationWindow().toMillis();
+        long remaining;
+        while (registered.size() < config.getExpectedWorkers() && (remaining = closesAt - System.currentTimeMillis()) > 0) {
+            wait(remaining);
+        }
+        if (registered.isEmpty()) {
+            throw new IllegalStateException("No worker registered within " + config.getRegistrationWindow());
+        }
+        if (registered.size() < config.getExpectedWorkers()) {
+            log.warn("Only {} of {} expected workers registered; starting with them", registered.size(),
+                    config.getExpectedWorkers());
+        }
+
+        long startAtMillis = System.currentTimeMillis() + START_DELAY_MILLIS;
+        double share = config.getRatePerSecond() / registered.size();
+        for (int i = 0; i < registered.size(); i++) {
+            assignments.put(registered.get(i), new Assignment(runId, i, registered.size(), share, startAtMillis,
+                    config.getDuration().toMillis(), config.getMaxInFlight(), config.getReportInterval().toMillis(),
+                    Map.copyOf(config.getMix())));
+        }
+        log.info("Run {} assigned to {} workers at {}/s each", runId, registered.size(), share);
+        return startAtMillis;
+    }
+
+    private synchronized DistributedReport awaitReports(long deadlineMillis) throws InterruptedException {
+        long remaining;
+        while (!allFinished() && (remaining = deadlineMillis - System.currentTimeMillis()) > 0) {
+            wait(remaining);
+        }
+        DistributedReport report = new DistributedReport(runId, config.getRatePerSecond(), config.getDuration().toMillis());
+        assignments.forEach((workerId, assignment) -> {
+            WorkerReport last = latest.get(workerId);
+            if (last == null) {
+                report.addSilent(workerId, assignment.ratePerSecond());
+            } else {
+                report.add(last, assignment.ratePerSecond());
+            }
+        });
+        return report;
+    }
+
+    private boolean allFinished() {
+        return assignments.keySet().stream().allMatch(workerId -> latest.containsKey(workerId) && latest.get(workerId).last());
+    }
+
+    private synchronized Response register(HttpExchange exchange) throws IOException {
+        String workerId = MAPPER.readTree(exchange.getRequestBody().readAllBytes()).path("workerId").asString();
+        if (!assignments.isEmpty()) {
+            return Response.error(409, "Run " + runId + " has already started");
+        }
+        if (!registered.contains(workerId)) {
+            registered.add(workerId);
+            log.info("Worker {} registered ({} of {} expected)", workerId, registered.size(), config.getExpectedWorkers());
+            notifyAll();
+        }
+        return new Response(200, MAPPER.writeValueAsString(Map.of("runId", runId)));
+    }
+
+    private synchronized Response assignment(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getQuery();
+        String workerId = query != null && query.startsWith("worker=") ? query.substring("worker=".length()) : "";
+        if (!registered.contains(workerId)) {
+            return Response.error(404, "Unknown worker " + workerId);
+        }
+        Assignment assignment = assignments.get(workerId);
+        return assignment == null ? new Response(204, null) : new Response(200, MAPPER.writeValueAsString(assignment));
+    }
+
+    private synchronized Response report(HttpExchange exchange) throws IOException {
+        WorkerReport report = MAPPER.readValue(exchange.getRequestBody().readAllBytes(), WorkerReport.class);
+        if (!assignments.containsKey(report.workerId())) {
+            return Response.error(404, "Unknown worker " + report.workerId());
+        }
+        WorkerReport previous = latest.get(report.workerId());
+        if (previous == null || report.sequence() > previous.sequence()) {
+            latest.put(report.workerId(), report);
+        }
+        if (report.last()) {
+            log.info("Worker {} finished: {} completed, {} missed", report.workerId(), report.completed(), report.missed());
+            notifyAll();
+        }
+        return new Response(204, null);
+    }
+
+    private static void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try (exchange) {
+            Response response;
+            try {
+                response = handler.handle(exchange);
+            } catch (RuntimeException e) {
+                log.warn("Coordinator request {} failed", exchange.getRequestURI(), e);
+                response = Response.error(400, String.valueOf(e.getMessage()));
+            }
+            byte[] body = response.body() == null ? new byte[0] : response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+        }
+    }
+
+    private interface Handler {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    private record Response(int status, String body) {
+
+        static Response error(int status, String message) {
+            return new Response(status, MAPPER.writeValueAsString(Map.of("error", message)));
+        }
+    }
+}
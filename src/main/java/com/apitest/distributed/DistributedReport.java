@@ -0,0 +1,106 @@
+package com.apitest.distributed;
+
+import com.apitest.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The coordinator's merged view of a distributed run: one histogram per operation across all workers, and
+ * each worker's own totals.
+ */
+public class DistributedReport {
+
+    public record WorkerSummary(String workerId, double ratePerSecond, long completed, long missed, long errors,
+                                boolean finished) {
+    }
+
+    private final String runId;
+    private final double targetRate;
+    private final long durationMillis;
+    private final Map<String, LatencyHistogram> operations = new TreeMap<>();
+    private final Map<String, Long> operationErrors = new TreeMap<>();
+    private final Map<String, WorkerSummary> workers = new TreeMap<>();
+
+    DistributedReport(String runId, double targetRate, long durationMillis) {
+        this.runId = runId;
+        this.targetRate = targetRate;
+        this.durationMillis = durationMillis;
+    }
+
+    void add(WorkerReport report, double ratePerSecond) {
+        long errors = 0;
+        for (Map.Entry<String, WorkerReport.OperationStats> entry : report.operations().entrySet()) {
+            operations.computeIfAbsent(entry.getKey(), key -> new LatencyHistogram()).merge(entry.getValue().toHistogram());
+            operationErrors.merge(entry.getKey(), entry.getValue().errors(), Long::sum);
+            errors += entry.getValue().errors();
+        }
+        workers.put(report.workerId(), new WorkerSummary(report.workerId(), ratePerSecond, report.completed(),
+                report.missed(), errors, report.last()));
+    }
+
+    void addSilent(String workerId, double ratePerSecond) {
+        workers.put(workerId, new WorkerSummary(workerId, ratePerSecond, 0, 0, 0, false));
+    }
+
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    public Map<String, LatencyHistogram> getOperations() {
+        return operations;
+    }
+
+    public Map<String, WorkerSummary> getWorkers() {
+        return workers;
+    }
+
+    public LatencyHistogram getOverall() {
+        LatencyHistogram overall = new LatencyHistogram();
+        operations.values().forEach(overall::merge);
+        return overall;
+    }
+
+    public long getCompleted() {
+        return workers.values().stream().mapToLong(WorkerSummary::completed).sum();
+    }
+
+    /**
+     * @return ticks the workers skipped because {@code max-in-flight} operations were already running
+     */
+    public long getMissed() {
+        return workers.values().stream().mapToLong(WorkerSummary::missed).sum();
+    }
+
+    public long getErrorCount() {
+        return operationErrors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getUnfinishedWorkers() {
+        return workers.values().stream().filter(worker -> !worker.finished()).count();
+    }
+
+    public double getAchievedRate() {
+        return durationMillis == 0 ? 0 : getCompleted() * 1000.0 / durationMillis;
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Distributed run %s: %d workers, target %.1f/s, achieved %.1f/s over %ds%n",
+                runId, workers.size(), targetRate, getAchievedRate(), durationMillis / 1000));
+        text.append(String.format("  completed: %d, missed: %d, errors: %d, unfinished workers: %d%n",
+                getCompleted(), getMissed(), getErrorCount(), getUnfinishedWorkers()));
+        text.append(String.format("  overall: %s%n%n", getOverall().summary()));
+
+        text.append(String.format("  %-45s %8s %7s %9s %9s %9s %9s%n", "operation", "calls", "errors", "p50", "p95", "p99", "max"));
+        operations.forEach((operation, latency) -> text.append(String.format("  %-45s %8d %7d %7.1fms %7.1fms %7.1fms %7.1fms%n",
+                operation, latency.getCount(), operationErrors.getOrDefault(operation, 0L), latency.getPercentileMillis(50),
+                latency.getPercentileMillis(95), latency.getPercentileMillis(99), latency.getMaxMicros() / 1000.0)));
+
+        text.append(String.format("%n  %-40s %9s %10s %8s %7s %9s%n", "worker", "rate", "completed", "missed", "errors", "finished"));
+        workers.values().forEach(worker -> text.append(String.format("  %-40s %7.1f/s %10d %8d %7d %9s%n",
+                worker.workerId(), worker.ratePerSecond(), worker.completed(), worker.missed(), worker.errors(),
+                worker.finished())));
+        return text.toString();
+    }
+}
@@ -0,0 +1,249 @@
+package com.apitest.distributed;
+
+import com.apitest.budget.LatencyBudgetExceededException;
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.LatencyHistogram;
+import com.apitest.services.ApiClients;
+import com.apitest.services.ApiOperation;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs its {@link Coordinator}-assigned share of a distributed run through the service layer and streams
+ * cumulative latency histograms back.
+ * <p>
+ * Like {@link com.apitest.soak.SoakRunner}, operations start on a fixed schedule whether or not earlier ones have
+ * finished (an open workload), up to {@code max-in-flight}; a tick with no free slot is counted as missed.
+ * Each tick picks one operation from the catalogue at random, weighted by the assigned mix.
+ */
+@Slf4j
+public class Worker {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+    private static final int FINAL_REPORT_ATTEMPTS = 5;
+
+    private final ApiConfig.DistributedConfig config;
+    private final ApiClients clients;
+    private final String workerId;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ConcurrentMap<String, OperationCounter> counters = new ConcurrentHashMap<>();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong missed = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public Worker(ApiConfig.DistributedConfig config, ApiClients clients, String workerId) {
+        this.config = config;
+        this.clients = clients;
+        this.workerId = workerId;
+    }
+
+    public WorkerReport run(Map<String, ApiOperation> catalogue) throws InterruptedException {
+        Assignment assignment = join();
+        Mix mix = Mix.of(catalogue, assignment.mix());
+        log.info("Worker {} running {}/s of run {} as worker {} of {}", workerId, assignment.ratePerSecond(),
+                assignment.runId(), assignment.workerIndex() + 1, assignment.workerCount());
+
+        Semaphore inFlight = new Semaphore(assignment.maxInFlight());
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / assignment.ratePerSecond());
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        try {
+            Thread.sleep(Math.max(0, assignment.startAtMillis() - System.currentTimeMillis()));
+            ScheduledFuture<?> reporter = scheduler.scheduleAtFixedRate(() -> send(snapshot(false)),
+                    assignment.reportIntervalMillis(), assignment.reportIntervalMillis(), TimeUnit.MILLISECONDS);
+            try (ExecutorService workers = Executors.newFixedThreadPool(assignment.maxInFlight(),
+                    Thread.ofPlatform().name("load-worker-", 0).daemon().factory())) {
+                ScheduledFuture<?> ticks = scheduler.scheduleAtFixedRate(() -> {
+                    if (!inFlight.tryAcquire()) {
+                        missed.incrementAndGet();
+                        return;
+                    }
+                    ApiOperation operation = mix.next();
+                    workers.execute(() -> {
+                        try {
+                            execute(operation);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }, 0, periodNanos, TimeUnit.NANOSECONDS);
+                try {
+                    Thread.sleep(assignment.durationMillis());
+                } finally {
+                    ticks.cancel(false);
+                }
+            }
+            reporter.cancel(false);
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        WorkerReport last = snapshot(true);
+        for (int attempt = 1; attempt <= FINAL_REPORT_ATTEMPTS && !send(last); attempt++) {
+            Thread.sleep(POLL_INTERVAL.toMillis() * attempt);
+        }
+        return last;
+    }
+
+    private void execute(ApiOperation operation) {
+        OperationCounter counter = counters.computeIfAbsent(operation.name(), key -> new OperationCounter());
+        long start = System.nanoTime();
+        try {
+            Response response = operation.apply(clients);
+            counter.latency.recordNanos(System.nanoTime() - start);
+            if (response.getStatusCode() >= 500) {
+                counter.errors.increment();
+            }
+        } catch (LatencyBudgetExceededException e) {
+            // Answered, just slowly: dropping it would hide the slowest samples
+            counter.latency.recordNanos(System.nanoTime() - start);
+        } catch (Exception e) { // REST Assured rethrows checked I/O exceptions undeclared
+            counter.errors.increment();
+            log.debug("Operation {} failed", operation.name(), e);
+        } finally {
+            completed.incrementAndGet();
+        }
+    }
+
+    private WorkerReport snapshot(boolean last) {
+        Map<String, WorkerReport.OperationStats> operations = new TreeMap<>();
+        counters.forEach((name, counter) -> operations.put(name,
+                WorkerReport.OperationStats.of(counter.latency, counter.errors.sum())));
+        return new WorkerReport(workerId, sequence.incrementAndGet(), last, completed.get(), missed.get(), operations);
+    }
+
+    /**
+     * Registers, retrying while the coordinator starts up, then polls until the run has been assigned.
+     */
+    private Assignment join() throws InterruptedException {
+        long giveUpAt = System.currentTimeMillis() + 2 * config.getRegistrationWindow().toMillis();
+        String body = MAPPER.writeValueAsString(Map.of("workerId", workerId));
+        while (true) {
+            HttpResponse<String> registration = post("/workers", body);
+            if (registration != null && registration.statusCode() == 200) {
+                break;
+            }
+            if (registration != null && registration.statusCode() == 409) {
+                throw new IllegalStateException("Coordinator refused " + workerId + ": " + registration.body());
+            }
+            awaitRetry(giveUpAt, "register with");
+        }
+        while (true) {
+            HttpResponse<String> assignment = get("/assignment?worker=" + workerId);
+            if (assignment != null && assignment.statusCode() == 200) {
+                return MAPPER.readValue(assignment.body(), Assignment.class);
+            }
+            awaitRetry(giveUpAt, "get an assignment from");
+        }
+    }
+
+    private void awaitRetry(long giveUpAt, String action) throws InterruptedException {
+        if (System.currentTimeMillis() > giveUpAt) {
+            throw new IllegalStateException("Worker " + workerId + " could not " + action + " " + config.getCoordinatorUrl());
+        }
+        Thread.sleep(POLL_INTERVAL.toMillis());
+    }
+
+    private boolean send(WorkerReport report) {
+        HttpResponse<String> response = post("/reports", MAPPER.writeValueAsString(report));
+        if (response == null || response.statusCode() != 204) {
+            log.warn("Report {} from {} was not accepted: {}", report.sequence(), workerId,
+                    response == null ? "coordinator unreachable" : response.statusCode() + " " + response.body());
+            return false;
+        }
+        return true;
+    }
+
+    private HttpResponse<String> post(String path, String body) {
+        return exchange(HttpRequest.newBuilder(URI.create(config.getCoordinatorUrl() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private HttpResponse<String> get(String path) {
+        return exchange(HttpRequest.newBuilder(URI.create(config.getCoordinatorUrl() + path)).GET().build());
+    }
+
+    private HttpResponse<String> exchange(HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            log.debug("Coordinator request {} failed", request.uri(), e);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static final class OperationCounter {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * Weighted random choice over the catalogue operations named in the mix.
+     */
+    private record Mix(ApiOperation[] operations, double[] cumulativeWeights) {
+
+        static Mix of(Map<String, ApiOperation> catalogue, Map<String, Double> weights) {
+            Map<String, Double> effective = new LinkedHashMap<>();
+            if (weights.isEmpty()) {
+                catalogue.keySet().forEach(name -> effective.put(name, 1.0));
+            } else {
+                weights.forEach((name, weight) -> {
+                    if (catalogue.containsKey(name) && weight > 0) {
+                        effective.put(name, weight);
+                    } else {
+                        log.warn("Ignoring mix entry {}={}: no such operation or no weight", name, weight);
+                    }
+                });
+            }
+            if (effective.isEmpty()) {
+                throw new IllegalStateException("Operation mix " + weights + " matches none of " + catalogue.keySet());
+            }
+            List<ApiOperation> operations = new ArrayList<>();
+            double[] cumulative = new double[effective.size()];
+            double total = 0;
+            for (Map.Entry<String, Double> entry : effective.entrySet()) {
+                total += entry.getValue();
+                cumulative[operations.size()] = total;
+                operations.add(catalogue.get(entry.getKey()));
+            }
+            return new Mix(operations.toArray(ApiOperation[]::new), cumulative);
+        }
+
+        ApiOperation next() {
+            double pick = ThreadLocalRandom.current().nextDouble(cumulativeWeights[cumulativeWeights.length - 1]);
+            int slot = Arrays.binarySearch(cumulativeWeights, pick);
+            return operations[slot < 0 ? -slot - 1 : Math.min(slot + 1, operations.length - 1)];
+        }
+    }
+}
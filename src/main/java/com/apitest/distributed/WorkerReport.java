@@ -0,0 +1,27 @@
+package com.apitest.distributed;
+
+import com.apitest.metrics.LatencyHistogram;
+
+import java.util.Map;
+
+/**
+ * What a worker has done so far in the run. Reports are cumulative, so the coordinator simply keeps each
+ * worker's latest one and a lost or repeated report costs nothing.
+ */
+public record WorkerReport(String workerId, long sequence, boolean last, long completed, long missed,
+                           Map<String, OperationStats> operations) {
+
+    /**
+     * One operation's latency histogram as sparse bucket counts, plus failed calls (exceptions and 5xx).
+     */
+    public record OperationStats(long errors, long totalMicros, long maxMicros, Map<Integer, Long> buckets) {
+
+        static OperationStats of(LatencyHistogram latency, long errors) {
+            return new OperationStats(errors, latency.getTotalMicros(), latency.getMaxMicros(), latency.toBucketCounts());
+        }
+
+        public LatencyHistogram toHistogram() {
+            return LatencyHistogram.fromBucketCounts(buckets, totalMicros, maxMicros);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.apitest.fault;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * One way of degrading an exchange. Latency, bandwidth and stalls shape an exchange that still reaches the
+ * service; drops, resets and status responses replace it, and the first of them in a rule wins.
+ */
+public sealed interface Fault {
+
+    /**
+     * Holds the request back before it is forwarded, for a time drawn from {@code distribution}.
+     */
+    record Latency(Distribution distribution, Duration first, Duration second) implements Fault {
+
+        public enum Distribution {
+            /** always {@code first} */
+            FIXED,
+            /** uniform between {@code first} and {@code second} */
+            UNIFORM,
+            /** log-normal with median {@code first} and 99th percentile {@code second} */
+            LOG_NORMAL
+        }
+
+        private static final double Z_99 = 2.3263;
+
+        long sampleNanos(RandomGenerator random) {
+            long first = this.first.toNanos();
+            long second = this.second.toNanos();
+            return switch (distribution) {
+                case FIXED -> first;
+                case UNIFORM -> first + (long) (random.nextDouble() * (second - first));
+                case LOG_NORMAL -> (long) (first * Math.exp(random.nextGaussian() * Math.log((double) second / first) / Z_99));
+            };
+        }
+    }
+
+    /**
+     * Limits the response body to {@code bytesPerSecond}.
+     */
+    record Bandwidth(long bytesPerSecond) implements Fault {
+    }
+
+    /**
+     * Stops the response after {@code afterBodyBytes} bytes of its body for {@code duration}, then lets the rest
+     * through; a stall longer than the client's socket timeout makes it time out mid-body.
+     */
+    record Stall(long afterBodyBytes, Duration duration) implements Fault {
+    }
+
+    /**
+     * Closes the client connection after reading the request, without a response.
+     */
+    record Drop() implements Fault {
+    }
+
+    /**
+     * Resets the client connection (TCP RST) after reading the request.
+     */
+    record Reset() implements Fault {
+    }
+
+    /**
+     * Answers with {@code status} and, when set, {@code Retry-After} instead of forwarding the request.
+     */
+    record Status(int status, Duration retryAfter) implements Fault {
+    }
+
+    static Fault latency(Duration delay) {
+        return new Latency(Latency.Distribution.FIXED, delay, delay);
+    }
+
+    static Fault latency(Duration min, Duration max) {
+        if (max.compareTo(min) < 0) {
+            throw new IllegalArgumentException("max " + max + " is below min " + min);
+        }
+        return new Latency(Latency.Distribution.UNIFORM, min, max);
+    }
+
+    static Fault logNormalLatency(Duration median, Duration p99) {
+        if (median.isZero() || p99.compareTo(median) < 0) {
+            throw new IllegalArgumentException("p99 " + p99 + " must be at least the positive median " + median);
+        }
+        return new Latency(Latency.Distribution.LOG_NORMAL, median, p99);
+    }
+
+    static Fault bandwidth(long bytesPerSecond) {
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("bytesPerSecond must be positive, was " + bytesPerSecond);
+        }
+        return new Bandwidth(bytesPerSecond);
+    }
+
+    static Fault stall(long afterBodyBytes, Duration duration) {
+        return new Stall(afterBodyBytes, duration);
+    }
+
+    static Fault drop() {
+        return new Drop();
+    }
+
+    static Fault reset() {
+        return new Reset();
+    }
+
+    static Fault status(int status, Duration retryAfter) {
+        return new Status(status, retryAfter);
+    }
+}
@@ -0,0 +1,41 @@
+package com.apitest.fault;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * What happens to one request: the faults of every matching rule that fired, combined.
+ */
+record FaultPlan(long delayNanos, long bytesPerSecond, Fault.Stall stall, Fault terminal) {
+
+    static final FaultPlan NONE = new FaultPlan(0, 0, null, null);
+
+    static FaultPlan of(List<FaultRule.CompiledRule> rules, String method, String path, RandomGenerator random) {
+        FaultPlan plan = NONE;
+        for (FaultRule.CompiledRule compiled : rules) {
+            if (compiled.matches(method, path) && random.nextDouble() < compiled.rule().probability()) {
+                for (Fault fault : compiled.rule().faults()) {
+                    plan = plan.with(fault, random);
+                }
+            }
+        }
+        return plan;
+    }
+
+    boolean isNone() {
+        return this == NONE;
+    }
+
+    private FaultPlan with(Fault fault, RandomGenerator random) {
+        return switch (fault) {
+            case Fault.Latency latency -> new FaultPlan(delayNanos + latency.sampleNanos(random), bytesPerSecond, stall, terminal);
+            case Fault.Bandwidth bandwidth -> new FaultPlan(delayNanos,
+                    bytesPerSecond == 0 ? bandwidth.bytesPerSecond() : Math.min(bytesPerSecond, bandwidth.bytesPerSecond()),
+                    stall, terminal);
+            case Fault.Stall next -> new FaultPlan(delayNanos, bytesPerSecond, stall == null ? next : stall, terminal);
+            case Fault.Drop drop -> new FaultPlan(delayNanos, bytesPerSecond, stall, terminal == null ? drop : terminal);
+            case Fault.Reset reset -> new FaultPlan(delayNanos, bytesPerSecond, stall, terminal == null ? reset : terminal);
+            case Fault.Status status -> new FaultPlan(delayNanos, bytesPerSecond, stall, terminal == null ? status : terminal);
+        };
+    }
+}
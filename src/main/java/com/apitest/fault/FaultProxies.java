@@ -0,0 +1,35 @@
+package com.apitest.fault;
+
+import com.apitest.config.ApiConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Starts, on first use, one {@link FaultProxy} in front of each environment's base URL, and stops them with the
+ * Spring context. Services reach a proxy through {@code ApiClientFactory.forUrl}.
+ */
+@Component
+public class FaultProxies implements DisposableBean {
+
+    private final ApiConfig apiConfig;
+    private final ConcurrentMap<String, FaultProxy> proxies = new ConcurrentHashMap<>();
+
+    public FaultProxies(ApiConfig apiConfig) {
+        this.apiConfig = apiConfig;
+    }
+
+    public FaultProxy forEnvironment(String environment) {
+        return proxies.computeIfAbsent(environment, name -> FaultProxy.start(
+                URI.create(apiConfig.getEnvironmentUrl(name)), apiConfig.getFaultProxy().getSeed()));
+    }
+
+    @Override
+    public void destroy() {
+        proxies.values().forEach(FaultProxy::close);
+        proxies.clear();
+    }
+}
@@ -0,0 +1,259 @@
+package com.apitest.fault;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.URI;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local HTTP/1.1 proxy in front of one target that injects {@link Fault}s per operation, to see how client
+ * timeouts, retries and pooling cope with a degraded service without degrading the real one.
+ * <p>
+ * Point a service at {@link #getBaseUrl()} and add rules at any time with {@link #inject}. Clients talk plain
+ * HTTP to the proxy; it talks HTTP or HTTPS to the target. Every client connection gets its own upstream
+ * connection, and one selector thread runs all of them and the timers behind delays, stalls and bandwidth
+ * limits, so without rules the proxy only adds a copy of each byte.
+ */
+@Slf4j
+public class FaultProxy implements AutoCloseable {
+
+    private record Timer(long deadline, long sequence, Runnable task) {
+    }
+
+    private final InetSocketAddress upstreamAddress;
+    private final String upstreamHost;
+    private final SSLContext sslContext;
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final SplittableRandom random;
+    private final Thread loop;
+    private final PriorityQueue<Timer> timers = new PriorityQueue<>(
+            Comparator.comparingLong(Timer::deadline).thenComparingLong(Timer::sequence));
+    private final Set<Tunnel> tunnels = new HashSet<>();
+    private final Map<String, FaultRule> rules = new LinkedHashMap<>();
+    private volatile List<FaultRule.CompiledRule> compiledRules = List.of();
+    private volatile boolean running = true;
+    private long timerSequence;
+
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder stalled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder reset = new LongAdder();
+    private final LongAdder statusResponses = new LongAdder();
+
+    private FaultProxy(URI target, long seed) throws IOException {
+        boolean https = "https".equalsIgnoreCase(target.getScheme());
+        int port = target.getPort() > 0 ? target.getPort() : https ? 443 : 80;
+        this.upstreamAddress = new InetSocketAddress(target.getHost(), port);
+        this.upstreamHost = target.getPort() > 0 ? target.getHost() + ":" + port : target.getHost();
+        try {
+            this.sslContext = https ? SSLContext.getDefault() : null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No default TLS context", e);
+        }
+        this.random = new SplittableRandom(seed);
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        this.loop = Thread.ofPlatform().name("fault-proxy-" + getPort()).daemon().start(this::run);
+    }
+
+    /**
+     * Starts a proxy for {@code target} (scheme, host and port are used) on an ephemeral loopback port.
+     *
+     * @param seed seeds the probabilities and latency distributions, so a run can be repeated
+     */
+    public static FaultProxy start(URI target, long seed) {
+        try {
+            return new FaultProxy(target, seed);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start fault proxy for " + target, e);
+        }
+    }
+
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    /**
+     * Applies {@code faults} to every request matching {@code operation}, replacing any rule for it.
+     */
+    public FaultProxy inject(String operation, Fault... faults) {
+        return inject(new FaultRule(operation, 1.0, List.of(faults)));
+    }
+
+    public synchronized FaultProxy inject(FaultRule rule) {
+        FaultRule.CompiledRule compiled = rule.compile();
+        rules.put(rule.operation(), rule);
+        List<FaultRule.CompiledRule> next = new ArrayList<>();
+        for (FaultRule existing : rules.values()) {
+            next.add(existing == rule ? compiled : existing.compile());
+        }
+        compiledRules = List.copyOf(next);
+        return this;
+    }
+
+    public synchronized void clear(String operation) {
+        rules.remove(operation);
+        compiledRules = rules.values().stream().map(FaultRule::compile).toList();
+    }
+
+    public synchronized void clearAll() {
+        rules.clear();
+        compiledRules = List.of();
+    }
+
+    public FaultProxyStats stats() {
+        return new FaultProxyStats(connections.sum(), requests.sum(), delayed.sum(), throttled.sum(), stalled.sum(),
+                dropped.sum(), reset.sum(), statusResponses.sum());
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            loop.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    FaultPlan plan(RequestHead request) {
+        requests.increment();
+        List<FaultRule.CompiledRule> current = compiledRules;
+        if (current.isEmpty()) {
+            return FaultPlan.NONE;
+        }
+        FaultPlan plan = FaultPlan.of(current, request.method(), request.path(), random);
+        count(plan.delayNanos() > 0, delayed);
+        count(plan.bytesPerSecond() > 0, throttled);
+        count(plan.stall() != null, stalled);
+        count(plan.terminal() instanceof Fault.Drop, dropped);
+        count(plan.terminal() instanceof Fault.Reset, reset);
+        count(plan.terminal() instanceof Fault.Status, statusResponses);
+        return plan;
+    }
+
+    Selector selector() {
+        return selector;
+    }
+
+    InetSocketAddress upstreamAddress() {
+        return upstreamAddress;
+    }
+
+    String upstreamHost() {
+        return upstreamHost;
+    }
+
+    UpstreamTls newTls() throws IOException {
+        return sslContext == null ? null
+                : new UpstreamTls(sslContext, upstreamAddress.getHostString(), upstreamAddress.getPort());
+    }
+
+    /**
+     * Runs {@code task} on the selector thread after {@code delayNanos}; only called from that thread.
+     */
+    void schedule(long delayNanos, Runnable task) {
+        timers.add(new Timer(System.nanoTime() + delayNanos, timerSequence++, task));
+    }
+
+    void closed(Tunnel tunnel) {
+        tunnels.remove(tunnel);
+    }
+
+    void logFailure(String message, Exception e) {
+        log.debug("{}: {}", message, e.toString());
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select(runDueTimers());
+                for (SelectionKey key : selector.selectedKeys()) {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        ((Tunnel) key.attachment()).handle(key);
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException e) {
+            log.warn("Fault proxy on port {} stopped", getPort(), e);
+        } finally {
+            new ArrayList<>(tunnels).forEach(tunnel -> tunnel.close(false));
+            try {
+                server.close();
+                selector.close();
+            } catch (IOException e) {
+                log.debug("Closing fault proxy failed", e);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel client = server.accept();
+        if (client == null) {
+            return;
+        }
+        client.configureBlocking(false);
+        client.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        tunnels.add(new Tunnel(this, client));
+        connections.increment();
+    }
+
+    /**
+     * @return milliseconds until the next timer is due, or 0 (wait indefinitely) when none is scheduled
+     */
+    private long runDueTimers() {
+        while (!timers.isEmpty()) {
+            long wait = timers.peek().deadline() - System.nanoTime();
+            if (wait > 0) {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait + 999_999));
+            }
+            timers.poll().task().run();
+        }
+        return 0;
+    }
+
+    private static void count(boolean condition, LongAdder counter) {
+        if (condition) {
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.apitest.fault;
+
+/**
+ * Counters of a {@link FaultProxy} since it started; {@code requests} counts every request head it read,
+ * faulted or not.
+ */
+public record FaultProxyStats(long connections, long requests, long delayed, long throttled, long stalled,
+                              long dropped, long reset, long statusResponses) {
+
+    public String toText() {
+        return String.format("Fault proxy: %d connections, %d requests%n"
+                        + "  delayed %d, bandwidth-limited %d, stalled %d, dropped %d, reset %d, status responses %d%n",
+                connections, requests, delayed, throttled, stalled, dropped, reset, statusResponses);
+    }
+}
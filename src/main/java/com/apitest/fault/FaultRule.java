@@ -0,0 +1,44 @@
+package com.apitest.fault;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Faults for the requests matching an operation ({@code METHOD template}, e.g. {@code GET /api/v1/Books/{id}};
+ * the method may be {@code *}), applied to each matching request with {@code probability}.
+ */
+public record FaultRule(String operation, double probability, List<Fault> faults) {
+
+    private static final Pattern TEMPLATE_VARIABLE = Pattern.compile("\\{[^/}]+}");
+
+    public FaultRule {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("probability must be within 0..1, was " + probability);
+        }
+        faults = List.copyOf(faults);
+    }
+
+    CompiledRule compile() {
+        String[] parts = operation.trim().split("\\s+", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected 'METHOD /path/{template}', was '" + operation + "'");
+        }
+        StringBuilder regex = new StringBuilder();
+        Matcher variables = TEMPLATE_VARIABLE.matcher(parts[1]);
+        int last = 0;
+        while (variables.find()) {
+            regex.append(Pattern.quote(parts[1].substring(last, variables.start()))).append("[^/]+");
+            last = variables.end();
+        }
+        regex.append(Pattern.quote(parts[1].substring(last)));
+        return new CompiledRule(this, parts[0], Pattern.compile(regex.toString()));
+    }
+
+    record CompiledRule(FaultRule rule, String method, Pattern path) {
+
+        boolean matches(String method, String path) {
+            return ("*".equals(this.method) || this.method.equalsIgnoreCase(method)) && this.path.matcher(path).matches();
+        }
+    }
+}
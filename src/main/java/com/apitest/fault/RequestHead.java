@@ -0,0 +1,53 @@
+package com.apitest.fault;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Request line and framing headers of one HTTP/1.1 request, enough to match it against rules, find where its
+ * body ends and forward it with the upstream's {@code Host}.
+ */
+record RequestHead(String method, String path, long contentLength, boolean chunked, String[] lines) {
+
+    static RequestHead parse(byte[] head) {
+        String[] lines = new String(head, StandardCharsets.ISO_8859_1).split("\r\n");
+        String[] requestLine = lines[0].split(" ");
+        if (requestLine.length != 3) {
+            throw new IllegalArgumentException("Malformed request line: " + lines[0]);
+        }
+        String target = requestLine[1];
+        String path = target.startsWith("/") ? target : URI.create(target).getRawPath();
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        long contentLength = 0;
+        boolean chunked = false;
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String name = lines[i].substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = lines[i].substring(colon + 1).trim();
+            if (name.equals("content-length")) {
+                contentLength = Long.parseLong(value);
+            } else if (name.equals("transfer-encoding")) {
+                chunked = value.toLowerCase(Locale.ROOT).contains("chunked");
+            }
+        }
+        return new RequestHead(requestLine[0], path, contentLength, chunked, lines);
+    }
+
+    byte[] forwardedTo(String host) {
+        StringBuilder head = new StringBuilder(lines[0]).append("\r\n");
+        for (int i = 1; i < lines.length; i++) {
+            if (!lines[i].regionMatches(true, 0, "Host:", 0, 5)) {
+                head.append(lines[i]).append("\r\n");
+            }
+        }
+        head.append("Host: ").append(host).append("\r\n\r\n");
+        return head.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,408 @@
+package com.apitest.fault;
+
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One client connection and its own upstream connection, so the client's pooling is mirrored one to one.
+ * Lives on the proxy's selector thread only. All buffers stay in write mode between calls.
+ * <p>
+ * Requests are parsed just enough to match rules and find where each one ends; responses only to find where
+ * their body starts. Exchanges on a connection are sequential (HTTP/1.1 clients here do not pipeline), so a new
+ * request head also marks the end of the previous response.
+ */
+final class Tunnel {
+
+    private static final int BUFFER = 64 * 1024;
+    private static final long HEAD_END = 0x0D0A0D0AL;
+    private static final long CHUNKED_END = 0x0D0A300D0A0D0AL;
+    private static final long SEVEN_BYTES = 0xFFFFFFFFFFFFFFL;
+    private static final ByteBuffer NOTHING = ByteBuffer.allocate(0);
+
+    private enum RequestState { HEAD, BODY, CHUNKED }
+
+    private final FaultProxy proxy;
+    private final SocketChannel client;
+    private final SelectionKey clientKey;
+    private SocketChannel upstream;
+    private SelectionKey upstreamKey;
+    private boolean upstreamConnected;
+    private UpstreamTls tls;
+
+    private final ByteBuffer clientIn = ByteBuffer.allocate(BUFFER);
+    private final ByteBuffer toUpstream = ByteBuffer.allocate(2 * BUFFER);
+    private final ByteBuffer fromUpstream = ByteBuffer.allocate(BUFFER);
+    private final ByteBuffer toClient = ByteBuffer.allocate(BUFFER);
+
+    private RequestState requestState = RequestState.HEAD;
+    private long bodyRemaining;
+    private long chunkTail;
+    private boolean discardBody;
+    private boolean held;
+    private boolean clientEof;
+    private boolean upstreamEof;
+    private boolean closed;
+
+    private FaultPlan plan = FaultPlan.NONE;
+    private long responseHeadTail;
+    private boolean responseHeadDone;
+    private long responseBodyBytes;
+    private boolean paused;
+    private boolean stallDone;
+    private long bandwidthStart;
+    private long bandwidthSent;
+
+    Tunnel(FaultProxy proxy, SocketChannel client) throws IOException {
+        this.proxy = proxy;
+        this.client = client;
+        this.clientKey = client.register(proxy.selector(), SelectionKey.OP_READ, this);
+    }
+
+    void handle(SelectionKey key) {
+        if (key == upstreamKey && key.isValid() && key.isConnectable()) {
+            try {
+                upstream.finishConnect();
+                upstreamConnected = true;
+                tls = proxy.newTls();
+            } catch (IOException e) {
+                proxy.logFailure("Upstream connect failed", e);
+                close(false);
+                return;
+            }
+        }
+        drive();
+    }
+
+    /**
+     * Moves every byte that can move without blocking, then updates what to wait for.
+     */
+    void drive() {
+        if (closed) {
+            return;
+        }
+        try {
+            boolean progress = true;
+            while (progress && !closed) {
+                progress = readClient() | processRequests() | exchangeUpstream() | pumpResponse() | flushClient();
+            }
+            if (!closed && (clientEof && toUpstream.position() == 0
+                    || upstreamEof && !paused && fromUpstream.position() == 0 && toClient.position() == 0)) {
+                close(false);
+            }
+            if (!closed) {
+                updateInterest();
+            }
+        } catch (IOException | RuntimeException e) {
+            proxy.logFailure("Tunnel failed", e);
+            close(false);
+        }
+    }
+
+    private boolean readClient() throws IOException {
+        if (clientEof || held || !clientIn.hasRemaining()) {
+            return false;
+        }
+        int read = client.read(clientIn);
+        clientEof = read < 0;
+        return read != 0;
+    }
+
+    private boolean processRequests() {
+        if (held || clientIn.position() == 0) {
+            return false;
+        }
+        boolean moved = false;
+        clientIn.flip();
+        try {
+            while (clientIn.hasRemaining() && !held && !closed) {
+                if (requestState == RequestState.HEAD) {
+                    int end = headEnd(clientIn);
+                    if (end < 0) {
+                        if (clientIn.position() == 0 && clientIn.limit() == clientIn.capacity()) {
+                            throw new IllegalStateException("Request head over " + BUFFER + " bytes");
+                        }
+                        break;
+                    }
+                    byte[] head = new byte[end - clientIn.position()];
+                    if (head.length + 512 > toUpstream.remaining()) {
+                        break;
+                    }
+                    clientIn.get(head);
+                    begin(RequestHead.parse(head));
+                } else {
+                    int length = (int) Math.min(clientIn.remaining(),
+                            requestState == RequestState.BODY ? bodyRemaining : Integer.MAX_VALUE);
+                    if (!discardBody) {
+                        length = Math.min(length, toUpstream.remaining());
+                    }
+                    if (length == 0) {
+                        break;
+                    }
+                    boolean last = false;
+                    if (requestState == RequestState.CHUNKED) {
+                        for (int i = 0; i < length && !last; i++) {
+                            chunkTail = (chunkTail << 8 | (clientIn.get(clientIn.position() + i) & 0xFF)) & SEVEN_BYTES;
+                            if (chunkTail == CHUNKED_END) {
+                                length = i + 1;
+                                last = true;
+                            }
+                        }
+                    } else {
+                        bodyRemaining -= length;
+                        last = bodyRemaining == 0;
+                    }
+                    if (!discardBody) {
+                        toUpstream.put(clientIn.slice(clientIn.position(), length));
+                    }
+                    clientIn.position(clientIn.position() + length);
+                    if (last) {
+                        requestState = RequestState.HEAD;
+                    }
+                }
+                moved = true;
+            }
+        } finally {
+            clientIn.compact();
+        }
+        return moved;
+    }
+
+    private void begin(RequestHead request) {
+        plan = proxy.plan(request);
+        responseHeadTail = 0;
+        responseHeadDone = false;
+        responseBodyBytes = 0;
+        stallDone = false;
+        bandwidthStart = 0;
+        bandwidthSent = 0;
+        bodyRemaining = request.contentLength();
+        // the head ended with CRLF, which is how the terminating chunk of an empty body is preceded too
+        chunkTail = 0x0D0A;
+        requestState = request.chunked() ? RequestState.CHUNKED
+                : bodyRemaining > 0 ? RequestState.BODY : RequestState.HEAD;
+        discardBody = false;
+        switch (plan.terminal()) {
+            case Fault.Reset reset -> {
+                close(true);
+                return;
+            }
+            case Fault.Drop drop -> {
+                close(false);
+                return;
+            }
+            case Fault.Status status -> {
+                discardBody = true;
+                toClient.put(statusResponse(status));
+                return;
+            }
+            case null, default -> {
+            }
+        }
+        toUpstream.put(request.forwardedTo(proxy.upstreamHost()));
+        if (plan.delayNanos() > 0) {
+            held = true;
+            proxy.schedule(plan.delayNanos(), () -> {
+                held = false;
+                drive();
+            });
+        }
+        connectUpstream();
+    }
+
+    private void connectUpstream() {
+        if (upstream != null) {
+            return;
+        }
+        try {
+            upstream = SocketChannel.open();
+            upstream.configureBlocking(false);
+            upstream.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            upstreamConnected = upstream.connect(proxy.upstreamAddress());
+            upstreamKey = upstream.register(proxy.selector(), SelectionKey.OP_CONNECT, this);
+            if (upstreamConnected) {
+                tls = proxy.newTls();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot connect to " + proxy.upstreamAddress(), e);
+        }
+    }
+
+    private boolean exchangeUpstream() throws IOException {
+        if (!upstreamConnected || upstreamEof) {
+            return false;
+        }
+        if (tls != null) {
+            boolean moved = tls.pump(upstream, held ? NOTHING : toUpstream, fromUpstream);
+            upstreamEof = tls.isEof();
+            return moved || upstreamEof;
+        }
+        boolean moved = false;
+        if (!held && toUpstream.position() > 0) {
+            toUpstream.flip();
+            moved = upstream.write(toUpstream) > 0;
+            toUpstream.compact();
+        }
+        if (fromUpstream.hasRemaining()) {
+            int read = upstream.read(fromUpstream);
+            upstreamEof = read < 0;
+            moved |= read != 0;
+        }
+        return moved;
+    }
+
+    private boolean pumpResponse() {
+        if (paused || fromUpstream.position() == 0 || !toClient.hasRemaining()) {
+            return false;
+        }
+        int before = toClient.position();
+        fromUpstream.flip();
+        try {
+            while (!responseHeadDone && fromUpstream.hasRemaining() && toClient.hasRemaining()) {
+                byte next = fromUpstream.get();
+                toClient.put(next);
+                responseHeadTail = (responseHeadTail << 8 | (next & 0xFF)) & 0xFFFFFFFFL;
+                responseHeadDone = responseHeadTail == HEAD_END;
+            }
+            if (responseHeadDone && fromUpstream.hasRemaining() && toClient.hasRemaining()) {
+                int length = (int) Math.min(Math.min(fromUpstream.remaining(), toClient.remaining()), allowance());
+                if (length > 0) {
+                    toClient.put(fromUpstream.slice(fromUpstream.position(), length));
+                    fromUpstream.position(fromUpstream.position() + length);
+                    responseBodyBytes += length;
+                    bandwidthSent += length;
+                }
+            }
+        } finally {
+            fromUpstream.compact();
+        }
+        return toClient.position() > before;
+    }
+
+    /**
+     * @return how many body bytes may go to the client now; 0 pauses the response and schedules its resumption
+     */
+    private long allowance() {
+        long allowed = Long.MAX_VALUE;
+        Fault.Stall stall = plan.stall();
+        if (stall != null && !stallDone) {
+            long untilStall = stall.afterBodyBytes() - responseBodyBytes;
+            if (untilStall <= 0) {
+                stallDone = true;
+                pause(stall.duration().toNanos());
+                return 0;
+            }
+            allowed = untilStall;
+        }
+        long rate = plan.bytesPerSecond();
+        if (rate > 0) {
+            long now = System.nanoTime();
+            if (bandwidthStart == 0) {
+                bandwidthStart = now;
+            }
+            // a 50ms burst keeps the pauses, and so the selector wake-ups, coarse
+            long burst = Math.max(1, rate / 20);
+            long budget = burst + (long) ((now - bandwidthStart) / 1e9 * rate) - bandwidthSent;
+            if (budget <= 0) {
+                pause(Math.max(1_000_000, (long) ((burst - budget) * 1e9 / rate)));
+                return 0;
+            }
+            allowed = Math.min(allowed, budget);
+        }
+        return allowed;
+    }
+
+    private void pause(long nanos) {
+        paused = true;
+        proxy.schedule(nanos, () -> {
+            paused = false;
+            bandwidthStart = System.nanoTime();
+            bandwidthSent = 0;
+            drive();
+        });
+    }
+
+    private boolean flushClient() throws IOException {
+        if (toClient.position() == 0) {
+            return false;
+        }
+        toClient.flip();
+        int written = client.write(toClient);
+        toClient.compact();
+        return written > 0;
+    }
+
+    private void updateInterest() {
+        clientKey.interestOps((!clientEof && !held && clientIn.hasRemaining() ? SelectionKey.OP_READ : 0)
+                | (toClient.position() > 0 ? SelectionKey.OP_WRITE : 0));
+        if (upstreamKey == null) {
+            return;
+        }
+        if (!upstreamConnected) {
+            upstreamKey.interestOps(SelectionKey.OP_CONNECT);
+            return;
+        }
+        boolean pending = !held && toUpstream.position() > 0;
+        boolean readable = !upstreamEof && (tls != null ? tls.canRead() : fromUpstream.hasRemaining());
+        boolean writable = tls != null ? pending || tls.wantsWrite() : pending;
+        upstreamKey.interestOps((readable ? SelectionKey.OP_READ : 0) | (writable ? SelectionKey.OP_WRITE : 0));
+    }
+
+    void close(boolean reset) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (reset) {
+                client.setOption(StandardSocketOptions.SO_LINGER, 0);
+            }
+            client.close();
+        } catch (IOException e) {
+            proxy.logFailure("Closing client connection failed", e);
+        }
+        if (upstream != null) {
+            try {
+                upstream.close();
+            } catch (IOException e) {
+                proxy.logFailure("Closing upstream connection failed", e);
+            }
+        }
+        proxy.closed(this);
+    }
+
+    private static int headEnd(ByteBuffer buffer) {
+        long tail = 0;
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            tail = (tail << 8 | (buffer.get(i) & 0xFF)) & 0xFFFFFFFFL;
+            if (tail == HEAD_END) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] statusResponse(Fault.Status status) {
+        String reason = switch (status.status()) {
+            case 429 -> "Too Many Requests";
+            case 500 -> "Internal Server Error";
+            case 502 -> "Bad Gateway";
+            case 503 -> "Service Unavailable";
+            case 504 -> "Gateway Timeout";
+            default -> "Injected Fault";
+        };
+        String body = "{\"title\":\"" + reason + "\",\"status\":" + status.status() + "}";
+        StringBuilder head = new StringBuilder("HTTP/1.1 ").append(status.status()).append(' ').append(reason).append("\r\n")
+                .append("Content-Type: application/problem+json; charset=utf-8\r\n")
+                .append("Content-Length: ").append(body.length()).append("\r\n");
+        if (status.retryAfter() != null) {
+            // Retry-After takes whole seconds; round up so the client never retries early
+            long seconds = (status.retryAfter().toMillis() + 999) / 1000;
+            head.append("Retry-After: ").append(seconds).append("\r\n");
+        }
+        return head.append("\r\n").append(body).toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.apitest.fault;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Non-blocking TLS client side of an upstream connection: the tunnel keeps plaintext buffers, this class moves
+ * them through an {@link SSLEngine} to and from the socket. Buffers are passed and left in write mode.
+ */
+final class UpstreamTls {
+
+    private final SSLEngine engine;
+    private final ByteBuffer netIn;
+    private final ByteBuffer netOut;
+    private boolean eof;
+
+    UpstreamTls(SSLContext context, String host, int port) throws IOException {
+        engine = context.createSSLEngine(host, port);
+        engine.setUseClientMode(true);
+        SSLParameters parameters = engine.getSSLParameters();
+        parameters.setEndpointIdentificationAlgorithm("HTTPS");
+        engine.setSSLParameters(parameters);
+        netIn = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+        netOut = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+        engine.beginHandshake();
+    }
+
+    /**
+     * Does all the reading, writing, wrapping and unwrapping possible without blocking.
+     *
+     * @return whether any byte moved, and so whether calling again (after the caller drains {@code inbound})
+     * might move more
+     */
+    boolean pump(SocketChannel channel, ByteBuffer outbound, ByteBuffer inbound) throws IOException {
+        boolean moved = false;
+        boolean progress = true;
+        while (progress) {
+            progress = flush(channel);
+            SSLEngineResult.HandshakeStatus handshake = engine.getHandshakeStatus();
+            if (handshake == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+                Runnable task;
+                while ((task = engine.getDelegatedTask()) != null) {
+                    task.run();
+                }
+                progress = true;
+                continue;
+            }
+            if (handshake == SSLEngineResult.HandshakeStatus.NEED_WRAP
+                    || (handshake == SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING && outbound.position() > 0)) {
+                outbound.flip();
+                SSLEngineResult result = engine.wrap(outbound, netOut);
+                outbound.compact();
+                progress |= result.bytesProduced() > 0;
+                progress |= flush(channel);
+            }
+            if (!eof && netIn.hasRemaining()) {
+                int read = channel.read(netIn);
+                eof |= read < 0;
+                progress |= read > 0;
+            }
+            if (netIn.position() > 0 && engine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NEED_WRAP) {
+                netIn.flip();
+                SSLEngineResult result = engine.unwrap(netIn, inbound);
+                netIn.compact();
+                eof |= result.getStatus() == SSLEngineResult.Status.CLOSED;
+                progress |= result.bytesConsumed() > 0 || result.bytesProduced() > 0;
+            }
+            moved |= progress;
+        }
+        return moved;
+    }
+
+    /**
+     * @return whether the upstream closed the connection; plaintext already unwrapped is still in the caller's buffer
+     */
+    boolean isEof() {
+        return eof;
+    }
+
+    boolean wantsWrite() {
+        return netOut.position() > 0 || engine.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_WRAP;
+    }
+
+    boolean canRead() {
+        return netIn.hasRemaining();
+    }
+
+    private boolean flush(SocketChannel channel) throws IOException {
+        if (netOut.position() == 0) {
+            return false;
+        }
+        netOut.flip();
+        int written = channel.write(netOut);
+        netOut.compact();
+        return written > 0;
+    }
+}
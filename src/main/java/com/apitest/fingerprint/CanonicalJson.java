@@ -0,0 +1,130 @@
+package com.apitest.fingerprint;
+
+import com.apitest.diff.IgnoreRules;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Normal form of a JSON body for fingerprinting: no whitespace, object properties sorted by name, numbers
+ * written by value (so {@code 1} and {@code 1.0} are equal, as in {@code JsonDiff}), and masked locations
+ * replaced by {@code "*"}. Bodies that are not JSON are used as they are.
+ */
+public final class CanonicalJson {
+
+    static final String MASK = "\"*\"";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private CanonicalJson() {
+    }
+
+    public static byte[] of(String body, IgnoreRules mask) {
+        JsonNode root = parse(body);
+        if (root == null) {
+            return body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        }
+        Sink sink = new Sink(Math.max(64, body.length()));
+        write(root, "$", mask, sink);
+        return sink.toByteArray();
+    }
+
+    private static void write(JsonNode node, String path, IgnoreRules mask, Sink out) {
+        if (node.isObject()) {
+            String[] names = node.propertyNames().toArray(String[]::new);
+            Arrays.sort(names);
+            out.write('{');
+            for (int i = 0; i < names.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String childPath = path + "." + names[i];
+                writeString(names[i], out);
+                out.write(':');
+                if (mask.ignores(childPath, names[i])) {
+                    out.writeAscii(MASK);
+                } else {
+                    write(node.get(names[i]), childPath, mask, out);
+                }
+            }
+            out.write('}');
+        } else if (node.isArray()) {
+            out.write('[');
+            for (int i = 0; i < node.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String childPath = path + "[" + i + "]";
+                if (mask.ignores(childPath, null)) {
+                    out.writeAscii(MASK);
+                } else {
+                    write(node.get(i), childPath, mask, out);
+                }
+            }
+            out.write(']');
+        } else if (node.isString()) {
+            writeString(node.stringValue(), out);
+        } else if (node.isIntegralNumber() && node.canConvertToLong()) {
+            out.writeAscii(Long.toString(node.longValue()));
+        } else if (node.isNumber()) {
+            out.writeAscii(node.decimalValue().stripTrailingZeros().toPlainString());
+        } else {
+            out.writeAscii(node.toString());
+        }
+    }
+
+    private static void writeString(String value, Sink out) {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < 0x20) {
+                out.writeAscii("\\u00");
+                out.write(HEX[c >> 4]);
+                out.write(HEX[c & 0xF]);
+            } else if (c < 0x80) {
+                out.write(c);
+            } else {
+                int end = i + 1;
+                while (end < value.length() && value.charAt(end) >= 0x80) {
+                    end++;
+                }
+                out.writeBytes(value.substring(i, end).getBytes(StandardCharsets.UTF_8));
+                i = end - 1;
+            }
+        }
+        out.write('"');
+    }
+
+    private static JsonNode parse(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            return MAPPER.readTree(body);
+        } catch (JacksonException e) {
+            return null;
+        }
+    }
+
+    private static final class Sink extends ByteArrayOutputStream {
+
+        private Sink(int size) {
+            super(size);
+        }
+
+        private void writeAscii(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                write(value.charAt(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.apitest.fingerprint;
+
+import com.apitest.diff.JsonDiff;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-operation counts of matched, newly recorded, changed and unknown responses, with the differences of the
+ * first changed responses.
+ */
+@Getter
+public class FingerprintReport {
+
+    static final int MAX_EXAMPLES = 10;
+
+    public record Row(String operation, long matched, long recorded, long changed, long unknown) {
+    }
+
+    private final List<Row> rows;
+    private final List<FingerprintResult> examples;
+
+    FingerprintReport(Map<String, long[]> counts, List<FingerprintResult> examples) {
+        this.rows = new TreeMap<>(counts).entrySet().stream()
+                .map(entry -> new Row(entry.getKey(), entry.getValue()[0], entry.getValue()[1], entry.getValue()[2],
+                        entry.getValue()[3]))
+                .toList();
+        this.examples = new ArrayList<>(examples);
+    }
+
+    public long getChangedCount() {
+        return rows.stream().mapToLong(Row::changed).sum();
+    }
+
+    public long getUnknownCount() {
+        return rows.stream().mapToLong(Row::unknown).sum();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder(String.format("%-32s %9s %9s %9s %9s%n",
+                "operation", "matched", "recorded", "changed", "unknown"));
+        for (Row row : rows) {
+            text.append(String.format("%-32s %9d %9d %9d %9d%n",
+                    row.operation(), row.matched(), row.recorded(), row.changed(), row.unknown()));
+        }
+        for (FingerprintResult example : examples) {
+            text.append('\n').append(example.operation()).append(' ').append(example.key()).append(":\n");
+            for (JsonDiff.Difference difference : example.differences()) {
+                text.append("  ").append(difference).append('\n');
+            }
+        }
+        return text.toString();
+    }
+}
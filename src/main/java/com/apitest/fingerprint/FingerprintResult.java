@@ -0,0 +1,24 @@
+package com.apitest.fingerprint;
+
+import com.apitest.diff.JsonDiff;
+
+import java.util.List;
+
+/**
+ * Outcome of checking one response against its stored fingerprint. Differences are only computed for
+ * {@link Outcome#CHANGED} responses. A key without a stored fingerprint is {@link Outcome#RECORDED} in update
+ * mode and {@link Outcome#UNKNOWN} otherwise.
+ */
+public record FingerprintResult(String operation, String key, Outcome outcome, List<JsonDiff.Difference> differences) {
+
+    public enum Outcome {
+        MATCHED,
+        RECORDED,
+        CHANGED,
+        UNKNOWN
+    }
+
+    public boolean isChanged() {
+        return outcome == Outcome.CHANGED;
+    }
+}
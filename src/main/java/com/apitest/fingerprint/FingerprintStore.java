@@ -0,0 +1,220 @@
+package com.apitest.fingerprint;
+
+import com.apitest.diff.IgnoreRules;
+import com.apitest.diff.JsonDiff;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Response fingerprints, one file per operation, keyed by request (for example {@code /api/v1/Books/7}).
+ * <p>
+ * A check normalizes the body with {@link CanonicalJson} and compares its {@link XxHash64} with the stored one.
+ * Only when they differ is the stored body inflated and compared with {@link JsonDiff}, so a run of matching
+ * responses costs one parse and one hash each. Unknown keys are recorded, and changed ones replace the stored
+ * fingerprint, only when {@code update} is set; otherwise nothing is ever written.
+ * <pre>
+ * file  := MAGIC count:int entry*
+ * entry := key:utf hash:long rawLength:int deflatedLength:int deflate(canonical-json)
+ * </pre>
+ */
+public class FingerprintStore {
+
+    private static final byte[] MAGIC = "APIFP001".getBytes(StandardCharsets.US_ASCII);
+
+    private record Entry(long hash, int rawLength, byte[] deflated) {
+    }
+
+    private static final class Endpoint {
+
+        private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+        private volatile boolean dirty;
+    }
+
+    private final Path directory;
+    private final IgnoreRules mask;
+    private final boolean update;
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, long[]> counts = new LinkedHashMap<>();
+    private final List<FingerprintResult> examples = new ArrayList<>();
+
+    public FingerprintStore(Path directory, IgnoreRules mask, boolean update) {
+        this.directory = directory;
+        this.mask = mask;
+        this.update = update;
+    }
+
+    public FingerprintResult check(String operation, String key, String body) {
+        byte[] canonical = CanonicalJson.of(body, mask);
+        long hash = XxHash64.hash(canonical);
+        Endpoint endpoint = endpoints.computeIfAbsent(operation, this::load);
+
+        Entry stored = endpoint.entries.get(key);
+        FingerprintResult result;
+        if (stored == null && !update) {
+            result = new FingerprintResult(operation, key, FingerprintResult.Outcome.UNKNOWN, List.of());
+        } else if (stored == null) {
+            endpoint.entries.put(key, entry(hash, canonical));
+            endpoint.dirty = true;
+            result = new FingerprintResult(operation, key, FingerprintResult.Outcome.RECORDED, List.of());
+        } else if (stored.hash() == hash) {
+            result = new FingerprintResult(operation, key, FingerprintResult.Outcome.MATCHED, List.of());
+        } else {
+            List<JsonDiff.Difference> differences = JsonDiff.compare(
+                    new String(inflate(stored), StandardCharsets.UTF_8), new String(canonical, StandardCharsets.UTF_8), mask);
+            result = new FingerprintResult(operation, key, differences.isEmpty()
+                    ? FingerprintResult.Outcome.MATCHED : FingerprintResult.Outcome.CHANGED, differences);
+            if (update) {
+                endpoint.entries.put(key, entry(hash, canonical));
+                endpoint.dirty = true;
+            }
+        }
+        tally(result);
+        return result;
+    }
+
+    /**
+     * @return whether the directory holds any fingerprint file, i.e. whether there is a baseline to check against
+     */
+    public boolean hasFingerprints() {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.anyMatch(file -> file.getFileName().toString().endsWith(".fp"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized FingerprintReport report() {
+        return new FingerprintReport(counts, examples);
+    }
+
+    /**
+     * Writes every operation that gained or replaced fingerprints, sorted by key.
+     */
+    public void save() {
+        for (Map.Entry<String, Endpoint> endpoint : endpoints.entrySet()) {
+            if (endpoint.getValue().dirty) {
+                endpoint.getValue().dirty = false;
+                write(fileOf(endpoint.getKey()), new TreeMap<>(endpoint.getValue().entries));
+            }
+        }
+    }
+
+    private synchronized void tally(FingerprintResult result) {
+        counts.computeIfAbsent(result.operation(), operation -> new long[FingerprintResult.Outcome.values().length])
+                [result.outcome().ordinal()]++;
+        if (result.isChanged() && examples.size() < FingerprintReport.MAX_EXAMPLES) {
+            examples.add(result);
+        }
+    }
+
+    private Path fileOf(String operation) {
+        String name = operation.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+        return directory.resolve(name + ".fp");
+    }
+
+    private Endpoint load(String operation) {
+        Endpoint endpoint = new Endpoint();
+        Path file = fileOf(operation);
+        if (!Files.exists(file)) {
+            return endpoint;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            byte[] magic = in.readNBytes(MAGIC.length);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalStateException(file + " is not a fingerprint file");
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                long hash = in.readLong();
+                int rawLength = in.readInt();
+                byte[] deflated = in.readNBytes(in.readInt());
+                endpoint.entries.put(key, new Entry(hash, rawLength, deflated));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return endpoint;
+    }
+
+    private static void write(Path file, Map<String, Entry> entries) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.write(MAGIC);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(entry.getValue().hash());
+                    out.writeInt(entry.getValue().rawLength());
+                    out.writeInt(entry.getValue().deflated().length);
+                    out.write(entry.getValue().deflated());
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Entry entry(long hash, byte[] canonical) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(canonical);
+            deflater.finish();
+            byte[] buffer = new byte[canonical.length + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return new Entry(hash, canonical.length, Arrays.copyOf(buffer, length));
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(Entry entry) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(entry.deflated());
+            byte[] raw = new byte[entry.rawLength()];
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                length += inflater.inflate(raw, length, raw.length - length);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt fingerprint body", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
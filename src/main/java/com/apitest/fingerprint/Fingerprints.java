@@ -0,0 +1,33 @@
+package com.apitest.fingerprint;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.diff.IgnoreRules;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * The run's {@link FingerprintStore}, configured from {@code api.fingerprint.*} and saved when the Spring
+ * context closes, in case a test did not save it itself.
+ */
+@Component
+public class Fingerprints implements DisposableBean {
+
+    private final FingerprintStore store;
+
+    public Fingerprints(ApiConfig apiConfig) {
+        ApiConfig.FingerprintConfig config = apiConfig.getFingerprint();
+        this.store = new FingerprintStore(Path.of(config.getDirectory()), new IgnoreRules(config.getMask()),
+                config.isUpdate());
+    }
+
+    public FingerprintStore store() {
+        return store;
+    }
+
+    @Override
+    public void destroy() {
+        store.save();
+    }
+}
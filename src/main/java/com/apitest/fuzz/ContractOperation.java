@@ -0,0 +1,27 @@
+package com.apitest.fuzz;
+
+import tools.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * One operation of the contract: method, path template, parameters and the (unresolved) request body schema,
+ * which is {@code null} for operations without a body.
+ */
+public record ContractOperation(String method, String pathTemplate, String tag,
+                                List<Parameter> parameters, JsonNode requestSchema) {
+
+    public record Parameter(String name, String in, boolean required, JsonNode schema) {
+    }
+
+    /**
+     * Same naming as {@link com.apitest.metrics.MetricsFilter}, so fuzz results line up with the metrics report.
+     */
+    public String name() {
+        return method + " " + pathTemplate;
+    }
+
+    public boolean hasBody() {
+        return requestSchema != null;
+    }
+}
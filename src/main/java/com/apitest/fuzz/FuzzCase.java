@@ -0,0 +1,112 @@
+package com.apitest.fuzz;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Schema-valid inputs for one operation plus the mutations applied on top of them.
+ * Keeping the two apart lets minimization drop mutations one at a time.
+ */
+public record FuzzCase(ContractOperation operation, Map<String, JsonNode> parameters, JsonNode body,
+                       List<Mutation> mutations) {
+
+    public static FuzzCase generate(ContractOperation operation, PayloadGenerator generator, Random random, int mutationCount) {
+        Map<String, JsonNode> parameters = new LinkedHashMap<>();
+        for (ContractOperation.Parameter parameter : operation.parameters()) {
+            parameters.put(parameter.name(), generator.valid(parameter.schema(), parameter.name(), random));
+        }
+        JsonNode body = operation.hasBody() ? generator.valid(operation.requestSchema(), null, random) : null;
+
+        List<Mutation> candidates = new ArrayList<>(generator.candidates(operation));
+        List<Mutation> mutations = new ArrayList<>();
+        while (mutations.size() < mutationCount && !candidates.isEmpty()) {
+            Mutation next = candidates.remove(random.nextInt(candidates.size()));
+            if (mutations.stream().noneMatch(existing -> existing.target().equals(next.target()))) {
+                mutations.add(next);
+            }
+        }
+        return new FuzzCase(operation, parameters, body, List.copyOf(mutations));
+    }
+
+    public FuzzCase withMutations(List<Mutation> replacement) {
+        return new FuzzCase(operation, parameters, body, List.copyOf(replacement));
+    }
+
+    public FuzzRequest toRequest(PayloadGenerator generator) {
+        Map<String, String> pathParams = new LinkedHashMap<>();
+        Map<String, String> queryParams = new LinkedHashMap<>();
+        for (ContractOperation.Parameter parameter : operation.parameters()) {
+            boolean inPath = "path".equals(parameter.in());
+            String target = (inPath ? Mutation.PATH_PREFIX : Mutation.QUERY_PREFIX) + parameter.name();
+            JsonNode value = parameters.get(parameter.name());
+            for (Mutation mutation : mutations) {
+                if (mutation.target().equals(target)) {
+                    value = generator.mutatedValue(mutation.kind(), parameter.schema());
+                }
+            }
+            if (value == null) {
+                continue;
+            }
+            (inPath ? pathParams : queryParams).put(parameter.name(), value.isString() ? value.asString() : value.toString());
+        }
+        return new FuzzRequest(operation.name(), operation.method(), operation.pathTemplate(),
+                pathParams, queryParams, renderBody(generator), mutations.stream().map(Mutation::toString).toList());
+    }
+
+    private String renderBody(PayloadGenerator generator) {
+        if (body == null) {
+            return null;
+        }
+        JsonNode mutated = body.deepCopy();
+        String wholeBody = null;
+        for (Mutation mutation : mutations) {
+            if (mutation.isWholeBody()) {
+                switch (mutation.kind()) {
+                    case EXTRA_PROPERTY -> {
+                        if (mutated instanceof ObjectNode object) {
+                            object.put("unexpectedProperty", "fuzz");
+                        }
+                    }
+                    case BODY_NULL -> wholeBody = "null";
+                    case BODY_EMPTY -> wholeBody = "";
+                    case BODY_MALFORMED -> wholeBody = "{\"truncated\": ";
+                    case BODY_ARRAY -> wholeBody = "[]";
+                    default -> throw new IllegalStateException("Unexpected body mutation " + mutation);
+                }
+            } else if (mutation.target().startsWith(Mutation.BODY_PREFIX) && mutated instanceof ObjectNode object) {
+                String property = mutation.target().substring(Mutation.BODY_PREFIX.length());
+                JsonNode value = generator.mutatedValue(mutation.kind(), generator.bodyPropertySchema(operation, property));
+                if (value == null) {
+                    object.remove(property);
+                } else {
+                    object.set(property, value);
+                }
+            }
+        }
+        return wholeBody != null ? wholeBody : mutated.toString();
+    }
+
+    /**
+     * Name of every top-level body property that no mutation touches, the candidates for removal
+     * when minimizing.
+     */
+    public List<String> untouchedBodyProperties() {
+        if (body == null || !body.isObject()) {
+            return List.of();
+        }
+        List<String> untouched = new ArrayList<>();
+        for (String property : body.propertyNames()) {
+            String target = Mutation.BODY_PREFIX + property;
+            if (mutations.stream().noneMatch(mutation -> mutation.target().equals(target))) {
+                untouched.add(property);
+            }
+        }
+        return untouched;
+    }
+}
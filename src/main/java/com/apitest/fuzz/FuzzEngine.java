@@ -0,0 +1,128 @@
+package com.apitest.fuzz;
+
+import com.apitest.config.ApiConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+
+/**
+ * Generates schema-valid inputs for every contract operation, mutates them and sends them with bounded concurrency.
+ * <p>
+ * Case {@code i} is derived from {@code seed} and {@code i} alone, so a campaign is reproducible regardless of
+ * scheduling. After the campaign each distinct failure is minimized by dropping mutations and untouched body
+ * properties for as long as the same signature still reproduces.
+ */
+@Slf4j
+public class FuzzEngine {
+
+    private final List<ContractOperation> operations;
+    private final PayloadGenerator generator;
+    private final FuzzExecutor executor;
+    private final ApiConfig.FuzzConfig config;
+
+    public FuzzEngine(OpenApiContract contract, FuzzExecutor executor, ApiConfig.FuzzConfig config) {
+        this.operations = contract.getOperations(Pattern.compile(config.getOperations()));
+        this.generator = new PayloadGenerator(contract, config.getIdRange());
+        this.executor = executor;
+        this.config = config;
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("No contract operation matches " + config.getOperations());
+        }
+    }
+
+    public FuzzReport run() throws InterruptedException {
+        FuzzReport report = new FuzzReport(config.getSeed());
+        int concurrency = Math.max(1, config.getConcurrency());
+        Semaphore permits = new Semaphore(concurrency);
+        long start = System.nanoTime();
+        log.info("Fuzzing {} operations with {} cases, seed {}", operations.size(), config.getCases(), config.getSeed());
+        try (ExecutorService pool = Executors.newFixedThreadPool(concurrency,
+                Thread.ofPlatform().name("fuzz-", 0).daemon().factory())) {
+            for (int i = 0; i < config.getCases(); i++) {
+                FuzzCase fuzzCase = generate(i);
+                permits.acquire();
+                pool.execute(() -> {
+                    try {
+                        FuzzRequest request = fuzzCase.toRequest(generator);
+                        report.record(fuzzCase, request, executor.execute(request));
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            permits.acquire(concurrency);
+            permits.release(concurrency);
+
+            List<Future<?>> minimizations = new ArrayList<>();
+            for (FuzzReport.Finding finding : report.getFindings()) {
+                minimizations.add(pool.submit(() -> finding.setMinimized(minimize(finding))));
+            }
+            for (Future<?> minimization : minimizations) {
+                try {
+                    minimization.get();
+                } catch (ExecutionException e) {
+                    log.warn("Minimization failed", e.getCause());
+                }
+            }
+        }
+        report.finish((System.nanoTime() - start) / 1_000_000);
+        log.info("Fuzz campaign finished: {} cases, {} distinct failures", report.getCaseCount(), report.getFindings().size());
+        return report;
+    }
+
+    FuzzCase generate(int index) {
+        Random random = new Random(config.getSeed() * 0x9E3779B97F4A7C15L + index);
+        ContractOperation operation = operations.get(index % operations.size());
+        int mutations = random.nextDouble() < config.getValidRatio() ? 0 : 1 + random.nextInt(Math.max(1, config.getMaxMutations()));
+        return FuzzCase.generate(operation, generator, random, mutations);
+    }
+
+    private FuzzRequest minimize(FuzzReport.Finding finding) {
+        FuzzCase current = finding.getFirstCase();
+        int attempts = 0;
+        boolean reduced = true;
+        while (reduced && attempts < config.getMinimizeAttempts()) {
+            reduced = false;
+            for (int i = 0; i < current.mutations().size() && attempts < config.getMinimizeAttempts(); i++) {
+                List<Mutation> fewer = new ArrayList<>(current.mutations());
+                fewer.remove(i);
+                FuzzCase candidate = current.withMutations(fewer);
+                attempts++;
+                if (reproduces(candidate, finding.getSignature())) {
+                    current = candidate;
+                    reduced = true;
+                    break;
+                }
+            }
+        }
+        boolean rawBody = current.mutations().stream()
+                .anyMatch(mutation -> mutation.isWholeBody() && mutation.kind() != Mutation.Kind.EXTRA_PROPERTY);
+        if (!rawBody) {
+            for (String property : current.untouchedBodyProperties()) {
+                if (attempts++ >= config.getMinimizeAttempts()) {
+                    break;
+                }
+                List<Mutation> more = new ArrayList<>(current.mutations());
+                more.add(new Mutation(Mutation.Kind.MISSING, Mutation.BODY_PREFIX + property));
+                FuzzCase candidate = current.withMutations(more);
+                if (reproduces(candidate, finding.getSignature())) {
+                    current = candidate;
+                }
+            }
+        }
+        return current.toRequest(generator);
+    }
+
+    private boolean reproduces(FuzzCase candidate, String signature) {
+        FuzzOutcome outcome = executor.execute(candidate.toRequest(generator));
+        return outcome.failure() && outcome.signature().equals(signature);
+    }
+}
@@ -0,0 +1,41 @@
+package com.apitest.fuzz;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Sends {@link FuzzRequest}s through REST Assured with a caller-supplied base specification.
+ * Bodies go out verbatim so malformed payloads reach the server unchanged.
+ */
+public class FuzzExecutor {
+
+    private final Supplier<RequestSpecification> specification;
+
+    public FuzzExecutor(Supplier<RequestSpecification> specification) {
+        this.specification = specification;
+    }
+
+    public FuzzOutcome execute(FuzzRequest request) {
+        long start = System.nanoTime();
+        try {
+            RequestSpecification spec = given().spec(specification.get());
+            if (request.pathParams() != null && !request.pathParams().isEmpty()) {
+                spec.pathParams(request.pathParams());
+            }
+            if (request.queryParams() != null && !request.queryParams().isEmpty()) {
+                spec.queryParams(request.queryParams());
+            }
+            if (request.body() != null) {
+                spec.body(request.body());
+            }
+            Response response = spec.request(request.method(), request.pathTemplate());
+            return FuzzOutcome.classify(request, response.getStatusCode(), response.asString(), System.nanoTime() - start);
+        } catch (Exception e) { // REST Assured rethrows checked I/O exceptions undeclared
+            return FuzzOutcome.error(request, e, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.apitest.fuzz;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.TreeSet;
+
+/**
+ * Result of sending one fuzz request, classified and reduced to a signature.
+ * <p>
+ * A case fails when the server answers 5xx or the call errors out, or when an unmutated request is rejected
+ * with anything other than 404. Signatures combine operation, status, error title and the (index-free) keys of
+ * the validation errors, so thousands of failing cases collapse into a handful of distinct findings.
+ */
+public record FuzzOutcome(int status, String signature, boolean failure, long nanos) {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final int MAX_DETAIL_LENGTH = 120;
+
+    public static FuzzOutcome classify(FuzzRequest request, int status, String body, long nanos) {
+        boolean failure = status >= 500 || !request.isMutated() && status >= 400 && status != 404;
+        return new FuzzOutcome(status, request.operation() + " -> " + status + detail(body), failure, nanos);
+    }
+
+    public static FuzzOutcome error(FuzzRequest request, Throwable error, long nanos) {
+        return new FuzzOutcome(0, request.operation() + " -> " + error.getClass().getSimpleName(), true, nanos);
+    }
+
+    private static String detail(String body) {
+        if (body == null || body.isBlank()) {
+            return "";
+        }
+        JsonNode json;
+        try {
+            json = MAPPER.readTree(body);
+        } catch (JacksonException e) {
+            String firstLine = body.strip().lines().findFirst().orElse("");
+            return " " + normalize(firstLine.length() > MAX_DETAIL_LENGTH ? firstLine.substring(0, MAX_DETAIL_LENGTH) : firstLine);
+        }
+        if (!json.isObject() || !json.has("title")) {
+            return "";
+        }
+        StringBuilder detail = new StringBuilder(" ").append(json.get("title").asString());
+        if (json.path("errors").isObject()) {
+            TreeSet<String> keys = new TreeSet<>();
+            json.get("errors").propertyNames().forEach(key -> keys.add(normalize(key)));
+            detail.append(' ').append(keys);
+        }
+        return detail.toString();
+    }
+
+    private static String normalize(String text) {
+        return text.replaceAll("\\[\\d+]", "[]").replaceAll("\\d+", "#");
+    }
+}
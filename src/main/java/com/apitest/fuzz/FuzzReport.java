@@ -0,0 +1,129 @@
+package com.apitest.fuzz;
+
+import com.apitest.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-operation status distribution of a fuzz campaign and its distinct failures, one {@link Finding} per signature.
+ */
+public class FuzzReport {
+
+    private final long seed;
+    private final ConcurrentMap<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Finding> findings = new ConcurrentHashMap<>();
+    private final AtomicLong cases = new AtomicLong();
+    private volatile long elapsedMillis;
+
+    public FuzzReport(long seed) {
+        this.seed = seed;
+    }
+
+    void record(FuzzCase fuzzCase, FuzzRequest request, FuzzOutcome outcome) {
+        cases.incrementAndGet();
+        OperationStats stats = operations.computeIfAbsent(request.operation(), key -> new OperationStats());
+        stats.latency.recordNanos(outcome.nanos());
+        stats.statuses.computeIfAbsent(outcome.status(), key -> new AtomicLong()).incrementAndGet();
+        if (outcome.failure()) {
+            findings.computeIfAbsent(outcome.signature(), key -> new Finding(key, outcome.status(), fuzzCase, request))
+                    .occurrences.incrementAndGet();
+        }
+    }
+
+    void finish(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getCaseCount() {
+        return cases.get();
+    }
+
+    public double getCasesPerMinute() {
+        return elapsedMillis == 0 ? 0 : cases.get() * 60_000.0 / elapsedMillis;
+    }
+
+    public List<Finding> getFindings() {
+        return new TreeMap<>(findings).values().stream().toList();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Fuzz campaign (seed %d): %d cases in %.1fs (%.0f/min), %d distinct failures%n",
+                seed, cases.get(), elapsedMillis / 1000.0, getCasesPerMinute(), findings.size()));
+        text.append(String.format("%n%-50s %8s %10s  %s%n", "operation", "cases", "p95", "statuses"));
+        new TreeMap<>(operations).forEach((name, stats) -> text.append(String.format("%-50s %8d %8.1fms  %s%n",
+                name, stats.latency.getCount(), stats.latency.getPercentileMillis(95), stats.statusSummary())));
+        for (Finding finding : getFindings()) {
+            text.append(String.format("%n! %s (%d occurrences)%n", finding.getSignature(), finding.getOccurrences()));
+            text.append("  first:     ").append(finding.getFirstRequest().describe()).append(System.lineSeparator());
+            if (finding.getMinimized() != null) {
+                text.append("  minimized: ").append(finding.getMinimized().describe()).append(System.lineSeparator());
+            }
+        }
+        return text.toString();
+    }
+
+    private static final class OperationStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final ConcurrentMap<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+
+        private String statusSummary() {
+            List<String> parts = new ArrayList<>();
+            new TreeMap<>(statuses).forEach((status, count) -> parts.add((status == 0 ? "error" : status) + "x" + count.get()));
+            return String.join(" ", parts);
+        }
+    }
+
+    public static final class Finding {
+        private final String signature;
+        private final int status;
+        private final FuzzCase firstCase;
+        private final FuzzRequest firstRequest;
+        private final AtomicLong occurrences = new AtomicLong();
+        private volatile FuzzRequest minimized;
+
+        private Finding(String signature, int status, FuzzCase firstCase, FuzzRequest firstRequest) {
+            this.signature = signature;
+            this.status = status;
+            this.firstCase = firstCase;
+            this.firstRequest = firstRequest;
+        }
+
+        public String getSignature() {
+            return signature;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public long getOccurrences() {
+            return occurrences.get();
+        }
+
+        public FuzzRequest getFirstRequest() {
+            return firstRequest;
+        }
+
+        public FuzzRequest getMinimized() {
+            return minimized;
+        }
+
+        FuzzCase getFirstCase() {
+            return firstCase;
+        }
+
+        void setMinimized(FuzzRequest minimized) {
+            this.minimized = minimized;
+        }
+
+        public RegressionCase toRegressionCase() {
+            return new RegressionCase(signature, status, minimized != null ? minimized : firstRequest);
+        }
+    }
+}
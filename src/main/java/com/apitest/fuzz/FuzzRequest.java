@@ -0,0 +1,37 @@
+package com.apitest.fuzz;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A fully materialized request, independent of the contract, so it can be persisted and replayed as is.
+ * {@code body} is sent verbatim and may deliberately be invalid JSON.
+ */
+public record FuzzRequest(String operation, String method, String pathTemplate,
+                          Map<String, String> pathParams, Map<String, String> queryParams,
+                          String body, List<String> mutations) {
+
+    @JsonIgnore
+    public boolean isMutated() {
+        return mutations != null && !mutations.isEmpty();
+    }
+
+    public String describe() {
+        StringBuilder text = new StringBuilder(operation);
+        if (pathParams != null && !pathParams.isEmpty()) {
+            text.append(' ').append(pathParams);
+        }
+        if (queryParams != null && !queryParams.isEmpty()) {
+            text.append(" query=").append(queryParams);
+        }
+        if (body != null) {
+            text.append(" body=").append(body.length() > 200 ? body.substring(0, 200) + "...(" + body.length() + " chars)" : body);
+        }
+        if (isMutated()) {
+            text.append(" mutations=").append(mutations);
+        }
+        return text.toString();
+    }
+}
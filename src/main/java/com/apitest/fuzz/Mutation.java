@@ -0,0 +1,41 @@
+package com.apitest.fuzz;
+
+/**
+ * A single deviation from a schema-valid input. {@code target} is {@code body} for whole-body mutations,
+ * {@code body.<property>} for a body property and {@code path.<name>} / {@code query.<name>} for parameters.
+ */
+public record Mutation(Kind kind, String target) {
+
+    public enum Kind {
+        NULL,
+        MISSING,
+        EMPTY_STRING,
+        WRONG_TYPE,
+        INT_MIN,
+        INT_MAX,
+        INT_OVERFLOW,
+        NEGATIVE,
+        LONG_STRING,
+        UNICODE,
+        BAD_FORMAT,
+        EXTRA_PROPERTY,
+        BODY_NULL,
+        BODY_EMPTY,
+        BODY_MALFORMED,
+        BODY_ARRAY
+    }
+
+    public static final String BODY = "body";
+    public static final String BODY_PREFIX = "body.";
+    public static final String PATH_PREFIX = "path.";
+    public static final String QUERY_PREFIX = "query.";
+
+    public boolean isWholeBody() {
+        return BODY.equals(target);
+    }
+
+    @Override
+    public String toString() {
+        return kind + "(" + target + ")";
+    }
+}
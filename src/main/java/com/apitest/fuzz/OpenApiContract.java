@@ -0,0 +1,101 @@
+package com.apitest.fuzz;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Operations and schemas of an OpenAPI 3 document, read with plain Jackson so the fuzzer can walk
+ * the schemas directly. Local {@code $ref}s are resolved on demand through {@link #resolve(JsonNode)}.
+ */
+public final class OpenApiContract {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final Set<String> METHODS = Set.of("get", "post", "put", "patch", "delete");
+
+    private final JsonNode document;
+    private final List<ContractOperation> operations;
+
+    private OpenApiContract(JsonNode document) {
+        this.document = document;
+        this.operations = parseOperations(document);
+    }
+
+    public static OpenApiContract load(String classpathResource) {
+        try (InputStream in = OpenApiContract.class.getResourceAsStream(classpathResource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("OpenAPI document not found on classpath: " + classpathResource);
+            }
+            return new OpenApiContract(MAPPER.readTree(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<ContractOperation> getOperations() {
+        return operations;
+    }
+
+    public List<ContractOperation> getOperations(Pattern filter) {
+        return operations.stream().filter(operation -> filter.matcher(operation.name()).find()).toList();
+    }
+
+    /**
+     * Follows {@code $ref} chains within the document; any other schema is returned unchanged.
+     */
+    public JsonNode resolve(JsonNode schema) {
+        JsonNode current = schema;
+        while (current != null && current.has("$ref")) {
+            String ref = current.get("$ref").asString();
+            if (!ref.startsWith("#/")) {
+                throw new IllegalArgumentException("Only local references are supported: " + ref);
+            }
+            current = document.at(ref.substring(1));
+            if (current.isMissingNode()) {
+                throw new IllegalArgumentException("Unresolvable reference: " + ref);
+            }
+        }
+        return current;
+    }
+
+    private static List<ContractOperation> parseOperations(JsonNode document) {
+        List<ContractOperation> result = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> path : document.path("paths").properties()) {
+            for (Map.Entry<String, JsonNode> method : path.getValue().properties()) {
+                if (!METHODS.contains(method.getKey())) {
+                    continue;
+                }
+                JsonNode operation = method.getValue();
+                List<ContractOperation.Parameter> parameters = new ArrayList<>();
+                for (JsonNode parameter : operation.path("parameters")) {
+                    parameters.add(new ContractOperation.Parameter(
+                            parameter.path("name").asString(),
+                            parameter.path("in").asString(),
+                            parameter.path("required").asBoolean(false),
+                            parameter.path("schema")));
+                }
+                JsonNode requestSchema = null;
+                for (JsonNode content : operation.path("requestBody").path("content")) {
+                    requestSchema = content.path("schema");
+                    break;
+                }
+                result.add(new ContractOperation(
+                        method.getKey().toUpperCase(),
+                        path.getKey(),
+                        operation.path("tags").path(0).asString(""),
+                        List.copyOf(parameters),
+                        requestSchema));
+            }
+        }
+        return List.copyOf(result);
+    }
+}
@@ -0,0 +1,163 @@
+package com.apitest.fuzz;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds schema-valid values and the mutations that apply to them.
+ * <p>
+ * Identifiers stay within {@code [1, idRange]} so unmutated requests mostly hit existing resources;
+ * everything else is drawn from the full range the schema allows.
+ */
+public class PayloadGenerator {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ";
+    private static final String UNICODE_SAMPLE = "Ω≈ç√∫ 𝕿𝖍𝖊 ☃ 🙂 ‮evil‬ \u0000 ';--";
+    private static final int LONG_STRING_LENGTH = 10_000;
+    private static final Instant DATE_ORIGIN = Instant.parse("2000-01-01T00:00:00Z");
+
+    private final OpenApiContract contract;
+    private final int idRange;
+
+    public PayloadGenerator(OpenApiContract contract, int idRange) {
+        this.contract = contract;
+        this.idRange = Math.max(1, idRange);
+    }
+
+    public JsonNode valid(JsonNode schema, String name, Random random) {
+        JsonNode resolved = contract.resolve(schema);
+        if (resolved.path("nullable").asBoolean(false) && random.nextInt(10) == 0) {
+            return NODES.nullNode();
+        }
+        return switch (type(resolved)) {
+            case "object" -> {
+                ObjectNode object = NODES.objectNode();
+                for (Map.Entry<String, JsonNode> property : resolved.path("properties").properties()) {
+                    object.set(property.getKey(), valid(property.getValue(), property.getKey(), random));
+                }
+                yield object;
+            }
+            case "array" -> {
+                ArrayNode array = NODES.arrayNode();
+                for (int i = random.nextInt(3); i > 0; i--) {
+                    array.add(valid(resolved.path("items"), name, random));
+                }
+                yield array;
+            }
+            case "integer" -> isIdentifier(name)
+                    ? NODES.numberNode(1 + random.nextInt(idRange))
+                    : NODES.numberNode(random.nextInt(10_000));
+            case "number" -> NODES.numberNode(random.nextDouble() * 10_000);
+            case "boolean" -> NODES.booleanNode(random.nextBoolean());
+            default -> NODES.stringNode(validString(resolved, random));
+        };
+    }
+
+    /**
+     * Every mutation that makes sense for the operation's parameters and body, in a stable order.
+     */
+    public List<Mutation> candidates(ContractOperation operation) {
+        List<Mutation> candidates = new ArrayList<>();
+        for (ContractOperation.Parameter parameter : operation.parameters()) {
+            String target = ("path".equals(parameter.in()) ? Mutation.PATH_PREFIX : Mutation.QUERY_PREFIX) + parameter.name();
+            for (Mutation.Kind kind : kindsFor(contract.resolve(parameter.schema()), false)) {
+                candidates.add(new Mutation(kind, target));
+            }
+        }
+        if (operation.hasBody()) {
+            for (Mutation.Kind kind : List.of(Mutation.Kind.BODY_NULL, Mutation.Kind.BODY_EMPTY,
+                    Mutation.Kind.BODY_MALFORMED, Mutation.Kind.BODY_ARRAY, Mutation.Kind.EXTRA_PROPERTY)) {
+                candidates.add(new Mutation(kind, Mutation.BODY));
+            }
+            JsonNode body = contract.resolve(operation.requestSchema());
+            for (Map.Entry<String, JsonNode> property : body.path("properties").properties()) {
+                for (Mutation.Kind kind : kindsFor(contract.resolve(property.getValue()), true)) {
+                    candidates.add(new Mutation(kind, Mutation.BODY_PREFIX + property.getKey()));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * The replacement value for a property or parameter, or {@code null} when the mutation removes it.
+     */
+    public JsonNode mutatedValue(Mutation.Kind kind, JsonNode schema) {
+        JsonNode resolved = contract.resolve(schema);
+        return switch (kind) {
+            case NULL -> NODES.nullNode();
+            case MISSING -> null;
+            case EMPTY_STRING -> NODES.stringNode("");
+            case WRONG_TYPE -> "string".equals(type(resolved)) ? NODES.numberNode(12345) : NODES.stringNode("not-a-" + type(resolved));
+            case INT_MIN -> NODES.numberNode(Integer.MIN_VALUE);
+            case INT_MAX -> NODES.numberNode(Integer.MAX_VALUE);
+            case INT_OVERFLOW -> NODES.numberNode(Integer.MAX_VALUE + 1L);
+            case NEGATIVE -> NODES.numberNode(-1);
+            case LONG_STRING -> NODES.stringNode("x".repeat(LONG_STRING_LENGTH));
+            case UNICODE -> NODES.stringNode(UNICODE_SAMPLE);
+            case BAD_FORMAT -> NODES.stringNode("date-time".equals(resolved.path("format").asString("")) ? "2021-13-45T25:61:00" : "::not a uri::");
+            default -> throw new IllegalArgumentException(kind + " is not a value mutation");
+        };
+    }
+
+    public JsonNode bodyPropertySchema(ContractOperation operation, String property) {
+        return contract.resolve(operation.requestSchema()).path("properties").path(property);
+    }
+
+    private static List<Mutation.Kind> kindsFor(JsonNode schema, boolean inBody) {
+        List<Mutation.Kind> kinds = new ArrayList<>();
+        if (inBody) {
+            kinds.add(Mutation.Kind.NULL);
+            kinds.add(Mutation.Kind.MISSING);
+        }
+        kinds.add(Mutation.Kind.WRONG_TYPE);
+        switch (type(schema)) {
+            case "integer" -> kinds.addAll(List.of(Mutation.Kind.INT_MIN, Mutation.Kind.INT_MAX,
+                    Mutation.Kind.INT_OVERFLOW, Mutation.Kind.NEGATIVE));
+            case "string" -> {
+                kinds.addAll(List.of(Mutation.Kind.EMPTY_STRING, Mutation.Kind.LONG_STRING, Mutation.Kind.UNICODE));
+                if (schema.has("format")) {
+                    kinds.add(Mutation.Kind.BAD_FORMAT);
+                }
+            }
+            default -> {
+            }
+        }
+        return kinds;
+    }
+
+    private static String type(JsonNode schema) {
+        return schema.path("type").asString(schema.has("properties") ? "object" : "string");
+    }
+
+    private static boolean isIdentifier(String name) {
+        return name != null && (name.equals("id") || name.startsWith("id") && name.length() > 2 && Character.isUpperCase(name.charAt(2)));
+    }
+
+    private static String validString(JsonNode schema, Random random) {
+        return switch (schema.path("format").asString("")) {
+            case "date-time" -> DATE_ORIGIN.plus(random.nextInt(30 * 365), ChronoUnit.DAYS)
+                    .plusSeconds(random.nextInt(86_400)).toString();
+            case "uri" -> "https://example.com/covers/" + randomWord(random, 12);
+            default -> randomWord(random, 1 + random.nextInt(24));
+        };
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return word.toString();
+    }
+}
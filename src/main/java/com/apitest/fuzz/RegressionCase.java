@@ -0,0 +1,7 @@
+package com.apitest.fuzz;
+
+/**
+ * A minimized failing input kept in the regression corpus, with the signature it produced when found.
+ */
+public record RegressionCase(String signature, int status, FuzzRequest request) {
+}
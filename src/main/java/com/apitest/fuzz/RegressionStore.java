@@ -0,0 +1,68 @@
+package com.apitest.fuzz;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON-lines corpus of {@link RegressionCase}s, one per failure signature. Meant to be committed,
+ * so new findings are merged in and existing entries keep their original reproducer.
+ */
+public final class RegressionStore {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private RegressionStore() {
+    }
+
+    public static List<RegressionCase> load(Path file) {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                    .filter(line -> !line.isBlank())
+                    .map(line -> MAPPER.readValue(line, RegressionCase.class))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds cases whose signature is not in the file yet and returns how many were added.
+     */
+    public static int merge(Path file, Collection<RegressionCase> cases) {
+        Map<String, RegressionCase> corpus = new LinkedHashMap<>();
+        load(file).forEach(existing -> corpus.put(existing.signature(), existing));
+        int before = corpus.size();
+        cases.forEach(candidate -> corpus.putIfAbsent(candidate.signature(), candidate));
+        if (corpus.size() == before) {
+            return 0;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (RegressionCase regression : corpus.values()) {
+                    writer.write(MAPPER.writeValueAsString(regression));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return corpus.size() - before;
+    }
+}
@@ -0,0 +1,234 @@
+package com.apitest.lean;
+
+import com.apitest.metrics.EndpointMetrics;
+import com.apitest.metrics.MetricsRegistry;
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.ratelimit.RateLimitFilter;
+import com.apitest.ratelimit.RateLimiters;
+import com.apitest.ratelimit.TokenBucket;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHeader;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * The {@link com.apitest.services.BookService}/{@link com.apitest.services.AuthorService} operations without
+ * REST Assured, for load and replay modes where the client's own CPU and allocation cost caps throughput.
+ * <p>
+ * Paths are precompiled {@link RequestTemplate}s, headers and Jackson readers/writers are built once, and every
+ * thread reuses its own request and response buffers. Requests go straight to the environment's pooled Apache
+ * client, take a token from the shared rate limiter and are recorded into the same {@link MetricsRegistry}
+ * entries as the service calls. There is no Allure reporting, logging, OpenAPI validation or traffic recording.
+ */
+@SuppressWarnings("deprecation")
+public class LeanClient {
+
+    public static final RequestTemplate GET_BOOKS = new RequestTemplate("GET", "/api/v1/Books");
+    public static final RequestTemplate GET_BOOK = new RequestTemplate("GET", "/api/v1/Books/{id}");
+    public static final RequestTemplate POST_BOOK = new RequestTemplate("POST", "/api/v1/Books");
+    public static final RequestTemplate PUT_BOOK = new RequestTemplate("PUT", "/api/v1/Books/{id}");
+    public static final RequestTemplate DELETE_BOOK = new RequestTemplate("DELETE", "/api/v1/Books/{id}");
+    public static final RequestTemplate GET_AUTHORS = new RequestTemplate("GET", "/api/v1/Authors");
+    public static final RequestTemplate GET_AUTHOR = new RequestTemplate("GET", "/api/v1/Authors/{id}");
+    public static final RequestTemplate GET_AUTHORS_BY_BOOK = new RequestTemplate("GET", "/api/v1/Authors/authors/books/{idBook}");
+    public static final RequestTemplate POST_AUTHOR = new RequestTemplate("POST", "/api/v1/Authors");
+    public static final RequestTemplate PUT_AUTHOR = new RequestTemplate("PUT", "/api/v1/Authors/{id}");
+    public static final RequestTemplate DELETE_AUTHOR = new RequestTemplate("DELETE", "/api/v1/Authors/{id}");
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final ObjectReader BOOK = MAPPER.readerFor(Book.class);
+    private static final ObjectReader BOOKS = MAPPER.readerFor(Book[].class);
+    private static final ObjectReader AUTHOR = MAPPER.readerFor(Author.class);
+    private static final ObjectReader AUTHORS = MAPPER.readerFor(Author[].class);
+    private static final ObjectWriter BOOK_WRITER = MAPPER.writerFor(Book.class);
+    private static final ObjectWriter AUTHOR_WRITER = MAPPER.writerFor(Author.class);
+    private static final Header ACCEPT = new BasicHeader("Accept", "application/json");
+    private static final ContentType JSON = ContentType.create("application/json", "UTF-8");
+    private static final Object[] NO_PARAMETERS = new Object[0];
+    private static final int INITIAL_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final MetricsRegistry metricsRegistry;
+    private final String environment;
+    private final RateLimiters rateLimiters;
+    private final TokenBucket bucket;
+
+    public LeanClient(String baseUrl, HttpClient client, MetricsRegistry metricsRegistry, String environment,
+                      RateLimiters rateLimiters) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.client = client;
+        this.metricsRegistry = metricsRegistry;
+        this.environment = environment;
+        this.rateLimiters = rateLimiters;
+        this.bucket = rateLimiters.forUri(this.baseUrl);
+    }
+
+    public LeanResponse<Book[]> getAllBooks(Map<String, ?> queryParams) {
+        return send(GET_BOOKS, NO_PARAMETERS, queryParams, null, null, BOOKS);
+    }
+
+    public LeanResponse<Book> getBook(int id) {
+        return send(GET_BOOK, new Object[]{id}, null, null, null, BOOK);
+    }
+
+    public LeanResponse<Book> createBook(Book book) {
+        return send(POST_BOOK, NO_PARAMETERS, null, BOOK_WRITER, book, BOOK);
+    }
+
+    public LeanResponse<Book> updateBook(int id, Book book) {
+        return send(PUT_BOOK, new Object[]{id}, null, BOOK_WRITER, book, BOOK);
+    }
+
+    public LeanResponse<Void> deleteBook(int id) {
+        return send(DELETE_BOOK, new Object[]{id}, null, null, null, null);
+    }
+
+    public LeanResponse<Author[]> getAllAuthors(Map<String, ?> queryParams) {
+        return send(GET_AUTHORS, NO_PARAMETERS, queryParams, null, null, AUTHORS);
+    }
+
+    public LeanResponse<Author> getAuthor(int id) {
+        return send(GET_AUTHOR, new Object[]{id}, null, null, null, AUTHOR);
+    }
+
+    public LeanResponse<Author[]> getAuthorsByBookId(int idBook) {
+        return send(GET_AUTHORS_BY_BOOK, new Object[]{idBook}, null, null, null, AUTHORS);
+    }
+
+    public LeanResponse<Author> createAuthor(Author author) {
+        return send(POST_AUTHOR, NO_PARAMETERS, null, AUTHOR_WRITER, author, AUTHOR);
+    }
+
+    public LeanResponse<Author> updateAuthor(int id, Author author) {
+        return send(PUT_AUTHOR, new Object[]{id}, null, AUTHOR_WRITER, author, AUTHOR);
+    }
+
+    public LeanResponse<Void> deleteAuthor(int id) {
+        return send(DELETE_AUTHOR, new Object[]{id}, null, null, null, null);
+    }
+
+    /**
+     * Sends one request built from {@code template}; the response body is bound with {@code reader} when the
+     * status is 2xx, and discarded otherwise.
+     */
+    public <T> LeanResponse<T> send(RequestTemplate template, Object[] parameters, Map<String, ?> queryParams,
+                                    ObjectWriter writer, Object body, ObjectReader reader) {
+        Buffers buffers = BUFFERS.get();
+        HttpRequestBase request = newRequest(template.getMethod(), template.expand(baseUrl, parameters, queryParams));
+        request.addHeader(ACCEPT);
+        if (body != null && request instanceof HttpEntityEnclosingRequestBase enclosing) {
+            buffers.out.reset();
+            writer.writeValue(buffers.out, body);
+            enclosing.setEntity(new ByteArrayEntity(buffers.out.array(), 0, buffers.out.size(), JSON));
+        }
+
+        EndpointMetrics metrics = metricsRegistry.endpoint(environment, template.operation());
+        if (rateLimiters.isEnabled()) {
+            acquireToken();
+        }
+        long start = System.nanoTime();
+        try {
+            HttpResponse response = client.execute(request);
+            int status = response.getStatusLine().getStatusCode();
+            int length = buffers.readFully(response.getEntity());
+            long nanos = System.nanoTime() - start;
+            metrics.record(status, nanos);
+            if (rateLimiters.isEnabled() && (status == 429 || status == 503)) {
+                Header retryAfter = response.getFirstHeader("Retry-After");
+                bucket.throttled(RateLimitFilter.parseRetryAfter(retryAfter != null ? retryAfter.getValue() : null));
+            }
+            T bound = reader != null && length > 0 && status >= 200 && status < 300
+                    ? reader.readValue(buffers.in, 0, length)
+                    : null;
+            return new LeanResponse<>(status, bound, length, nanos);
+        } catch (IOException e) {
+            metrics.recordError();
+            request.abort();
+            throw new UncheckedIOException(template.operation() + " failed", e);
+        }
+    }
+
+    private void acquireToken() {
+        try {
+            bucket.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a rate limit token for " + bucket.getHost(), e);
+        }
+    }
+
+    private static HttpRequestBase newRequest(String method, String uri) {
+        return switch (method) {
+            case "GET" -> new HttpGet(uri);
+            case "POST" -> new HttpPost(uri);
+            case "PUT" -> new HttpPut(uri);
+            case "DELETE" -> new HttpDelete(uri);
+            default -> throw new IllegalArgumentException("Unsupported method " + method);
+        };
+    }
+
+    /**
+     * Per-thread request and response buffers, grown on demand and never shrunk.
+     */
+    private static final class Buffers {
+
+        private final ReusableOutput out = new ReusableOutput();
+        private byte[] in = new byte[INITIAL_BUFFER];
+
+        /**
+         * Reads the whole entity into {@link #in}; reaching the end of the stream hands the connection back
+         * to the pool.
+         */
+        int readFully(HttpEntity entity) throws IOException {
+            if (entity == null) {
+                return 0;
+            }
+            int length = 0;
+            try (InputStream content = entity.getContent()) {
+                int read;
+                while ((read = content.read(in, length, in.length - length)) != -1) {
+                    length += read;
+                    if (length == in.length) {
+                        in = Arrays.copyOf(in, in.length * 2);
+                    }
+                }
+            }
+            return length;
+        }
+    }
+
+    private static final class ReusableOutput extends ByteArrayOutputStream {
+
+        ReusableOutput() {
+            super(INITIAL_BUFFER);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+}
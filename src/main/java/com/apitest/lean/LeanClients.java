@@ -0,0 +1,44 @@
+package com.apitest.lean;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.config.ConnectionPools;
+import com.apitest.metrics.MetricsRegistry;
+import com.apitest.ratelimit.RateLimiters;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.params.HttpConnectionParams;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates and caches a {@link LeanClient} per environment, sharing the environment's connection pool, metrics
+ * and rate limit with the REST Assured services.
+ */
+@Component
+@SuppressWarnings("deprecation")
+public class LeanClients {
+
+    private final ApiConfig apiConfig;
+    private final ConnectionPools connectionPools;
+    private final MetricsRegistry metricsRegistry;
+    private final RateLimiters rateLimiters;
+    private final ConcurrentMap<String, LeanClient> clients = new ConcurrentHashMap<>();
+
+    public LeanClients(ApiConfig apiConfig, ConnectionPools connectionPools, MetricsRegistry metricsRegistry,
+                       RateLimiters rateLimiters) {
+        this.apiConfig = apiConfig;
+        this.connectionPools = connectionPools;
+        this.metricsRegistry = metricsRegistry;
+        this.rateLimiters = rateLimiters;
+    }
+
+    public LeanClient forEnvironment(String environment) {
+        return clients.computeIfAbsent(environment, name -> {
+            DefaultHttpClient client = new DefaultHttpClient(connectionPools.connectionManagerFor(name));
+            HttpConnectionParams.setConnectionTimeout(client.getParams(), apiConfig.getConnection().getConnectTimeoutMs());
+            HttpConnectionParams.setSoTimeout(client.getParams(), apiConfig.getConnection().getSocketTimeoutMs());
+            return new LeanClient(apiConfig.getEnvironmentUrl(name), client, metricsRegistry, name, rateLimiters);
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.apitest.lean;
+
+/**
+ * Result of a {@link LeanClient} call: the status, the body bound straight to its model type for 2xx responses
+ * ({@code null} otherwise, or when the response had no body), and the time on the wire.
+ */
+public record LeanResponse<T>(int statusCode, T body, int bodyLength, long nanos) {
+
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+}
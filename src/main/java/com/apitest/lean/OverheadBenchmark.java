@@ -0,0 +1,150 @@
+package com.apitest.lean;
+
+import com.apitest.config.RestAssuredConfig;
+import com.apitest.metrics.LatencyHistogram;
+import com.apitest.models.Book;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Runs the same closed-loop {@code GET /api/v1/Books/{id}} load, bound to {@link Book}, through the REST Assured
+ * bulk specification and through {@link LeanClient}, and compares the client-side cost of each request: CPU time
+ * and heap allocated by the calling thread, alongside throughput and latency.
+ * <p>
+ * Each path first gets an unmeasured warm-up of fifty requests per worker, so the comparison is not skewed by
+ * class loading and JIT compilation of whichever path runs first.
+ */
+@Slf4j
+public class OverheadBenchmark {
+
+    private static final String BOOK_BY_ID_ENDPOINT = "/api/v1/Books/{id}";
+    private static final int WARM_UP_PER_WORKER = 50;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final RestAssuredConfig restAssuredConfig;
+    private final LeanClient leanClient;
+    private final int requests;
+    private final int concurrency;
+
+    public record Result(String path, int requests, long errors, long elapsedMillis, long cpuNanos,
+                         long allocatedBytes, LatencyHistogram latency) {
+
+        public double throughput() {
+            return elapsedMillis == 0 ? 0 : requests * 1000.0 / elapsedMillis;
+        }
+
+        public double cpuMicrosPerRequest() {
+            return cpuNanos / 1000.0 / requests;
+        }
+
+        public double allocatedKbPerRequest() {
+            return allocatedBytes / 1024.0 / requests;
+        }
+
+        public String toLine() {
+            return String.format("  %-12s %8d %7d %9.1f/s %9.1fus %9.1fKB %8.1fms %8.1fms",
+                    path, requests, errors, throughput(), cpuMicrosPerRequest(), allocatedKbPerRequest(),
+                    latency.getPercentileMillis(50), latency.getPercentileMillis(99));
+        }
+    }
+
+    public OverheadBenchmark(RestAssuredConfig restAssuredConfig, LeanClient leanClient, int requests, int concurrency) {
+        this.restAssuredConfig = restAssuredConfig;
+        this.leanClient = leanClient;
+        this.requests = requests;
+        this.concurrency = concurrency;
+    }
+
+    public List<Result> run() throws InterruptedException {
+        IntPredicate restAssured = id -> given().spec(restAssuredConfig.getBulkRequestSpecification())
+                .pathParam("id", id).get(BOOK_BY_ID_ENDPOINT).as(Book.class).getId() == id;
+        IntPredicate lean = id -> {
+            LeanResponse<Book> response = leanClient.getBook(id);
+            return response.statusCode() == 200 && response.body().getId() == id;
+        };
+        return List.of(measure("rest-assured", restAssured), measure("lean", lean));
+    }
+
+    public static String toText(List<Result> results) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("  %-12s %8s %7s %11s %11s %11s %10s %10s%n",
+                "path", "requests", "errors", "throughput", "cpu/req", "alloc/req", "p50", "p99"));
+        results.forEach(result -> text.append(result.toLine()).append(System.lineSeparator()));
+        if (results.size() == 2 && results.get(1).cpuNanos() > 0) {
+            Result baseline = results.get(0);
+            Result candidate = results.get(1);
+            text.append(String.format("  %s uses %.1fx less CPU and %.1fx less allocation per request than %s%n",
+                    candidate.path(), (double) baseline.cpuNanos() / candidate.cpuNanos(),
+                    candidate.allocatedBytes() == 0 ? 0 : (double) baseline.allocatedBytes() / candidate.allocatedBytes(),
+                    baseline.path()));
+        }
+        return text.toString();
+    }
+
+    private Result measure(String path, IntPredicate call) throws InterruptedException {
+        load(call, concurrency * WARM_UP_PER_WORKER, new LatencyHistogram(), new AtomicLong(), new AtomicLong());
+
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicLong cpuNanos = new AtomicLong();
+        AtomicLong allocatedBytes = new AtomicLong();
+        long start = System.nanoTime();
+        long errors = load(call, requests, latency, cpuNanos, allocatedBytes);
+        Result result = new Result(path, requests, errors, (System.nanoTime() - start) / 1_000_000,
+                cpuNanos.get(), allocatedBytes.get(), latency);
+        log.info("Client overhead benchmark{}{}", System.lineSeparator(), result.toLine());
+        return result;
+    }
+
+    private long load(IntPredicate call, int count, LatencyHistogram latency, AtomicLong cpuNanos,
+                      AtomicLong allocatedBytes) throws InterruptedException {
+        AtomicInteger remaining = new AtomicInteger(count);
+        AtomicLong errors = new AtomicLong();
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(concurrency,
+                Thread.ofPlatform().name("overhead-bench-", 0).daemon().factory())) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                workers.add(pool.submit(() -> {
+                    long cpuStart = THREADS.getCurrentThreadCpuTime();
+                    long allocatedStart = THREADS.getCurrentThreadAllocatedBytes();
+                    int sent;
+                    while ((sent = remaining.getAndDecrement()) > 0) {
+                        long start = System.nanoTime();
+                        try {
+                            boolean matched = call.test(1 + sent % 200);
+                            latency.recordNanos(System.nanoTime() - start);
+                            if (!matched) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) { // REST Assured rethrows checked I/O exceptions undeclared
+                            errors.incrementAndGet();
+                        }
+                    }
+                    cpuNanos.addAndGet(THREADS.getCurrentThreadCpuTime() - cpuStart);
+                    allocatedBytes.addAndGet(THREADS.getCurrentThreadAllocatedBytes() - allocatedStart);
+                }));
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    log.warn("Benchmark worker failed", e.getCause());
+                }
+            }
+        }
+        return errors.get();
+    }
+}
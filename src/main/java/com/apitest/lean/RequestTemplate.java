@@ -0,0 +1,93 @@
+package com.apitest.lean;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@code METHOD /path/{param}} template split once into literal segments and parameter slots, so expanding
+ * it is a single pre-sized {@link StringBuilder} pass instead of REST Assured's per-request path parsing.
+ */
+public final class RequestTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([^}]+)}");
+
+    private final String method;
+    private final String path;
+    private final String[] literals;
+    private final int literalLength;
+
+    public RequestTemplate(String method, String path) {
+        this.method = method;
+        this.path = path;
+        List<String> parts = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(path);
+        int last = 0;
+        while (matcher.find()) {
+            parts.add(path.substring(last, matcher.start()));
+            last = matcher.end();
+        }
+        parts.add(path.substring(last));
+        this.literals = parts.toArray(String[]::new);
+        this.literalLength = parts.stream().mapToInt(String::length).sum();
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * The operation name {@link com.apitest.metrics.MetricsFilter} uses for the same call.
+     */
+    public String operation() {
+        return method + " " + path;
+    }
+
+    public int parameterCount() {
+        return literals.length - 1;
+    }
+
+    /**
+     * @param baseUrl    target without a trailing slash
+     * @param parameters path parameter values, in template order
+     * @param query      optional query parameters, may be {@code null}
+     */
+    public String expand(String baseUrl, Object[] parameters, Map<String, ?> query) {
+        if (parameters.length != parameterCount()) {
+            throw new IllegalArgumentException(operation() + " takes " + parameterCount() + " path parameters, got "
+                    + parameters.length);
+        }
+        StringBuilder uri = new StringBuilder(baseUrl.length() + literalLength + 12 * parameters.length);
+        uri.append(baseUrl).append(literals[0]);
+        for (int i = 0; i < parameters.length; i++) {
+            uri.append(encode(String.valueOf(parameters[i]))).append(literals[i + 1]);
+        }
+        if (query != null && !query.isEmpty()) {
+            char separator = '?';
+            for (Map.Entry<String, ?> parameter : query.entrySet()) {
+                uri.append(separator).append(encode(parameter.getKey())).append('=')
+                        .append(encode(String.valueOf(parameter.getValue())));
+                separator = '&';
+            }
+        }
+        return uri.toString();
+    }
+
+    private static String encode(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(Character.isLetterOrDigit(c) && c < 128) && c != '-' && c != '_' && c != '.' && c != '~') {
+                return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+            }
+        }
+        return value;
+    }
+}
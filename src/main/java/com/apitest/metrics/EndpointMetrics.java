@@ -0,0 +1,59 @@
+package com.apitest.metrics;
+
+import com.apitest.timing.PhaseBreakdown;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency, phase breakdown, status and coalescing counts for one operation ({@code METHOD template}) against one environment.
+ */
+public class EndpointMetrics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final PhaseBreakdown phases = new PhaseBreakdown();
+
+    public void record(int status, long nanos) {
+        latency.recordNanos(nanos);
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Counts a call that shared another caller's in-flight request instead of sending its own.
+     */
+    public void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public PhaseBreakdown getPhases() {
+        return phases;
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
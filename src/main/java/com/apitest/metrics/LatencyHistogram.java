@@ -0,0 +1,170 @@
+package com.apitest.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, mergeable latency histogram in microseconds.
+ * Values below 64µs are exact; above that, buckets are log-linear with 32 sub-buckets per power of two
+ * (about 3% relative error), which is plenty for percentiles while keeping the footprint fixed at ~9KB.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MIN_EXPONENT = 6;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = LINEAR_BUCKETS + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long value, TimeUnit unit) {
+        recordMicros(unit.toMicros(value));
+    }
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1000);
+    }
+
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    public double getMeanMicros() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalMicros.get() / count;
+    }
+
+    /**
+     * @param percentile in the range 0..100
+     * @return the upper bound of the bucket holding that percentile, capped at the observed maximum
+     */
+    public long getPercentileMicros(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return getPercentileMicros(percentile) / 1000.0;
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                counts.addAndGet(i, c);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.merge(this);
+        return copy;
+    }
+
+    /**
+     * Sparse bucket-index to count view, suitable for shipping a histogram between processes.
+     */
+    public Map<Integer, Long> toBucketCounts() {
+        Map<Integer, Long> sparse = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = counts.get(i);
+            if (c != 0) {
+                sparse.put(i, c);
+            }
+        }
+        return sparse;
+    }
+
+    public static LatencyHistogram fromBucketCounts(Map<Integer, Long> sparse, long totalMicros, long maxMicros) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        sparse.forEach((index, c) -> {
+            histogram.counts.addAndGet(index, c);
+            histogram.totalCount.addAndGet(c);
+        });
+        histogram.totalMicros.set(totalMicros);
+        histogram.maxMicros.set(maxMicros);
+        return histogram;
+    }
+
+    /**
+     * @return the largest value, in microseconds, that falls into the bucket at {@code index} of
+     * {@link #toBucketCounts()}; bucket order is value order
+     */
+    public static long bucketUpperBoundMicros(int index) {
+        return upperBoundOf(index);
+    }
+
+    /**
+     * @return the upper bound of the bucket {@code micros} falls into, comparable with {@link #getPercentileMicros}
+     */
+    public static long bucketCeilingMicros(long micros) {
+        return upperBoundOf(indexOf(Math.max(0, micros)));
+    }
+
+    public long getTotalMicros() {
+        return totalMicros.get();
+    }
+
+    public String summary() {
+        return String.format("n=%d mean=%.1fms p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                getCount(), getMeanMicros() / 1000.0, getPercentileMillis(50), getPercentileMillis(95),
+                getPercentileMillis(99), maxMicros.get() / 1000.0);
+    }
+
+    static int indexOf(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int exponent = MIN_EXPONENT + (index - LINEAR_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+        long lower = (1L << exponent) + ((long) subBucket << (exponent - SUB_BUCKET_BITS));
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
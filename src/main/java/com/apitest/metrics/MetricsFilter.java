@@ -0,0 +1,50 @@
+package com.apitest.metrics;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Times every exchange into the {@link MetricsRegistry} under its environment and operation.
+ */
+public class MetricsFilter implements OrderedFilter {
+
+    private final MetricsRegistry registry;
+    private final String environment;
+
+    public MetricsFilter(MetricsRegistry registry, String environment) {
+        this.registry = registry;
+        this.environment = environment;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        EndpointMetrics metrics = registry.endpoint(environment, operationOf(requestSpec));
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            metrics.record(response.getStatusCode(), System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException e) {
+            metrics.recordError();
+            throw e;
+        }
+    }
+
+    /**
+     * Shares Allure's order but is added after it, so (filters being sorted stably) it sits closest to the wire
+     * and attachment rendering is not counted as latency.
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    public static String operationOf(FilterableRequestSpecification requestSpec) {
+        return requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath();
+    }
+}
@@ -0,0 +1,90 @@
+package com.apitest.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Run-wide {@link EndpointMetrics}, keyed by environment and then by operation.
+ */
+@Component
+public class MetricsRegistry {
+
+    private final ConcurrentMap<String, ConcurrentMap<String, EndpointMetrics>> environments = new ConcurrentHashMap<>();
+    private final long startNanos = System.nanoTime();
+    private final ThreadLocal<Boolean> suspended = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * @return the run-wide metrics for the operation, or throwaway ones while recording is suspended on the
+     * calling thread
+     */
+    public EndpointMetrics endpoint(String environment, String operation) {
+        if (suspended.get()) {
+            return new EndpointMetrics();
+        }
+        return environments.computeIfAbsent(environment, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operation, key -> new EndpointMetrics());
+    }
+
+    /**
+     * @return whether requests sent from the calling thread are recorded
+     */
+    public boolean isRecording() {
+        return !suspended.get();
+    }
+
+    /**
+     * Runs {@code action} with recording suspended on the calling thread only, e.g. to keep warm-up traffic out
+     * of the latency statistics while tests on other threads keep recording. Threads started by {@code action}
+     * record as usual unless they call this themselves.
+     */
+    public <T> T withoutRecording(Supplier<T> action) {
+        boolean previous = suspended.get();
+        suspended.set(true);
+        try {
+            return action.get();
+        } finally {
+            suspended.set(previous);
+        }
+    }
+
+    /**
+     * @return time since the registry was created, i.e. the length of the run so far
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return environment to operation to metrics, both levels sorted by name
+     */
+    public Map<String, Map<String, EndpointMetrics>> snapshot() {
+        Map<String, Map<String, EndpointMetrics>> snapshot = new TreeMap<>();
+        environments.forEach((environment, endpoints) -> snapshot.put(environment, new TreeMap<>(endpoints)));
+        return snapshot;
+    }
+
+    public String report() {
+        StringBuilder text = new StringBuilder();
+        snapshot().forEach((environment, endpoints) -> {
+            text.append("Environment: ").append(environment).append(System.lineSeparator());
+            text.append(String.format("  %-45s %7s %9s %9s %9s %9s  %s%n", "operation", "calls", "mean", "p50", "p95", "p99", "statuses"));
+            endpoints.forEach((operation, metrics) -> {
+                LatencyHistogram latency = metrics.getLatency();
+                text.append(String.format("  %-45s %7d %7.1fms %7.1fms %7.1fms %7.1fms  %s%s%s%n",
+                        operation, latency.getCount(), latency.getMeanMicros() / 1000.0,
+                        latency.getPercentileMillis(50), latency.getPercentileMillis(95), latency.getPercentileMillis(99),
+                        metrics.getStatusCounts(),
+                        metrics.getErrorCount() > 0 ? " errors=" + metrics.getErrorCount() : "",
+                        metrics.getCoalescedCount() > 0 ? " coalesced=" + metrics.getCoalescedCount() : ""));
+            });
+            text.append(System.lineSeparator());
+        });
+        return text.toString();
+    }
+}
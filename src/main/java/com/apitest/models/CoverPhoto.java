@@ -0,0 +1,23 @@
+package com.apitest.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverPhoto {
+
+    @JsonProperty("id")
+    private Integer id;
+
+    @JsonProperty("idBook")
+    private Integer idBook;
+
+    @JsonProperty("url")
+    private String url;
+}
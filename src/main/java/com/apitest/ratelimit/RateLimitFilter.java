@@ -0,0 +1,99 @@
+package com.apitest.ratelimit;
+
+import com.apitest.coalescing.CoalescingFilter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Takes a token from the target host's {@link TokenBucket} before each request and feeds 429 and 503
+ * responses, with their {@code Retry-After}, back into it.
+ * <p>
+ * The throttled response itself is still returned to the caller; the bucket only slows the requests that
+ * follow it.
+ */
+@Slf4j
+public class RateLimitFilter implements OrderedFilter {
+
+    /**
+     * Longest {@code Retry-After} honoured; a larger value would stall the run (or overflow the bucket's
+     * nanosecond clock) rather than pace it.
+     */
+    public static final Duration MAX_RETRY_AFTER = Duration.ofHours(1);
+
+    private final RateLimiters limiters;
+
+    public RateLimitFilter(RateLimiters limiters) {
+        this.limiters = limiters;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!limiters.isEnabled() || CoalescingFilter.isFollowing()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        TokenBucket bucket = limiters.forUri(requestSpec.getURI());
+        try {
+            bucket.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a rate limit token for " + bucket.getHost(), e);
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        int status = response.getStatusCode();
+        if (status == 429 || status == 503) {
+            Duration retryAfter = parseRetryAfter(response.getHeader("Retry-After"));
+            bucket.throttled(retryAfter);
+            log.warn("{} returned {} (Retry-After {}), rate lowered to {}/s", bucket.getHost(), status,
+                    retryAfter, String.format("%.1f", bucket.getCurrentRate()));
+        }
+        return response;
+    }
+
+    /**
+     * Runs just before recording, Allure and {@link com.apitest.metrics.MetricsFilter}, so time spent waiting
+     * for a token is neither recorded, attached nor counted as latency.
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    /**
+     * @return the delay in a {@code Retry-After} header (delta-seconds or HTTP-date), at most
+     * {@link #MAX_RETRY_AFTER}, or {@code null} when absent or unparseable
+     */
+    public static Duration parseRetryAfter(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String value = header.trim();
+        try {
+            return clamp(Duration.ofSeconds(Math.max(0, Long.parseLong(value))));
+        } catch (NumberFormatException e) {
+            try {
+                Duration delay = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+                return delay.isNegative() ? Duration.ZERO : clamp(delay);
+            } catch (DateTimeParseException ignored) {
+                log.debug("Ignoring unparseable Retry-After '{}'", value);
+                return null;
+            }
+        }
+    }
+
+    private static Duration clamp(Duration delay) {
+        return delay.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : delay;
+    }
+}
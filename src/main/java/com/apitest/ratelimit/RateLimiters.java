@@ -0,0 +1,65 @@
+package com.apitest.ratelimit;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Run-wide {@link TokenBucket}s, one per target host ({@code scheme://host:port}), so every service, thread
+ * and environment pointing at the same host draws from the same budget.
+ */
+@Component
+public class RateLimiters {
+
+    private final ApiConfig.RateLimitConfig config;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiters(ApiConfig apiConfig) {
+        this.config = apiConfig.getRateLimit();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public TokenBucket forUri(String uri) {
+        return buckets.computeIfAbsent(hostOf(uri), host -> new TokenBucket(host, config.getRatePerSecond(),
+                config.getBurst(), config.getMinRatePerSecond(), config.getBackoffFactor(), config.getRecovery()));
+    }
+
+    /**
+     * @return buckets by host, sorted
+     */
+    public Map<String, TokenBucket> snapshot() {
+        return new TreeMap<>(buckets);
+    }
+
+    public String report() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Rate limits%n  %-40s %9s %9s %9s %9s %9s %9s %9s%n",
+                "host", "acquired", "delayed", "throttled", "rate/s", "p50 wait", "p99 wait", "max wait"));
+        snapshot().forEach((host, bucket) -> {
+            LatencyHistogram waits = bucket.getWaits();
+            text.append(String.format("  %-40s %9d %9d %9d %9.1f %7.1fms %7.1fms %7.1fms%n",
+                    host, waits.getCount(), bucket.getDelayedCount(), bucket.getThrottledCount(),
+                    bucket.getCurrentRate(), waits.getPercentileMillis(50), waits.getPercentileMillis(99),
+                    waits.getMaxMicros() / 1000.0));
+        });
+        return text.toString();
+    }
+
+    static String hostOf(String uri) {
+        URI parsed = URI.create(uri);
+        int port = parsed.getPort();
+        if (port < 0) {
+            port = "https".equalsIgnoreCase(parsed.getScheme()) ? 443 : 80;
+        }
+        return parsed.getScheme() + "://" + parsed.getHost() + ":" + port;
+    }
+}
@@ -0,0 +1,154 @@
+package com.apitest.ratelimit;
+
+import com.apitest.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket for one host, shared by every thread sending to it.
+ * <p>
+ * Callers reserve a token under a short lock and are told how long to wait for it; they then sleep
+ * once for exactly that long instead of polling. Reservations are handed out in order, so waiting callers
+ * are served first come, first served, and up to {@code burst} tokens accumulate while the host is idle.
+ * <p>
+ * When the server throttles (429 or 503), {@link #throttled(Duration)} holds every reservation back until
+ * its {@code Retry-After} has passed, drops any saved-up burst and cuts the rate by {@code backoffFactor}.
+ * The rate then climbs back linearly, at a pace that would take {@code recovery} to go from the minimum to the
+ * configured rate.
+ * <p>
+ * Time comes from a nanosecond clock, {@link System#nanoTime()} unless another is given, so the backoff and
+ * recovery can be driven step by step through {@link #reserve()} and {@link #throttled(Duration)}.
+ */
+public class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final String host;
+    private final double maxRate;
+    private final double minRate;
+    private final double burst;
+    private final double backoffFactor;
+    private final long recoveryNanos;
+    private final LongSupplier clock;
+
+    private double rate;
+    private double storedTokens;
+    private long nextFreeNanos;
+    private long lastUpdateNanos;
+
+    private final LatencyHistogram waits = new LatencyHistogram();
+    private final AtomicLong delayed = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+
+    public TokenBucket(String host, double ratePerSecond, int burst, double minRatePerSecond,
+                       double backoffFactor, Duration recovery) {
+        this(host, ratePerSecond, burst, minRatePerSecond, backoffFactor, recovery, System::nanoTime);
+    }
+
+    public TokenBucket(String host, double ratePerSecond, int burst, double minRatePerSecond,
+                       double backoffFactor, Duration recovery, LongSupplier clock) {
+        if (ratePerSecond <= 0 || burst < 1 || minRatePerSecond <= 0 || minRatePerSecond > ratePerSecond) {
+            throw new IllegalArgumentException("Invalid rate limit for " + host + ": rate " + ratePerSecond
+                    + "/s, burst " + burst + ", min rate " + minRatePerSecond + "/s");
+        }
+        if (backoffFactor <= 0 || backoffFactor > 1) {
+            throw new IllegalArgumentException("Backoff factor must be in (0, 1], was " + backoffFactor);
+        }
+        this.host = host;
+        this.maxRate = ratePerSecond;
+        this.minRate = minRatePerSecond;
+        this.burst = burst;
+        this.backoffFactor = backoffFactor;
+        this.recoveryNanos = Math.max(1, recovery.toNanos());
+        this.clock = clock;
+        this.rate = ratePerSecond;
+        this.storedTokens = burst;
+        long now = clock.getAsLong();
+        this.nextFreeNanos = now;
+        this.lastUpdateNanos = now;
+    }
+
+    /**
+     * Takes one token, sleeping until it is available.
+     *
+     * @throws InterruptedException if interrupted while waiting; the token stays consumed
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        waits.recordNanos(waitNanos);
+        if (waitNanos > 0) {
+            delayed.incrementAndGet();
+            Thread.sleep(Duration.ofNanos(waitNanos));
+        }
+    }
+
+    /**
+     * Reserves the next token without waiting for it.
+     *
+     * @return nanoseconds the caller has to wait before using the token
+     */
+    public synchronized long reserve() {
+        long now = clock.getAsLong();
+        refill(now);
+        long grantedAt = Math.max(nextFreeNanos, now);
+        double fromStore = Math.min(1.0, storedTokens);
+        storedTokens -= fromStore;
+        nextFreeNanos = grantedAt + (long) ((1.0 - fromStore) * NANOS_PER_SECOND / rate);
+        return grantedAt - now;
+    }
+
+    /**
+     * The server rejected a request for load. Blocks new grants until {@code retryAfter} has passed (if given)
+     * and lowers the rate.
+     */
+    public synchronized void throttled(Duration retryAfter) {
+        long now = clock.getAsLong();
+        refill(now);
+        throttled.incrementAndGet();
+        storedTokens = 0;
+        rate = Math.max(minRate, rate * backoffFactor);
+        long resumeAt = retryAfter != null ? now + retryAfter.toNanos() : now;
+        nextFreeNanos = Math.max(nextFreeNanos, resumeAt);
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastUpdateNanos;
+        if (elapsed > 0 && rate < maxRate) {
+            rate = Math.min(maxRate, rate + (maxRate - minRate) * elapsed / recoveryNanos);
+        }
+        lastUpdateNanos = now;
+        if (now > nextFreeNanos) {
+            storedTokens = Math.min(burst, storedTokens + (now - nextFreeNanos) * rate / NANOS_PER_SECOND);
+            nextFreeNanos = now;
+        }
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public synchronized double getCurrentRate() {
+        return rate;
+    }
+
+    public double getMaxRate() {
+        return maxRate;
+    }
+
+    /**
+     * Time callers spent waiting for a token, one sample per acquisition (zero when a token was ready).
+     */
+    public LatencyHistogram getWaits() {
+        return waits;
+    }
+
+    public long getDelayedCount() {
+        return delayed.get();
+    }
+
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+}
@@ -0,0 +1,55 @@
+package com.apitest.recording;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One request/response exchange captured by {@link RecordingFilter}.
+ * Timestamps are in microseconds so replay can reproduce inter-arrival gaps faithfully.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RecordedExchange {
+
+    @JsonProperty("method")
+    private String method;
+
+    @JsonProperty("baseUri")
+    private String baseUri;
+
+    @JsonProperty("pathTemplate")
+    private String pathTemplate;
+
+    @JsonProperty("pathParams")
+    private Map<String, String> pathParams;
+
+    @JsonProperty("queryParams")
+    private Map<String, String> queryParams;
+
+    @JsonProperty("requestHeaders")
+    private Map<String, String> requestHeaders;
+
+    @JsonProperty("requestBody")
+    private String requestBody;
+
+    @JsonProperty("status")
+    private Integer status;
+
+    @JsonProperty("responseBody")
+    private String responseBody;
+
+    @JsonProperty("startedAtMicros")
+    private Long startedAtMicros;
+
+    @JsonProperty("durationMicros")
+    private Long durationMicros;
+}
@@ -0,0 +1,89 @@
+package com.apitest.recording;
+
+import com.apitest.coalescing.CoalescingFilter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Captures every exchange and hands it to the {@link TrafficLogWriter}.
+ * Only the capture happens on the calling thread; serialization, compression and I/O are done by the writer.
+ * Credentials in request headers are replaced by {@value #REDACTED} before they reach the log.
+ */
+public class RecordingFilter implements OrderedFilter {
+
+    static final String REDACTED = "[redacted]";
+    private static final Set<String> SENSITIVE_HEADERS = Set.of("authorization", "proxy-authorization", "cookie", "x-api-key");
+
+    private final TrafficLogWriter writer;
+
+    public RecordingFilter(TrafficLogWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (CoalescingFilter.isFollowing()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Instant startedAt = Instant.now();
+        long startedAtMicros = startedAt.getEpochSecond() * 1_000_000 + startedAt.getNano() / 1_000;
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long durationMicros = (System.nanoTime() - start) / 1000;
+
+        writer.offer(RecordedExchange.builder()
+                .method(requestSpec.getMethod())
+                .baseUri(requestSpec.getBaseUri())
+                .pathTemplate(requestSpec.getUserDefinedPath())
+                .pathParams(new LinkedHashMap<>(requestSpec.getPathParams()))
+                .queryParams(new LinkedHashMap<>(requestSpec.getQueryParams()))
+                .requestHeaders(headersOf(requestSpec))
+                .requestBody(bodyOf(requestSpec.getBody()))
+                .status(response.getStatusCode())
+                .responseBody(response.asString())
+                .startedAtMicros(startedAtMicros)
+                .durationMicros(durationMicros)
+                .build());
+        return response;
+    }
+
+    /**
+     * Runs after every other filter except Allure, so the recorded request is the one actually sent.
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    private static Map<String, String> headersOf(FilterableRequestSpecification requestSpec) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Header header : requestSpec.getHeaders()) {
+            boolean sensitive = SENSITIVE_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT));
+            headers.put(header.getName(), sensitive ? REDACTED : header.getValue());
+        }
+        return headers;
+    }
+
+    private static String bodyOf(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return body.toString();
+    }
+}
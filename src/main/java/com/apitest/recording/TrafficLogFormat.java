@@ -0,0 +1,77 @@
+package com.apitest.recording;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * On-disk layout shared by {@link TrafficLogWriter} and {@link TrafficLogReader}.
+ * <pre>
+ * file  := MAGIC block*
+ * block := compressedLength:int rawLength:int recordCount:int crc32:int deflate(record*)
+ * record := length:int json-bytes
+ * </pre>
+ * Blocks are only ever appended; a block cut short by a crash fails its length or CRC check and ends the log.
+ * {@link #validLength} finds where that is, so the writer can cut a torn tail off before appending again.
+ */
+final class TrafficLogFormat {
+
+    static final byte[] MAGIC = "APITRL01".getBytes(StandardCharsets.US_ASCII);
+    static final int BLOCK_HEADER_BYTES = 4 * Integer.BYTES;
+
+    private TrafficLogFormat() {
+    }
+
+    /**
+     * Returns the length of the intact part of a log: the magic followed by every block whose length and CRC
+     * check out. A file holding only part of the magic counts as empty.
+     *
+     * @throws IllegalArgumentException if the file does not start with the magic
+     */
+    static long validLength(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+        channel.read(magic, 0);
+        if (!Arrays.equals(Arrays.copyOf(magic.array(), magic.position()), Arrays.copyOf(MAGIC, magic.position()))) {
+            throw new IllegalArgumentException("not a traffic log");
+        }
+        if (magic.position() < MAGIC.length) {
+            return 0;
+        }
+
+        long position = MAGIC.length;
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        ByteBuffer compressed = ByteBuffer.allocate(0);
+        CRC32 crc = new CRC32();
+        while (position + BLOCK_HEADER_BYTES <= size) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            int compressedLength = header.getInt();
+            header.getInt();
+            header.getInt();
+            int expectedCrc = header.getInt();
+            if (compressedLength <= 0 || position + BLOCK_HEADER_BYTES + compressedLength > size) {
+                break;
+            }
+            if (compressed.capacity() < compressedLength) {
+                compressed = ByteBuffer.allocate(compressedLength);
+            }
+            compressed.clear().limit(compressedLength);
+            while (compressed.hasRemaining()
+                    && channel.read(compressed, position + BLOCK_HEADER_BYTES + compressed.position()) > 0) {
+                // keep reading until the block is complete
+            }
+            crc.reset();
+            crc.update(compressed.array(), 0, compressedLength);
+            if ((int) crc.getValue() != expectedCrc) {
+                break;
+            }
+            position += BLOCK_HEADER_BYTES + compressedLength;
+        }
+        return position;
+    }
+}
@@ -0,0 +1,158 @@
+package com.apitest.recording;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Streams exchanges back out of a log written by {@link TrafficLogWriter}, one block in memory at a time.
+ * A truncated or corrupt trailing block (e.g. from a crashed run) ends iteration instead of failing it.
+ */
+@Slf4j
+public class TrafficLogReader implements Iterator<RecordedExchange>, Closeable {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Inflater inflater = new Inflater();
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer header = ByteBuffer.allocate(TrafficLogFormat.BLOCK_HEADER_BYTES);
+    private ByteBuffer compressed = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer block = ByteBuffer.allocate(0);
+    private int remainingInBlock;
+
+    public TrafficLogReader(Path file) {
+        this.file = file;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            ByteBuffer magic = ByteBuffer.allocate(TrafficLogFormat.MAGIC.length);
+            readFully(magic);
+            if (!Arrays.equals(magic.array(), TrafficLogFormat.MAGIC)) {
+                channel.close();
+                throw new IllegalArgumentException(file + " is not a traffic log");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open traffic log " + file, e);
+        }
+    }
+
+    public static boolean isTrafficLog(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(TrafficLogFormat.MAGIC.length);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // keep reading until the magic is complete or the file ends
+            }
+            return Arrays.equals(magic.array(), TrafficLogFormat.MAGIC);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (remainingInBlock == 0) {
+            if (!nextBlock()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public RecordedExchange next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int length = block.getInt();
+        RecordedExchange exchange = MAPPER.readValue(block.array(), block.position(), length, RecordedExchange.class);
+        block.position(block.position() + length);
+        remainingInBlock--;
+        return exchange;
+    }
+
+    @Override
+    public void close() {
+        inflater.end();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close traffic log {}", file, e);
+        }
+    }
+
+    private boolean nextBlock() {
+        try {
+            header.clear();
+            if (!readFully(header)) {
+                return false;
+            }
+            header.flip();
+            int compressedLength = header.getInt();
+            int rawLength = header.getInt();
+            int recordCount = header.getInt();
+            int expectedCrc = header.getInt();
+            if (compressedLength <= 0 || rawLength < 0 || recordCount < 0) {
+                log.warn("Corrupt block header in traffic log {}, stopping", file);
+                return false;
+            }
+
+            if (compressed.capacity() < compressedLength) {
+                compressed = ByteBuffer.allocate(compressedLength);
+            }
+            compressed.clear().limit(compressedLength);
+            if (!readFully(compressed)) {
+                log.warn("Truncated trailing block in traffic log {}, stopping", file);
+                return false;
+            }
+            crc.reset();
+            crc.update(compressed.array(), 0, compressedLength);
+            if ((int) crc.getValue() != expectedCrc) {
+                log.warn("CRC mismatch in traffic log {}, stopping", file);
+                return false;
+            }
+
+            if (block.capacity() < rawLength) {
+                block = ByteBuffer.allocate(rawLength);
+            }
+            block.clear().limit(rawLength);
+            inflater.reset();
+            inflater.setInput(compressed.array(), 0, compressedLength);
+            int inflated = inflater.inflate(block.array(), 0, rawLength);
+            if (inflated != rawLength) {
+                log.warn("Short block in traffic log {}, stopping", file);
+                return false;
+            }
+            remainingInBlock = recordCount;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read traffic log " + file, e);
+        } catch (DataFormatException e) {
+            log.warn("Undecodable block in traffic log {}, stopping", file, e);
+            return false;
+        }
+    }
+
+    private boolean readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
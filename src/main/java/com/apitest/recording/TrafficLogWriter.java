@@ -0,0 +1,202 @@
+package com.apitest.recording;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Appends {@link RecordedExchange}s to a compressed, length-prefixed log from a single background thread.
+ * Callers only enqueue; when the queue is full the exchange is dropped and counted rather than blocking the test.
+ * An existing log is appended to after its last intact block, so a crashed run does not hide later runs.
+ */
+@Slf4j
+public class TrafficLogWriter implements Closeable {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private final Path file;
+    private final BlockingQueue<RecordedExchange> queue;
+    private final int batchSize;
+    private final FileChannel channel;
+    private final Thread worker;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final CRC32 crc = new CRC32();
+    private final ByteArrayOutputStream raw = new ByteArrayOutputStream(64 * 1024);
+    private byte[] compressed = new byte[64 * 1024];
+    private ByteBuffer frame = ByteBuffer.allocateDirect(64 * 1024);
+
+    private volatile boolean closed;
+
+    public TrafficLogWriter(Path file, int queueCapacity, int batchSize) {
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            this.channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long validLength = TrafficLogFormat.validLength(channel);
+            if (validLength < channel.size()) {
+                log.warn("Traffic log {} ends in a torn block, truncating {} bytes", file, channel.size() - validLength);
+                channel.truncate(validLength);
+            }
+            channel.position(validLength);
+            if (validLength == 0) {
+                writeFully(ByteBuffer.wrap(TrafficLogFormat.MAGIC));
+            }
+        } catch (IllegalArgumentException e) {
+            closeQuietly();
+            throw new IllegalArgumentException(file + " exists and is not a traffic log");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open traffic log " + file, e);
+        }
+        this.worker = new Thread(this::drainLoop, "traffic-log-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public void offer(RecordedExchange exchange) {
+        if (closed || !queue.offer(exchange)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+            channel.force(false);
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Failed to close traffic log {}", file, e);
+        } finally {
+            deflater.end();
+        }
+        log.info("Traffic log {} closed: {} exchanges written, {} dropped", file, written.get(), dropped.get());
+    }
+
+    private void closeQuietly() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.debug("Failed to close traffic log {}", file, e);
+        }
+    }
+
+    private void drainLoop() {
+        List<RecordedExchange> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                RecordedExchange first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBlock(batch);
+                written.addAndGet(batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException | IOException e) {
+                dropped.addAndGet(batch.size());
+                log.warn("Failed to write {} exchanges to traffic log {}", batch.size(), file, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBlock(List<RecordedExchange> batch) throws IOException {
+        raw.reset();
+        for (RecordedExchange exchange : batch) {
+            byte[] json = MAPPER.writeValueAsBytes(exchange);
+            writeInt(raw, json.length);
+            raw.write(json, 0, json.length);
+        }
+        byte[] rawBytes = raw.toByteArray();
+
+        deflater.reset();
+        deflater.setInput(rawBytes);
+        deflater.finish();
+        int compressedLength = 0;
+        while (!deflater.finished()) {
+            if (compressedLength == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+        }
+
+        crc.reset();
+        crc.update(compressed, 0, compressedLength);
+
+        int frameLength = TrafficLogFormat.BLOCK_HEADER_BYTES + compressedLength;
+        if (frame.capacity() < frameLength) {
+            frame = ByteBuffer.allocateDirect(Integer.highestOneBit(frameLength) << 1);
+        }
+        frame.clear();
+        frame.putInt(compressedLength)
+                .putInt(rawBytes.length)
+                .putInt(batch.size())
+                .putInt((int) crc.getValue())
+                .put(compressed, 0, compressedLength)
+                .flip();
+        writeFully(frame);
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+}
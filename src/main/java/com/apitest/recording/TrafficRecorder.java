@@ -0,0 +1,51 @@
+package com.apitest.recording;
+
+import com.apitest.config.ApiConfig;
+import io.restassured.filter.Filter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Owns the traffic log for the run when {@code api.recording.enabled=true}.
+ * The log is opened lazily on first use and flushed when the Spring context closes.
+ */
+@Component
+public class TrafficRecorder implements DisposableBean {
+
+    private final ApiConfig.RecordingConfig config;
+    private volatile TrafficLogWriter writer;
+    private volatile RecordingFilter filter;
+
+    public TrafficRecorder(ApiConfig apiConfig) {
+        this.config = apiConfig.getRecording();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public Optional<Filter> filter() {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+        if (filter == null) {
+            synchronized (this) {
+                if (filter == null) {
+                    writer = new TrafficLogWriter(Path.of(config.getFile()), config.getQueueCapacity(), config.getBatchSize());
+                    filter = new RecordingFilter(writer);
+                }
+            }
+        }
+        return Optional.of(filter);
+    }
+
+    @Override
+    public void destroy() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
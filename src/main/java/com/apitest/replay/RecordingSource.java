@@ -0,0 +1,111 @@
+package com.apitest.replay;
+
+import com.apitest.recording.RecordedExchange;
+import com.apitest.recording.TrafficLogReader;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streams {@link RecordedExchange}s from a JSONL file (optionally gzip-compressed) or a binary traffic log.
+ * Only one record is materialized at a time, so recordings far larger than the heap can be replayed.
+ */
+public abstract class RecordingSource implements Iterator<RecordedExchange>, Closeable {
+
+    public static RecordingSource open(Path file) {
+        if (TrafficLogReader.isTrafficLog(file)) {
+            return new TrafficLogSource(new TrafficLogReader(file));
+        }
+        try {
+            InputStream in = Files.newInputStream(file);
+            if (file.getFileName().toString().endsWith(".gz")) {
+                in = new GZIPInputStream(in, 64 * 1024);
+            }
+            return new JsonLinesSource(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open recording " + file, e);
+        }
+    }
+
+    private static final class TrafficLogSource extends RecordingSource {
+
+        private final TrafficLogReader reader;
+
+        private TrafficLogSource(TrafficLogReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return reader.hasNext();
+        }
+
+        @Override
+        public RecordedExchange next() {
+            return reader.next();
+        }
+
+        @Override
+        public void close() {
+            reader.close();
+        }
+    }
+
+    private static final class JsonLinesSource extends RecordingSource {
+
+        private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+        private final BufferedReader reader;
+        private RecordedExchange lookahead;
+
+        private JsonLinesSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (lookahead != null) {
+                return true;
+            }
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        lookahead = MAPPER.readValue(line, RecordedExchange.class);
+                        return true;
+                    }
+                }
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public RecordedExchange next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            RecordedExchange next = lookahead;
+            lookahead = null;
+            return next;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.apitest.replay;
+
+import com.apitest.recording.RecordedExchange;
+import com.apitest.report.QuietThreads;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Re-issues a recording through the service layer, preserving the original inter-arrival timing.
+ * <p>
+ * A {@code speedFactor} of 2 replays twice as fast, 0.5 at half speed. Exchanges are spread over {@code lanes}
+ * single-threaded lanes keyed by resource id, so writes to the same entity keep their recorded order while
+ * unrelated traffic runs concurrently; collection requests are spread round-robin. {@code maxInFlight} bounds memory when the target cannot keep up.
+ * Lanes carry no Allure context, so replayed requests do not become steps of the test that started them.
+ */
+@Slf4j
+public class ReplayEngine {
+
+    private final ServiceDispatcher dispatcher;
+    private final double speedFactor;
+    private final int lanes;
+    private final int maxInFlight;
+
+    public ReplayEngine(ServiceDispatcher dispatcher, double speedFactor, int lanes, int maxInFlight) {
+        if (speedFactor <= 0) {
+            throw new IllegalArgumentException("speedFactor must be positive: " + speedFactor);
+        }
+        this.dispatcher = dispatcher;
+        this.speedFactor = speedFactor;
+        this.lanes = Math.max(1, lanes);
+        this.maxInFlight = Math.max(this.lanes, maxInFlight);
+    }
+
+    public ReplayReport replay(Path recording) throws InterruptedException {
+        try (RecordingSource source = RecordingSource.open(recording)) {
+            return replay(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ReplayReport replay(RecordingSource source) throws InterruptedException {
+        ReplayReport report = new ReplayReport();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService[] laneExecutors = new ExecutorService[lanes];
+        ThreadFactory laneThreads = QuietThreads.factory("replay-lane-");
+        for (int i = 0; i < lanes; i++) {
+            laneExecutors[i] = Executors.newSingleThreadExecutor(laneThreads);
+        }
+
+        long firstRecordedMicros = -1;
+        long startNanos = System.nanoTime();
+        long dispatched = 0;
+        try {
+            while (source.hasNext()) {
+                RecordedExchange exchange = source.next();
+                Optional<ServiceDispatcher.Dispatch> dispatch = dispatcher.resolve(exchange);
+                if (dispatch.isEmpty()) {
+                    report.recordUnsupported();
+                    continue;
+                }
+
+                if (exchange.getStartedAtMicros() != null) {
+                    if (firstRecordedMicros < 0) {
+                        firstRecordedMicros = exchange.getStartedAtMicros();
+                    }
+                    long offsetNanos = (long) ((exchange.getStartedAtMicros() - firstRecordedMicros) * 1000 / speedFactor);
+                    long dueNanos = startNanos + offsetNanos;
+                    sleepUntil(dueNanos);
+                    report.recordScheduleLag(Math.max(0, System.nanoTime() - dueNanos));
+                }
+
+                inFlight.acquire();
+                laneExecutors[laneOf(dispatch.get(), dispatched)].execute(() -> {
+                    try {
+                        execute(exchange, dispatch.get(), report);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                dispatched++;
+            }
+        } finally {
+            for (ExecutorService lane : laneExecutors) {
+                lane.shutdown();
+            }
+            for (ExecutorService lane : laneExecutors) {
+                lane.awaitTermination(1, TimeUnit.HOURS);
+            }
+        }
+        log.info("Replayed {} exchanges in {} ms", dispatched, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return report;
+    }
+
+    private void execute(RecordedExchange exchange, ServiceDispatcher.Dispatch dispatch, ReplayReport report) {
+        ReplayReport.OperationStats stats = report.operation(dispatch.operation());
+        long start = System.nanoTime();
+        try {
+            int status = dispatch.call().getAsInt();
+            stats.record(exchange.getStatus(), exchange.getDurationMicros(), status, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            stats.recordError();
+            log.debug("Replay of {} failed", dispatch.operation(), e);
+        }
+    }
+
+    private int laneOf(ServiceDispatcher.Dispatch dispatch, long sequence) {
+        Map<String, String> pathParams = dispatch.pathParams();
+        if (pathParams.isEmpty()) {
+            return (int) (sequence % lanes);
+        }
+        return Math.floorMod(pathParams.values().toString().hashCode(), lanes);
+    }
+
+    private static void sleepUntil(long dueNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = dueNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.apitest.replay;
+
+import com.apitest.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recorded-versus-replayed latency and status comparison, aggregated per operation.
+ */
+public class ReplayReport {
+
+    private final ConcurrentMap<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final LatencyHistogram scheduleLag = new LatencyHistogram();
+    private final AtomicLong unsupported = new AtomicLong();
+
+    void recordUnsupported() {
+        unsupported.incrementAndGet();
+    }
+
+    void recordScheduleLag(long lagNanos) {
+        scheduleLag.recordNanos(lagNanos);
+    }
+
+    OperationStats operation(String operation) {
+        return operations.computeIfAbsent(operation, key -> new OperationStats());
+    }
+
+    public Map<String, OperationStats> getOperations() {
+        return new TreeMap<>(operations);
+    }
+
+    public long getUnsupportedCount() {
+        return unsupported.get();
+    }
+
+    public LatencyHistogram getScheduleLag() {
+        return scheduleLag;
+    }
+
+    public long getStatusMismatchCount() {
+        return operations.values().stream().mapToLong(OperationStats::getStatusMismatchCount).sum();
+    }
+
+    public long getErrorCount() {
+        return operations.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Replay report: %d operations, %d status mismatches, %d errors, %d unsupported exchanges%n",
+                operations.size(), getStatusMismatchCount(), getErrorCount(), unsupported.get()));
+        text.append("Schedule lag: ").append(scheduleLag.summary()).append(System.lineSeparator());
+        getOperations().forEach((operation, stats) -> {
+            text.append(System.lineSeparator()).append(operation).append(System.lineSeparator());
+            text.append("  recorded: ").append(stats.recorded.summary()).append(System.lineSeparator());
+            text.append("  replayed: ").append(stats.replayed.summary()).append(System.lineSeparator());
+            if (stats.errors.sum() > 0) {
+                text.append("  errors:   ").append(stats.errors.sum()).append(System.lineSeparator());
+            }
+            new TreeMap<>(stats.statusTransitions).forEach((transition, count) ->
+                    text.append("  status ").append(transition).append(": ").append(count.sum()).append(System.lineSeparator()));
+        });
+        return text.toString();
+    }
+
+    public static class OperationStats {
+
+        private final LatencyHistogram recorded = new LatencyHistogram();
+        private final LatencyHistogram replayed = new LatencyHistogram();
+        private final ConcurrentMap<String, LongAdder> statusTransitions = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+
+        void record(Integer recordedStatus, Long recordedMicros, int replayedStatus, long replayedNanos) {
+            if (recordedMicros != null) {
+                recorded.recordMicros(recordedMicros);
+            }
+            replayed.recordNanos(replayedNanos);
+            statusTransitions.computeIfAbsent(recordedStatus + "->" + replayedStatus, key -> new LongAdder()).increment();
+        }
+
+        void recordError() {
+            errors.increment();
+        }
+
+        public LatencyHistogram getRecorded() {
+            return recorded;
+        }
+
+        public LatencyHistogram getReplayed() {
+            return replayed;
+        }
+
+        public Map<String, Long> getStatusTransitions() {
+            Map<String, Long> transitions = new TreeMap<>();
+            statusTransitions.forEach((transition, count) -> transitions.put(transition, count.sum()));
+            return transitions;
+        }
+
+        public long getStatusMismatchCount() {
+            return statusTransitions.entrySet().stream()
+                    .filter(entry -> {
+                        String[] statuses = entry.getKey().split("->");
+                        return !statuses[0].equals(statuses[1]);
+                    })
+                    .mapToLong(entry -> entry.getValue().sum())
+                    .sum();
+        }
+    }
+}
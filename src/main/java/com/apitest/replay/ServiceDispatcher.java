@@ -0,0 +1,147 @@
+package com.apitest.replay;
+
+import com.apitest.lean.LeanClient;
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.recording.RecordedExchange;
+import com.apitest.services.AuthorService;
+import com.apitest.services.BookService;
+import io.restassured.response.Response;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntBiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps a recorded exchange onto the matching {@link BookService}/{@link AuthorService} call.
+ * Exchanges that only carry a concrete path (e.g. from an access log) are matched against the path templates.
+ */
+public class ServiceDispatcher {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private final List<Route> routes;
+
+    public ServiceDispatcher(BookService bookService, AuthorService authorService) {
+        this(List.of(
+                new Route("GET", "/api/v1/Books", (ex, p) -> status(bookService.getAll(queryOf(ex)))),
+                new Route("GET", "/api/v1/Books/{id}", (ex, p) -> status(bookService.getById(intParam(p, "id")))),
+                new Route("POST", "/api/v1/Books", (ex, p) -> status(bookService.create(body(ex, Book.class)))),
+                new Route("PUT", "/api/v1/Books/{id}", (ex, p) -> status(bookService.update(intParam(p, "id"), body(ex, Book.class)))),
+                new Route("DELETE", "/api/v1/Books/{id}", (ex, p) -> status(bookService.delete(intParam(p, "id")))),
+                new Route("GET", "/api/v1/Authors", (ex, p) -> status(authorService.getAllAuthors(queryOf(ex)))),
+                new Route("GET", "/api/v1/Authors/{id}", (ex, p) -> status(authorService.getById(intParam(p, "id")))),
+                new Route("GET", "/api/v1/Authors/authors/books/{idBook}", (ex, p) -> status(authorService.getByBookId(intParam(p, "idBook")))),
+                new Route("POST", "/api/v1/Authors", (ex, p) -> status(authorService.create(body(ex, Author.class)))),
+                new Route("PUT", "/api/v1/Authors/{id}", (ex, p) -> status(authorService.update(intParam(p, "id"), body(ex, Author.class)))),
+                new Route("DELETE", "/api/v1/Authors/{id}", (ex, p) -> status(authorService.delete(intParam(p, "id"))))
+        ));
+    }
+
+    private ServiceDispatcher(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * Dispatches the same routes through a {@link LeanClient} instead of the REST Assured services.
+     */
+    public static ServiceDispatcher lean(LeanClient client) {
+        return new ServiceDispatcher(List.of(
+                new Route("GET", "/api/v1/Books", (ex, p) -> client.getAllBooks(queryOf(ex)).statusCode()),
+                new Route("GET", "/api/v1/Books/{id}", (ex, p) -> client.getBook(intParam(p, "id")).statusCode()),
+                new Route("POST", "/api/v1/Books", (ex, p) -> client.createBook(body(ex, Book.class)).statusCode()),
+                new Route("PUT", "/api/v1/Books/{id}", (ex, p) -> client.updateBook(intParam(p, "id"), body(ex, Book.class)).statusCode()),
+                new Route("DELETE", "/api/v1/Books/{id}", (ex, p) -> client.deleteBook(intParam(p, "id")).statusCode()),
+                new Route("GET", "/api/v1/Authors", (ex, p) -> client.getAllAuthors(queryOf(ex)).statusCode()),
+                new Route("GET", "/api/v1/Authors/{id}", (ex, p) -> client.getAuthor(intParam(p, "id")).statusCode()),
+                new Route("GET", "/api/v1/Authors/authors/books/{idBook}", (ex, p) -> client.getAuthorsByBookId(intParam(p, "idBook")).statusCode()),
+                new Route("POST", "/api/v1/Authors", (ex, p) -> client.createAuthor(body(ex, Author.class)).statusCode()),
+                new Route("PUT", "/api/v1/Authors/{id}", (ex, p) -> client.updateAuthor(intParam(p, "id"), body(ex, Author.class)).statusCode()),
+                new Route("DELETE", "/api/v1/Authors/{id}", (ex, p) -> client.deleteAuthor(intParam(p, "id")).statusCode())
+        ));
+    }
+
+    /**
+     * @return the service call the exchange resolves to, or empty if no service handles it
+     */
+    public Optional<Dispatch> resolve(RecordedExchange exchange) {
+        String method = exchange.getMethod() == null ? "" : exchange.getMethod().toUpperCase();
+        String path = exchange.getPathTemplate() == null ? "" : exchange.getPathTemplate();
+        boolean templated = path.contains("{");
+        for (Route route : routes) {
+            if (!route.method().equals(method)) {
+                continue;
+            }
+            if (templated && route.template().equals(path)) {
+                return Optional.of(route.bind(exchange, exchange.getPathParams() == null ? Map.of() : exchange.getPathParams()));
+            }
+            if (!templated) {
+                Matcher matcher = route.pattern().matcher(path);
+                if (matcher.matches()) {
+                    return Optional.of(route.bind(exchange, route.extract(matcher)));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Map<String, String> queryOf(RecordedExchange exchange) {
+        return exchange.getQueryParams() == null ? Map.of() : exchange.getQueryParams();
+    }
+
+    private static int status(Response response) {
+        return response.getStatusCode();
+    }
+
+    private static Integer intParam(Map<String, String> pathParams, String name) {
+        String value = pathParams.get(name);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    private static <T> T body(RecordedExchange exchange, Class<T> type) {
+        return exchange.getRequestBody() == null ? null : MAPPER.readValue(exchange.getRequestBody(), type);
+    }
+
+    /**
+     * A resolved service call returning the response status; {@code operation} is {@code METHOD template}.
+     */
+    public record Dispatch(String operation, Map<String, String> pathParams, IntSupplier call) {
+    }
+
+    private record Route(String method, String template, ToIntBiFunction<RecordedExchange, Map<String, String>> call,
+                         Pattern pattern, List<String> names) {
+
+        private static final Pattern PLACEHOLDER = Pattern.compile("\\{([^}]+)}");
+
+        Route(String method, String template, ToIntBiFunction<RecordedExchange, Map<String, String>> call) {
+            this(method, template, call, compile(template), namesOf(template));
+        }
+
+        Dispatch bind(RecordedExchange exchange, Map<String, String> pathParams) {
+            return new Dispatch(method + " " + template, pathParams, () -> call.applyAsInt(exchange, pathParams));
+        }
+
+        Map<String, String> extract(Matcher matcher) {
+            Map<String, String> params = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                params.put(names.get(i), matcher.group(i + 1));
+            }
+            return params;
+        }
+
+        private static Pattern compile(String template) {
+            return Pattern.compile(PLACEHOLDER.matcher(template).replaceAll("([^/?]+)") + "(?:\\?.*)?");
+        }
+
+        private static List<String> namesOf(String template) {
+            return PLACEHOLDER.matcher(template).results().map(result -> result.group(1)).toList();
+        }
+    }
+}
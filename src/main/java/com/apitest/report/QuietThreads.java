@@ -0,0 +1,56 @@
+package com.apitest.report;
+
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.aspects.StepsAspects;
+import io.qameta.allure.model.StepResult;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+/**
+ * Thread factory for background traffic (soak, prefetch) that must stay out of the Allure report.
+ * Threads do not inherit the Allure context of the test that created them, and {@code @Step} service methods
+ * called on them are not recorded, so hours of calls do not pile steps onto whichever test started the pool.
+ */
+public final class QuietThreads {
+
+    private static final AllureLifecycle SILENT = new SilentLifecycle();
+
+    private QuietThreads() {
+    }
+
+    public static ThreadFactory factory(String prefix) {
+        ThreadFactory threads = Thread.ofPlatform().name(prefix, 0).daemon().inheritInheritableThreadLocals(false).factory();
+        return task -> threads.newThread(() -> {
+            StepsAspects.setLifecycle(SILENT);
+            task.run();
+        });
+    }
+
+    private static final class SilentLifecycle extends AllureLifecycle {
+
+        @Override
+        public void startStep(String uuid, StepResult result) {
+        }
+
+        @Override
+        public void startStep(String parentUuid, String uuid, StepResult result) {
+        }
+
+        @Override
+        public void updateStep(Consumer<StepResult> update) {
+        }
+
+        @Override
+        public void updateStep(String uuid, Consumer<StepResult> update) {
+        }
+
+        @Override
+        public void stopStep() {
+        }
+
+        @Override
+        public void stopStep(String uuid) {
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.apitest.report;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Status counts of the last {@value #MAX_RUNS} runs, one JSON line per run, oldest first. Kept outside the report
+ * directory (for example in a CI cache) so each {@link SegmentReport} can show how the run compares with the
+ * ones before it.
+ */
+@Slf4j
+public final class ReportTrend {
+
+    public static final int MAX_RUNS = 20;
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    public record Run(String generated, Map<String, Long> statuses, long millis) {
+
+        public long total() {
+            return statuses.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private final Path file;
+    private final List<Run> runs;
+
+    private ReportTrend(Path file, List<Run> runs) {
+        this.file = file;
+        this.runs = runs;
+    }
+
+    /**
+     * @return the trend stored in {@code file}, empty when it does not exist; unreadable lines are skipped
+     */
+    public static ReportTrend load(Path file) {
+        List<Run> runs = new ArrayList<>();
+        if (Files.exists(file)) {
+            try {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        runs.add(MAPPER.readValue(line, Run.class));
+                    } catch (JacksonException e) {
+                        log.warn("Skipping unreadable trend entry in {}: {}", file, e.getOriginalMessage());
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new ReportTrend(file, runs);
+    }
+
+    public List<Run> getRuns() {
+        return List.copyOf(runs);
+    }
+
+    /**
+     * Appends {@code run}, drops the oldest runs beyond {@value #MAX_RUNS} and rewrites the file.
+     */
+    public void append(Run run) {
+        runs.add(new Run(run.generated(), new TreeMap<>(run.statuses()), run.millis()));
+        while (runs.size() > MAX_RUNS) {
+            runs.removeFirst();
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Run stored : runs) {
+                    out.write(MAPPER.writeValueAsString(stored));
+                    out.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.apitest.report;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * On-disk layout shared by {@link SegmentResultsWriter} and {@link SegmentReader}.
+ * <pre>
+ * segment := gzip(MAGIC record*)
+ * record  := kind:byte name:utf length:int content
+ * </pre>
+ * The gzip stream is sync-flushed after every record, so a segment cut short by a crash still reads back up
+ * to its last complete record.
+ */
+final class SegmentFormat {
+
+    static final byte[] MAGIC = "ALRSEG01".getBytes(StandardCharsets.US_ASCII);
+    static final String SUFFIX = ".alr.gz";
+
+    private SegmentFormat() {
+    }
+}
@@ -0,0 +1,79 @@
+package com.apitest.report;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Streams the records of every segment in a directory, oldest segment first. Only one record is held in
+ * memory at a time.
+ */
+public final class SegmentReader {
+
+    private SegmentReader() {
+    }
+
+    public static List<Path> segments(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SegmentFormat.SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return number of records read; a truncated segment ends at its last complete record
+     */
+    public static long forEach(Path directory, Consumer<SegmentRecord> consumer) {
+        long records = 0;
+        for (Path segment : segments(directory)) {
+            records += read(segment, consumer);
+        }
+        return records;
+    }
+
+    private static long read(Path segment, Consumer<SegmentRecord> consumer) {
+        long records = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(segment), 64 * 1024), 64 * 1024))) {
+            byte[] magic = in.readNBytes(SegmentFormat.MAGIC.length);
+            if (!Arrays.equals(magic, SegmentFormat.MAGIC)) {
+                throw new IllegalStateException(segment + " is not an Allure segment");
+            }
+            SegmentRecord.Kind[] kinds = SegmentRecord.Kind.values();
+            while (true) {
+                int kind = in.read();
+                if (kind < 0) {
+                    return records;
+                }
+                String name = in.readUTF();
+                int length = in.readInt();
+                byte[] content = in.readNBytes(length);
+                if (content.length < length) {
+                    return records;
+                }
+                consumer.accept(new SegmentRecord(kinds[kind], name, content));
+                records++;
+            }
+        } catch (EOFException | ZipException e) {
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
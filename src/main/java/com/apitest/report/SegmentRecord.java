@@ -0,0 +1,14 @@
+package com.apitest.report;
+
+/**
+ * One Allure result, container or attachment as stored in a segment, under the file name the standard
+ * writer would have given it (e.g. {@code <uuid>-result.json}).
+ */
+public record SegmentRecord(Kind kind, String name, byte[] content) {
+
+    public enum Kind {
+        RESULT,
+        CONTAINER,
+        ATTACHMENT
+    }
+}
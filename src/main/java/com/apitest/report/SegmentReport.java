@@ -0,0 +1,334 @@
+package com.apitest.report;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Builds a static HTML report from Allure segments in one pass. Each test result is rendered as a table
+ * row the moment it is read and each attachment is written straight to {@code attachments/}; only the
+ * per-status and per-suite counts and the slowest tests are kept, so memory does not grow with the number of
+ * tests. The rows go to a temporary file and are copied under the summary at the end.
+ * <p>
+ * Retries of a test show up as separate rows, since merging them by history id would mean keeping every id.
+ * Given a {@link ReportTrend} file, the report also shows the status counts of the previous runs and adds
+ * this one to the file.
+ */
+@Slf4j
+public final class SegmentReport {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final String[] STATUSES = {"passed", "failed", "broken", "skipped", "unknown"};
+    private static final int SLOWEST = 10;
+    private static final int MAX_MESSAGE = 2000;
+
+    public record Summary(long results, long attachments, Map<String, Long> statuses, Duration duration) {
+
+        public String toText() {
+            return results + " results (" + statuses + "), " + attachments + " attachments, "
+                    + duration.toMillis() / 1000.0 + "s of tests";
+        }
+    }
+
+    private record Timed(String name, long millis) {
+    }
+
+    private SegmentReport() {
+    }
+
+    /**
+     * {@code report <results-dir> <report-dir> [trend-file]} builds the HTML report; {@code expand <results-dir>
+     * <dir>} writes the segments out as a standard Allure results directory, e.g. for {@code allure serve}.
+     */
+    public static void main(String[] args) {
+        boolean report = args.length >= 3 && args.length <= 4 && args[0].equals("report");
+        boolean expand = args.length == 3 && args[0].equals("expand");
+        if (!report && !expand) {
+            System.err.println("Usage: SegmentReport report <results-dir> <report-dir> [trend-file]"
+                    + " | expand <results-dir> <output-dir>");
+            System.exit(2);
+        }
+        if (report) {
+            Path trend = args.length == 4 ? Path.of(args[3]) : null;
+            System.out.println(generate(Path.of(args[1]), Path.of(args[2]), trend).toText());
+        } else {
+            System.out.println(expand(Path.of(args[1]), Path.of(args[2])) + " files written");
+        }
+    }
+
+    public static long expand(Path results, Path target) {
+        try {
+            Files.createDirectories(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return SegmentReader.forEach(results, record -> write(target.resolve(safe(record.name())), record.content()));
+    }
+
+    public static Summary generate(Path results, Path report) {
+        return generate(results, report, null);
+    }
+
+    /**
+     * @param trendFile {@link ReportTrend} file to show and append this run to, or {@code null} for none
+     */
+    public static Summary generate(Path results, Path report, Path trendFile) {
+        ReportTrend trend = trendFile != null ? ReportTrend.load(trendFile) : null;
+        String generated = Instant.now().toString();
+        Path attachments = report.resolve("attachments");
+        Path rows = report.resolve("tests.part");
+        Map<String, Long> statuses = new TreeMap<>();
+        Map<String, long[]> suites = new TreeMap<>();
+        PriorityQueue<Timed> slowest = new PriorityQueue<>(Comparator.comparingLong(Timed::millis));
+        long[] totals = new long[3];
+
+        try {
+            Files.createDirectories(attachments);
+            try (BufferedWriter out = Files.newBufferedWriter(rows, StandardCharsets.UTF_8)) {
+                SegmentReader.forEach(results, record -> {
+                    switch (record.kind()) {
+                        case ATTACHMENT -> {
+                            write(attachments.resolve(safe(record.name())), record.content());
+                            totals[1]++;
+                        }
+                        case RESULT -> {
+                            JsonNode result = MAPPER.readTree(record.content());
+                            String status = result.path("status").asString("unknown");
+                            String suite = suiteOf(result);
+                            long millis = Math.max(0, result.path("stop").asLong(0) - result.path("start").asLong(0));
+                            statuses.merge(status, 1L, Long::sum);
+                            long[] suiteCounts = suites.computeIfAbsent(suite, key -> new long[STATUSES.length + 1]);
+                            suiteCounts[statusIndex(status)]++;
+                            suiteCounts[STATUSES.length] += millis;
+                            slowest.add(new Timed(suite + " › " + result.path("name").asString(""), millis));
+                            if (slowest.size() > SLOWEST) {
+                                slowest.poll();
+                            }
+                            totals[0]++;
+                            totals[2] += millis;
+                            row(out, result, status, suite, millis);
+                        }
+                        case CONTAINER -> {
+                        }
+                    }
+                });
+            }
+            Path index = report.resolve("index.html");
+            try (BufferedWriter out = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+                header(out, generated, totals[0], statuses, suites, slowest, totals[2]);
+                if (trend != null) {
+                    trend(out, trend.getRuns(), new ReportTrend.Run(generated, statuses, totals[2]));
+                }
+                out.write("<h2>Tests</h2>\n<table id=\"tests\"><thead><tr><th>Status</th><th>Suite</th>"
+                        + "<th>Test</th><th>Duration</th></tr></thead><tbody>\n");
+            }
+            try (OutputStream out = Files.newOutputStream(index, StandardOpenOption.APPEND)) {
+                Files.copy(rows, out);
+                out.write(("</tbody></table>\n<script>" + FILTER_SCRIPT + "</script>\n</body></html>\n")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            Files.delete(rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (trend != null) {
+            trend.append(new ReportTrend.Run(generated, statuses, totals[2]));
+        }
+        Summary summary = new Summary(totals[0], totals[1], statuses, Duration.ofMillis(totals[2]));
+        log.info("Report {} written: {}", report.resolve("index.html"), summary.toText());
+        return summary;
+    }
+
+    private static void row(Writer out, JsonNode result, String status, String suite, long millis) {
+        try {
+            out.write("<tr class=\"" + escape(status) + "\"><td><span class=\"badge\">" + escape(status)
+                    + "</span></td><td>" + escape(suite) + "</td><td><details><summary>"
+                    + escape(result.path("name").asString("")) + "</summary>");
+            String message = result.path("statusDetails").path("message").asString("");
+            if (!message.isEmpty()) {
+                out.write("<pre>" + escape(message.length() > MAX_MESSAGE
+                        ? message.substring(0, MAX_MESSAGE) + "…" : message) + "</pre>");
+            }
+            steps(out, result.path("steps"));
+            List<JsonNode> attachments = new ArrayList<>();
+            collectAttachments(result, attachments);
+            if (!attachments.isEmpty()) {
+                out.write("<ul class=\"attachments\">");
+                for (JsonNode attachment : attachments) {
+                    out.write("<li><a href=\"attachments/" + escape(safe(attachment.path("source").asString("")))
+                            + "\">" + escape(attachment.path("name").asString("attachment")) + "</a></li>");
+                }
+                out.write("</ul>");
+            }
+            out.write("</details></td><td class=\"num\">" + millis + " ms</td></tr>\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void steps(Writer out, JsonNode steps) throws IOException {
+        if (!steps.isArray() || steps.isEmpty()) {
+            return;
+        }
+        out.write("<ol class=\"steps\">");
+        for (JsonNode step : steps) {
+            out.write("<li class=\"" + escape(step.path("status").asString("unknown")) + "\">"
+                    + escape(step.path("name").asString("")));
+            steps(out, step.path("steps"));
+            out.write("</li>");
+        }
+        out.write("</ol>");
+    }
+
+    private static void collectAttachments(JsonNode node, List<JsonNode> into) {
+        node.path("attachments").forEach(into::add);
+        node.path("steps").forEach(step -> collectAttachments(step, into));
+    }
+
+    private static void header(Writer out, String generated, long results, Map<String, Long> statuses,
+                               Map<String, long[]> suites, PriorityQueue<Timed> slowest, long millis)
+            throws IOException {
+        out.write("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>API Test Report</title>\n<style>"
+                + STYLE + "</style></head><body>\n<h1>API Test Report</h1>\n<p class=\"meta\">Generated "
+                + generated + " &middot; " + results + " results &middot; " + millis / 1000.0
+                + "s of tests</p>\n<div class=\"totals\">");
+        for (String status : STATUSES) {
+            out.write("<button class=\"" + status + "\" data-status=\"" + status + "\">" + status + " "
+                    + statuses.getOrDefault(status, 0L) + "</button>");
+        }
+        out.write("<button data-status=\"\">all " + results + "</button></div>\n");
+
+        out.write("<h2>Suites</h2>\n<table><thead><tr><th>Suite</th>");
+        for (String status : STATUSES) {
+            out.write("<th>" + status + "</th>");
+        }
+        out.write("<th>Duration</th></tr></thead><tbody>\n");
+        for (Map.Entry<String, long[]> suite : suites.entrySet()) {
+            out.write("<tr><td>" + escape(suite.getKey()) + "</td>");
+            for (int i = 0; i < STATUSES.length; i++) {
+                out.write("<td class=\"num\">" + suite.getValue()[i] + "</td>");
+            }
+            out.write("<td class=\"num\">" + suite.getValue()[STATUSES.length] + " ms</td></tr>\n");
+        }
+        out.write("</tbody></table>\n<h2>Slowest tests</h2>\n<ol>");
+        List<Timed> ordered = new ArrayList<>(slowest);
+        ordered.sort(Comparator.comparingLong(Timed::millis).reversed());
+        for (Timed timed : ordered) {
+            out.write("<li>" + escape(timed.name()) + " &mdash; " + timed.millis() + " ms</li>");
+        }
+        out.write("</ol>\n");
+    }
+
+    /**
+     * One row per previous run and one for this run, each with its status counts and a bar of their shares.
+     */
+    private static void trend(Writer out, List<ReportTrend.Run> previous, ReportTrend.Run current) throws IOException {
+        out.write("<h2>Trend</h2>\n<table class=\"trend\"><thead><tr><th>Run</th>");
+        for (String status : STATUSES) {
+            out.write("<th>" + status + "</th>");
+        }
+        out.write("<th>Duration</th><th></th></tr></thead><tbody>\n");
+        List<ReportTrend.Run> runs = new ArrayList<>(previous);
+        runs.add(current);
+        for (ReportTrend.Run run : runs) {
+            out.write("<tr" + (run == current ? " class=\"current\"" : "") + "><td>" + escape(run.generated())
+                    + "</td>");
+            for (String status : STATUSES) {
+                out.write("<td class=\"num\">" + run.statuses().getOrDefault(status, 0L) + "</td>");
+            }
+            out.write("<td class=\"num\">" + run.millis() + " ms</td><td><div class=\"bar\">");
+            long total = Math.max(1, run.total());
+            for (String status : STATUSES) {
+                long count = run.statuses().getOrDefault(status, 0L);
+                if (count > 0) {
+                    out.write("<span class=\"" + status + "\" style=\"width:"
+                            + String.format(Locale.ROOT, "%.1f", 100.0 * count / total) + "%\"></span>");
+                }
+            }
+            out.write("</div></td></tr>\n");
+        }
+        out.write("</tbody></table>\n");
+    }
+
+    private static String suiteOf(JsonNode result) {
+        for (JsonNode label : result.path("labels")) {
+            if ("suite".equals(label.path("name").asString(""))) {
+                return label.path("value").asString("");
+            }
+        }
+        String fullName = result.path("fullName").asString("");
+        int dot = fullName.lastIndexOf('.');
+        return dot > 0 ? fullName.substring(0, dot) : fullName;
+    }
+
+    private static int statusIndex(String status) {
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (STATUSES[i].equals(status)) {
+                return i;
+            }
+        }
+        return STATUSES.length - 1;
+    }
+
+    private static String safe(String name) {
+        String cleaned = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        return cleaned.isEmpty() || cleaned.startsWith(".") ? "_" + cleaned : cleaned;
+    }
+
+    private static void write(Path file, byte[] content) {
+        try {
+            Files.write(file, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '&' -> escaped.append("&amp;");
+                case '"' -> escaped.append("&quot;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static final String STYLE = """
+            body{font-family:sans-serif;margin:2em;color:#222}table{border-collapse:collapse;width:100%;margin-bottom:2em}\
+            th,td{border-bottom:1px solid #ddd;padding:4px 8px;text-align:left;vertical-align:top}.num{text-align:right}\
+            pre{white-space:pre-wrap;background:#f6f6f6;padding:8px}.meta{color:#666}.totals button{margin-right:6px}\
+            .passed .badge,button.passed{background:#97cc64}.failed .badge,button.failed{background:#fd5a3e}\
+            .broken .badge,button.broken{background:#ffd050}.skipped .badge,button.skipped{background:#aaa}\
+            .badge{padding:2px 6px;border-radius:3px}li.failed,li.broken{color:#c00}\
+            .bar{display:flex;width:200px;height:12px;background:#eee}.bar span{height:100%}\
+            .bar .passed{background:#97cc64}.bar .failed{background:#fd5a3e}.bar .broken{background:#ffd050}\
+            .bar .skipped{background:#aaa}.bar .unknown{background:#d35ebe}.trend .current{font-weight:bold}""";
+
+    private static final String FILTER_SCRIPT = """
+            document.querySelectorAll('.totals button').forEach(b=>b.onclick=()=>{const s=b.dataset.status;\
+            document.querySelectorAll('#tests tbody tr').forEach(r=>r.style.display=!s||r.classList.contains(s)?'':'none');});""";
+}
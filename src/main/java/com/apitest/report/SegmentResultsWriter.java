@@ -0,0 +1,115 @@
+package com.apitest.report;
+
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.AllureResultsWriteException;
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.internal.shadowed.jackson.databind.ObjectMapper;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Allure results writer that appends results, containers and attachments to a few gzip segment files instead
+ * of creating one file each. A new segment is started once the current one has taken {@code maxSegmentBytes}
+ * of uncompressed content. Results are serialized exactly like Allure's own writer, so
+ * {@link SegmentReport#expand} can turn the segments back into a standard results directory.
+ */
+public class SegmentResultsWriter implements AllureResultsWriter, AutoCloseable {
+
+    public static final long DEFAULT_MAX_SEGMENT_BYTES = 256L * 1024 * 1024;
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final String prefix;
+    private final ObjectMapper mapper = Allure2ModelJackson.createMapper();
+    private DataOutputStream out;
+    private long segmentBytes;
+    private int segments;
+
+    public SegmentResultsWriter(Path directory, long maxSegmentBytes) {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.prefix = "segment-" + System.currentTimeMillis() + "-" + ProcessHandle.current().pid() + "-";
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        String uuid = testResult.getUuid() != null ? testResult.getUuid() : UUID.randomUUID().toString();
+        append(SegmentRecord.Kind.RESULT, uuid + "-result.json", serialize(testResult));
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+        String uuid = testResultContainer.getUuid() != null ? testResultContainer.getUuid() : UUID.randomUUID().toString();
+        append(SegmentRecord.Kind.CONTAINER, uuid + "-container.json", serialize(testResultContainer));
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        try (attachment) {
+            append(SegmentRecord.Kind.ATTACHMENT, source, attachment.readAllBytes());
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not write Allure attachment " + source, e);
+        }
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                out = null;
+            }
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not serialize Allure result", e);
+        }
+    }
+
+    private synchronized void append(SegmentRecord.Kind kind, String name, byte[] content) {
+        try {
+            if (out == null || segmentBytes >= maxSegmentBytes) {
+                roll();
+            }
+            out.writeByte(kind.ordinal());
+            out.writeUTF(name);
+            out.writeInt(content.length);
+            out.write(content);
+            out.flush();
+            segmentBytes += content.length;
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not write Allure segment in " + directory, e);
+        }
+    }
+
+    private void roll() throws IOException {
+        close();
+        Files.createDirectories(directory);
+        Path file = directory.resolve(prefix + String.format("%04d", segments++) + SegmentFormat.SUFFIX);
+        out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024, true), 64 * 1024));
+        out.write(SegmentFormat.MAGIC);
+        segmentBytes = 0;
+    }
+}
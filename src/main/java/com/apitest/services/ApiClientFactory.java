@@ -0,0 +1,49 @@
+package com.apitest.services;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.config.RestAssuredConfig;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates and caches {@link ApiClients} per environment configured under {@code api.environments.*}.
+ */
+@Component
+public class ApiClientFactory {
+
+    private final ApiConfig apiConfig;
+    private final RestAssuredConfig restAssuredConfig;
+    private final ConcurrentMap<String, ApiClients> clients = new ConcurrentHashMap<>();
+
+    public ApiClientFactory(ApiConfig apiConfig, RestAssuredConfig restAssuredConfig) {
+        this.apiConfig = apiConfig;
+        this.restAssuredConfig = restAssuredConfig;
+    }
+
+    public ApiClients forEnvironment(String environment) {
+        return clients.computeIfAbsent(environment, name -> forUrl(name, apiConfig.getEnvironmentUrl(name)));
+    }
+
+    /**
+     * Uncached clients for a base URL that is not a configured environment, e.g. a local fault proxy; they get
+     * their own connection pool and metrics under {@code environment}.
+     */
+    public ApiClients forUrl(String environment, String baseUrl) {
+        RestAssuredConfig config = restAssuredConfig.forEnvironment(environment, baseUrl);
+        return new ApiClients(environment, baseUrl, new BookService(config), new AuthorService(config),
+                new CoverPhotoService(config));
+    }
+
+    /**
+     * Uncached clients for the environment that send through the bulk request specification, without Allure
+     * attachments or console logging.
+     */
+    public ApiClients bulkFor(String environment) {
+        String baseUrl = apiConfig.getEnvironmentUrl(environment);
+        RestAssuredConfig config = restAssuredConfig.forEnvironment(environment, baseUrl).bulk();
+        return new ApiClients(environment, baseUrl, new BookService(config), new AuthorService(config),
+                new CoverPhotoService(config));
+    }
+}
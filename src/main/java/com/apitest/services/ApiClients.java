@@ -0,0 +1,8 @@
+package com.apitest.services;
+
+/**
+ * The service layer bound to one named deployment.
+ */
+public record ApiClients(String environment, String baseUrl, BookService books, AuthorService authors,
+                         CoverPhotoService coverPhotos) {
+}
@@ -0,0 +1,16 @@
+package com.apitest.services;
+
+import io.restassured.response.Response;
+
+import java.util.function.Function;
+
+/**
+ * One named service call that can be applied to any {@link ApiClients}, e.g. to compare or load several targets.
+ * Payloads are captured when the operation is created, so every target receives the same request.
+ */
+public record ApiOperation(String name, Function<ApiClients, Response> call) {
+
+    public Response apply(ApiClients clients) {
+        return call.apply(clients);
+    }
+}
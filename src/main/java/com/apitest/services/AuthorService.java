@@ -1,5 +1,6 @@
 package com.apitest.services;
 
+import com.apitest.budget.LatencyBudgetFilter;
 import com.apitest.config.RestAssuredConfig;
 import com.apitest.models.Author;
 import com.atlassian.oai.validator.OpenApiInteractionValidator;
@@ -25,6 +26,8 @@ public class AuthorService {
 
     private final RestAssuredConfig restAssuredConfig;
     private final OpenApiValidationFilter validationFilter;
+    private final LatencyBudgetFilter budgetFilter;
+    private final LatencyBudgetFilter bulkBudgetFilter;
 
     public AuthorService(RestAssuredConfig restAssuredConfig) {
         this.restAssuredConfig = restAssuredConfig;
@@ -41,6 +44,8 @@ public class AuthorService {
                         .withLevelResolver(levelResolver)
                         .build()
         );
+        this.budgetFilter = restAssuredConfig.latencyBudgetFilter();
+        this.bulkBudgetFilter = restAssuredConfig.bulkLatencyBudgetFilter();
     }
 
     @Step("Get all authors (no query params)")
@@ -52,7 +57,8 @@ public class AuthorService {
     public Response getAllAuthors(Map<String, ?> queryParams) {
         RequestSpecification request = given()
                 .spec(restAssuredConfig.getRequestSpecification())
-                .filter(validationFilter);
+                .filter(validationFilter)
+                .filter(budgetFilter);
 
         if (queryParams != null && !queryParams.isEmpty()) {
             request.queryParams(queryParams);
@@ -62,7 +68,35 @@ public class AuthorService {
                 .when()
                 .get(AUTHORS_ENDPOINT)
                 .then()
-                .log().all()
+                .extract()
+                .response();
+    }
+
+    /**
+     * All authors, fetched page by page with the configured page size and prefetch depth.
+     */
+    public PagedIterable<Author> getAllAuthorsPaged() {
+        return getAllAuthorsPaged(PageRequest.from(restAssuredConfig.getPagination()));
+    }
+
+    public PagedIterable<Author> getAllAuthorsPaged(PageRequest pageRequest) {
+        return new PagedIterable<>(this::getAllAuthors, this::getAllAuthorsInBackground, Author[].class, pageRequest,
+                Collections.emptyMap());
+    }
+
+    /**
+     * Page fetch for the prefetch threads: bulk spec and no step, so prefetched pages never land on whichever
+     * test happens to be running when they arrive.
+     */
+    private Response getAllAuthorsInBackground(Map<String, ?> queryParams) {
+        return given()
+                .spec(restAssuredConfig.getBulkRequestSpecification())
+                .filter(validationFilter)
+                .filter(bulkBudgetFilter)
+                .queryParams(queryParams)
+                .when()
+                .get(AUTHORS_ENDPOINT)
+                .then()
                 .extract()
                 .response();
     }
@@ -72,11 +106,11 @@ public class AuthorService {
         return given()
                 .spec(restAssuredConfig.getRequestSpecification())
                 .filter(validationFilter)
+                .filter(budgetFilter)
                 .pathParam("id", id)
                 .when()
                 .get(AUTHOR_BY_ID_ENDPOINT)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -86,11 +120,11 @@ public class AuthorService {
         return given()
                 .spec(restAssuredConfig.getRequestSpecification())
                 .filter(validationFilter)
+                .filter(budgetFilter)
                 .pathParam("idBook", idBook)
                 .when()
                 .get(AUTHORS_BY_BOOK_ID_ENDPOINT)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -100,11 +134,11 @@ public class AuthorService {
         return given()
                 .spec(restAssuredConfig.getRequestSpecification())
                 .filter(validationFilter)
+                .filter(budgetFilter)
                 .body(author)
                 .when()
                 .post(AUTHORS_ENDPOINT)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -114,12 +148,12 @@ public class AuthorService {
         return given()
                 .spec(restAssuredConfig.getRequestSpecification())
                 .filter(validationFilter)
+                .filter(budgetFilter)
                 .pathParam("id", id)
                 .body(author)
                 .when()
                 .put(AUTHOR_BY_ID_ENDPOINT)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -129,11 +163,11 @@ public class AuthorService {
         return given()
                 .spec(restAssuredConfig.getRequestSpecification())
                 .filter(validationFilter)
+                .filter(budgetFilter)
                 .pathParam("id", id)
                 .when()
                 .delete(AUTHOR_BY_ID_ENDPOINT)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -1,5 +1,6 @@
 package com.apitest.services;
 
+import com.apitest.budget.LatencyBudgetFilter;
 import com.apitest.config.RestAssuredConfig;
 import com.apitest.models.Book;
 import com.atlassian.oai.validator.OpenApiInteractionValidator;
@@ -24,6 +25,8 @@ public class BookService {
 
     private final RestAssuredConfig restAssuredConfig;
     private final OpenApiValidationFilter validationFilter;
+    private final LatencyBudgetFilter budgetFilter;
+    private final LatencyBudgetFilter bulkBudgetFilter;
 
     public BookService(RestAssuredConfig restAssuredConfig) {
         this.restAssuredConfig = restAssuredConfig;
@@ -40,6 +43,8 @@ public class BookService {
                         .withLevelResolver(levelResolver)
                         .build()
         );
+        this.budgetFilter = restAssuredConfig.latencyBudgetFilter();
+        this.bulkBudgetFilter = restAssuredConfig.bulkLatencyBudgetFilter();
     }
 
     @Step("Get all books (no query params)")
@@ -51,7 +56,8 @@ public class BookService {
     public Response getAll(Map<String, ?> queryParams) {
         RequestSpecification request = given()
                 .spec(restAssuredConfig.getRequestSpecification())
-                .filter(validationFilter);
+                .filter(validationFilter)
+                .filter(budgetFilter);
 
         if (queryParams != null && !queryParams.isEmpty()) {
             request.queryParams(queryParams);
@@ -61,7 +67,35 @@ public class BookService {
                 .when()
                 .get(BOOKS_ENDPOINT)
                 .then()
-                .log().all()
+                .extract()
+                .response();
+    }
+
+    /**
+     * All books, fetched page by page with the configured page size and prefetch depth.
+     */
+    public PagedIterable<Book> getAllPaged() {
+        return getAllPaged(PageRequest.from(restAssuredConfig.getPagination()));
+    }
+
+    public PagedIterable<Book> getAllPaged(PageRequest pageRequest) {
+        return new PagedIterable<>(this::getAll, this::getAllInBackground, Book[].class, pageRequest,
+                Collections.emptyMap());
+    }
+
+    /**
+     * Page fetch for the prefetch threads: bulk spec and no step, so prefetched pages never land on whichever
+     * test happens to be running when they arrive.
+     */
+    private Response getAllInBackground(Map<String, ?> queryParams) {
+        return given()
+                .spec(restAssuredConfig.getBulkRequestSpecification())
+                .filter(validationFilter)
+                .filter(bulkBudgetFilter)
+                .queryParams(queryParams)
+                .when()
+                .get(BOOKS_ENDPOINT)
+                .then()
                 .extract()
                 .response();
     }
@@ -71,11 +105,11 @@ public class BookService {
         return given()
                 .spec(restAssuredConfig.getRequestSpecification())
                 .filter(validationFilter)
+                .filter(budgetFilter)
                 .pathParam("id", id)
                 .when()
                 .get(BOOK_BY_ID_ENDPOINT)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -85,11 +119,11 @@ public class BookService {
         return given()
                 .spec(restAssuredConfig.getRequestSpecification())
                 .filter(validationFilter)
+                .filter(budgetFilter)
                 .body(book)
                 .when()
                 .post(BOOKS_ENDPOINT)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -99,12 +133,12 @@ public class BookService {
         return given()
                 .spec(restAssuredConfig.getRequestSpecification())
                 .filter(validationFilter)
+                .filter(budgetFilter)
                 .pathParam("id", id)
                 .body(book)
                 .when()
                 .put(BOOK_BY_ID_ENDPOINT)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
@@ -114,11 +148,11 @@ public class BookService {
         return given()
                 .spec(restAssuredConfig.getRequestSpecification())
                 .filter(validationFilter)
+                .filter(budgetFilter)
                 .pathParam("id", id)
                 .when()
                 .delete(BOOK_BY_ID_ENDPOINT)
                 .then()
-                .log().all()
                 .extract()
                 .response();
     }
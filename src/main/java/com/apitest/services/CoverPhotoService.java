@@ -0,0 +1,82 @@
+package com.apitest.services;
+
+import com.apitest.budget.LatencyBudgetFilter;
+import com.apitest.config.RestAssuredConfig;
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.report.LevelResolver;
+import com.atlassian.oai.validator.report.ValidationReport;
+import com.atlassian.oai.validator.restassured.OpenApiValidationFilter;
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import org.springframework.stereotype.Service;
+
+import static io.restassured.RestAssured.given;
+
+@Service
+public class CoverPhotoService {
+
+    private static final String COVER_PHOTOS_ENDPOINT = "/api/v1/CoverPhotos";
+    private static final String COVER_PHOTO_BY_ID_ENDPOINT = "/api/v1/CoverPhotos/{id}";
+    private static final String COVER_PHOTOS_BY_BOOK_ID_ENDPOINT = "/api/v1/CoverPhotos/books/covers/{idBook}";
+
+    private final RestAssuredConfig restAssuredConfig;
+    private final OpenApiValidationFilter validationFilter;
+    private final LatencyBudgetFilter budgetFilter;
+
+    public CoverPhotoService(RestAssuredConfig restAssuredConfig) {
+        this.restAssuredConfig = restAssuredConfig;
+
+        /* Validation is intentionally disabled because fakerestapi does not conform to its own swagger.json,
+        see BookService. */
+        LevelResolver levelResolver = LevelResolver.create()
+                .withDefaultLevel(ValidationReport.Level.IGNORE)
+                .build();
+        this.validationFilter = new OpenApiValidationFilter(
+                OpenApiInteractionValidator.createFor("/fakerestapi.json")
+                        .withLevelResolver(levelResolver)
+                        .build()
+        );
+        this.budgetFilter = restAssuredConfig.latencyBudgetFilter();
+    }
+
+    @Step("Get all cover photos")
+    public Response getAllCoverPhotos() {
+        return given()
+                .spec(restAssuredConfig.getRequestSpecification())
+                .filter(validationFilter)
+                .filter(budgetFilter)
+                .when()
+                .get(COVER_PHOTOS_ENDPOINT)
+                .then()
+                .extract()
+                .response();
+    }
+
+    @Step("Get cover photo by ID: {id}")
+    public Response getById(Integer id) {
+        return given()
+                .spec(restAssuredConfig.getRequestSpecification())
+                .filter(validationFilter)
+                .filter(budgetFilter)
+                .pathParam("id", id)
+                .when()
+                .get(COVER_PHOTO_BY_ID_ENDPOINT)
+                .then()
+                .extract()
+                .response();
+    }
+
+    @Step("Get cover photos by book ID: {idBook}")
+    public Response getByBookId(Integer idBook) {
+        return given()
+                .spec(restAssuredConfig.getRequestSpecification())
+                .filter(validationFilter)
+                .filter(budgetFilter)
+                .pathParam("idBook", idBook)
+                .when()
+                .get(COVER_PHOTOS_BY_BOOK_ID_ENDPOINT)
+                .then()
+                .extract()
+                .response();
+    }
+}
@@ -0,0 +1,32 @@
+package com.apitest.services;
+
+import com.apitest.config.ApiConfig;
+
+/**
+ * How a list endpoint is paged: query parameter names, first page number, page size and how many pages
+ * to fetch ahead of the consumer.
+ */
+public record PageRequest(String pageParam, String sizeParam, int firstPage, int pageSize, int prefetchDepth) {
+
+    public PageRequest {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive, was " + pageSize);
+        }
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("prefetchDepth must not be negative, was " + prefetchDepth);
+        }
+    }
+
+    public static PageRequest from(ApiConfig.PaginationConfig config) {
+        return new PageRequest(config.getPageParam(), config.getSizeParam(), config.getFirstPage(),
+                config.getPageSize(), config.getPrefetchDepth());
+    }
+
+    public PageRequest withPageSize(int pageSize) {
+        return new PageRequest(pageParam, sizeParam, firstPage, pageSize, prefetchDepth);
+    }
+
+    public PageRequest withPrefetchDepth(int prefetchDepth) {
+        return new PageRequest(pageParam, sizeParam, firstPage, pageSize, prefetchDepth);
+    }
+}
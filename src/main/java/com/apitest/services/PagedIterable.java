@@ -0,0 +1,173 @@
+package com.apitest.services;
+
+import com.apitest.report.QuietThreads;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily walks a paged list endpoint, fetching up to {@code prefetchDepth} pages ahead in the background
+ * while the current page is consumed, so a full scan overlaps network time with processing.
+ * <p>
+ * Prefetching starts once the first page shows that the server honours paging. If the first page is
+ * larger than requested, or a later page repeats the first one, the server ignored the paging parameters;
+ * the first response is then treated as the whole collection. Each {@link #iterator()} starts a new walk.
+ * <p>
+ * Prefetched pages are fetched on threads that carry no Allure context, so they do not show up in the report.
+ */
+@Slf4j
+public class PagedIterable<T> implements Iterable<T> {
+
+    private static final ExecutorService PREFETCH = Executors.newCachedThreadPool(QuietThreads.factory("page-prefetch-"));
+
+    private final Function<Map<String, ?>, Response> fetch;
+    private final Function<Map<String, ?>, Response> prefetch;
+    private final Class<T[]> type;
+    private final PageRequest request;
+    private final Map<String, ?> baseParams;
+
+    /**
+     * @param fetch    fetches a page on the iterating thread, e.g. as an Allure step of the running test
+     * @param prefetch fetches a page on a background thread; it must not add steps or attachments, since the
+     *                 page may arrive while another test is running
+     */
+    public PagedIterable(Function<Map<String, ?>, Response> fetch, Function<Map<String, ?>, Response> prefetch,
+                         Class<T[]> type, PageRequest request, Map<String, ?> baseParams) {
+        this.fetch = fetch;
+        this.prefetch = prefetch;
+        this.type = type;
+        this.request = request;
+        this.baseParams = baseParams != null ? baseParams : Map.of();
+    }
+
+    @Override
+    public PageIterator iterator() {
+        return new PageIterator();
+    }
+
+    /**
+     * Sequential stream over all items; closing it cancels any pages still being prefetched.
+     */
+    public Stream<T> stream() {
+        PageIterator iterator = iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    private List<T> fetchPage(Function<Map<String, ?>, Response> call, int page) {
+        Map<String, Object> params = new HashMap<>(baseParams);
+        params.put(request.pageParam(), page);
+        params.put(request.sizeParam(), request.pageSize());
+        Response response = call.apply(params);
+        if (response.getStatusCode() == 404) {
+            return List.of();
+        }
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Page " + page + " returned status " + response.getStatusCode());
+        }
+        return Arrays.asList(response.as(type));
+    }
+
+    public class PageIterator implements Iterator<T>, AutoCloseable {
+
+        private final Deque<CompletableFuture<List<T>>> prefetched = new ArrayDeque<>();
+        private Iterator<T> current = Collections.emptyIterator();
+        private List<T> firstPage;
+        private int nextPage = request.firstPage();
+        private int pagesFetched;
+        private boolean exhausted;
+        private boolean pagingIgnored;
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (exhausted) {
+                    return false;
+                }
+                advance();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        public int getPagesFetched() {
+            return pagesFetched;
+        }
+
+        /**
+         * @return whether the server ignored the paging parameters and returned everything at once
+         */
+        public boolean isPagingIgnored() {
+            return pagingIgnored;
+        }
+
+        @Override
+        public void close() {
+            exhausted = true;
+            prefetched.forEach(page -> page.cancel(false));
+            prefetched.clear();
+        }
+
+        private void advance() {
+            List<T> items = prefetched.isEmpty() ? fetchPage(fetch, nextPage++) : await(prefetched.poll());
+            pagesFetched++;
+
+            if (firstPage == null) {
+                firstPage = items;
+                if (items.size() > request.pageSize()) {
+                    log.info("Server ignored paging ({} items for page size {}), using the single-shot response",
+                            items.size(), request.pageSize());
+                    pagingIgnored = true;
+                }
+            } else if (!items.isEmpty() && items.equals(firstPage)) {
+                log.info("Server repeated the first page, treating it as the whole collection");
+                pagingIgnored = true;
+                items = List.of();
+            }
+
+            current = items.iterator();
+            if (pagingIgnored || items.size() < request.pageSize()) {
+                close();
+                return;
+            }
+            while (prefetched.size() < request.prefetchDepth()) {
+                int page = nextPage++;
+                prefetched.add(CompletableFuture.supplyAsync(() -> fetchPage(prefetch, page), PREFETCH));
+            }
+        }
+
+        private List<T> await(CompletableFuture<List<T>> page) {
+            try {
+                return page.join();
+            } catch (CompletionException e) {
+                close();
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+    }
+}
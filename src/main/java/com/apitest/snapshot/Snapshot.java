@@ -0,0 +1,475 @@
+package com.apitest.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An immutable, columnar copy of a dataset keyed by primitive {@code int} id.
+ * <p>
+ * Rows are sorted by id, so lookups are a binary search and two snapshots can be diffed in one merge pass
+ * (see {@link SnapshotDiff}). All data lives in a single {@link ByteBuffer}: the sorted id column, one
+ * {@code int} column per numeric field and, per string field, an offset column, a length column and a UTF-8
+ * data region. The buffer is either on the heap, a direct (off-heap) buffer, or a read-only mapping of a
+ * file written by {@link #writeTo(Path)}, so a snapshot costs roughly the size of its data rather than one
+ * object graph per row.
+ * <p>
+ * Duplicate ids keep their first occurrence; items without an id are skipped. Both are counted. A snapshot
+ * is limited to 2 GB.
+ */
+public final class Snapshot {
+
+    /** Stored for {@code null} values of {@code int} columns. */
+    public static final int NULL_INT = Integer.MIN_VALUE;
+
+    private static final int MAGIC = 0x534E4150; // "SNAP"
+    private static final int VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+
+    private final ByteBuffer buffer;
+    private final String schemaName;
+    private final List<String> intColumns;
+    private final List<String> stringColumns;
+    private final int rows;
+    private final int duplicateIds;
+    private final int missingIds;
+    private final int idsPosition;
+    private final int[] intPositions;
+    private final int[] offsetPositions;
+    private final int[] lengthPositions;
+    private final int[] dataPositions;
+
+    private Snapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+        int position = 0;
+        if (buffer.getInt(position) != MAGIC) {
+            throw new IllegalArgumentException("Not a snapshot: bad magic number");
+        }
+        int version = buffer.getInt(position + 4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version " + version);
+        }
+        this.rows = buffer.getInt(position + 8);
+        this.duplicateIds = buffer.getInt(position + 12);
+        this.missingIds = buffer.getInt(position + 16);
+        position += 20;
+
+        int nameLength = buffer.getInt(position);
+        this.schemaName = readUtf8(position + 4, nameLength);
+        position += 4 + nameLength;
+
+        int intCount = buffer.getInt(position);
+        position += 4;
+        List<String> ints = new ArrayList<>();
+        for (int column = 0; column < intCount; column++) {
+            int length = buffer.getInt(position);
+            ints.add(readUtf8(position + 4, length));
+            position += 4 + length;
+        }
+        int stringCount = buffer.getInt(position);
+        position += 4;
+        List<String> strings = new ArrayList<>();
+        int[] dataLengths = new int[stringCount];
+        for (int column = 0; column < stringCount; column++) {
+            int length = buffer.getInt(position);
+            strings.add(readUtf8(position + 4, length));
+            dataLengths[column] = buffer.getInt(position + 4 + length);
+            position += 8 + length;
+        }
+        this.intColumns = List.copyOf(ints);
+        this.stringColumns = List.copyOf(strings);
+
+        position = align(position);
+        this.idsPosition = position;
+        position += 4 * rows;
+        this.intPositions = new int[intCount];
+        for (int column = 0; column < intCount; column++) {
+            intPositions[column] = position;
+            position += 4 * rows;
+        }
+        this.offsetPositions = new int[stringCount];
+        this.lengthPositions = new int[stringCount];
+        for (int column = 0; column < stringCount; column++) {
+            offsetPositions[column] = position;
+            position += 4 * rows;
+            lengthPositions[column] = position;
+            position += 4 * rows;
+        }
+        this.dataPositions = new int[stringCount];
+        for (int column = 0; column < stringCount; column++) {
+            dataPositions[column] = position;
+            position += dataLengths[column];
+        }
+        if (position > buffer.limit()) {
+            throw new IllegalArgumentException("Truncated snapshot: expected " + position + " bytes, found " + buffer.limit());
+        }
+    }
+
+    /**
+     * Copies {@code items} into a new snapshot, on the heap or in a direct buffer. The items are encoded one at a
+     * time, so a lazy source such as {@link com.apitest.services.PagedIterable} never has to be held in memory.
+     */
+    public static <T> Snapshot of(SnapshotSchema<T> schema, Iterable<? extends T> items, boolean offHeap) {
+        return builder(schema).addAll(items).build(offHeap);
+    }
+
+    public static <T> Builder<T> builder(SnapshotSchema<T> schema) {
+        return new Builder<>(schema);
+    }
+
+    /**
+     * Maps a snapshot file written by {@link #writeTo(Path)} read-only. The data is paged in on access and
+     * never copied onto the heap.
+     */
+    public static Snapshot map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new Snapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, checkedSize(channel.size())));
+        }
+    }
+
+    /**
+     * Writes this snapshot to {@code file} through a memory mapping, replacing any existing file.
+     */
+    public void writeTo(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer target = channel.map(FileChannel.MapMode.READ_WRITE, 0, buffer.limit());
+            target.put(0, buffer, 0, buffer.limit());
+            target.force();
+        }
+    }
+
+    public String getSchemaName() {
+        return schemaName;
+    }
+
+    public List<String> getIntColumns() {
+        return intColumns;
+    }
+
+    public List<String> getStringColumns() {
+        return stringColumns;
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    /**
+     * Items dropped because their id was already taken by an earlier item.
+     */
+    public int getDuplicateIds() {
+        return duplicateIds;
+    }
+
+    /**
+     * Items dropped because they had no id.
+     */
+    public int getMissingIds() {
+        return missingIds;
+    }
+
+    public long byteSize() {
+        return buffer.limit();
+    }
+
+    public boolean isOffHeap() {
+        return buffer.isDirect();
+    }
+
+    public int idAt(int row) {
+        return buffer.getInt(idsPosition + 4 * row);
+    }
+
+    /**
+     * The row holding {@code id}, or -1 when absent.
+     */
+    public int rowOf(int id) {
+        int low = 0;
+        int high = rows - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int value = idAt(middle);
+            if (value < id) {
+                low = middle + 1;
+            } else if (value > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int id) {
+        return rowOf(id) >= 0;
+    }
+
+    public int intColumn(String name) {
+        return columnIndex(intColumns, name);
+    }
+
+    public int stringColumn(String name) {
+        return columnIndex(stringColumns, name);
+    }
+
+    /**
+     * The value of an {@code int} column, or {@link #NULL_INT} for {@code null}.
+     */
+    public int getInt(int row, int column) {
+        return buffer.getInt(intPositions[column] + 4 * row);
+    }
+
+    public String getString(int row, int column) {
+        int length = stringLength(row, column);
+        return length == NULL_LENGTH ? null : readUtf8(stringPosition(row, column), length);
+    }
+
+    boolean sameString(int row, int column, Snapshot other, int otherRow) {
+        int length = stringLength(row, column);
+        if (length != other.stringLength(otherRow, column)) {
+            return false;
+        }
+        int position = stringPosition(row, column);
+        int otherPosition = other.stringPosition(otherRow, column);
+        int index = 0;
+        for (; index + Long.BYTES <= length; index += Long.BYTES) {
+            if (buffer.getLong(position + index) != other.buffer.getLong(otherPosition + index)) {
+                return false;
+            }
+        }
+        for (; index < length; index++) {
+            if (buffer.get(position + index) != other.buffer.get(otherPosition + index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int stringLength(int row, int column) {
+        return buffer.getInt(lengthPositions[column] + 4 * row);
+    }
+
+    private int stringPosition(int row, int column) {
+        return dataPositions[column] + buffer.getInt(offsetPositions[column] + 4 * row);
+    }
+
+    private String readUtf8(int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int putUtf8(ByteBuffer buffer, int position, byte[] bytes) {
+        buffer.putInt(position, bytes.length);
+        buffer.put(position + 4, bytes);
+        return position + 4 + bytes.length;
+    }
+
+    private static int columnIndex(List<String> columns, String name) {
+        int index = columns.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown column '" + name + "', expected one of " + columns);
+        }
+        return index;
+    }
+
+    private static int align(int position) {
+        return (position + 7) & ~7;
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private static int checkedSize(long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Snapshot of " + size + " bytes exceeds the 2 GB limit");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Encodes items into compact columns as they are added, without keeping the items themselves. Sorting by
+     * id and dropping duplicates happen in {@link #build(boolean)}, so peak memory is about twice the size of
+     * the finished snapshot however the items arrive.
+     */
+    public static final class Builder<T> {
+
+        private final SnapshotSchema<T> schema;
+        private final int intCount;
+        private final int stringCount;
+        private int count;
+        private int missing;
+        private int[] ids = new int[1024];
+        private final int[][] ints;
+        private final int[][] offsets;
+        private final int[][] lengths;
+        private final byte[][] data;
+        private final long[] dataLengths;
+
+        private Builder(SnapshotSchema<T> schema) {
+            this.schema = schema;
+            this.intCount = schema.getIntColumns().size();
+            this.stringCount = schema.getStringColumns().size();
+            this.ints = new int[intCount][ids.length];
+            this.offsets = new int[stringCount][ids.length];
+            this.lengths = new int[stringCount][ids.length];
+            this.data = new byte[stringCount][16 * 1024];
+            this.dataLengths = new long[stringCount];
+        }
+
+        public Builder<T> add(T item) {
+            Integer id = item != null ? schema.id(item) : null;
+            if (id == null) {
+                missing++;
+                return this;
+            }
+            if (count == ids.length) {
+                grow();
+            }
+            ids[count] = id;
+            for (int column = 0; column < intCount; column++) {
+                Integer value = schema.intValue(item, column);
+                ints[column][count] = value != null ? value : NULL_INT;
+            }
+            for (int column = 0; column < stringCount; column++) {
+                String value = schema.stringValue(item, column);
+                offsets[column][count] = (int) dataLengths[column];
+                if (value == null) {
+                    lengths[column][count] = NULL_LENGTH;
+                    continue;
+                }
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                long end = checkedSize(dataLengths[column] + bytes.length);
+                if (end > data[column].length) {
+                    data[column] = Arrays.copyOf(data[column], (int) Math.min(Integer.MAX_VALUE - 8, Math.max(end, 2L * data[column].length)));
+                }
+                System.arraycopy(bytes, 0, data[column], (int) dataLengths[column], bytes.length);
+                lengths[column][count] = bytes.length;
+                dataLengths[column] = end;
+            }
+            count++;
+            return this;
+        }
+
+        public Builder<T> addAll(Iterable<? extends T> items) {
+            return addAll(items.iterator());
+        }
+
+        public Builder<T> addAll(Iterator<? extends T> items) {
+            items.forEachRemaining(this::add);
+            return this;
+        }
+
+        public Snapshot build(boolean offHeap) {
+            // Sorting (id, arrival) pairs keeps the first occurrence of a duplicate id first
+            long[] order = new long[count];
+            for (int row = 0; row < count; row++) {
+                order[row] = (long) ids[row] << 32 | row;
+            }
+            Arrays.sort(order);
+            int[] unique = new int[count];
+            int rows = 0;
+            for (int index = 0; index < count; index++) {
+                if (index == 0 || (int) (order[index] >> 32) != (int) (order[index - 1] >> 32)) {
+                    unique[rows++] = (int) order[index];
+                }
+            }
+
+            byte[] name = schema.getName().getBytes(StandardCharsets.UTF_8);
+            List<String> intColumns = schema.getIntColumns();
+            List<String> stringColumns = schema.getStringColumns();
+            int[] columnLengths = new int[stringCount];
+            long header = 20 + 4L + name.length + 8;
+            for (String column : intColumns) {
+                header += 4 + column.getBytes(StandardCharsets.UTF_8).length;
+            }
+            for (int column = 0; column < stringCount; column++) {
+                header += 8 + stringColumns.get(column).getBytes(StandardCharsets.UTF_8).length;
+                long length = 0;
+                for (int row = 0; row < rows; row++) {
+                    length += Math.max(0, lengths[column][unique[row]]);
+                }
+                columnLengths[column] = checkedSize(length);
+            }
+            long size = align(header) + 4L * rows * (1 + intCount + 2L * stringCount);
+            for (int length : columnLengths) {
+                size += length;
+            }
+            ByteBuffer buffer = offHeap ? ByteBuffer.allocateDirect(checkedSize(size)) : ByteBuffer.allocate(checkedSize(size));
+
+            buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, rows)
+                    .putInt(12, count - rows).putInt(16, missing);
+            int position = putUtf8(buffer, 20, name);
+            buffer.putInt(position, intCount);
+            position += 4;
+            for (String column : intColumns) {
+                position = putUtf8(buffer, position, column.getBytes(StandardCharsets.UTF_8));
+            }
+            buffer.putInt(position, stringCount);
+            position += 4;
+            for (int column = 0; column < stringCount; column++) {
+                position = putUtf8(buffer, position, stringColumns.get(column).getBytes(StandardCharsets.UTF_8));
+                buffer.putInt(position, columnLengths[column]);
+                position += 4;
+            }
+
+            position = align(position);
+            for (int row = 0; row < rows; row++) {
+                buffer.putInt(position, ids[unique[row]]);
+                position += 4;
+            }
+            for (int column = 0; column < intCount; column++) {
+                for (int row = 0; row < rows; row++) {
+                    buffer.putInt(position, ints[column][unique[row]]);
+                    position += 4;
+                }
+            }
+            for (int column = 0; column < stringCount; column++) {
+                int offset = 0;
+                for (int row = 0; row < rows; row++) {
+                    int length = lengths[column][unique[row]];
+                    buffer.putInt(position + 4 * row, offset);
+                    buffer.putInt(position + 4 * (rows + row), length);
+                    offset += Math.max(0, length);
+                }
+                position += 8 * rows;
+            }
+            for (int column = 0; column < stringCount; column++) {
+                for (int row = 0; row < rows; row++) {
+                    int length = lengths[column][unique[row]];
+                    if (length > 0) {
+                        buffer.put(position, data[column], offsets[column][unique[row]], length);
+                        position += length;
+                    }
+                }
+            }
+            return new Snapshot(buffer);
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            for (int column = 0; column < intCount; column++) {
+                ints[column] = Arrays.copyOf(ints[column], capacity);
+            }
+            for (int column = 0; column < stringCount; column++) {
+                offsets[column] = Arrays.copyOf(offsets[column], capacity);
+                lengths[column] = Arrays.copyOf(lengths[column], capacity);
+            }
+        }
+    }
+}
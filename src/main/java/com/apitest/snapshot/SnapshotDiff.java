@@ -0,0 +1,141 @@
+package com.apitest.snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Row-level differences between two snapshots of the same schema: ids only in {@code after} (added), only
+ * in {@code before} (removed), and ids present in both whose columns differ (changed).
+ * <p>
+ * Both id columns are sorted, so the diff is a single merge pass. String cells are compared as UTF-8 bytes
+ * in place, without decoding.
+ */
+public final class SnapshotDiff {
+
+    private static final int MAX_EXAMPLES = 10;
+
+    public record Change(int id, List<String> columns) {
+    }
+
+    private final String schemaName;
+    private final int beforeSize;
+    private final int afterSize;
+    private final int[] added;
+    private final int[] removed;
+    private final List<Change> changed;
+
+    private SnapshotDiff(String schemaName, int beforeSize, int afterSize, int[] added, int[] removed,
+                         List<Change> changed) {
+        this.schemaName = schemaName;
+        this.beforeSize = beforeSize;
+        this.afterSize = afterSize;
+        this.added = added;
+        this.removed = removed;
+        this.changed = changed;
+    }
+
+    public static SnapshotDiff between(Snapshot before, Snapshot after) {
+        if (!before.getSchemaName().equals(after.getSchemaName())
+                || !before.getIntColumns().equals(after.getIntColumns())
+                || !before.getStringColumns().equals(after.getStringColumns())) {
+            throw new IllegalArgumentException("Cannot diff a " + before.getSchemaName() + " snapshot against a "
+                    + after.getSchemaName() + " snapshot with different columns");
+        }
+        int[] added = new int[after.size()];
+        int[] removed = new int[before.size()];
+        int addedCount = 0;
+        int removedCount = 0;
+        List<Change> changed = new ArrayList<>();
+
+        int left = 0;
+        int right = 0;
+        while (left < before.size() || right < after.size()) {
+            if (right == after.size() || (left < before.size() && before.idAt(left) < after.idAt(right))) {
+                removed[removedCount++] = before.idAt(left++);
+            } else if (left == before.size() || before.idAt(left) > after.idAt(right)) {
+                added[addedCount++] = after.idAt(right++);
+            } else {
+                List<String> columns = changedColumns(before, left, after, right);
+                if (!columns.isEmpty()) {
+                    changed.add(new Change(before.idAt(left), columns));
+                }
+                left++;
+                right++;
+            }
+        }
+        return new SnapshotDiff(before.getSchemaName(), before.size(), after.size(),
+                Arrays.copyOf(added, addedCount), Arrays.copyOf(removed, removedCount), List.copyOf(changed));
+    }
+
+    private static List<String> changedColumns(Snapshot before, int left, Snapshot after, int right) {
+        List<String> columns = null;
+        for (int column = 0; column < before.getIntColumns().size(); column++) {
+            if (before.getInt(left, column) != after.getInt(right, column)) {
+                columns = add(columns, before.getIntColumns().get(column));
+            }
+        }
+        for (int column = 0; column < before.getStringColumns().size(); column++) {
+            if (!before.sameString(left, column, after, right)) {
+                columns = add(columns, before.getStringColumns().get(column));
+            }
+        }
+        return columns != null ? columns : List.of();
+    }
+
+    private static List<String> add(List<String> columns, String column) {
+        List<String> result = columns != null ? columns : new ArrayList<>(2);
+        result.add(column);
+        return result;
+    }
+
+    public int[] getAdded() {
+        return added.clone();
+    }
+
+    public int[] getRemoved() {
+        return removed.clone();
+    }
+
+    public List<Change> getChanged() {
+        return changed;
+    }
+
+    public boolean isEmpty() {
+        return added.length == 0 && removed.length == 0 && changed.isEmpty();
+    }
+
+    /**
+     * How many changed rows differ in each column.
+     */
+    public Map<String, Integer> changesPerColumn() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        changed.forEach(change -> change.columns().forEach(column -> counts.merge(column, 1, Integer::sum)));
+        return counts;
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%s snapshot diff: %d rows before, %d rows after%n", schemaName, beforeSize, afterSize));
+        text.append(String.format("  added: %d, removed: %d, changed: %d%n", added.length, removed.length, changed.size()));
+        if (!changed.isEmpty()) {
+            text.append("  changes per column: ").append(changesPerColumn()).append(System.lineSeparator());
+        }
+        if (added.length > 0) {
+            text.append("  added ids: ").append(examples(added)).append(System.lineSeparator());
+        }
+        if (removed.length > 0) {
+            text.append("  removed ids: ").append(examples(removed)).append(System.lineSeparator());
+        }
+        changed.stream().limit(MAX_EXAMPLES).forEach(change ->
+                text.append(String.format("  ~ id %d: %s%n", change.id(), String.join(", ", change.columns()))));
+        return text.toString();
+    }
+
+    private static String examples(int[] ids) {
+        String shown = Arrays.toString(Arrays.copyOf(ids, Math.min(ids.length, MAX_EXAMPLES)));
+        return ids.length > MAX_EXAMPLES ? shown.replace("]", ", ... " + (ids.length - MAX_EXAMPLES) + " more]") : shown;
+    }
+}
@@ -0,0 +1,106 @@
+package com.apitest.snapshot;
+
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Column layout of a {@link Snapshot}: how to extract the {@code int} id and each field of a model.
+ * <p>
+ * Fields are either {@code int} columns (boxed {@code Integer} fields, with {@code null} stored as
+ * {@link Snapshot#NULL_INT}) or string columns stored as UTF-8.
+ */
+public final class SnapshotSchema<T> {
+
+    public static final SnapshotSchema<Book> BOOKS = SnapshotSchema.<Book>builder("Book", Book::getId)
+            .intColumn("pageCount", Book::getPageCount)
+            .stringColumn("title", Book::getTitle)
+            .stringColumn("description", Book::getDescription)
+            .stringColumn("excerpt", Book::getExcerpt)
+            .stringColumn("publishDate", Book::getPublishDate)
+            .build();
+
+    public static final SnapshotSchema<Author> AUTHORS = SnapshotSchema.<Author>builder("Author", Author::getId)
+            .intColumn("idBook", Author::getIdBook)
+            .stringColumn("firstName", Author::getFirstName)
+            .stringColumn("lastName", Author::getLastName)
+            .build();
+
+    private final String name;
+    private final Function<T, Integer> id;
+    private final List<String> intColumns;
+    private final List<Function<T, Integer>> intExtractors;
+    private final List<String> stringColumns;
+    private final List<Function<T, String>> stringExtractors;
+
+    private SnapshotSchema(Builder<T> builder) {
+        this.name = builder.name;
+        this.id = builder.id;
+        this.intColumns = List.copyOf(builder.intColumns);
+        this.intExtractors = List.copyOf(builder.intExtractors);
+        this.stringColumns = List.copyOf(builder.stringColumns);
+        this.stringExtractors = List.copyOf(builder.stringExtractors);
+    }
+
+    public static <T> Builder<T> builder(String name, Function<T, Integer> id) {
+        return new Builder<>(name, id);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getIntColumns() {
+        return intColumns;
+    }
+
+    public List<String> getStringColumns() {
+        return stringColumns;
+    }
+
+    Integer id(T item) {
+        return id.apply(item);
+    }
+
+    Integer intValue(T item, int column) {
+        return intExtractors.get(column).apply(item);
+    }
+
+    String stringValue(T item, int column) {
+        return stringExtractors.get(column).apply(item);
+    }
+
+    public static final class Builder<T> {
+
+        private final String name;
+        private final Function<T, Integer> id;
+        private final List<String> intColumns = new ArrayList<>();
+        private final List<Function<T, Integer>> intExtractors = new ArrayList<>();
+        private final List<String> stringColumns = new ArrayList<>();
+        private final List<Function<T, String>> stringExtractors = new ArrayList<>();
+
+        private Builder(String name, Function<T, Integer> id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        public Builder<T> intColumn(String column, Function<T, Integer> extractor) {
+            intColumns.add(column);
+            intExtractors.add(extractor);
+            return this;
+        }
+
+        public Builder<T> stringColumn(String column, Function<T, String> extractor) {
+            stringColumns.add(column);
+            stringExtractors.add(extractor);
+            return this;
+        }
+
+        public SnapshotSchema<T> build() {
+            return new SnapshotSchema<>(this);
+        }
+    }
+}
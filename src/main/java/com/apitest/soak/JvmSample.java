@@ -0,0 +1,18 @@
+package com.apitest.soak;
+
+/**
+ * One point-in-time reading of client-side resource usage.
+ *
+ * @param heapAfterGcBytes heap still live after the most recent collection of each pool, the signal used for leaks
+ * @param gcPauseMillis    accumulated collection time since the JVM started
+ * @param openConnections  leased plus idle pooled connections across all environments
+ */
+public record JvmSample(long elapsedMillis,
+                        long heapUsedBytes,
+                        long heapAfterGcBytes,
+                        long gcCount,
+                        long gcPauseMillis,
+                        int threadCount,
+                        int openConnections,
+                        long openFileDescriptors) {
+}
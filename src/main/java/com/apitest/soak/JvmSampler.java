@@ -0,0 +1,62 @@
+package com.apitest.soak;
+
+import com.apitest.config.ConnectionPools;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * Reads heap, GC, thread and connection figures through the platform MXBeans.
+ */
+public class JvmSampler {
+
+    private final ConnectionPools connectionPools;
+    private final long startMillis = System.currentTimeMillis();
+
+    public JvmSampler(ConnectionPools connectionPools) {
+        this.connectionPools = connectionPools;
+    }
+
+    public JvmSample sample() {
+        long heapAfterGc = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && afterGc != null) {
+                heapAfterGc += afterGc.getUsed();
+            }
+        }
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+
+        int connections = connectionPools.stats().values().stream()
+                .mapToInt(stats -> stats.getLeased() + stats.getAvailable())
+                .sum();
+
+        return new JvmSample(
+                System.currentTimeMillis() - startMillis,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                heapAfterGc,
+                gcCount,
+                gcMillis,
+                ManagementFactory.getThreadMXBean().getThreadCount(),
+                connections,
+                openFileDescriptors());
+    }
+
+    private static long openFileDescriptors() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.UnixOperatingSystemMXBean unix) {
+            return unix.getOpenFileDescriptorCount();
+        }
+        return -1;
+    }
+}
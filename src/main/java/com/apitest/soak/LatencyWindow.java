@@ -0,0 +1,55 @@
+package com.apitest.soak;
+
+import com.apitest.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency collected during one fixed time window of a soak run, overall and per operation.
+ */
+public class LatencyWindow {
+
+    private final int index;
+    private final long startMillis;
+    private final LatencyHistogram overall = new LatencyHistogram();
+    private final ConcurrentMap<String, LatencyHistogram> operations = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+
+    LatencyWindow(int index, long startMillis) {
+        this.index = index;
+        this.startMillis = startMillis;
+    }
+
+    void record(String operation, long nanos) {
+        overall.recordNanos(nanos);
+        operations.computeIfAbsent(operation, key -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public LatencyHistogram getOverall() {
+        return overall;
+    }
+
+    public Map<String, LatencyHistogram> getOperations() {
+        return new TreeMap<>(operations);
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+}
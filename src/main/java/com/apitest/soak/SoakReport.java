@@ -0,0 +1,37 @@
+package com.apitest.soak;
+
+import java.util.List;
+
+/**
+ * Outcome of a soak run: resource samples, latency windows and anything flagged as a leak or drift.
+ */
+public record SoakReport(List<JvmSample> samples, List<LatencyWindow> windows, List<String> findings,
+                         long completedScenarios, long missedTicks) {
+
+    public boolean isHealthy() {
+        return findings.isEmpty();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Soak run: %d scenarios completed, %d ticks missed (rate not sustained), %d findings%n",
+                completedScenarios, missedTicks, findings.size()));
+        findings.forEach(finding -> text.append("  ! ").append(finding).append(System.lineSeparator()));
+
+        text.append(String.format("%nResource samples%n%10s %12s %14s %8s %10s %8s %8s %6s%n",
+                "t(s)", "heap(MB)", "heapAfterGc(MB)", "gcCount", "gcPause(ms)", "threads", "conns", "fds"));
+        for (JvmSample sample : samples) {
+            text.append(String.format("%10d %12.1f %14.1f %8d %10d %8d %8d %6d%n",
+                    sample.elapsedMillis() / 1000, sample.heapUsedBytes() / 1048576.0, sample.heapAfterGcBytes() / 1048576.0,
+                    sample.gcCount(), sample.gcPauseMillis(), sample.threadCount(), sample.openConnections(),
+                    sample.openFileDescriptors()));
+        }
+
+        text.append(String.format("%nLatency windows%n"));
+        for (LatencyWindow window : windows) {
+            text.append(String.format("  #%d (+%ds) %s errors=%d%n", window.getIndex(), window.getStartMillis() / 1000,
+                    window.getOverall().summary(), window.getErrorCount()));
+        }
+        return text.toString();
+    }
+}
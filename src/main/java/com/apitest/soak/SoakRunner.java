@@ -0,0 +1,165 @@
+package com.apitest.soak;
+
+import com.apitest.budget.LatencyBudgetExceededException;
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.LatencyHistogram;
+import com.apitest.report.QuietThreads;
+import com.apitest.services.ApiClients;
+import com.apitest.services.ApiOperation;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Cycles CRUD scenarios at a fixed arrival rate for a long period while sampling JVM and pool health.
+ * <p>
+ * Scenarios are started on a fixed schedule regardless of how long earlier ones take (an open workload),
+ * up to {@code maxInFlight}; a tick that finds no free slot is counted as missed instead of queueing.
+ * At the end, resource samples are checked for steady growth, and latency windows for drift from the first window
+ * that saw enough traffic.
+ * Workers are platform threads: REST Assured blocks inside {@code synchronized} code, which pins virtual threads.
+ */
+@Slf4j
+public class SoakRunner {
+
+    private static final int MIN_WINDOW_SAMPLES = 20;
+    private static final double MIN_RISING_FRACTION = 0.8;
+
+    private final ApiClients clients;
+    private final JvmSampler sampler;
+    private final ApiConfig.SoakConfig config;
+
+    public SoakRunner(ApiClients clients, JvmSampler sampler, ApiConfig.SoakConfig config) {
+        this.clients = clients;
+        this.sampler = sampler;
+        this.config = config;
+    }
+
+    public SoakReport run(List<Supplier<List<ApiOperation>>> scenarios) throws InterruptedException {
+        List<JvmSample> samples = Collections.synchronizedList(new ArrayList<>());
+        List<LatencyWindow> windows = Collections.synchronizedList(new ArrayList<>());
+        long startMillis = System.currentTimeMillis();
+        AtomicReference<LatencyWindow> current = new AtomicReference<>(new LatencyWindow(0, 0));
+        windows.add(current.get());
+
+        AtomicLong ticks = new AtomicLong();
+        AtomicLong missed = new AtomicLong();
+        AtomicLong completed = new AtomicLong();
+        Semaphore inFlight = new Semaphore(config.getMaxInFlight());
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.getRatePerSecond());
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        try (ExecutorService workers = Executors.newFixedThreadPool(config.getMaxInFlight(),
+                QuietThreads.factory("soak-worker-"))) {
+            scheduler.scheduleAtFixedRate(() -> samples.add(sampler.sample()),
+                    0, config.getSampleInterval().toMillis(), TimeUnit.MILLISECONDS);
+            scheduler.scheduleAtFixedRate(() -> {
+                        LatencyWindow next = new LatencyWindow(windows.size(), System.currentTimeMillis() - startMillis);
+                        windows.add(next);
+                        current.set(next);
+                    },
+                    config.getWindow().toMillis(), config.getWindow().toMillis(), TimeUnit.MILLISECONDS);
+            scheduler.scheduleAtFixedRate(() -> {
+                if (!inFlight.tryAcquire()) {
+                    missed.incrementAndGet();
+                    return;
+                }
+                Supplier<List<ApiOperation>> scenario = scenarios.get((int) (ticks.getAndIncrement() % scenarios.size()));
+                workers.execute(() -> {
+                    try {
+                        runScenario(scenario.get(), current);
+                        completed.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }, 0, periodNanos, TimeUnit.NANOSECONDS);
+
+            try {
+                Thread.sleep(config.getDuration().toMillis());
+            } finally {
+                scheduler.shutdownNow();
+            }
+        }
+        samples.add(sampler.sample());
+
+        List<String> findings = analyse(List.copyOf(samples), List.copyOf(windows));
+        SoakReport report = new SoakReport(List.copyOf(samples), List.copyOf(windows), findings, completed.get(), missed.get());
+        log.info("Soak run finished after {}{}{}", Duration.ofMillis(System.currentTimeMillis() - startMillis),
+                System.lineSeparator(), report.toText());
+        return report;
+    }
+
+    private void runScenario(List<ApiOperation> steps, AtomicReference<LatencyWindow> current) {
+        for (ApiOperation step : steps) {
+            long start = System.nanoTime();
+            try {
+                Response response = step.apply(clients);
+                current.get().record(step.name(), System.nanoTime() - start);
+                if (response.getStatusCode() >= 500) {
+                    current.get().recordError();
+                }
+            } catch (LatencyBudgetExceededException e) {
+                // Answered, just slowly: dropping it would hide the slowest samples
+                current.get().record(step.name(), System.nanoTime() - start);
+            } catch (RuntimeException e) {
+                current.get().recordError();
+                log.debug("Soak step {} failed", step.name(), e);
+            }
+        }
+    }
+
+    private List<String> analyse(List<JvmSample> samples, List<LatencyWindow> windows) {
+        List<String> findings = new ArrayList<>();
+
+        Trend heap = Trend.of(samples, JvmSample::elapsedMillis, JvmSample::heapAfterGcBytes);
+        if (heap.isMonotonicGrowth(MIN_RISING_FRACTION, config.getHeapGrowthMb() * 1048576.0)) {
+            findings.add(String.format("Possible heap leak: live heap after GC grew %.1f MB (%.2f MB/min, rising in %.0f%% of samples)",
+                    (heap.last() - heap.first()) / 1048576.0, heap.slopePerMinute() / 1048576.0, heap.risingFraction() * 100));
+        }
+        Trend connections = Trend.of(samples, JvmSample::elapsedMillis, JvmSample::openConnections);
+        if (connections.isMonotonicGrowth(MIN_RISING_FRACTION, config.getConnectionGrowth())) {
+            findings.add(String.format("Possible connection leak: pooled connections grew from %.0f to %.0f",
+                    connections.first(), connections.last()));
+        }
+        Trend threads = Trend.of(samples, JvmSample::elapsedMillis, JvmSample::threadCount);
+        if (threads.isMonotonicGrowth(MIN_RISING_FRACTION, config.getThreadGrowth())) {
+            findings.add(String.format("Possible thread leak: thread count grew from %.0f to %.0f", threads.first(), threads.last()));
+        }
+
+        List<LatencyWindow> populated = windows.stream()
+                .filter(window -> window.getOverall().getCount() >= MIN_WINDOW_SAMPLES)
+                .toList();
+        if (populated.size() > 1) {
+            LatencyWindow baseline = populated.get(0);
+            for (LatencyWindow window : populated.subList(1, populated.size())) {
+                for (Map.Entry<String, LatencyHistogram> entry : window.getOperations().entrySet()) {
+                    LatencyHistogram reference = baseline.getOperations().get(entry.getKey());
+                    if (reference == null || reference.getCount() < MIN_WINDOW_SAMPLES || entry.getValue().getCount() < MIN_WINDOW_SAMPLES) {
+                        continue;
+                    }
+                    double before = reference.getPercentileMillis(95);
+                    double after = entry.getValue().getPercentileMillis(95);
+                    if (before > 0 && after > before * (1 + config.getMaxLatencyDrift())) {
+                        findings.add(String.format("Latency drift in window #%d for %s: p95 %.1fms -> %.1fms (baseline window #%d)",
+                                window.getIndex(), entry.getKey(), before, after, baseline.getIndex()));
+                    }
+                }
+            }
+        }
+        return findings;
+    }
+}
@@ -0,0 +1,45 @@
+package com.apitest.soak;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Least-squares slope and monotonicity of a sampled series, used to tell steady growth from noise.
+ */
+public record Trend(double slopePerMinute, double risingFraction, double first, double last) {
+
+    public static <T> Trend of(List<T> samples, ToDoubleFunction<T> time, ToDoubleFunction<T> value) {
+        int n = samples.size();
+        if (n < 2) {
+            double only = n == 1 ? value.applyAsDouble(samples.get(0)) : 0;
+            return new Trend(0, 0, only, only);
+        }
+        double sumX = 0;
+        double sumY = 0;
+        double sumXY = 0;
+        double sumXX = 0;
+        int rising = 0;
+        for (int i = 0; i < n; i++) {
+            double x = time.applyAsDouble(samples.get(i)) / 60_000.0;
+            double y = value.applyAsDouble(samples.get(i));
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+            if (i > 0 && y > value.applyAsDouble(samples.get(i - 1))) {
+                rising++;
+            }
+        }
+        double denominator = n * sumXX - sumX * sumX;
+        double slope = denominator == 0 ? 0 : (n * sumXY - sumX * sumY) / denominator;
+        return new Trend(slope, (double) rising / (n - 1),
+                value.applyAsDouble(samples.get(0)), value.applyAsDouble(samples.get(n - 1)));
+    }
+
+    /**
+     * Growth that is both steady (most steps go up) and material (above {@code minGrowth} overall).
+     */
+    public boolean isMonotonicGrowth(double minRisingFraction, double minGrowth) {
+        return slopePerMinute > 0 && risingFraction >= minRisingFraction && last - first >= minGrowth;
+    }
+}
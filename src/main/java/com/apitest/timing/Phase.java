@@ -0,0 +1,24 @@
+package com.apitest.timing;
+
+/**
+ * Phases of one HTTP exchange, in the order they happen. DNS, connect and TLS only happen when the pool has to
+ * open a new connection.
+ */
+public enum Phase {
+    DNS("dns"),
+    CONNECT("connect"),
+    TLS("tls"),
+    WRITE("write"),
+    TTFB("ttfb"),
+    DOWNLOAD("download");
+
+    private final String label;
+
+    Phase(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
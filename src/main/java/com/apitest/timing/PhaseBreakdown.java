@@ -0,0 +1,92 @@
+package com.apitest.timing;
+
+import com.apitest.metrics.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-phase latency of one operation's exchanges, plus the client time around them (leasing a connection,
+ * REST Assured and the inner filters). Besides a histogram per phase, it sums the phases of the slowest
+ * exchanges (at or above the running p95 of their total), which shows where the tail comes from: a p99 phase
+ * histogram alone cannot say whether the slow connects and the slow responses were the same calls.
+ */
+public class PhaseBreakdown {
+
+    static final double TAIL_PERCENTILE = 95;
+    private static final int TAIL_MIN_SAMPLES = 20;
+
+    private final LatencyHistogram total = new LatencyHistogram();
+    private final LatencyHistogram client = new LatencyHistogram();
+    private final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+    private final Map<Phase, LongAdder> tailNanos = new EnumMap<>(Phase.class);
+    private final LongAdder tailClientNanos = new LongAdder();
+    private final LongAdder tailCount = new LongAdder();
+    private final LongAdder newConnections = new LongAdder();
+
+    public PhaseBreakdown() {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+            tailNanos.put(phase, new LongAdder());
+        }
+    }
+
+    /**
+     * @param totalNanos the whole exchange as seen by the caller; what the phases do not account for is client time
+     */
+    public void record(PhaseTimings timings, long totalNanos) {
+        long tailThresholdMicros = total.getCount() >= TAIL_MIN_SAMPLES
+                ? total.getPercentileMicros(TAIL_PERCENTILE) : Long.MAX_VALUE;
+        long clientNanos = Math.max(0, totalNanos - timings.totalNanos());
+        total.recordNanos(totalNanos);
+        client.recordNanos(clientNanos);
+        if (!timings.isConnectionReused()) {
+            newConnections.increment();
+        }
+        boolean tail = LatencyHistogram.bucketCeilingMicros(totalNanos / 1000) >= tailThresholdMicros;
+        if (tail) {
+            tailCount.increment();
+            tailClientNanos.add(clientNanos);
+        }
+        for (Phase phase : Phase.values()) {
+            phases.get(phase).recordNanos(timings.nanos(phase));
+            if (tail) {
+                tailNanos.get(phase).add(timings.nanos(phase));
+            }
+        }
+    }
+
+    public LatencyHistogram getTotal() {
+        return total;
+    }
+
+    public LatencyHistogram getClient() {
+        return client;
+    }
+
+    public LatencyHistogram getPhase(Phase phase) {
+        return phases.get(phase);
+    }
+
+    public long getNewConnections() {
+        return newConnections.sum();
+    }
+
+    public long getTailCount() {
+        return tailCount.sum();
+    }
+
+    /**
+     * @return mean time of {@code phase} over the tail exchanges, in milliseconds
+     */
+    public double getTailMeanMillis(Phase phase) {
+        long count = tailCount.sum();
+        return count == 0 ? 0 : tailNanos.get(phase).sum() / 1_000_000.0 / count;
+    }
+
+    public double getTailClientMeanMillis() {
+        long count = tailCount.sum();
+        return count == 0 ? 0 : tailClientNanos.sum() / 1_000_000.0 / count;
+    }
+}
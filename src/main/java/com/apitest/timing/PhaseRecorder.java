@@ -0,0 +1,50 @@
+package com.apitest.timing;
+
+import java.util.Optional;
+
+/**
+ * Collects the phases of the exchange running on the current thread. The Apache client runs an exchange
+ * synchronously on the caller's thread, so its hooks ({@link TimedDnsResolver}, {@link TimedSocketFactory},
+ * {@link TimedRequestExecutor}) report here without any context being passed along; outside
+ * {@link #begin()}/{@link #end()}, e.g. for the lean client, they record nothing.
+ */
+public final class PhaseRecorder {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private PhaseRecorder() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new Recording());
+    }
+
+    public static void record(Phase phase, long nanos) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            // redirects and retries run several exchanges in one recording; their phases add up
+            recording.nanos[phase.ordinal()] += nanos;
+            recording.recorded |= 1 << phase.ordinal();
+        }
+    }
+
+    /**
+     * @return the phases recorded so far, if a recording is running
+     */
+    public static Optional<PhaseTimings> current() {
+        Recording recording = CURRENT.get();
+        return recording == null ? Optional.empty()
+                : Optional.of(new PhaseTimings(recording.nanos, recording.recorded));
+    }
+
+    public static Optional<PhaseTimings> end() {
+        Optional<PhaseTimings> timings = current();
+        CURRENT.remove();
+        return timings;
+    }
+
+    private static final class Recording {
+        private final long[] nanos = new long[Phase.values().length];
+        private int recorded;
+    }
+}
@@ -0,0 +1,61 @@
+package com.apitest.timing;
+
+import com.apitest.metrics.EndpointMetrics;
+import com.apitest.metrics.LatencyHistogram;
+import com.apitest.metrics.MetricsRegistry;
+
+import java.util.Map;
+
+/**
+ * Per-operation phase breakdown of everything the {@link MetricsRegistry} has seen.
+ */
+public class PhaseReport {
+
+    private final Map<String, Map<String, EndpointMetrics>> snapshot;
+
+    private PhaseReport(Map<String, Map<String, EndpointMetrics>> snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public static PhaseReport capture(MetricsRegistry registry) {
+        return new PhaseReport(registry.snapshot());
+    }
+
+    public boolean isEmpty() {
+        return snapshot.values().stream().flatMap(endpoints -> endpoints.values().stream())
+                .allMatch(metrics -> metrics.getPhases().getTotal().getCount() == 0);
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        snapshot.forEach((environment, endpoints) -> {
+            text.append("Environment: ").append(environment).append(System.lineSeparator());
+            endpoints.forEach((operation, metrics) -> {
+                PhaseBreakdown breakdown = metrics.getPhases();
+                LatencyHistogram total = breakdown.getTotal();
+                if (total.getCount() == 0) {
+                    return;
+                }
+                text.append(String.format("  %s: %d calls, %d new connections, %d tail calls (>= p%.0f %.1fms)%n",
+                        operation, total.getCount(), breakdown.getNewConnections(), breakdown.getTailCount(),
+                        PhaseBreakdown.TAIL_PERCENTILE, total.getPercentileMillis(PhaseBreakdown.TAIL_PERCENTILE)));
+                text.append(String.format("    %-9s %9s %9s %9s %9s %11s%n", "phase", "mean", "p50", "p95", "p99", "tail mean"));
+                for (Phase phase : Phase.values()) {
+                    row(text, phase.label(), breakdown.getPhase(phase), breakdown.getTailMeanMillis(phase));
+                }
+                row(text, "client", breakdown.getClient(), breakdown.getTailClientMeanMillis());
+                text.append(String.format("    %-9s %7.2fms %7.2fms %7.2fms %7.2fms%n", "total",
+                        total.getMeanMicros() / 1000.0, total.getPercentileMillis(50),
+                        total.getPercentileMillis(95), total.getPercentileMillis(99)));
+            });
+            text.append(System.lineSeparator());
+        });
+        return text.toString();
+    }
+
+    private static void row(StringBuilder text, String label, LatencyHistogram latency, double tailMeanMillis) {
+        text.append(String.format("    %-9s %7.2fms %7.2fms %7.2fms %7.2fms %9.2fms%n",
+                label, latency.getMeanMicros() / 1000.0, latency.getPercentileMillis(50),
+                latency.getPercentileMillis(95), latency.getPercentileMillis(99), tailMeanMillis));
+    }
+}
@@ -0,0 +1,80 @@
+package com.apitest.timing;
+
+import com.apitest.metrics.MetricsFilter;
+import com.apitest.metrics.MetricsRegistry;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Parameter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Records the phases of every exchange into the operation's {@link PhaseBreakdown} and, for the Allure-reporting
+ * specification, adds them as parameters of the service step that made the call. Exchanges that never reach
+ * the Apache client (the HTTP/2 transport) have no phases and are skipped.
+ */
+public class PhaseTimingFilter implements OrderedFilter {
+
+    private final MetricsRegistry registry;
+    private final String environment;
+    private final boolean allureParameters;
+
+    public PhaseTimingFilter(MetricsRegistry registry, String environment, boolean allureParameters) {
+        this.registry = registry;
+        this.environment = environment;
+        this.allureParameters = allureParameters;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        PhaseRecorder.begin();
+        long start = System.nanoTime();
+        Response response;
+        Optional<PhaseTimings> timings;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } finally {
+            timings = PhaseRecorder.end();
+        }
+        long totalNanos = System.nanoTime() - start;
+        timings.filter(phases -> phases.has(Phase.TTFB)).ifPresent(phases -> {
+            registry.endpoint(environment, MetricsFilter.operationOf(requestSpec)).getPhases().record(phases, totalNanos);
+            if (allureParameters) {
+                addToCurrentStep(phases);
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Added after the metrics filter at the same order, so it sits closest to the wire.
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    private static void addToCurrentStep(PhaseTimings timings) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Optional<String> current = lifecycle.getCurrentTestCaseOrStep();
+        if (current.isEmpty() || current.equals(lifecycle.getCurrentTestCase())) {
+            return;
+        }
+        lifecycle.updateStep(step -> {
+            for (Phase phase : Phase.values()) {
+                if (timings.has(phase)) {
+                    step.getParameters().add(new Parameter().setName(phase.label() + " (ms)")
+                            .setValue(String.format(Locale.ROOT, "%.2f", timings.millis(phase))));
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.apitest.timing;
+
+import io.restassured.response.Response;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Time spent in each {@link Phase} of one exchange. Travels on the response as an {@value #HEADER} header in
+ * {@code Server-Timing} syntax ({@code dns;dur=0.41, connect;dur=1.20, ...}, in milliseconds), listing only the
+ * phases that happened.
+ */
+public final class PhaseTimings {
+
+    public static final String HEADER = "X-Client-Timing";
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[] nanos;
+    private final int recorded;
+
+    PhaseTimings(long[] nanos, int recorded) {
+        this.nanos = nanos.clone();
+        this.recorded = recorded;
+    }
+
+    /**
+     * @return the phases of a response sent through the pooled Apache client; empty for other transports or
+     * with phase timing disabled
+     */
+    public static Optional<PhaseTimings> of(Response response) {
+        String header = response.getHeader(HEADER);
+        return header == null ? Optional.empty() : Optional.of(parse(header));
+    }
+
+    static PhaseTimings parse(String header) {
+        long[] nanos = new long[PHASES.length];
+        int recorded = 0;
+        for (String metric : header.split(",")) {
+            String[] parts = metric.trim().split(";dur=");
+            for (Phase phase : PHASES) {
+                if (parts.length == 2 && phase.label().equals(parts[0])) {
+                    nanos[phase.ordinal()] = Math.round(Double.parseDouble(parts[1]) * 1_000_000);
+                    recorded |= 1 << phase.ordinal();
+                }
+            }
+        }
+        return new PhaseTimings(nanos, recorded);
+    }
+
+    public boolean has(Phase phase) {
+        return (recorded & 1 << phase.ordinal()) != 0;
+    }
+
+    /**
+     * @return nanoseconds spent in {@code phase}, 0 when it did not happen
+     */
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public double millis(Phase phase) {
+        return nanos(phase) / 1_000_000.0;
+    }
+
+    public long totalNanos() {
+        long total = 0;
+        for (long value : nanos) {
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * @return whether the exchange ran on a pooled connection, i.e. without connecting first
+     */
+    public boolean isConnectionReused() {
+        return !has(Phase.CONNECT);
+    }
+
+    public String toHeaderValue() {
+        StringBuilder value = new StringBuilder();
+        for (Phase phase : PHASES) {
+            if (has(phase)) {
+                if (!value.isEmpty()) {
+                    value.append(", ");
+                }
+                value.append(phase.label()).append(";dur=").append(String.format(Locale.ROOT, "%.3f", millis(phase)));
+            }
+        }
+        return value.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toHeaderValue();
+    }
+}
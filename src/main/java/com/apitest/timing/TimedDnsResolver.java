@@ -0,0 +1,24 @@
+package com.apitest.timing;
+
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * System resolver reporting its lookups as {@link Phase#DNS}. Lookups answered from the JVM's address cache
+ * still count, as the near-zero time they take.
+ */
+public class TimedDnsResolver implements DnsResolver {
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        long start = System.nanoTime();
+        try {
+            return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+        } finally {
+            PhaseRecorder.record(Phase.DNS, System.nanoTime() - start);
+        }
+    }
+}
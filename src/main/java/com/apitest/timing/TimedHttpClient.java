@@ -0,0 +1,25 @@
+package com.apitest.timing;
+
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+/**
+ * Apache client that sends through a {@link TimedRequestExecutor}.
+ * <p>
+ * Apache names the client's logger, which also carries its request director's per-request debug output, after
+ * the client class, so that output appears under {@code com.apitest.timing.TimedHttpClient}; the test logging
+ * configuration keeps it at {@code INFO}.
+ */
+@SuppressWarnings("deprecation")
+public class TimedHttpClient extends DefaultHttpClient {
+
+    public TimedHttpClient(ClientConnectionManager connectionManager) {
+        super(connectionManager);
+    }
+
+    @Override
+    protected HttpRequestExecutor createRequestExecutor() {
+        return new TimedRequestExecutor();
+    }
+}
@@ -0,0 +1,39 @@
+package com.apitest.timing;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.IOException;
+
+/**
+ * Reports sending the request as {@link Phase#WRITE} and waiting for the response head as {@link Phase#TTFB}.
+ * The body is read later, when it is buffered (see {@code ConnectionPools}).
+ */
+public class TimedRequestExecutor extends HttpRequestExecutor {
+
+    @Override
+    protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection connection, HttpContext context)
+            throws IOException, HttpException {
+        long start = System.nanoTime();
+        try {
+            return super.doSendRequest(request, connection, context);
+        } finally {
+            PhaseRecorder.record(Phase.WRITE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection connection, HttpContext context)
+            throws HttpException, IOException {
+        long start = System.nanoTime();
+        try {
+            return super.doReceiveResponse(request, connection, context);
+        } finally {
+            PhaseRecorder.record(Phase.TTFB, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.apitest.timing;
+
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.params.HttpParams;
+
+import javax.net.ssl.SSLSocket;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Plain TCP connect reported as {@link Phase#CONNECT}. The TLS variant connects the same way and then layers
+ * TLS over the socket, so the handshake is reported separately as {@link Phase#TLS}; the stock SSL factory
+ * does both in one call.
+ */
+@SuppressWarnings("deprecation")
+public class TimedSocketFactory implements SchemeSocketFactory {
+
+    private static final PlainSocketFactory PLAIN = PlainSocketFactory.getSocketFactory();
+
+    /**
+     * Same schemes as {@code SchemeRegistryFactory.createSystemDefault()}, with timed socket factories.
+     */
+    public static SchemeRegistry schemeRegistry() {
+        SchemeRegistry registry = new SchemeRegistry();
+        registry.register(new Scheme("http", 80, new TimedSocketFactory()));
+        registry.register(new Scheme("https", 443, new Tls(SSLSocketFactory.getSystemSocketFactory())));
+        return registry;
+    }
+
+    @Override
+    public Socket createSocket(HttpParams params) {
+        return PLAIN.createSocket(params);
+    }
+
+    @Override
+    public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                HttpParams params) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return PLAIN.connectSocket(socket, remoteAddress, localAddress, params);
+        } finally {
+            PhaseRecorder.record(Phase.CONNECT, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean isSecure(Socket socket) {
+        return false;
+    }
+
+    static final class Tls extends TimedSocketFactory implements SchemeLayeredSocketFactory {
+
+        private final SchemeLayeredSocketFactory tls;
+
+        Tls(SchemeLayeredSocketFactory tls) {
+            this.tls = tls;
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException {
+            Socket connected = super.connectSocket(socket, remoteAddress, localAddress, params);
+            String host = remoteAddress instanceof HttpInetSocketAddress address
+                    ? address.getHttpHost().getHostName()
+                    : remoteAddress.getHostString();
+            return createLayeredSocket(connected, host, remoteAddress.getPort(), params);
+        }
+
+        /**
+         * Also called directly for TLS through a proxy tunnel.
+         */
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return tls.createLayeredSocket(socket, target, port, params);
+            } finally {
+                PhaseRecorder.record(Phase.TLS, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return socket instanceof SSLSocket;
+        }
+    }
+}
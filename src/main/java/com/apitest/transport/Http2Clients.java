@@ -0,0 +1,62 @@
+package com.apitest.transport;
+
+import com.apitest.config.ApiConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * One {@link HttpClient} per environment for the {@link ApiConfig.Transport#HTTP2} transport.
+ * <p>
+ * The client negotiates HTTP/2 (ALPN over TLS, or an h2c upgrade over plain HTTP) and multiplexes concurrent
+ * requests as streams over a handful of connections; servers that only speak HTTP/1.1 fall back to it.
+ */
+@Component
+public class Http2Clients implements DisposableBean {
+
+    private final ApiConfig.ConnectionConfig connection;
+    private final ApiConfig.TransportConfig transport;
+    private final ConcurrentMap<String, Client> clients = new ConcurrentHashMap<>();
+
+    public Http2Clients(ApiConfig apiConfig) {
+        this.connection = apiConfig.getConnection();
+        this.transport = apiConfig.getTransport();
+    }
+
+    public Http2TransportFilter filterFor(String environment) {
+        return new Http2TransportFilter(() -> clientFor(environment),
+                Duration.ofMillis(connection.getSocketTimeoutMs()));
+    }
+
+    public HttpClient clientFor(String environment) {
+        return clients.computeIfAbsent(environment, name -> {
+            ExecutorService executor = Executors.newFixedThreadPool(transport.getHttp2Threads(),
+                    Thread.ofPlatform().name("http2-" + name + "-", 0).daemon().factory());
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(Duration.ofMillis(connection.getConnectTimeoutMs()))
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .executor(executor)
+                    .build();
+            return new Client(client, executor);
+        }).client();
+    }
+
+    @Override
+    public void destroy() {
+        clients.values().forEach(client -> {
+            client.client().shutdownNow();
+            client.executor().shutdownNow();
+        });
+        clients.clear();
+    }
+
+    private record Client(HttpClient client, ExecutorService executor) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.apitest.transport;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Sends the request over {@code java.net.http.HttpClient} instead of REST Assured's Apache client and hands
+ * the rest of the chain a REST Assured {@link Response} built from the result.
+ * <p>
+ * It is the last filter in the chain, so everything before it (validation, recording, Allure, metrics, rate
+ * limiting) sees the same request and response as with the default transport. Requests it cannot send as
+ * bytes, such as multipart or form uploads or bodies REST Assured did not serialize, go on to the Apache
+ * transport via {@code ctx.next}.
+ */
+public class Http2TransportFilter implements OrderedFilter {
+
+    // Managed by HttpClient itself; setting them is rejected
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(List.of("Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+    }
+
+    private final Supplier<HttpClient> client;
+    private final Duration timeout;
+
+    Http2TransportFilter(Supplier<HttpClient> client, Duration timeout) {
+        this.client = client;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HttpRequest.BodyPublisher body = bodyOf(requestSpec);
+        if (body == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(requestSpec.getURI()))
+                .timeout(timeout)
+                .method(requestSpec.getMethod(), body);
+        for (Header header : requestSpec.getHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName())) {
+                request.header(header.getName(), header.getValue());
+            }
+        }
+        if (requestSpec.getContentType() != null && !requestSpec.getHeaders().hasHeaderWithName("Content-Type")) {
+            request.header("Content-Type", requestSpec.getContentType());
+        }
+
+        HttpResponse<byte[]> response;
+        try {
+            response = client.get().send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(requestSpec.getMethod() + " " + requestSpec.getURI() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during " + requestSpec.getMethod() + " " + requestSpec.getURI(), e);
+        }
+        return toResponse(response);
+    }
+
+    /**
+     * Shares the order of Allure and {@link com.apitest.metrics.MetricsFilter} but is added after both, so
+     * (filters being sorted stably) it is the one that ends the chain.
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Returns {@code null} for requests this transport does not send itself.
+     */
+    private static HttpRequest.BodyPublisher bodyOf(FilterableRequestSpecification requestSpec) {
+        if (!requestSpec.getMultiPartParams().isEmpty() || !requestSpec.getFormParams().isEmpty()) {
+            return null;
+        }
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        if (body instanceof byte[] bytes) {
+            return HttpRequest.BodyPublishers.ofByteArray(bytes);
+        }
+        if (body instanceof String text) {
+            return HttpRequest.BodyPublishers.ofString(text, StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    static Response toResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!name.startsWith(":")) {
+                values.forEach(value -> headers.add(new Header(name, value)));
+            }
+        });
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(protocolOf(response.version()) + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(response.body());
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    private static String protocolOf(HttpClient.Version version) {
+        return version == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+    }
+}
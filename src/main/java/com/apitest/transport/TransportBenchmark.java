@@ -0,0 +1,124 @@
+package com.apitest.transport;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.config.RestAssuredConfig;
+import com.apitest.metrics.LatencyHistogram;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Sends the same closed-loop {@code GET /api/v1/Books/{id}} load through each transport in turn and compares
+ * throughput and latency percentiles.
+ * <p>
+ * Requests go through the bulk request specification, so Allure and console logging do not drown out the
+ * transport cost. Each transport first gets an unmeasured warm-up of ten requests per worker, and the protocol
+ * it negotiated is taken from the status line of the warm-up responses.
+ */
+@Slf4j
+public class TransportBenchmark {
+
+    private static final String BOOK_BY_ID_ENDPOINT = "/api/v1/Books/{id}";
+    private static final int WARM_UP_PER_WORKER = 10;
+
+    private final RestAssuredConfig restAssuredConfig;
+    private final int requests;
+    private final int concurrency;
+
+    public record Result(ApiConfig.Transport transport, String protocol, int requests, long errors,
+                         long elapsedMillis, LatencyHistogram latency) {
+
+        public double throughput() {
+            return elapsedMillis == 0 ? 0 : requests * 1000.0 / elapsedMillis;
+        }
+
+        public String toLine() {
+            return String.format("  %-9s %-8s %8d %7d %9.1f/s %8.1fms %8.1fms %8.1fms %8.1fms",
+                    transport, protocol, requests, errors, throughput(), latency.getPercentileMillis(50),
+                    latency.getPercentileMillis(99), latency.getPercentileMillis(99.9), latency.getMaxMicros() / 1000.0);
+        }
+    }
+
+    public TransportBenchmark(RestAssuredConfig restAssuredConfig, int requests, int concurrency) {
+        this.restAssuredConfig = restAssuredConfig;
+        this.requests = requests;
+        this.concurrency = concurrency;
+    }
+
+    public List<Result> run(List<ApiConfig.Transport> transports) throws InterruptedException {
+        List<Result> results = new ArrayList<>();
+        for (ApiConfig.Transport transport : transports) {
+            RestAssuredConfig config = restAssuredConfig.withTransport(transport);
+            AtomicReference<String> protocol = new AtomicReference<>("unknown");
+            load(config, concurrency * WARM_UP_PER_WORKER, new LatencyHistogram(), protocol);
+
+            LatencyHistogram latency = new LatencyHistogram();
+            long start = System.nanoTime();
+            long errors = load(config, requests, latency, null);
+            Result result = new Result(transport, protocol.get(), requests, errors, (System.nanoTime() - start) / 1_000_000, latency);
+            log.info("Transport benchmark{}{}", System.lineSeparator(), result.toLine());
+            results.add(result);
+        }
+        return results;
+    }
+
+    public static String toText(List<Result> results) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("  %-9s %-8s %8s %7s %11s %10s %10s %10s %10s%n",
+                "transport", "protocol", "requests", "errors", "throughput", "p50", "p99", "p99.9", "max"));
+        results.forEach(result -> text.append(result.toLine()).append(System.lineSeparator()));
+        return text.toString();
+    }
+
+    private long load(RestAssuredConfig config, int count, LatencyHistogram latency, AtomicReference<String> protocol)
+            throws InterruptedException {
+        AtomicInteger remaining = new AtomicInteger(count);
+        AtomicLong errors = new AtomicLong();
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(concurrency,
+                Thread.ofPlatform().name("transport-bench-", 0).daemon().factory())) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                workers.add(pool.submit(() -> {
+                    int sent;
+                    while ((sent = remaining.getAndDecrement()) > 0) {
+                        RequestSpecification request = given().spec(config.getBulkRequestSpecification());
+                        long start = System.nanoTime();
+                        try {
+                            Response response = request.pathParam("id", 1 + sent % 200).get(BOOK_BY_ID_ENDPOINT);
+                            latency.recordNanos(System.nanoTime() - start);
+                            int status = response.getStatusCode();
+                            if (protocol != null && response.getStatusLine() != null) {
+                                protocol.set(response.getStatusLine().split(" ", 2)[0]);
+                            }
+                            if (status != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) { // REST Assured rethrows checked I/O exceptions undeclared
+                            errors.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    log.warn("Benchmark worker failed", e.getCause());
+                }
+            }
+        }
+        return errors.get();
+    }
+}
@@ -0,0 +1,233 @@
+package com.apitest.warmup;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.MetricsRegistry;
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.services.ApiClientFactory;
+import com.apitest.services.ApiClients;
+import com.apitest.services.ApiOperation;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.TestResult;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * One-time warm-up of every fan-out environment before the first timed test, so no test's {@code getTime()}
+ * check or latency percentile pays for DNS resolution, connection setup, TLS handshakes or cold JIT paths.
+ * <p>
+ * Per environment it resolves the host (the JVM caches the answer), opens a first connection so the TLS
+ * session is cached, then opens up to {@code connections} more concurrently, which resume that session and
+ * are left idle in the pool. Finally every read operation runs {@code iterations} times. With
+ * {@code include-writes} each iteration also creates a book and an author of its own, then updates and deletes
+ * them by the id the API returned, so existing data is never modified. Requests go through the bulk request
+ * specification, and every warm-up thread suspends {@link MetricsRegistry} recording for itself, so none of
+ * these samples reach Allure or the latency reports while tests on other threads keep recording.
+ */
+@Slf4j
+@Component
+public class WarmUp {
+
+    private static final int WARM_UP_BOOK_ID = 1;
+    private static final List<ApiOperation> READ_OPERATIONS = List.of(
+            new ApiOperation("list books", clients -> clients.books().getAll(Map.of())),
+            new ApiOperation("get book", clients -> clients.books().getById(WARM_UP_BOOK_ID)),
+            new ApiOperation("list authors", clients -> clients.authors().getAllAuthors(Map.of())),
+            new ApiOperation("get author", clients -> clients.authors().getById(WARM_UP_BOOK_ID)),
+            new ApiOperation("get authors by book", clients -> clients.authors().getByBookId(WARM_UP_BOOK_ID)),
+            new ApiOperation("list cover photos", clients -> clients.coverPhotos().getAllCoverPhotos()),
+            new ApiOperation("get cover photo", clients -> clients.coverPhotos().getById(WARM_UP_BOOK_ID)),
+            new ApiOperation("get cover photos by book", clients -> clients.coverPhotos().getByBookId(WARM_UP_BOOK_ID))
+    );
+
+    private final ApiConfig apiConfig;
+    private final ApiClientFactory clientFactory;
+    private final MetricsRegistry metricsRegistry;
+    private WarmUpReport report;
+
+    public WarmUp(ApiConfig apiConfig, ApiClientFactory clientFactory, MetricsRegistry metricsRegistry) {
+        this.apiConfig = apiConfig;
+        this.clientFactory = clientFactory;
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * Warms up on the first call and returns the same report on every later one; concurrent callers wait for
+     * the first to finish, so no test starts against a half-primed pool.
+     */
+    public synchronized WarmUpReport runOnce() {
+        if (report == null) {
+            report = metricsRegistry.withoutRecording(this::run);
+            log.info("{}", report.toText());
+        }
+        return report;
+    }
+
+    /**
+     * The services' {@code @Step}s need a running Allure test case, and the warm-up runs before any exists,
+     * so it gets a throwaway one that is never written to the results.
+     */
+    private WarmUpReport run() {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().setUuid(uuid).setName("Warm-up"));
+        lifecycle.startTestCase(uuid);
+        try {
+            ApiConfig.WarmUpConfig config = apiConfig.getWarmUp();
+            List<WarmUpReport.EnvironmentResult> results = new ArrayList<>();
+            for (String environment : apiConfig.getFanOutEnvironments()) {
+                results.add(warmUp(clientFactory.bulkFor(environment), config));
+            }
+            return new WarmUpReport(results);
+        } finally {
+            lifecycle.stopTestCase(uuid);
+        }
+    }
+
+    private WarmUpReport.EnvironmentResult warmUp(ApiClients clients, ApiConfig.WarmUpConfig config) {
+        long start = System.nanoTime();
+        String host = URI.create(clients.baseUrl()).getHost();
+        int addresses = resolve(host);
+        long resolveMillis = (System.nanoTime() - start) / 1_000_000;
+
+        AtomicInteger failures = new AtomicInteger();
+        call(() -> clients.books().getById(WARM_UP_BOOK_ID), failures);
+        int connections = Math.min(config.getConnections(), apiConfig.getConnection().getMaxPerRoute());
+        primeConnections(clients, connections - 1, failures);
+
+        int requests = 0;
+        for (int iteration = 0; iteration < config.getIterations(); iteration++) {
+            READ_OPERATIONS.forEach(operation -> call(() -> operation.apply(clients), failures));
+            requests += READ_OPERATIONS.size();
+            if (config.isIncludeWrites()) {
+                requests += writeCycle(clients, failures);
+            }
+        }
+        return new WarmUpReport.EnvironmentResult(clients.environment(), host, addresses, resolveMillis, connections,
+                requests, failures.get(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static int resolve(String host) {
+        try {
+            return InetAddress.getAllByName(host).length;
+        } catch (UnknownHostException e) {
+            log.warn("Warm-up could not resolve {}", host, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Sends {@code count} requests that are all in flight at once, so each one leases a connection of its own.
+     */
+    private void primeConnections(ApiClients clients, int count, AtomicInteger failures) {
+        if (count <= 0) {
+            return;
+        }
+        CountDownLatch ready = new CountDownLatch(count);
+        List<Future<?>> requests = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(count,
+                Thread.ofPlatform().name("warm-up-", 0).daemon().factory())) {
+            for (int i = 0; i < count; i++) {
+                requests.add(pool.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return metricsRegistry.withoutRecording(() -> call(() -> clients.books().getById(WARM_UP_BOOK_ID), failures));
+                }));
+            }
+            for (Future<?> request : requests) {
+                try {
+                    request.get();
+                } catch (ExecutionException e) {
+                    failures.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the response, or {@code null} if the request failed
+     */
+    private static Response call(Supplier<Response> request, AtomicInteger failures) {
+        try {
+            return request.get();
+        } catch (Exception e) { // REST Assured rethrows checked I/O exceptions undeclared
+            failures.incrementAndGet();
+            log.debug("Warm-up request failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a book and an author under fresh random ids, then updates and deletes whatever ids the API
+     * returned for them. Nothing is updated or deleted if a create fails.
+     *
+     * @return the number of requests sent
+     */
+    private static int writeCycle(ApiClients clients, AtomicInteger failures) {
+        int requests = 1;
+        Integer bookId = idOf(call(() -> clients.books().create(book(scratchId())), failures));
+        if (bookId != null) {
+            call(() -> clients.books().update(bookId, book(bookId)), failures);
+            call(() -> clients.books().delete(bookId), failures);
+            requests += 2;
+        }
+
+        requests++;
+        int idBook = bookId != null ? bookId : WARM_UP_BOOK_ID;
+        Integer authorId = idOf(call(() -> clients.authors().create(author(scratchId(), idBook)), failures));
+        if (authorId != null) {
+            call(() -> clients.authors().update(authorId, author(authorId, idBook)), failures);
+            call(() -> clients.authors().delete(authorId), failures);
+            requests += 2;
+        }
+        return requests;
+    }
+
+    private static Book book(int id) {
+        return Book.builder().id(id).title("Warm-up").pageCount(1).publishDate("2020-01-01T00:00:00Z").build();
+    }
+
+    private static Author author(int id, int idBook) {
+        return Author.builder().id(id).idBook(idBook).firstName("Warm").lastName("Up").build();
+    }
+
+    /**
+     * Well above the ids of the seeded data, so an API that keeps the client's id cannot hit an existing entity.
+     */
+    private static int scratchId() {
+        return ThreadLocalRandom.current().nextInt(1_000_000_000, Integer.MAX_VALUE);
+    }
+
+    private static Integer idOf(Response created) {
+        if (created == null || created.getStatusCode() / 100 != 2) {
+            return null;
+        }
+        try {
+            Object id = created.path("id");
+            return id instanceof Number number ? number.intValue() : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.apitest.warmup;
+
+import java.util.List;
+
+/**
+ * What {@link WarmUp} did per environment; none of it is part of the run's latency metrics.
+ */
+public record WarmUpReport(List<EnvironmentResult> environments) {
+
+    public record EnvironmentResult(String environment, String host, int addresses, long resolveMillis,
+                                    int connections, int calls, int failures, long elapsedMillis) {
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder("Warm-up (excluded from latency metrics)").append(System.lineSeparator());
+        text.append(String.format("  %-12s %-30s %9s %8s %11s %6s %8s %9s%n",
+                "environment", "host", "addresses", "dns", "connections", "calls", "failures", "elapsed"));
+        environments.forEach(result -> text.append(String.format("  %-12s %-30s %9d %6dms %11d %6d %8d %7dms%n",
+                result.environment(), result.host(), result.addresses(), result.resolveMillis(),
+                result.connections(), result.calls(), result.failures(), result.elapsedMillis())));
+        return text.toString();
+    }
+}
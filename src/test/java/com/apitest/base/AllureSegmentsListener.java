@@ -0,0 +1,46 @@
+package com.apitest.base;
+
+import com.apitest.report.SegmentReport;
+import com.apitest.report.SegmentResultsWriter;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+import java.nio.file.Path;
+
+/**
+ * With {@code -Dallure.results.writer=segments}, points Allure at a {@link SegmentResultsWriter} for the whole
+ * launcher session, and builds the {@link SegmentReport} into {@code allure.report.directory} when the session
+ * closes, with the run trend kept in {@code allure.report.history} if that is set. This has to happen here rather than in an extension: Allure's JUnit listener keeps the lifecycle it
+ * finds when it is created, and session listeners are created before it.
+ */
+public class AllureSegmentsListener implements LauncherSessionListener {
+
+    private final SegmentResultsWriter writer;
+    private final Path results;
+
+    public AllureSegmentsListener() {
+        results = Path.of(System.getProperty("allure.results.directory", "allure-results"));
+        if ("segments".equals(System.getProperty("allure.results.writer"))) {
+            writer = new SegmentResultsWriter(results, SegmentResultsWriter.DEFAULT_MAX_SEGMENT_BYTES);
+            Allure.setLifecycle(new AllureLifecycle(writer));
+        } else {
+            writer = null;
+        }
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        if (writer == null) {
+            return;
+        }
+        writer.close();
+        String report = System.getProperty("allure.report.directory");
+        if (report != null && !report.isBlank()) {
+            String history = System.getProperty("allure.report.history");
+            Path trend = history != null && !history.isBlank() ? Path.of(history) : null;
+            SegmentReport.generate(results, Path.of(report), trend);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.apitest.base;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.MetricsRegistry;
+import com.apitest.ratelimit.RateLimiters;
+import com.apitest.services.ApiClientFactory;
+import com.apitest.services.ApiClients;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Provides one invocation per fan-out environment and writes a per-environment metrics report, followed by the
+ * per-host rate limiter waits, when the run ends.
+ */
+@Slf4j
+public class EnvironmentFanOutExtension implements TestTemplateInvocationContextProvider {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(EnvironmentFanOutExtension.class);
+    private static final Path REPORT_FILE = Path.of("target", "environment-report.txt");
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return true;
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        ApiConfig apiConfig = applicationContext.getBean(ApiConfig.class);
+        ApiClientFactory clientFactory = applicationContext.getBean(ApiClientFactory.class);
+        MetricsRegistry metricsRegistry = applicationContext.getBean(MetricsRegistry.class);
+        RateLimiters rateLimiters = applicationContext.getBean(RateLimiters.class);
+
+        context.getRoot().getStore(NAMESPACE)
+                .computeIfAbsent(ReportWriter.class, key -> new ReportWriter(metricsRegistry, rateLimiters), ReportWriter.class);
+
+        return apiConfig.getFanOutEnvironments().stream()
+                .map(clientFactory::forEnvironment)
+                .map(EnvironmentInvocationContext::new);
+    }
+
+    private record EnvironmentInvocationContext(ApiClients clients) implements TestTemplateInvocationContext {
+
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return "[" + clients.environment() + "] " + clients.baseUrl();
+        }
+
+        @Override
+        public List<Extension> getAdditionalExtensions() {
+            return List.of(new ParameterResolver() {
+                @Override
+                public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+                    return parameterContext.getParameter().getType() == ApiClients.class;
+                }
+
+                @Override
+                public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+                    return clients;
+                }
+            });
+        }
+    }
+
+    private record ReportWriter(MetricsRegistry metricsRegistry, RateLimiters rateLimiters) implements AutoCloseable {
+
+        @Override
+        public void close() throws IOException {
+            String report = metricsRegistry.report() + rateLimiters.report();
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.writeString(REPORT_FILE, report);
+            log.info("Per-environment metrics written to {}{}{}", REPORT_FILE, System.lineSeparator(), report);
+        }
+    }
+}
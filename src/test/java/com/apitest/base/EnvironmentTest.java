@@ -0,0 +1,23 @@
+package com.apitest.base;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated test once per environment from {@code api.fan-out}, injecting the matching
+ * {@link com.apitest.services.ApiClients}. Invocations run concurrently when JUnit parallel execution is enabled.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@TestTemplate
+@ExtendWith(EnvironmentFanOutExtension.class)
+@Execution(ExecutionMode.CONCURRENT)
+public @interface EnvironmentTest {
+}
@@ -0,0 +1,59 @@
+package com.apitest.base;
+
+import com.apitest.cleanup.TestDataLedger;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Ties the {@link TestDataLedger} to the test lifecycle: creates are attributed to the running test class and
+ * deleted in the background once it finishes; leftovers of earlier runs are reclaimed before the first class,
+ * and everything still outstanding when the test plan ends, before the Spring context is closed.
+ */
+public class TestDataCleanupExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback,
+        AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestDataCleanupExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        TestDataLedger ledger = ledger(context);
+        if (ledger.isEnabled()) {
+            ledger.reclaimLeftoversOnce();
+            context.getRoot().getStore(NAMESPACE).computeIfAbsent(RunEnd.class, key -> new RunEnd(ledger));
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ledger(context).setOwner(context.getRequiredTestClass().getName());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ledger(context).setOwner(null);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        TestDataLedger ledger = ledger(context);
+        if (ledger.isEnabled()) {
+            ledger.reclaim(context.getRequiredTestClass().getName());
+        }
+    }
+
+    private static TestDataLedger ledger(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(TestDataLedger.class);
+    }
+
+    private record RunEnd(TestDataLedger ledger) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            ledger.reclaimAllAndWait();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.apitest.base;
+
+import com.apitest.config.ApiConfig;
+import com.apitest.warmup.WarmUp;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Runs the {@link WarmUp} before the first test class of the run; later classes share the same, cached
+ * Spring context and find it already done.
+ */
+public class WarmUpExtension implements BeforeAllCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        if (applicationContext.getBean(ApiConfig.class).getWarmUp().isEnabled()) {
+            applicationContext.getBean(WarmUp.class).runOnce();
+        }
+    }
+}
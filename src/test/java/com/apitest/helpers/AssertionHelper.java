@@ -1,11 +1,13 @@
 package com.apitest.helpers;
 
+import com.apitest.budget.LatencyBudget;
 import com.apitest.models.Author;
 import com.apitest.models.Book;
 import com.apitest.models.ErrorResponse;
 import io.restassured.response.Response;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,18 +16,33 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 public class AssertionHelper {
 
+    public static final List<FieldRule<? super Book>> BOOK_REQUIRED_FIELDS = List.of(
+            FieldRule.notNull("Book ID", Book::getId),
+            FieldRule.notNull("Book page count", Book::getPageCount),
+            FieldRule.notNull("Book publish date", Book::getPublishDate)
+    );
+
+    public static final List<FieldRule<? super Author>> AUTHOR_REQUIRED_FIELDS = List.of(
+            FieldRule.notNull("Author ID", Author::getId),
+            FieldRule.notNull("Author book ID", Author::getIdBook)
+    );
+
     private AssertionHelper() {
     }
 
-    public static void assertBookHasRequiredFields(Book book) {
-        assertNotNull(book.getId(), "Book ID");
-        assertNotNull(book.getPageCount(), "Book page count");
-        assertNotNull(book.getPublishDate(), "Book publish date");
+    /**
+     * Checks every book in parallel and fails once with all violations grouped by field.
+     */
+    public static void assertAllBooksHaveRequiredFields(List<Book> books) {
+        BulkAssertion.of("Books with missing required fields", BOOK_REQUIRED_FIELDS).assertNoViolations(books);
+    }
+
+    public static void assertAllAuthorsHaveRequiredFields(List<Author> authors) {
+        BulkAssertion.of("Authors with missing required fields", AUTHOR_REQUIRED_FIELDS).assertNoViolations(authors);
     }
 
-    public static void assertAuthorHasRequiredFields(Author author) {
-        assertNotNull(author.getId(), "Author ID");
-        assertNotNull(author.getIdBook(), "Author book ID");
+    public static <T> BulkReport checkAll(String heading, List<? extends T> elements, List<FieldRule<? super T>> rules) {
+        return BulkAssertion.of(heading, rules).check(elements);
     }
 
     public static void assertAuthorMatchesExpected(Response response, Author expected, Author actual) {
@@ -53,6 +70,15 @@ public class AssertionHelper {
         );
     }
 
+    /**
+     * A single response can only be held to its operation's maximum; the p95 budget is checked over the run.
+     */
+    public static void assertWithinLatencyBudget(Response response, LatencyBudget budget) {
+        assertNotNull(budget.maxMillis(), "The contract should declare a latency budget for " + budget.operation());
+        assertTrue(response.getTime() <= budget.maxMillis(), "Response time should be within the "
+                + budget.maxMillis() + "ms budget of " + budget.operation() + ", was: " + response.getTime() + "ms");
+    }
+
     public static void assertNotFoundResponse(Response response) {
         ErrorResponse error = response.as(ErrorResponse.class);
 
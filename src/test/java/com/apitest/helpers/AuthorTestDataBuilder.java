@@ -1,5 +1,6 @@
 package com.apitest.helpers;
 
+import com.apitest.cleanup.TestDataIds;
 import com.apitest.models.Author;
 import com.github.javafaker.Faker;
 
@@ -12,7 +13,7 @@ public class AuthorTestDataBuilder {
     private static final Faker faker = new Faker();
 
     public AuthorTestDataBuilder() {
-        this.id = faker.number().numberBetween(1, Integer.MAX_VALUE);
+        this.id = TestDataIds.issue(faker.number().numberBetween(1, Integer.MAX_VALUE));
         this.idBook = faker.number().numberBetween(1, 100);
         this.firstName = faker.name().firstName();
         this.lastName = faker.name().lastName();
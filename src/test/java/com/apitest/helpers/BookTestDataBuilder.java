@@ -1,5 +1,6 @@
 package com.apitest.helpers;
 
+import com.apitest.cleanup.TestDataIds;
 import com.apitest.models.Book;
 import com.github.javafaker.Faker;
 
@@ -18,7 +19,7 @@ public class BookTestDataBuilder {
 
     public BookTestDataBuilder() {
         // Default values
-        this.id = faker.number().numberBetween(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        this.id = TestDataIds.issue(faker.number().numberBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
         this.title = faker.book().title();
         this.description = faker.lorem().paragraph();
         this.pageCount = faker.number().numberBetween(50, 1000);
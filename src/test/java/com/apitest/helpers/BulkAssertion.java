@@ -0,0 +1,150 @@
+package com.apitest.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs a set of {@link FieldRule}s over every element of a collection on the common fork/join pool. Unlike
+ * {@code forEach} with per-element assertions, it does not stop at the first bad element: every violation is
+ * counted per rule, and up to {@code maxExamples} of them are kept with their element index.
+ */
+public final class BulkAssertion<T> {
+
+    static final int DEFAULT_MAX_EXAMPLES = 5;
+    private static final int SEQUENTIAL_THRESHOLD = 512;
+
+    private final String heading;
+    private final List<FieldRule<? super T>> rules;
+    private final int maxExamples;
+
+    private BulkAssertion(String heading, List<FieldRule<? super T>> rules, int maxExamples) {
+        this.heading = heading;
+        this.rules = List.copyOf(rules);
+        this.maxExamples = maxExamples;
+    }
+
+    public static <T> BulkAssertion<T> of(String heading, List<FieldRule<? super T>> rules) {
+        return new BulkAssertion<>(heading, rules, DEFAULT_MAX_EXAMPLES);
+    }
+
+    public BulkAssertion<T> maxExamples(int maxExamples) {
+        return new BulkAssertion<>(heading, rules, maxExamples);
+    }
+
+    public BulkReport check(List<? extends T> elements) {
+        Tally tally = ForkJoinPool.commonPool().invoke(new Check(elements, 0, elements.size()));
+        List<BulkReport.RuleResult> results = new ArrayList<>(rules.size());
+        for (int r = 0; r < rules.size(); r++) {
+            results.add(new BulkReport.RuleResult(rules.get(r).description(), tally.counts[r],
+                    List.copyOf(tally.examples.get(r))));
+        }
+        return new BulkReport(heading, elements.size(), results);
+    }
+
+    /**
+     * Streams have no random access, so they are collected first and then split by index like a list.
+     */
+    public BulkReport check(Stream<? extends T> elements) {
+        return check(elements.toList());
+    }
+
+    public void assertNoViolations(List<? extends T> elements) {
+        BulkReport report = check(elements);
+        if (!report.isClean()) {
+            fail(report.toText());
+        }
+    }
+
+    public void assertNoViolations(Stream<? extends T> elements) {
+        assertNoViolations(elements.toList());
+    }
+
+    /**
+     * Per-rule violation counts and the first examples by index. Leaves cover ascending index ranges and the
+     * left half is merged first, so the kept examples are always the lowest indices.
+     */
+    private final class Tally {
+
+        private final long[] counts = new long[rules.size()];
+        private final List<List<BulkReport.Violation>> examples = new ArrayList<>(rules.size());
+
+        private Tally() {
+            for (int r = 0; r < rules.size(); r++) {
+                examples.add(new ArrayList<>());
+            }
+        }
+
+        private void add(int rule, BulkReport.Violation violation) {
+            counts[rule]++;
+            List<BulkReport.Violation> kept = examples.get(rule);
+            if (kept.size() < maxExamples) {
+                kept.add(violation);
+            }
+        }
+
+        private Tally merge(Tally right) {
+            for (int r = 0; r < counts.length; r++) {
+                counts[r] += right.counts[r];
+                List<BulkReport.Violation> kept = examples.get(r);
+                for (BulkReport.Violation violation : right.examples.get(r)) {
+                    if (kept.size() >= maxExamples) {
+                        break;
+                    }
+                    kept.add(violation);
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Serializable only because {@link RecursiveTask} is; tasks never leave the pool, so the element list is
+     * not required to be.
+     */
+    @SuppressWarnings("serial")
+    private final class Check extends RecursiveTask<Tally> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends T> elements;
+        private final int from;
+        private final int to;
+
+        private Check(List<? extends T> elements, int from, int to) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return checkRange();
+            }
+            int middle = (from + to) >>> 1;
+            Check left = new Check(elements, from, middle);
+            left.fork();
+            Tally right = new Check(elements, middle, to).compute();
+            return left.join().merge(right);
+        }
+
+        private Tally checkRange() {
+            Tally tally = new Tally();
+            for (int i = from; i < to; i++) {
+                T element = elements.get(i);
+                for (int r = 0; r < rules.size(); r++) {
+                    Object violation = element == null ? "null element" : rules.get(r).violation(element);
+                    if (violation != null) {
+                        tally.add(r, new BulkReport.Violation(i, violation.toString()));
+                    }
+                }
+            }
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.apitest.helpers;
+
+import java.util.List;
+
+/**
+ * Outcome of a {@link BulkAssertion}: one row per rule with its violation count and first examples.
+ */
+public record BulkReport(String heading, int elements, List<RuleResult> rules) {
+
+    public record Violation(int index, String value) {
+    }
+
+    public record RuleResult(String rule, long violations, List<Violation> examples) {
+    }
+
+    public boolean isClean() {
+        return rules.stream().allMatch(rule -> rule.violations() == 0);
+    }
+
+    public long totalViolations() {
+        return rules.stream().mapToLong(RuleResult::violations).sum();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(heading).append(": ").append(totalViolations()).append(" violations in ")
+                .append(elements).append(" elements\n");
+        for (RuleResult rule : rules) {
+            if (rule.violations() == 0) {
+                continue;
+            }
+            text.append("  ").append(rule.rule()).append(": ").append(rule.violations()).append(" elements\n");
+            for (Violation example : rule.examples()) {
+                text.append("    [").append(example.index()).append("] ").append(example.value()).append('\n');
+            }
+            if (rule.violations() > rule.examples().size()) {
+                text.append("    ... ").append(rule.violations() - rule.examples().size()).append(" more\n");
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.apitest.helpers;
+
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.services.ApiOperation;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The create/read/update/delete flows from BookApiTest and AuthorApiTest as repeatable scenarios.
+ * Each supplier call builds fresh test data for one pass through the flow.
+ */
+public class CrudScenarios {
+
+    private CrudScenarios() {
+    }
+
+    public static List<Supplier<List<ApiOperation>>> booksAndAuthors() {
+        return List.of(CrudScenarios::bookLifecycle, CrudScenarios::authorLifecycle, CrudScenarios::browse);
+    }
+
+    public static List<ApiOperation> bookLifecycle() {
+        Book book = new BookTestDataBuilder().build();
+        Book update = new BookTestDataBuilder().withId(book.getId()).build();
+        return List.of(
+                new ApiOperation("POST /api/v1/Books", clients -> clients.books().create(book)),
+                new ApiOperation("GET /api/v1/Books/{id}", clients -> clients.books().getById(book.getId())),
+                new ApiOperation("PUT /api/v1/Books/{id}", clients -> clients.books().update(book.getId(), update)),
+                new ApiOperation("DELETE /api/v1/Books/{id}", clients -> clients.books().delete(book.getId()))
+        );
+    }
+
+    public static List<ApiOperation> authorLifecycle() {
+        Author author = new AuthorTestDataBuilder().build();
+        Author update = new AuthorTestDataBuilder().withId(author.getId()).build();
+        return List.of(
+                new ApiOperation("POST /api/v1/Authors", clients -> clients.authors().create(author)),
+                new ApiOperation("GET /api/v1/Authors/{id}", clients -> clients.authors().getById(author.getId())),
+                new ApiOperation("PUT /api/v1/Authors/{id}", clients -> clients.authors().update(author.getId(), update)),
+                new ApiOperation("DELETE /api/v1/Authors/{id}", clients -> clients.authors().delete(author.getId()))
+        );
+    }
+
+    public static List<ApiOperation> browse() {
+        return List.of(
+                new ApiOperation("GET /api/v1/Books", clients -> clients.books().getAll()),
+                new ApiOperation("GET /api/v1/Authors/authors/books/{idBook}", clients -> clients.authors().getByBookId(1))
+        );
+    }
+}
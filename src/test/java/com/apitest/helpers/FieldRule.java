@@ -0,0 +1,38 @@
+package com.apitest.helpers;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A declarative check on one field of an element, for {@link BulkAssertion}. The extracted value is shown in the
+ * report when the check fails.
+ */
+public record FieldRule<T>(String description, Function<? super T, ?> field, Predicate<Object> check) {
+
+    public static <T> FieldRule<T> notNull(String field, Function<? super T, ?> extractor) {
+        return new FieldRule<>(field + " should not be null", extractor, Objects::nonNull);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, V> FieldRule<T> that(String description, Function<? super T, ? extends V> extractor,
+                                           Predicate<? super V> check) {
+        return new FieldRule<>(description, extractor, value -> check.test((V) value));
+    }
+
+    /**
+     * Returns the offending value, or {@code null} when the element passes. A check that throws is a violation too.
+     */
+    Object violation(T element) {
+        Object value;
+        try {
+            value = field.apply(element);
+            if (check.test(value)) {
+                return null;
+            }
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        return String.valueOf(value);
+    }
+}
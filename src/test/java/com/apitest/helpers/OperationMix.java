@@ -0,0 +1,43 @@
+package com.apitest.helpers;
+
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.services.ApiOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Representative mix over the Books and Authors endpoints, mirroring BookApiTest and AuthorApiTest.
+ * Payloads are generated once per operation so the same request can be sent to several targets.
+ * POST and PUT calls are only included when {@code includeWrites} is set, since every target receives them.
+ */
+public class OperationMix {
+
+    private OperationMix() {
+    }
+
+    public static List<ApiOperation> booksAndAuthors(int iterations, boolean includeWrites) {
+        List<ApiOperation> operations = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            int id = 1 + i % 200;
+            operations.add(new ApiOperation("GET /api/v1/Books", clients -> clients.books().getAll()));
+            operations.add(new ApiOperation("GET /api/v1/Books/{id}", clients -> clients.books().getById(id)));
+            operations.add(new ApiOperation("GET /api/v1/Authors", clients -> clients.authors().getAllAuthors()));
+            operations.add(new ApiOperation("GET /api/v1/Authors/{id}", clients -> clients.authors().getById(id)));
+            operations.add(new ApiOperation("GET /api/v1/Authors/authors/books/{idBook}", clients -> clients.authors().getByBookId(id)));
+            operations.add(new ApiOperation("GET /api/v1/Books/{id} (missing)", clients -> clients.books().getById(999999)));
+            if (includeWrites) {
+                Book book = new BookTestDataBuilder().build();
+                Book update = new BookTestDataBuilder().withId(id).build();
+                Author author = new AuthorTestDataBuilder().build();
+                Author authorUpdate = new AuthorTestDataBuilder().withId(id).build();
+                operations.add(new ApiOperation("POST /api/v1/Books", clients -> clients.books().create(book)));
+                operations.add(new ApiOperation("PUT /api/v1/Books/{id}", clients -> clients.books().update(id, update)));
+                operations.add(new ApiOperation("POST /api/v1/Authors", clients -> clients.authors().create(author)));
+                operations.add(new ApiOperation("PUT /api/v1/Authors/{id}", clients -> clients.authors().update(id, authorUpdate)));
+            }
+        }
+        return operations;
+    }
+}
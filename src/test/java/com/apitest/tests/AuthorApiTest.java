@@ -1,6 +1,7 @@
 package com.apitest.tests;
 
 import com.apitest.base.BaseTest;
+import com.apitest.budget.LatencyBudgets;
 import com.apitest.helpers.AssertionHelper;
 import com.apitest.helpers.AuthorTestDataBuilder;
 import com.apitest.models.Author;
@@ -32,6 +33,9 @@ class AuthorApiTest extends BaseTest {
     @Autowired
     private AuthorService authorService;
 
+    @Autowired
+    private LatencyBudgets latencyBudgets;
+
     static Stream<Arguments> nullRequiredFields() {
         return Stream.of(
                 Arguments.of(null, 1),    // id null
@@ -59,10 +63,10 @@ class AuthorApiTest extends BaseTest {
         assertAll("Get all authors",
                 () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
                 () -> assertTrue(response.getContentType().contains(CONTENT_TYPE_JSON), "Content type should be application/json"),
-                () -> assertTrue(response.getTime() < 5000, "Response time should be under 5000ms, was: " + response.getTime() + "ms"),
+                () -> AssertionHelper.assertWithinLatencyBudget(response, latencyBudgets.forOperation("GET /api/v1/Authors")),
                 () -> assertNotNull(authors, "Authors list should not be null"),
                 () -> assertFalse(authors.isEmpty(), "Authors list should not be empty"),
-                () -> authors.forEach(AssertionHelper::assertAuthorHasRequiredFields)
+                () -> AssertionHelper.assertAllAuthorsHaveRequiredFields(authors)
         );
     }
 
@@ -101,7 +105,7 @@ class AuthorApiTest extends BaseTest {
                 () -> assertFalse(authors.isEmpty(), "Authors list should not be empty"),
                 () -> authors.forEach(author -> assertEquals(bookId, author.getIdBook(),
                         "Author should be associated with book ID " + bookId)),
-                () -> authors.forEach(AssertionHelper::assertAuthorHasRequiredFields)
+                () -> AssertionHelper.assertAllAuthorsHaveRequiredFields(authors)
         );
     }
 
@@ -225,13 +229,27 @@ class AuthorApiTest extends BaseTest {
         assertAll("Get all authors with random query parameters",
                 () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
                 () -> assertTrue(response.getContentType().contains(CONTENT_TYPE_JSON), "Content type should be application/json"),
-                () -> assertTrue(response.getTime() < 5000, "Response time should be under 5000ms, was: " + response.getTime() + "ms"),
+                () -> AssertionHelper.assertWithinLatencyBudget(response, latencyBudgets.forOperation("GET /api/v1/Authors")),
                 () -> assertNotNull(authors, "Authors list should not be null"),
                 () -> assertFalse(authors.isEmpty(), "Authors list should not be empty"),
-                () -> authors.forEach(AssertionHelper::assertAuthorHasRequiredFields)
+                () -> AssertionHelper.assertAllAuthorsHaveRequiredFields(authors)
         );
     }
 
+    @Test
+    @Tag("regression")
+    @DisplayName("Should stream all authors page by page")
+    void streamAuthorsPageByPage() {
+        List<Author> expected = List.of(authorService.getAllAuthors().as(Author[].class));
+
+        try (Stream<Author> authors = authorService.getAllAuthorsPaged().stream()) {
+            List<Integer> pagedIds = authors.map(Author::getId).toList();
+
+            assertEquals(expected.stream().map(Author::getId).toList(), pagedIds,
+                    "Paged stream should return every author once, in order");
+        }
+    }
+
     @ParameterizedTest
     @Tag("regression")
     @MethodSource("randomEmptyFields")
@@ -1,14 +1,17 @@
 package com.apitest.tests;
 
 import com.apitest.base.BaseTest;
+import com.apitest.budget.LatencyBudgets;
+import com.apitest.config.ApiConfig;
 import com.apitest.helpers.AssertionHelper;
 import com.apitest.helpers.BookTestDataBuilder;
 import com.apitest.models.Book;
 import com.apitest.models.ErrorResponse;
 import com.apitest.services.BookService;
+import com.apitest.services.PageRequest;
+import com.apitest.services.PagedIterable;
 import com.github.javafaker.Faker;
 import io.restassured.response.Response;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -19,6 +22,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -33,6 +37,12 @@ class BookApiTest extends BaseTest {
     @Autowired
     private BookService bookService;
 
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private LatencyBudgets latencyBudgets;
+
     @Test
     @Tag("smoke")
     @Tag("regression")
@@ -44,10 +54,10 @@ class BookApiTest extends BaseTest {
         assertAll("Get all books",
                 () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
                 () -> assertTrue(response.getContentType().contains(CONTENT_TYPE_JSON), "Content type should be application/json"),
-                () -> assertTrue(response.getTime() < 5000, "Response time should be under 5000ms, was: " + response.getTime() + "ms"),
+                () -> AssertionHelper.assertWithinLatencyBudget(response, latencyBudgets.forOperation("GET /api/v1/Books")),
                 () -> assertNotNull(books, "Books list should not be null"),
                 () -> assertFalse(books.isEmpty(), "Books list should not be empty"),
-                () -> books.forEach(AssertionHelper::assertBookHasRequiredFields)
+                () -> AssertionHelper.assertAllBooksHaveRequiredFields(books)
         );
     }
 
@@ -223,10 +233,10 @@ class BookApiTest extends BaseTest {
         assertAll("Get all books with random query parameters",
                 () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
                 () -> assertTrue(response.getContentType().contains(CONTENT_TYPE_JSON), "Content type should be application/json"),
-                () -> assertTrue(response.getTime() < 5000, "Response time should be under 5000ms, was: " + response.getTime() + "ms"),
+                () -> AssertionHelper.assertWithinLatencyBudget(response, latencyBudgets.forOperation("GET /api/v1/Books")),
                 () -> assertNotNull(books, "Books list should not be null"),
                 () -> assertFalse(books.isEmpty(), "Books list should not be empty"),
-                () -> books.forEach(AssertionHelper::assertBookHasRequiredFields)
+                () -> AssertionHelper.assertAllBooksHaveRequiredFields(books)
         );
     }
 
@@ -290,9 +300,22 @@ class BookApiTest extends BaseTest {
 
     @Test
     @Tag("regression")
-    @Disabled("Pagination not yet implemented")
-    @DisplayName("Should support pagination for books. Intentionally skipped tests")
+    @DisplayName("Should support pagination for books")
     void getBooksWithPagination() {
-        fail("This test should not run");
+        int pageSize = 20;
+        List<Book> expected = List.of(bookService.getAll().as(Book[].class));
+
+        PagedIterable<Book>.PageIterator pages = bookService.getAllPaged(
+                PageRequest.from(apiConfig.getPagination()).withPageSize(pageSize).withPrefetchDepth(2)).iterator();
+        List<Book> paged = new ArrayList<>();
+        pages.forEachRemaining(paged::add);
+
+        assertAll("Paged books",
+                () -> assertEquals(expected.size(), paged.size(), "Paged walk should return every book exactly once"),
+                () -> assertEquals(expected.stream().map(Book::getId).toList(), paged.stream().map(Book::getId).toList(),
+                        "Paged walk should preserve order"),
+                () -> assertTrue(pages.isPagingIgnored() || pages.getPagesFetched() >= expected.size() / pageSize,
+                        "Paged walk should fetch one page per " + pageSize + " books, fetched " + pages.getPagesFetched())
+        );
     }
 }
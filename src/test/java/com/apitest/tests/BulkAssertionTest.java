@@ -0,0 +1,109 @@
+package com.apitest.tests;
+
+import com.apitest.helpers.BulkAssertion;
+import com.apitest.helpers.BulkReport;
+import com.apitest.helpers.FieldRule;
+import com.apitest.models.Book;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bulk Assertions")
+class BulkAssertionTest {
+
+    // Several times the fork/join leaf size, so the check is split and merged
+    private static final int ELEMENTS = 5_000;
+    private static final int NULL_ELEMENT = 2_500;
+    private static final Set<Integer> MISSING_TITLES = Set.of(4_999, 3_000, 1_500, 700, 513, 100, 7);
+    private static final Set<Integer> ZERO_PAGES = Set.of(4_000, 3_000, 2_000, 1_000, 0);
+
+    private static final BulkAssertion<Book> RULES = BulkAssertion.of("Books", List.of(
+            FieldRule.notNull("title", Book::getTitle),
+            FieldRule.that("pageCount should be positive", Book::getPageCount, pages -> pages > 0),
+            FieldRule.notNull("id", Book::getId)));
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Should count every seeded violation per rule and keep the lowest-index examples")
+    void groupsViolationsAndKeepsLowestIndices() {
+        List<Book> books = seeded();
+        BulkReport report = RULES.check(books);
+        Allure.addAttachment("Bulk report", "text/plain", report.toText());
+
+        BulkReport.RuleResult titles = report.rules().get(0);
+        BulkReport.RuleResult pages = report.rules().get(1);
+        BulkReport.RuleResult ids = report.rules().get(2);
+        assertAll("Seeded violations",
+                () -> assertEquals(ELEMENTS, report.elements(), "Every element should be checked"),
+                () -> assertEquals(MISSING_TITLES.size() + 1, titles.violations(), "Missing titles plus the null element"),
+                () -> assertEquals(List.of(7, 100, 513, 700, 1_500), indices(titles), "Title examples should be the five lowest"),
+                () -> assertEquals(ZERO_PAGES.size() + 1, pages.violations(), "Zero page counts plus the null element"),
+                () -> assertEquals(List.of(0, 1_000, 2_000, NULL_ELEMENT, 3_000), indices(pages),
+                        "Page count examples should be the five lowest"),
+                () -> assertEquals("0", pages.examples().getFirst().value(), "Example should show the offending value"),
+                () -> assertEquals("null element", pages.examples().get(3).value(), "Null element should be reported as such"),
+                () -> assertEquals(List.of(NULL_ELEMENT), indices(ids), "Only the null element lacks an id"),
+                () -> assertEquals(MISSING_TITLES.size() + ZERO_PAGES.size() + 3, report.totalViolations()),
+                () -> assertTrue(report.toText().contains("... 3 more"), "Text should count the examples left out")
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Should cap examples at maxExamples and give the same report on every run")
+    void capsExamplesDeterministically() {
+        List<Book> books = seeded();
+        BulkAssertion<Book> capped = RULES.maxExamples(2);
+        BulkReport first = capped.check(books);
+
+        assertAll("Example cap",
+                () -> assertEquals(List.of(7, 100), indices(first.rules().get(0)), "Title examples should be capped at two"),
+                () -> assertEquals(List.of(0, 1_000), indices(first.rules().get(1)), "Page examples should be capped at two"),
+                () -> assertEquals(MISSING_TITLES.size() + 1, first.rules().get(0).violations(), "Cap should not change the count"),
+                () -> assertEquals(first, capped.check(books.stream()), "Stream and list should give the same report"),
+                () -> {
+                    for (int run = 0; run < 20; run++) {
+                        assertEquals(first, capped.check(books), "Run " + run + " should match the first");
+                    }
+                }
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Should pass a clean collection and fail with the report otherwise")
+    void assertNoViolations() {
+        List<Book> clean = new ArrayList<>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            clean.add(book(i, "Book " + i, 100));
+        }
+
+        assertDoesNotThrow(() -> RULES.assertNoViolations(clean));
+        AssertionError error = assertThrows(AssertionError.class, () -> RULES.assertNoViolations(seeded()));
+        assertTrue(error.getMessage().startsWith("Books: 15 violations in 5000 elements"), error.getMessage());
+    }
+
+    private static List<Book> seeded() {
+        List<Book> books = new ArrayList<>(ELEMENTS);
+        for (int i = 0; i < ELEMENTS; i++) {
+            books.add(i == NULL_ELEMENT ? null
+                    : book(i, MISSING_TITLES.contains(i) ? null : "Book " + i, ZERO_PAGES.contains(i) ? 0 : 100));
+        }
+        return books;
+    }
+
+    private static Book book(int id, String title, int pageCount) {
+        return Book.builder().id(id).title(title).pageCount(pageCount).build();
+    }
+
+    private static List<Integer> indices(BulkReport.RuleResult rule) {
+        return rule.examples().stream().map(BulkReport.Violation::index).toList();
+    }
+}
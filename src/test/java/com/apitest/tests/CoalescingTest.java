@@ -0,0 +1,88 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.config.RestAssuredConfig;
+import com.apitest.metrics.EndpointMetrics;
+import com.apitest.metrics.MetricsRegistry;
+import com.apitest.models.Book;
+import com.apitest.services.BookService;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Request Coalescing Tests")
+class CoalescingTest extends BaseTest {
+
+    private static final int BOOK_IDS = 4;
+    private static final int CALLERS_PER_BOOK = 8;
+
+    @Autowired
+    private RestAssuredConfig restAssuredConfig;
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Test
+    @Tag("performance")
+    @DisplayName("Identical concurrent GETs should share one request and each get their own response")
+    void identicalGetsAreCoalesced() throws Exception {
+        BookService books = new BookService(restAssuredConfig.bulk().coalescing());
+        EndpointMetrics metrics = metricsRegistry.endpoint(ApiConfig.DEFAULT_ENVIRONMENT, "GET /api/v1/Books/{id}");
+        long coalescedBefore = metrics.getCoalescedCount();
+        long timedBefore = metrics.getLatency().getCount();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Response>> calls = new ArrayList<>();
+        List<Integer> requestedIds = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int caller = 0; caller < CALLERS_PER_BOOK; caller++) {
+                for (int id = 1; id <= BOOK_IDS; id++) {
+                    int bookId = id;
+                    requestedIds.add(bookId);
+                    calls.add(executor.submit(() -> {
+                        start.await();
+                        return books.getById(bookId);
+                    }));
+                }
+            }
+            start.countDown();
+        }
+
+        List<Response> responses = new ArrayList<>();
+        for (Future<Response> call : calls) {
+            responses.add(call.get());
+        }
+        long coalesced = metrics.getCoalescedCount() - coalescedBefore;
+        long timed = metrics.getLatency().getCount() - timedBefore;
+        Allure.addAttachment("Coalescing", "text/plain", calls.size() + " calls, " + coalesced + " coalesced");
+
+        assertAll("Coalesced get book by ID",
+                () -> assertTrue(coalesced > 0, "Some of the " + calls.size() + " concurrent calls should be coalesced"),
+                () -> assertTrue(coalesced <= calls.size() - BOOK_IDS, "Every book should be requested at least once"),
+                () -> assertEquals(calls.size(), timed, "Every caller, coalesced or not, should be timed"),
+                () -> assertEquals(calls.size(), responses.stream().distinct().count(),
+                        "Every caller should get its own response object"),
+                () -> {
+                    for (int i = 0; i < responses.size(); i++) {
+                        Response response = responses.get(i);
+                        assertEquals(200, response.getStatusCode(), "Status code should be 200");
+                        assertEquals(requestedIds.get(i), response.as(Book.class).getId(),
+                                "Each caller should get the book it asked for");
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,202 @@
+package com.apitest.tests;
+
+import com.apitest.consistency.ConsistencyChecker;
+import com.apitest.consistency.ConsistencyReport;
+import com.apitest.consistency.History;
+import com.apitest.consistency.LinearizabilityChecker;
+import com.apitest.consistency.LinearizabilityChecker.Verdict;
+import com.apitest.consistency.Operation;
+import com.apitest.consistency.Operation.Kind;
+import com.apitest.consistency.ReadYourWritesChecker;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Consistency Checkers")
+class ConsistencyCheckerTest {
+
+    private static final String KEY = "book-1";
+
+    private final LinearizabilityChecker checker = new LinearizabilityChecker(100_000);
+
+    @Test
+    @Tag("consistency")
+    @DisplayName("Should accept a sequential create/update/delete history")
+    void sequentialHistoryIsLinearizable() {
+        List<Operation> history = List.of(
+                write(0, 1, Kind.CREATE, "v1", 0, 10),
+                read(1, 2, "v1", 20, 30),
+                write(2, 1, Kind.UPDATE, "v2", 40, 50),
+                read(3, 2, "v2", 60, 70),
+                write(4, 1, Kind.DELETE, null, 80, 90),
+                read(5, 2, null, 100, 110));
+
+        assertEquals(Verdict.LINEARIZABLE, checker.check(KEY, history).verdict());
+        assertTrue(ReadYourWritesChecker.check(history).isEmpty());
+    }
+
+    @Test
+    @Tag("consistency")
+    @DisplayName("Should flag a read of a value that was already overwritten")
+    void staleReadIsViolation() {
+        Operation stale = read(2, 2, "v1", 40, 50);
+        List<Operation> history = List.of(
+                write(0, 1, Kind.CREATE, "v1", 0, 10),
+                write(1, 1, Kind.UPDATE, "v2", 20, 30),
+                stale);
+
+        LinearizabilityChecker.Result result = checker.check(KEY, history);
+
+        assertAll("Stale read",
+                () -> assertEquals(Verdict.VIOLATION, result.verdict()),
+                () -> assertEquals(stale, result.stuckAt(), "The stale read should be where the search gets stuck")
+        );
+    }
+
+    @Test
+    @Tag("consistency")
+    @DisplayName("Should order overlapping writes by what later reads observed")
+    void overlappingWritesAreLinearizable() {
+        List<Operation> history = List.of(
+                write(0, 1, Kind.CREATE, "v0", 0, 5),
+                write(1, 1, Kind.UPDATE, "a", 10, 100),
+                write(2, 2, Kind.UPDATE, "b", 20, 90),
+                read(3, 3, "b", 30, 40),
+                read(4, 3, "a", 110, 120),
+                read(5, 4, "a", 130, 140));
+
+        assertEquals(Verdict.LINEARIZABLE, checker.check(KEY, history).verdict(),
+                "b then a explains every read, even though a started first");
+    }
+
+    @Test
+    @Tag("consistency")
+    @DisplayName("Should flag reads that see overlapping writes in two different orders")
+    void contradictoryOrdersAreViolation() {
+        List<Operation> history = List.of(
+                write(0, 1, Kind.CREATE, "v0", 0, 5),
+                write(1, 1, Kind.UPDATE, "a", 10, 100),
+                write(2, 2, Kind.UPDATE, "b", 20, 90),
+                read(3, 3, "b", 110, 120),
+                read(4, 4, "a", 130, 140));
+
+        assertEquals(Verdict.VIOLATION, checker.check(KEY, history).verdict(),
+                "Both writes completed before the reads, so a read of b cannot be followed by a read of a");
+    }
+
+    @Test
+    @Tag("consistency")
+    @DisplayName("Should flag a new-old inversion between reads concurrent with one write")
+    void newOldInversionIsViolation() {
+        List<Operation> history = List.of(
+                write(0, 1, Kind.CREATE, "v0", 0, 5),
+                write(1, 1, Kind.UPDATE, "v1", 10, 100),
+                read(2, 2, "v0", 20, 30),
+                read(3, 3, "v1", 25, 35),
+                read(4, 2, "v0", 40, 45));
+
+        assertEquals(Verdict.LINEARIZABLE, checker.check(KEY, history.subList(0, 4)).verdict(),
+                "Reads concurrent with the write may see either value");
+        assertEquals(Verdict.VIOLATION, checker.check(KEY, history).verdict(),
+                "Once v1 has been read, a later read must not return v0");
+    }
+
+    @Test
+    @Tag("consistency")
+    @DisplayName("Should allow a write with unknown outcome to take effect or not")
+    void unknownWriteMayTakeEffect() {
+        Operation unknown = new Operation(1, 1, KEY, Kind.UPDATE, "v2", 20, Long.MAX_VALUE, 0, null);
+
+        assertAll("Unknown write",
+                () -> assertEquals(Verdict.LINEARIZABLE, checker.check(KEY, List.of(
+                        write(0, 1, Kind.CREATE, "v1", 0, 10), unknown, read(2, 2, "v2", 30, 40))).verdict()),
+                () -> assertEquals(Verdict.LINEARIZABLE, checker.check(KEY, List.of(
+                        write(0, 1, Kind.CREATE, "v1", 0, 10), unknown, read(2, 2, "v1", 30, 40))).verdict())
+        );
+    }
+
+    @Test
+    @Tag("consistency")
+    @DisplayName("Should report a stale read after the client's own write")
+    void readYourWritesViolation() {
+        List<Operation> history = List.of(
+                write(0, 2, Kind.CREATE, "v1", 0, 10),
+                write(1, 1, Kind.UPDATE, "v2", 20, 30),
+                read(2, 1, "v1", 40, 50));
+
+        List<ReadYourWritesChecker.Violation> violations = ReadYourWritesChecker.check(history);
+
+        assertAll("Read-your-writes",
+                () -> assertEquals(1, violations.size()),
+                () -> assertEquals(history.get(2), violations.getFirst().read()),
+                () -> assertEquals(history.get(1), violations.getFirst().ownWrite())
+        );
+    }
+
+    @Test
+    @Tag("consistency")
+    @DisplayName("Should check 200k concurrent operations in seconds")
+    void largeHistoryChecksQuickly() {
+        // About 7 s on a single core; the bound leaves room for slow CI runners
+        History history = generate(200_000, 200, 8, new Random(42));
+
+        ConsistencyReport report = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> new ConsistencyChecker(100_000).check(history));
+        Allure.addAttachment("Consistency report", "text/plain", report.toText());
+
+        assertTrue(report.isConsistent(), report::toText);
+    }
+
+    /**
+     * Builds a linearizable history by construction: each operation takes effect at its own point in time,
+     * with invocation and completion spread around it so that about {@code overlap} operations per key overlap.
+     */
+    private static History generate(int operations, int keys, int overlap, Random random) {
+        History history = new History();
+        String[] state = new String[keys];
+        boolean[] created = new boolean[keys];
+        List<Operation> generated = new ArrayList<>(operations);
+        for (int i = 0; i < operations; i++) {
+            int key = random.nextInt(keys);
+            long point = i * 10L;
+            long start = point - random.nextInt(overlap * keys * 5);
+            long end = point + 1 + random.nextInt(overlap * keys * 5);
+            int process = random.nextInt(64);
+            int dice = random.nextInt(100);
+            Operation operation;
+            if (!created[key] || dice < 15) {
+                created[key] = true;
+                state[key] = "k" + key + "-" + i;
+                operation = new Operation(history.nextId(), process, "key-" + key, Kind.CREATE, state[key], start, end, 200, null);
+            } else if (dice < 45) {
+                state[key] = "k" + key + "-" + i;
+                operation = new Operation(history.nextId(), process, "key-" + key, Kind.UPDATE, state[key], start, end, 200, null);
+            } else if (dice < 55) {
+                state[key] = null;
+                operation = new Operation(history.nextId(), process, "key-" + key, Kind.DELETE, null, start, end, 200, null);
+            } else {
+                operation = new Operation(history.nextId(), process, "key-" + key, Kind.READ, null, start, end,
+                        state[key] == null ? 404 : 200, state[key]);
+            }
+            generated.add(operation);
+        }
+        generated.forEach(history::add);
+        return history;
+    }
+
+    private static Operation write(int id, int process, Kind kind, String value, long start, long end) {
+        return new Operation(id, process, KEY, kind, value, start, end, 200, null);
+    }
+
+    private static Operation read(int id, int process, String observed, long start, long end) {
+        return new Operation(id, process, KEY, Kind.READ, null, start, end, observed == null ? 404 : 200, observed);
+    }
+}
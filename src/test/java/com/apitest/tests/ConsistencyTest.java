@@ -0,0 +1,44 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.consistency.ConsistencyChecker;
+import com.apitest.consistency.ConsistencyReport;
+import com.apitest.consistency.ConsistencyRunner;
+import com.apitest.consistency.History;
+import com.apitest.services.ApiClientFactory;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Concurrent CRUD Consistency")
+@EnabledIfSystemProperty(named = "api.consistency.enabled", matches = "true")
+class ConsistencyTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private ApiClientFactory apiClientFactory;
+
+    @Test
+    @Tag("consistency")
+    @DisplayName("Concurrent writes should stay linearizable and readable by their writer")
+    void concurrentCrudIsLinearizable() throws InterruptedException {
+        ApiConfig.ConsistencyConfig config = apiConfig.getConsistency();
+        History history = new ConsistencyRunner(apiClientFactory.bulkFor(ApiConfig.DEFAULT_ENVIRONMENT), config).run();
+        history.writeTo(Path.of(config.getHistoryFile()));
+
+        ConsistencyReport report = new ConsistencyChecker(config.getMaxStatesPerEvent()).check(history);
+        Allure.addAttachment("Consistency report", "text/plain", report.toText());
+
+        assertTrue(report.isConsistent(), report::toText);
+    }
+}
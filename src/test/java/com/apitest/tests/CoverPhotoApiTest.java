@@ -0,0 +1,57 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.models.CoverPhoto;
+import com.apitest.services.CoverPhotoService;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cover Photos API Tests")
+class CoverPhotoApiTest extends BaseTest {
+
+    @Autowired
+    private CoverPhotoService coverPhotoService;
+
+    @Test
+    @Tag("smoke")
+    @Tag("regression")
+    @DisplayName("Should return cover photos by book ID")
+    void getCoverPhotosByBookId() {
+        Integer bookId = 1;
+
+        Response response = coverPhotoService.getByBookId(bookId);
+        List<CoverPhoto> covers = List.of(response.as(CoverPhoto[].class));
+
+        assertAll("Get cover photos by book ID",
+                () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
+                () -> assertTrue(response.getContentType().contains(CONTENT_TYPE_JSON), "Content type should be application/json"),
+                () -> assertFalse(covers.isEmpty(), "Cover photo list should not be empty"),
+                () -> covers.forEach(cover -> assertEquals(bookId, cover.getIdBook(),
+                        "Cover photo should be associated with book ID " + bookId)),
+                () -> covers.forEach(cover -> assertNotNull(cover.getUrl(), "Cover photo URL should not be null"))
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Should return empty list for non-existent book ID")
+    void getCoverPhotosByNonExistentBookId() {
+        Integer nonExistentBookId = 999999;
+
+        Response response = coverPhotoService.getByBookId(nonExistentBookId);
+        List<CoverPhoto> covers = List.of(response.as(CoverPhoto[].class));
+
+        assertAll("Get cover photos by non-existent book ID",
+                () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
+                () -> assertTrue(response.getContentType().contains(CONTENT_TYPE_JSON), "Content type should be application/json"),
+                () -> assertTrue(covers.isEmpty(), "Should return empty list for non-existent book")
+        );
+    }
+}
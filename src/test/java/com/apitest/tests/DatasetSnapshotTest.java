@@ -0,0 +1,118 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.services.AuthorService;
+import com.apitest.services.BookService;
+import com.apitest.snapshot.Snapshot;
+import com.apitest.snapshot.SnapshotDiff;
+import com.apitest.snapshot.SnapshotSchema;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Dataset Snapshots")
+class DatasetSnapshotTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Book snapshot should survive a round trip through a memory-mapped file")
+    void bookSnapshotRoundTrip() throws IOException {
+        List<Book> books = List.of(bookService.getAll().as(Book[].class));
+        Snapshot snapshot = Snapshot.of(SnapshotSchema.BOOKS, books, apiConfig.getSnapshot().isOffHeap());
+
+        Path file = Path.of(apiConfig.getSnapshot().getDirectory(), "books.snap");
+        snapshot.writeTo(file);
+        Snapshot mapped = Snapshot.map(file);
+
+        Book first = books.getFirst();
+        int row = mapped.rowOf(first.getId());
+        assertAll("Book snapshot round trip",
+                () -> assertEquals(books.size(), mapped.size() + mapped.getDuplicateIds() + mapped.getMissingIds(),
+                        "Every book should be stored or counted as dropped"),
+                () -> assertTrue(SnapshotDiff.between(snapshot, mapped).isEmpty(), "Mapped snapshot should equal the original"),
+                () -> assertTrue(row >= 0, "Snapshot should contain book " + first.getId()),
+                () -> assertEquals(first.getTitle(), mapped.getString(row, mapped.stringColumn("title")), "Title should round trip"),
+                () -> assertEquals(first.getPageCount(), mapped.getInt(row, mapped.intColumn("pageCount")), "Page count should round trip")
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Snapshot streamed from paged books should equal one built from the full list")
+    void streamedSnapshotMatchesList() {
+        boolean offHeap = apiConfig.getSnapshot().isOffHeap();
+        List<Book> books = List.of(bookService.getAll().as(Book[].class));
+        Snapshot streamed = Snapshot.of(SnapshotSchema.BOOKS, bookService.getAllPaged(), offHeap);
+
+        Book first = books.getFirst();
+        Snapshot.Builder<Book> builder = Snapshot.builder(SnapshotSchema.BOOKS);
+        for (int index = books.size() - 1; index >= 0; index--) {
+            builder.add(books.get(index));
+        }
+        Snapshot reversed = builder
+                .add(Book.builder().id(first.getId()).title("Duplicate").build())
+                .add(Book.builder().title("No id").build())
+                .add(null)
+                .build(offHeap);
+
+        assertAll("Streamed book snapshot",
+                () -> assertTrue(SnapshotDiff.between(Snapshot.of(SnapshotSchema.BOOKS, books, offHeap), streamed).isEmpty(),
+                        "Paged snapshot should equal the list-based one"),
+                () -> assertTrue(SnapshotDiff.between(streamed, reversed).isEmpty(),
+                        "Arrival order and later duplicates should not change the snapshot"),
+                () -> assertEquals(1, reversed.getDuplicateIds(), "Duplicate id should be counted"),
+                () -> assertEquals(2, reversed.getMissingIds(), "Items without an id should be counted")
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Author snapshot diff should report added, removed and changed authors")
+    void authorSnapshotDiff() {
+        List<Author> authors = List.of(authorService.getAllAuthors().as(Author[].class));
+        assertTrue(authors.size() >= 2, "Need at least two authors to diff");
+
+        List<Author> modified = new ArrayList<>(authors.subList(1, authors.size()));
+        Author renamed = modified.getFirst();
+        modified.set(0, Author.builder()
+                .id(renamed.getId())
+                .idBook(renamed.getIdBook())
+                .firstName(renamed.getFirstName() + " Jr.")
+                .lastName(renamed.getLastName())
+                .build());
+        modified.add(Author.builder().id(Integer.MAX_VALUE).idBook(1).firstName("Added").lastName("Author").build());
+
+        SnapshotDiff diff = SnapshotDiff.between(
+                Snapshot.of(SnapshotSchema.AUTHORS, authors, apiConfig.getSnapshot().isOffHeap()),
+                Snapshot.of(SnapshotSchema.AUTHORS, modified, apiConfig.getSnapshot().isOffHeap()));
+        Allure.addAttachment("Author snapshot diff", "text/plain", diff.toText());
+
+        assertAll("Author snapshot diff",
+                () -> assertArrayEquals(new int[]{Integer.MAX_VALUE}, diff.getAdded(), "Added author should be reported"),
+                () -> assertArrayEquals(new int[]{authors.getFirst().getId()}, diff.getRemoved(), "Removed author should be reported"),
+                () -> assertEquals(List.of(new SnapshotDiff.Change(renamed.getId(), List.of("firstName"))), diff.getChanged(),
+                        "Renamed author should be reported as a firstName change")
+        );
+    }
+}
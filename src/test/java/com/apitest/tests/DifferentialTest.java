@@ -0,0 +1,45 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.diff.DiffReport;
+import com.apitest.diff.DifferentialRunner;
+import com.apitest.diff.IgnoreRules;
+import com.apitest.helpers.OperationMix;
+import com.apitest.services.ApiClientFactory;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Differential Testing")
+@EnabledIfSystemProperty(named = "api.diff.candidate", matches = ".+")
+class DifferentialTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private ApiClientFactory apiClientFactory;
+
+    @Test
+    @Tag("diff")
+    @DisplayName("Candidate deployment should respond like the baseline")
+    void candidateMatchesBaseline() throws InterruptedException {
+        ApiConfig.DiffConfig config = apiConfig.getDiff();
+        DifferentialRunner runner = new DifferentialRunner(
+                apiClientFactory.bulkFor(config.getBaseline()),
+                apiClientFactory.bulkFor(config.getCandidate()),
+                new IgnoreRules(config.getIgnore()),
+                config.getConcurrency());
+
+        DiffReport report = runner.run(OperationMix.booksAndAuthors(config.getIterations(), config.isIncludeWrites()));
+        Allure.addAttachment("Differential report", "text/plain", report.toText());
+
+        assertEquals(0, report.getMismatchCount(), () -> report.toText());
+    }
+}
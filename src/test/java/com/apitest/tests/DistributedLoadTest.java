@@ -0,0 +1,82 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.distributed.Coordinator;
+import com.apitest.distributed.DistributedReport;
+import com.apitest.distributed.Worker;
+import com.apitest.distributed.WorkerReport;
+import com.apitest.helpers.OperationMix;
+import com.apitest.services.ApiClientFactory;
+import com.apitest.services.ApiOperation;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Entry points for the coordinator and worker processes of a distributed run, selected with
+ * {@code -Dapi.distributed.role}; see the {@code distributed} profile in docker-compose.yml.
+ */
+@DisplayName("Distributed Load")
+class DistributedLoadTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private ApiClientFactory apiClientFactory;
+
+    @Test
+    @Tag("distributed")
+    @EnabledIfSystemProperty(named = "api.distributed.role", matches = "coordinator")
+    @DisplayName("Coordinated workers should sustain the target rate within the error budget")
+    void coordinate() throws IOException, InterruptedException {
+        ApiConfig.DistributedConfig config = apiConfig.getDistributed();
+        DistributedReport report = new Coordinator(config).run();
+        Path reportFile = Path.of(config.getReportFile());
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        Files.writeString(reportFile, report.toText());
+        Allure.addAttachment("Distributed load report", "text/plain", report.toText());
+
+        assertAll("Distributed run" + System.lineSeparator() + report.toText(),
+                () -> assertEquals(0, report.getUnfinishedWorkers(), "Every worker should deliver its final report"),
+                () -> assertTrue(report.getCompleted() > 0, "Workers should have completed operations"),
+                () -> assertTrue(report.getErrorCount() <= config.getMaxErrorRate() * report.getCompleted(),
+                        "Error rate should stay within " + config.getMaxErrorRate()),
+                () -> assertEquals(report.getTargetRate(), report.getAchievedRate(),
+                        config.getRateTolerance() * report.getTargetRate(),
+                        "Achieved rate should be within " + config.getRateTolerance() * 100 + "% of the target"),
+                () -> assertTrue(report.getMissed() <= config.getRateTolerance() * (report.getCompleted() + report.getMissed()),
+                        "Workers should miss at most " + config.getRateTolerance() * 100 + "% of their ticks")
+        );
+    }
+
+    @Test
+    @Tag("distributed")
+    @EnabledIfSystemProperty(named = "api.distributed.role", matches = "worker")
+    @DisplayName("Worker should run its assigned share of the load")
+    void work() throws IOException, InterruptedException {
+        Map<String, ApiOperation> catalogue = new LinkedHashMap<>();
+        OperationMix.booksAndAuthors(1, true).forEach(operation -> catalogue.put(operation.name(), operation));
+        String workerId = InetAddress.getLocalHost().getHostName() + "-" + ProcessHandle.current().pid();
+
+        WorkerReport report = new Worker(apiConfig.getDistributed(),
+                apiClientFactory.bulkFor(ApiConfig.DEFAULT_ENVIRONMENT), workerId).run(catalogue);
+
+        assertTrue(report.completed() > 0, "Worker " + workerId + " should have completed operations");
+    }
+}
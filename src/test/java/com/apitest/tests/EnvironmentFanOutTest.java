@@ -0,0 +1,65 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.base.EnvironmentTest;
+import com.apitest.helpers.AssertionHelper;
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.services.ApiClients;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Multi-environment Smoke Tests")
+class EnvironmentFanOutTest extends BaseTest {
+
+    @EnvironmentTest
+    @Tag("smoke")
+    @Tag("environments")
+    @DisplayName("Should return all books in every environment")
+    void getAllBooks(ApiClients clients) {
+        Response response = clients.books().getAll();
+        List<Book> books = List.of(response.as(Book[].class));
+
+        assertAll("Get all books from " + clients.environment(),
+                () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
+                () -> assertTrue(response.getContentType().contains(CONTENT_TYPE_JSON), "Content type should be application/json"),
+                () -> assertFalse(books.isEmpty(), "Books list should not be empty"),
+                () -> AssertionHelper.assertAllBooksHaveRequiredFields(books)
+        );
+    }
+
+    @EnvironmentTest
+    @Tag("smoke")
+    @Tag("environments")
+    @DisplayName("Should return all authors in every environment")
+    void getAllAuthors(ApiClients clients) {
+        Response response = clients.authors().getAllAuthors();
+        List<Author> authors = List.of(response.as(Author[].class));
+
+        assertAll("Get all authors from " + clients.environment(),
+                () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
+                () -> assertTrue(response.getContentType().contains(CONTENT_TYPE_JSON), "Content type should be application/json"),
+                () -> assertFalse(authors.isEmpty(), "Authors list should not be empty"),
+                () -> AssertionHelper.assertAllAuthorsHaveRequiredFields(authors)
+        );
+    }
+
+    @EnvironmentTest
+    @Tag("regression")
+    @Tag("environments")
+    @DisplayName("Should return book by valid ID in every environment")
+    void getBookById(ApiClients clients) {
+        Response response = clients.books().getById(1);
+        Book book = response.as(Book.class);
+
+        assertAll("Get book by ID from " + clients.environment(),
+                () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
+                () -> assertEquals(1, book.getId(), "Book ID should match requested ID")
+        );
+    }
+}
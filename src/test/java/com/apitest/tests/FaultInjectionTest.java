@@ -0,0 +1,125 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.fault.Fault;
+import com.apitest.fault.FaultProxies;
+import com.apitest.fault.FaultProxy;
+import com.apitest.services.ApiClientFactory;
+import com.apitest.services.ApiClients;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("resilience")
+@DisplayName("Fault Injection Tests")
+class FaultInjectionTest extends BaseTest {
+
+    private static final String GET_BOOK = "GET /api/v1/Books/{id}";
+    private static final String GET_BOOKS = "GET /api/v1/Books";
+    private static final String GET_AUTHORS = "GET /api/v1/Authors";
+
+    @Autowired
+    private FaultProxies faultProxies;
+
+    @Autowired
+    private ApiClientFactory clientFactory;
+
+    private FaultProxy proxy;
+    private ApiClients clients;
+
+    @BeforeEach
+    void connectThroughProxy() {
+        proxy = faultProxies.forEnvironment(ApiConfig.DEFAULT_ENVIRONMENT);
+        clients = clientFactory.forUrl(ApiConfig.DEFAULT_ENVIRONMENT + "-faults", proxy.getBaseUrl());
+    }
+
+    @AfterEach
+    void clearFaults() {
+        Allure.addAttachment("Fault proxy", "text/plain", proxy.stats().toText());
+        proxy.clearAll();
+    }
+
+    @Test
+    @DisplayName("Injected latency should delay only the targeted operation")
+    void latencyDelaysTargetedOperation() {
+        proxy.inject(GET_BOOK, Fault.latency(Duration.ofMillis(300)));
+
+        Response delayed = clients.books().getById(1);
+        Response untouched = clients.authors().getById(1);
+
+        assertAll("Latency fault on " + GET_BOOK,
+                () -> assertEquals(200, delayed.getStatusCode(), "Delayed request should still succeed"),
+                () -> assertTrue(delayed.getTime() >= 300,
+                        "Response time " + delayed.getTime() + "ms should include the injected 300ms"),
+                () -> assertEquals(200, untouched.getStatusCode(), "Other operations should pass through"),
+                () -> assertTrue(proxy.stats().delayed() >= 1, "Proxy should count the delayed request")
+        );
+    }
+
+    @Test
+    @DisplayName("Injected 503 should carry a Retry-After header")
+    void serviceUnavailableWithRetryAfter() {
+        proxy.inject(GET_BOOK, Fault.status(503, Duration.ofSeconds(2)));
+
+        Response response = clients.books().getById(1);
+
+        assertAll("Status fault on " + GET_BOOK,
+                () -> assertEquals(503, response.getStatusCode(), "Proxy should answer with the injected status"),
+                () -> assertEquals("2", response.getHeader("Retry-After"), "Retry-After should be in seconds")
+        );
+    }
+
+    @Test
+    @DisplayName("Injected connection reset should surface as an I/O failure")
+    void connectionResetFailsRequest() {
+        proxy.inject(GET_BOOK, Fault.reset());
+
+        assertThrows(Exception.class, () -> clients.books().getById(1),
+                "A reset connection should fail the request");
+        assertTrue(proxy.stats().reset() >= 1, "Proxy should count the reset");
+    }
+
+    @Test
+    @DisplayName("Mid-body stall should delay but not truncate the response")
+    void midBodyStallDelaysResponse() {
+        proxy.inject(GET_BOOKS, Fault.stall(100, Duration.ofSeconds(1)));
+
+        Response response = clients.books().getAll();
+
+        assertAll("Stall fault on " + GET_BOOKS,
+                () -> assertEquals(200, response.getStatusCode(), "Stalled request should still succeed"),
+                () -> assertTrue(response.getTime() >= 1000,
+                        "Response time " + response.getTime() + "ms should include the 1s stall"),
+                () -> assertFalse(response.jsonPath().getList("$").isEmpty(), "Full body should arrive")
+        );
+    }
+
+    @Test
+    @DisplayName("Bandwidth limit should slow down large responses")
+    void bandwidthLimitSlowsDownload() {
+        Response baseline = clients.authors().getAllAuthors();
+        long bytes = baseline.asByteArray().length;
+        long bytesPerSecond = Math.max(1024, bytes * 2);
+        proxy.inject(GET_AUTHORS, Fault.bandwidth(bytesPerSecond));
+
+        Response throttled = clients.authors().getAllAuthors();
+
+        long expectedMillis = bytes * 1000 / bytesPerSecond;
+        assertAll("Bandwidth fault on " + GET_AUTHORS,
+                () -> assertEquals(200, throttled.getStatusCode(), "Throttled request should still succeed"),
+                () -> assertEquals(bytes, throttled.asByteArray().length, "Throttled body should be complete"),
+                () -> assertTrue(throttled.getTime() >= expectedMillis / 2,
+                        "Response time " + throttled.getTime() + "ms should reflect " + bytesPerSecond + " B/s")
+        );
+    }
+}
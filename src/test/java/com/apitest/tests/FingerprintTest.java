@@ -0,0 +1,99 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.diff.IgnoreRules;
+import com.apitest.fingerprint.FingerprintResult;
+import com.apitest.fingerprint.FingerprintStore;
+import com.apitest.fingerprint.Fingerprints;
+import com.apitest.services.AuthorService;
+import com.apitest.services.BookService;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Response Fingerprint Tests")
+class FingerprintTest extends BaseTest {
+
+    private static final int BOOKS = 20;
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private Fingerprints fingerprints;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Responses should match their stored fingerprints")
+    void responsesMatchFingerprints() {
+        FingerprintStore store = fingerprints.store();
+        assumeTrue(store.hasFingerprints() || apiConfig.getFingerprint().isUpdate(), "No fingerprints under "
+                + apiConfig.getFingerprint().getDirectory() + "; record them with -Dapi.fingerprint.update=true and commit them");
+        List<FingerprintResult> results = new ArrayList<>();
+
+        results.add(store.check("GET /api/v1/Books", "/api/v1/Books", bookService.getAll().asString()));
+        results.add(store.check("GET /api/v1/Authors", "/api/v1/Authors", authorService.getAllAuthors().asString()));
+        for (int id = 1; id <= BOOKS; id++) {
+            results.add(store.check("GET /api/v1/Books/{id}", "/api/v1/Books/" + id, bookService.getById(id).asString()));
+        }
+        store.save();
+
+        Allure.addAttachment("Fingerprints", "text/plain", store.report().toText());
+        assertTrue(results.stream().noneMatch(result -> result.isChanged()
+                || result.outcome() == FingerprintResult.Outcome.UNKNOWN), store.report().toText());
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("A changed response should be diffed structurally, masked fields should not count")
+    void changedResponseIsDiffed(@TempDir Path directory) {
+        IgnoreRules mask = new IgnoreRules(apiConfig.getFingerprint().getMask());
+        FingerprintStore store = new FingerprintStore(directory, mask, true);
+        String recorded = bookService.getById(1).asString();
+        store.check("GET /api/v1/Books/{id}", "/api/v1/Books/1", recorded);
+        store.save();
+
+        FingerprintStore reloaded = new FingerprintStore(directory, mask, false);
+        FingerprintResult again = reloaded.check("GET /api/v1/Books/{id}", "/api/v1/Books/1",
+                bookService.getById(1).asString());
+        FingerprintResult changed = reloaded.check("GET /api/v1/Books/{id}", "/api/v1/Books/1",
+                bookService.getById(2).asString());
+        FingerprintResult unknown = reloaded.check("GET /api/v1/Books/{id}", "/api/v1/Books/2",
+                bookService.getById(2).asString());
+        FingerprintResult unknownOperation = reloaded.check("GET /api/v1/Authors", "/api/v1/Authors",
+                authorService.getAllAuthors().asString());
+        reloaded.save();
+
+        assertAll("Fingerprint of book 1",
+                () -> assertEquals(FingerprintResult.Outcome.MATCHED, again.outcome(),
+                        "The same book should match once the configured fields are masked: " + again.differences()),
+                () -> assertEquals(FingerprintResult.Outcome.CHANGED, changed.outcome(), "Another book should not match"),
+                () -> assertTrue(changed.differences().stream().anyMatch(difference -> difference.path().equals("$.id")),
+                        "The diff should point at the id, was: " + changed.differences()),
+                () -> assertEquals(FingerprintResult.Outcome.UNKNOWN, unknown.outcome(),
+                        "An unseen key should not be recorded outside update mode"),
+                () -> assertEquals(FingerprintResult.Outcome.UNKNOWN, unknownOperation.outcome(),
+                        "An unseen operation should not be recorded outside update mode"),
+                () -> assertFalse(Files.exists(directory.resolve("GET_api_v1_Authors.fp")),
+                        "Nothing should be written outside update mode")
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.config.RestAssuredConfig;
+import com.apitest.fuzz.FuzzEngine;
+import com.apitest.fuzz.FuzzExecutor;
+import com.apitest.fuzz.FuzzOutcome;
+import com.apitest.fuzz.FuzzReport;
+import com.apitest.fuzz.OpenApiContract;
+import com.apitest.fuzz.RegressionCase;
+import com.apitest.fuzz.RegressionStore;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Schema-driven Fuzzing")
+class FuzzTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private RestAssuredConfig restAssuredConfig;
+
+    @Test
+    @Tag("fuzz")
+    @EnabledIfSystemProperty(named = "api.fuzz.enabled", matches = "true")
+    @DisplayName("Should not fail on generated or mutated inputs for any contract operation")
+    void fuzzAllOperations() throws InterruptedException {
+        FuzzEngine engine = new FuzzEngine(OpenApiContract.load("/fakerestapi.json"), executor(), apiConfig.getFuzz());
+
+        FuzzReport report = engine.run();
+        int added = RegressionStore.merge(Path.of(apiConfig.getFuzz().getRegressionFile()),
+                report.getFindings().stream().map(FuzzReport.Finding::toRegressionCase).toList());
+        Allure.addAttachment("Fuzz report", "text/plain", report.toText());
+
+        assertTrue(report.getFindings().isEmpty(), () -> added + " new regression cases saved" + System.lineSeparator() + report.toText());
+    }
+
+    @TestFactory
+    @Tag("fuzz")
+    @DisplayName("Saved fuzz regressions should no longer fail")
+    Stream<DynamicTest> replayRegressionCases() {
+        FuzzExecutor executor = executor();
+        return RegressionStore.load(Path.of(apiConfig.getFuzz().getRegressionFile())).stream()
+                .map(regression -> DynamicTest.dynamicTest(regression.signature(), () -> assertFixed(executor, regression)));
+    }
+
+    private void assertFixed(FuzzExecutor executor, RegressionCase regression) {
+        FuzzOutcome outcome = executor.execute(regression.request());
+        assertFalse(outcome.failure(), () -> "Still failing as " + outcome.signature() + ": " + regression.request().describe());
+    }
+
+    private FuzzExecutor executor() {
+        return new FuzzExecutor(restAssuredConfig::getBulkRequestSpecification);
+    }
+}
@@ -0,0 +1,51 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.config.RestAssuredConfig;
+import com.apitest.lean.LeanClients;
+import com.apitest.lean.OverheadBenchmark;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Lean Client Benchmark")
+@EnabledIfSystemProperty(named = "api.lean.benchmark.enabled", matches = "true")
+class LeanClientBenchmarkTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private RestAssuredConfig restAssuredConfig;
+
+    @Autowired
+    private LeanClients leanClients;
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Lean client should cost less per request than the REST Assured DSL")
+    void compareClientOverhead() throws InterruptedException {
+        ApiConfig.LeanConfig config = apiConfig.getLean();
+        List<OverheadBenchmark.Result> results = new OverheadBenchmark(restAssuredConfig,
+                leanClients.forEnvironment(ApiConfig.DEFAULT_ENVIRONMENT),
+                config.getBenchmarkRequests(), config.getBenchmarkConcurrency()).run();
+        String text = OverheadBenchmark.toText(results);
+        Allure.addAttachment("Client overhead benchmark", "text/plain", text);
+
+        OverheadBenchmark.Result restAssured = results.get(0);
+        OverheadBenchmark.Result lean = results.get(1);
+        assertAll("Client overhead" + System.lineSeparator() + text,
+                () -> assertEquals(0, restAssured.errors(), "REST Assured path had failed requests"),
+                () -> assertEquals(0, lean.errors(), "Lean path had failed requests"),
+                () -> assertTrue(lean.cpuNanos() < restAssured.cpuNanos(), "Lean path should use less CPU per request")
+        );
+    }
+}
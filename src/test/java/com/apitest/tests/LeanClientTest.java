@@ -0,0 +1,53 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.lean.LeanClient;
+import com.apitest.lean.LeanClients;
+import com.apitest.lean.LeanResponse;
+import com.apitest.metrics.EndpointMetrics;
+import com.apitest.metrics.MetricsRegistry;
+import com.apitest.models.Book;
+import com.apitest.services.BookService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Lean Client Tests")
+class LeanClientTest extends BaseTest {
+
+    @Autowired
+    private LeanClients leanClients;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Lean client should bind the same book as the REST Assured service")
+    void getBookMatchesService() {
+        Integer bookId = 1;
+        LeanClient client = leanClients.forEnvironment(ApiConfig.DEFAULT_ENVIRONMENT);
+        EndpointMetrics metrics = metricsRegistry.endpoint(ApiConfig.DEFAULT_ENVIRONMENT,
+                LeanClient.GET_BOOK.operation());
+        long recordedBefore = metrics.getLatency().getCount();
+
+        LeanResponse<Book> lean = client.getBook(bookId);
+        Book expected = bookService.getById(bookId).as(Book.class);
+
+        assertAll("Lean get book by ID",
+                () -> assertEquals(200, lean.statusCode(), "Status code should be 200"),
+                () -> assertNotNull(lean.body(), "Body should be bound to a book"),
+                () -> assertEquals(expected.getId(), lean.body().getId(), "Book ID should match the service response"),
+                () -> assertEquals(expected.getTitle(), lean.body().getTitle(), "Title should match the service response"),
+                () -> assertEquals(recordedBefore + 2, metrics.getLatency().getCount(),
+                        "Both calls should be recorded under the same operation")
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.baseline.GateReport;
+import com.apitest.budget.BudgetReport;
+import com.apitest.budget.LatencyBudgets;
+import com.apitest.baseline.LatencyBaseline;
+import com.apitest.baseline.RegressionGate;
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.MetricsRegistry;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Ordered after every other test class (see the class orderer in the surefire configuration), so it sees the
+ * whole run's metrics.
+ */
+@DisplayName("Performance Regression Gate")
+@Order(Integer.MAX_VALUE)
+@Isolated
+class PerformanceGateTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Autowired
+    private LatencyBudgets latencyBudgets;
+
+    @Test
+    @Tag("performance")
+    @DisplayName("Latency should not regress significantly against the stored baseline")
+    void compareWithBaseline() {
+        ApiConfig.PerfGateConfig config = apiConfig.getPerfGate();
+        assumeTrue(config.isEnabled(), "Performance gate is disabled");
+        LatencyBaseline current = LatencyBaseline.capture(metricsRegistry);
+        assumeFalse(current.isEmpty(), "No requests were recorded in this run");
+        current.write(Path.of(config.getOutput()));
+
+        Path baselineFile = Path.of(config.getBaseline());
+        Optional<LatencyBaseline> baseline = LatencyBaseline.read(baselineFile);
+        if (baseline.isEmpty()) {
+            assumeTrue(config.isUpdateBaseline(), "No baseline at " + baselineFile
+                    + "; run with -Dapi.perf-gate.update-baseline=true to create one");
+            current.write(baselineFile);
+            Allure.addAttachment("Performance gate", "text/plain",
+                    "No baseline at " + baselineFile + "; this run's distributions were saved as the baseline.");
+            return;
+        }
+
+        GateReport report = new RegressionGate(config).compare(baseline.get(), current);
+        Allure.addAttachment("Performance gate", "text/plain", report.toText());
+        if (!report.hasRegressions() && config.isUpdateBaseline()) {
+            current.mergedOver(baseline.get()).write(baselineFile);
+        }
+
+        assertFalse(report.hasRegressions(), "Significant latency regressions against " + baselineFile
+                + System.lineSeparator() + report.toText());
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("Every operation called in this run should stay within its contract latency budget")
+    void latencyBudgets() {
+        assumeTrue(apiConfig.getLatencyBudget().isEnabled(), "Latency budgets are disabled");
+        BudgetReport report = latencyBudgets.report();
+        assumeFalse(report.getRows().isEmpty(), "No budgeted operations were called in this run");
+        Allure.addAttachment("Latency budgets", "text/plain", report.toText());
+
+        assertTrue(report.isWithinBudget(), "Operations over their latency budget"
+                + System.lineSeparator() + report.toText());
+    }
+}
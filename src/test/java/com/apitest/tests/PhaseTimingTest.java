@@ -0,0 +1,84 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.MetricsRegistry;
+import com.apitest.services.BookService;
+import com.apitest.timing.Phase;
+import com.apitest.timing.PhaseBreakdown;
+import com.apitest.timing.PhaseReport;
+import com.apitest.timing.PhaseTimings;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Latency Phase Breakdown Tests")
+class PhaseTimingTest extends BaseTest {
+
+    private static final int CALLS = 30;
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @BeforeEach
+    void requirePhaseTiming() {
+        assumeTrue(apiConfig.getConnection().isPhaseTiming(), "Phase timing is disabled");
+        assumeTrue(apiConfig.getTransport().getType() == ApiConfig.Transport.APACHE,
+                "Phases are only captured by the Apache transport");
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Every response should carry its DNS/connect/TLS/write/TTFB/download phases")
+    void responseCarriesPhases() {
+        Response response = bookService.getAll();
+        Optional<PhaseTimings> timings = PhaseTimings.of(response);
+
+        assertTrue(timings.isPresent(), "Response should carry the " + PhaseTimings.HEADER + " header");
+        PhaseTimings phases = timings.get();
+        assertAll("Phases of get all books",
+                () -> assertTrue(phases.has(Phase.WRITE), "Request write should be timed"),
+                () -> assertTrue(phases.has(Phase.TTFB), "Time to first byte should be timed"),
+                () -> assertTrue(phases.has(Phase.DOWNLOAD), "Body read should be timed"),
+                () -> assertEquals(phases.isConnectionReused(), !phases.has(Phase.DNS),
+                        "DNS should only be timed for new connections"),
+                () -> assertTrue(phases.totalNanos() / 1_000_000 <= response.getTime(),
+                        "Phases (" + phases + ") should fit in the response time of " + response.getTime() + "ms")
+        );
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("Phases should be aggregated per operation")
+    void phasesAggregatedPerOperation() {
+        PhaseBreakdown breakdown = metricsRegistry.endpoint(ApiConfig.DEFAULT_ENVIRONMENT, "GET /api/v1/Books/{id}")
+                .getPhases();
+        long before = breakdown.getTotal().getCount();
+
+        for (int i = 1; i <= CALLS; i++) {
+            bookService.getById(i);
+        }
+
+        Allure.addAttachment("Latency phases", "text/plain", PhaseReport.capture(metricsRegistry).toText());
+        assertAll("Phase breakdown of get book by ID",
+                () -> assertEquals(before + CALLS, breakdown.getTotal().getCount(), "Every call should be recorded"),
+                () -> assertEquals(before + CALLS, breakdown.getPhase(Phase.TTFB).getCount(),
+                        "Every phase should be recorded for every call")
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.ratelimit.RateLimiters;
+import com.apitest.ratelimit.TokenBucket;
+import com.apitest.services.BookService;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Rate Limiting")
+class RateLimitTest extends BaseTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private RateLimiters rateLimiters;
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Concurrent callers should not exceed the configured rate for a host")
+    void concurrentCallersShareTheHostBudget() throws Exception {
+        ApiConfig.RateLimitConfig config = apiConfig.getRateLimit();
+        assumeTrue(config.isEnabled(), "Rate limiting is disabled");
+        int requests = config.getBurst() + (int) Math.ceil(config.getRatePerSecond());
+        TokenBucket bucket = rateLimiters.forUri(apiConfig.getBaseUrl());
+        long acquiredBefore = bucket.getWaits().getCount();
+
+        long start = System.nanoTime();
+        List<Future<Integer>> calls = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(THREADS,
+                Thread.ofPlatform().name("rate-limit-", 0).daemon().factory())) {
+            for (int i = 0; i < requests; i++) {
+                calls.add(pool.submit(() -> bookService.getById(1).getStatusCode()));
+            }
+            for (Future<Integer> call : calls) {
+                call.get();
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        Allure.addAttachment("Rate limiter", "text/plain", rateLimiters.report());
+
+        // Beyond the burst, every request needs a freshly refilled token
+        double minimumSeconds = (requests - config.getBurst()) / config.getRatePerSecond();
+        assertAll("Shared rate limit",
+                () -> assertTrue(elapsedSeconds >= minimumSeconds * 0.9,
+                        String.format("%d requests took %.2fs, expected at least %.2fs", requests, elapsedSeconds, minimumSeconds)),
+                () -> assertEquals(requests, bucket.getWaits().getCount() - acquiredBefore,
+                        "Every request should take a token from the host's shared bucket")
+        );
+    }
+}
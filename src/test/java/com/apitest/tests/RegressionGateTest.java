@@ -0,0 +1,115 @@
+package com.apitest.tests;
+
+import com.apitest.baseline.GateReport;
+import com.apitest.baseline.HistogramStatistics;
+import com.apitest.baseline.LatencyBaseline;
+import com.apitest.baseline.RegressionGate;
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.LatencyHistogram;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Performance Regression Statistics")
+class RegressionGateTest {
+
+    private static final String OPERATION = "GET /api/v1/Books/{id}";
+
+    private final RegressionGate gate = new RegressionGate(new ApiConfig.PerfGateConfig());
+
+    @Test
+    @Tag("performance")
+    @DisplayName("Identical distributions should be unchanged")
+    void identicalDistributionsAreUnchanged() {
+        Map<Integer, Long> buckets = spread(10_000, 200);
+        HistogramStatistics.MannWhitney test = HistogramStatistics.mannWhitney(buckets, buckets);
+
+        GateReport report = compare(buckets, buckets);
+        GateReport.Comparison comparison = report.getComparisons().getFirst();
+        assertAll("Identical distributions",
+                () -> assertEquals(0.5, test.superiority(), 1e-9, "Either side should be slower half the time"),
+                () -> assertTrue(test.pSlower() > 0.4, "p(slower) should be far from significant: " + test.pSlower()),
+                () -> assertEquals(GateReport.Verdict.UNCHANGED, comparison.verdict(), report.toText()),
+                () -> assertTrue(comparison.ratioInterval().lower() <= 1 && comparison.ratioInterval().upper() >= 1,
+                        "Percentile ratio interval should contain 1: " + comparison.ratioInterval())
+        );
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("A distribution shifted up by half should regress, and shifted back should improve")
+    void shiftedDistributionRegressesOrImproves() {
+        Map<Integer, Long> fast = spread(10_000, 200);
+        Map<Integer, Long> slow = spread(15_000, 200);
+        HistogramStatistics.MannWhitney test = HistogramStatistics.mannWhitney(fast, slow);
+
+        GateReport regressed = compare(fast, slow);
+        GateReport improved = compare(slow, fast);
+        Allure.addAttachment("Shifted distributions", "text/plain", regressed.toText() + improved.toText());
+        assertAll("Shifted distributions",
+                () -> assertTrue(test.pSlower() < 1e-6, "Shift should be significant: " + test.pSlower()),
+                () -> assertTrue(test.superiority() > 0.8, "Candidate should usually be slower: " + test.superiority()),
+                () -> assertEquals(GateReport.Verdict.REGRESSED, regressed.getComparisons().getFirst().verdict(), regressed.toText()),
+                () -> assertTrue(regressed.hasRegressions(), "Regression should fail the gate"),
+                () -> assertEquals(GateReport.Verdict.IMPROVED, improved.getComparisons().getFirst().verdict(), improved.toText()),
+                () -> assertFalse(improved.hasRegressions(), "Improvement should not fail the gate")
+        );
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("All samples tied in one bucket should not divide by zero")
+    void allTiedSamplesAreUnchanged() {
+        Map<Integer, Long> tied = spread(20_000, 1);
+        tied.replaceAll((index, count) -> 500L);
+        assertEquals(1, tied.size(), "Every sample should share one bucket");
+        HistogramStatistics.MannWhitney test = HistogramStatistics.mannWhitney(tied, tied);
+
+        GateReport.Comparison comparison = compare(tied, tied).getComparisons().getFirst();
+        assertAll("All-tied samples",
+                () -> assertTrue(Double.isFinite(test.z()), "z should be finite: " + test.z()),
+                () -> assertEquals(0.5, test.pSlower(), 1e-9, "p(slower) should be neutral"),
+                () -> assertEquals(0.5, test.superiority(), 1e-9, "Superiority should be neutral"),
+                () -> assertEquals(GateReport.Verdict.UNCHANGED, comparison.verdict(), "Tied samples should be unchanged"),
+                () -> assertEquals(new HistogramStatistics.Interval(1, 1), comparison.ratioInterval(),
+                        "Every resampled ratio should be exactly 1")
+        );
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("Operations below min-samples should be reported but never gate")
+    void smallSamplesNeverGate() {
+        GateReport report = compare(spread(10_000, 5), spread(50_000, 5));
+        assertAll("Small samples",
+                () -> assertEquals(GateReport.Verdict.INSUFFICIENT_DATA, report.getComparisons().getFirst().verdict()),
+                () -> assertFalse(report.hasRegressions(), "Insufficient data should not fail the gate")
+        );
+    }
+
+    /**
+     * {@code count} calls spaced evenly from {@code startMicros} to twice that.
+     */
+    private static Map<Integer, Long> spread(long startMicros, int count) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < count; i++) {
+            histogram.recordMicros(startMicros + startMicros * i / count);
+        }
+        return histogram.toBucketCounts();
+    }
+
+    private GateReport compare(Map<Integer, Long> baseline, Map<Integer, Long> candidate) {
+        return gate.compare(baselineOf(baseline), baselineOf(candidate));
+    }
+
+    private static LatencyBaseline baselineOf(Map<Integer, Long> buckets) {
+        LatencyHistogram histogram = LatencyHistogram.fromBucketCounts(buckets, 0, 0);
+        LatencyBaseline.Distribution distribution = new LatencyBaseline.Distribution(histogram.getCount(), 10, 0, 0, buckets);
+        return new LatencyBaseline("2026-01-01T00:00:00Z", Map.of(ApiConfig.DEFAULT_ENVIRONMENT, Map.of(OPERATION, distribution)));
+    }
+}
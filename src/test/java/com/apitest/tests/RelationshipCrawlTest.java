@@ -0,0 +1,42 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.crawl.IntegrityChecker;
+import com.apitest.crawl.IntegrityReport;
+import com.apitest.crawl.RelationshipCrawler;
+import com.apitest.crawl.RelationshipIndex;
+import com.apitest.services.ApiClientFactory;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Referential Integrity")
+@EnabledIfSystemProperty(named = "api.crawl.enabled", matches = "true")
+class RelationshipCrawlTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private ApiClientFactory apiClientFactory;
+
+    @Test
+    @Tag("crawl")
+    @DisplayName("Every book, author and cover photo should reference existing data with unique ids")
+    void relationshipsAreConsistent() throws InterruptedException {
+        RelationshipIndex index = new RelationshipCrawler(
+                apiClientFactory.bulkFor(ApiConfig.DEFAULT_ENVIRONMENT), apiConfig.getCrawl()).crawl();
+
+        IntegrityReport report = IntegrityChecker.check(index);
+        Allure.addAttachment("Integrity report", "text/plain", report.toText());
+
+        assertFalse(index.getBookIds().isEmpty(), "Crawl should find at least one book");
+        assertTrue(report.isClean(), report::toText);
+    }
+}
@@ -0,0 +1,108 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.recording.RecordedExchange;
+import com.apitest.recording.TrafficLogWriter;
+import com.apitest.replay.ReplayEngine;
+import com.apitest.replay.ReplayReport;
+import com.apitest.replay.ServiceDispatcher;
+import com.apitest.services.AuthorService;
+import com.apitest.services.BookService;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Always-on counterpart of {@link ReplayTest}: replays a small generated recording of read-only calls.
+ */
+@DisplayName("Traffic Replay Routing")
+class ReplayRoutingTest extends BaseTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    private ServiceDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new ServiceDispatcher(bookService, authorService);
+    }
+
+    @Test
+    @Tag("replay")
+    @DisplayName("Should resolve templated and concrete paths and reject unknown routes")
+    void resolvesRoutes() {
+        Optional<ServiceDispatcher.Dispatch> templated = dispatcher.resolve(exchange("GET", "/api/v1/Books/{id}", Map.of("id", "3")));
+        Optional<ServiceDispatcher.Dispatch> concrete = dispatcher.resolve(exchange("get", "/api/v1/Authors/authors/books/7", Map.of()));
+        Optional<ServiceDispatcher.Dispatch> withQuery = dispatcher.resolve(exchange("GET", "/api/v1/Books?page=2", Map.of()));
+
+        assertAll("Route resolution",
+                () -> assertEquals("GET /api/v1/Books/{id}", templated.orElseThrow().operation()),
+                () -> assertEquals(Map.of("id", "3"), templated.orElseThrow().pathParams()),
+                () -> assertEquals("GET /api/v1/Authors/authors/books/{idBook}", concrete.orElseThrow().operation(),
+                        "Concrete paths should match templates case-insensitively by method"),
+                () -> assertEquals(Map.of("idBook", "7"), concrete.orElseThrow().pathParams()),
+                () -> assertEquals("GET /api/v1/Books", withQuery.orElseThrow().operation(), "Query strings should be ignored"),
+                () -> assertTrue(dispatcher.resolve(exchange("GET", "/api/v1/Users", Map.of())).isEmpty(), "Unknown path"),
+                () -> assertTrue(dispatcher.resolve(exchange("PATCH", "/api/v1/Books/1", Map.of())).isEmpty(), "Unknown method"),
+                () -> assertTrue(dispatcher.resolve(exchange("GET", "/api/v1/Books/1/extra", Map.of())).isEmpty(), "Longer path"),
+                () -> assertTrue(dispatcher.resolve(exchange(null, null, null)).isEmpty(), "Empty exchange")
+        );
+    }
+
+    @Test
+    @Tag("replay")
+    @DisplayName("Should replay a generated recording across lanes and count unsupported exchanges")
+    void replaysGeneratedRecording(@TempDir Path directory) throws InterruptedException {
+        Path recording = directory.resolve("traffic.trl");
+        List<RecordedExchange> exchanges = List.of(
+                exchange("GET", "/api/v1/Books/{id}", Map.of("id", "1")),
+                exchange("GET", "/api/v1/Books/{id}", Map.of("id", "2")),
+                exchange("GET", "/api/v1/Authors/authors/books/1", Map.of()),
+                exchange("GET", "/api/v1/Users", Map.of()),
+                exchange("PATCH", "/api/v1/Books/{id}", Map.of("id", "1")),
+                exchange("GET", "/api/v1/Authors/{id}", Map.of("id", "1")));
+        try (TrafficLogWriter writer = new TrafficLogWriter(recording, 16, 16)) {
+            long startedAt = System.currentTimeMillis() * 1_000;
+            for (int i = 0; i < exchanges.size(); i++) {
+                exchanges.get(i).setStartedAtMicros(startedAt + i * 1_000L);
+                writer.offer(exchanges.get(i));
+            }
+        }
+
+        ReplayReport report = new ReplayEngine(dispatcher, 1.0, 4, 16).replay(recording);
+        Allure.addAttachment("Replay report", "text/plain", report.toText());
+
+        assertAll("Replay of generated recording",
+                () -> assertEquals(2, report.getUnsupportedCount(), "Unknown routes should be counted, not sent"),
+                () -> assertEquals(0, report.getErrorCount(), "Replayed requests should not fail"),
+                () -> assertEquals(0, report.getStatusMismatchCount(), "Replayed statuses should match recording"),
+                () -> assertEquals(List.of("GET /api/v1/Authors/authors/books/{idBook}", "GET /api/v1/Authors/{id}", "GET /api/v1/Books/{id}"),
+                        report.getOperations().keySet().stream().sorted().toList())
+        );
+    }
+
+    private static RecordedExchange exchange(String method, String path, Map<String, String> pathParams) {
+        return RecordedExchange.builder()
+                .method(method)
+                .pathTemplate(path)
+                .pathParams(pathParams)
+                .status(200)
+                .durationMicros(1_000L)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.lean.LeanClients;
+import com.apitest.replay.ReplayEngine;
+import com.apitest.replay.ReplayReport;
+import com.apitest.replay.ServiceDispatcher;
+import com.apitest.services.ApiClientFactory;
+import com.apitest.services.ApiClients;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Traffic Replay")
+@EnabledIfSystemProperty(named = "api.replay.file", matches = ".+")
+class ReplayTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private LeanClients leanClients;
+
+    @Autowired
+    private ApiClientFactory apiClientFactory;
+
+    @Test
+    @Tag("replay")
+    @DisplayName("Should replay recorded traffic without status differences")
+    void replayRecording() throws InterruptedException {
+        ApiConfig.ReplayConfig config = apiConfig.getReplay();
+        ServiceDispatcher dispatcher;
+        if (config.isLean()) {
+            dispatcher = ServiceDispatcher.lean(leanClients.forEnvironment(ApiConfig.DEFAULT_ENVIRONMENT));
+        } else {
+            ApiClients clients = apiClientFactory.bulkFor(ApiConfig.DEFAULT_ENVIRONMENT);
+            dispatcher = new ServiceDispatcher(clients.books(), clients.authors());
+        }
+        ReplayEngine engine = new ReplayEngine(dispatcher,
+                config.getSpeedFactor(), config.getLanes(), config.getMaxInFlight());
+
+        ReplayReport report = engine.replay(Path.of(config.getFile()));
+        Allure.addAttachment("Replay report", "text/plain", report.toText());
+
+        assertAll("Replay of " + config.getFile(),
+                () -> assertEquals(0, report.getErrorCount(), "Replayed requests should not fail"),
+                () -> assertEquals(0, report.getStatusMismatchCount(), "Replayed statuses should match recording")
+        );
+    }
+}
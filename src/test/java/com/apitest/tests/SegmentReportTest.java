@@ -0,0 +1,212 @@
+package com.apitest.tests;
+
+import com.apitest.report.ReportTrend;
+import com.apitest.report.SegmentReader;
+import com.apitest.report.SegmentRecord;
+import com.apitest.report.SegmentReport;
+import com.apitest.report.SegmentResultsWriter;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Segment Allure Results")
+class SegmentReportTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @Tag("reporting")
+    @DisplayName("Should read back results, containers and attachments and expand them like Allure's own writer")
+    void roundTrip() throws IOException {
+        Path results = directory.resolve("segments");
+        try (SegmentResultsWriter writer = new SegmentResultsWriter(results, SegmentResultsWriter.DEFAULT_MAX_SEGMENT_BYTES)) {
+            writer.write(result("r1", "Get book by ID", "BookApiTest", Status.PASSED, null));
+            writer.write(new TestResultContainer().setUuid("c1").setChildren(List.of("r1")));
+            writer.write("a1-attachment.txt", attachment("GET /api/v1/Books/1"));
+        }
+
+        List<SegmentRecord> records = readAll(results);
+        Path expanded = directory.resolve("allure-results");
+        long files = SegmentReport.expand(results, expanded);
+
+        assertAll("Round trip",
+                () -> assertEquals(1, SegmentReader.segments(results).size(), "Everything should fit in one segment"),
+                () -> assertEquals(List.of(SegmentRecord.Kind.RESULT, SegmentRecord.Kind.CONTAINER, SegmentRecord.Kind.ATTACHMENT),
+                        records.stream().map(SegmentRecord::kind).toList(), "Order should be kept"),
+                () -> assertEquals(List.of("r1-result.json", "c1-container.json", "a1-attachment.txt"),
+                        records.stream().map(SegmentRecord::name).toList(), "Names should match Allure's writer"),
+                () -> assertEquals("GET /api/v1/Books/1", new String(records.get(2).content(), StandardCharsets.UTF_8)),
+                () -> assertEquals(3, files, "Every record should be expanded"),
+                () -> assertTrue(Files.readString(expanded.resolve("r1-result.json")).contains("\"name\":\"Get book by ID\""),
+                        "The expanded result should be Allure JSON"),
+                () -> assertEquals("GET /api/v1/Books/1", Files.readString(expanded.resolve("a1-attachment.txt")))
+        );
+    }
+
+    @Test
+    @Tag("reporting")
+    @DisplayName("Should start a new segment once the current one is full")
+    void rollsSegments() {
+        Path results = directory.resolve("segments");
+        try (SegmentResultsWriter writer = new SegmentResultsWriter(results, 64)) {
+            for (int i = 0; i < 5; i++) {
+                writer.write(result("r" + i, "Test " + i, "BookApiTest", Status.PASSED, null));
+            }
+            assertEquals(5, writer.getSegmentCount(), "Each result is larger than a segment");
+        }
+
+        assertEquals(List.of("r0-result.json", "r1-result.json", "r2-result.json", "r3-result.json", "r4-result.json"),
+                readAll(results).stream().map(SegmentRecord::name).toList(), "Segments should be read oldest first");
+    }
+
+    @Test
+    @Tag("reporting")
+    @DisplayName("Should keep every complete record of a segment cut short by a killed run")
+    void truncatedSegment() throws IOException {
+        Path results = directory.resolve("segments");
+        SegmentResultsWriter writer = new SegmentResultsWriter(results, SegmentResultsWriter.DEFAULT_MAX_SEGMENT_BYTES);
+        writer.write(result("r1", "First", "BookApiTest", Status.PASSED, null));
+        writer.write(result("r2", "Second", "BookApiTest", Status.PASSED, null));
+        Path segment = SegmentReader.segments(results).getFirst();
+        long intact = Files.size(segment);
+        writer.write(result("r3", "Third", "BookApiTest", Status.PASSED, null));
+
+        List<String> unclosed = readAll(results).stream().map(SegmentRecord::name).toList();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(intact + (Files.size(segment) - intact) / 2);
+        }
+        List<String> truncated = readAll(results).stream().map(SegmentRecord::name).toList();
+        writer.close();
+
+        assertAll("Truncated segment",
+                () -> assertEquals(List.of("r1-result.json", "r2-result.json", "r3-result.json"), unclosed,
+                        "A segment that was never closed should still read back in full"),
+                () -> assertEquals(List.of("r1-result.json", "r2-result.json"), truncated,
+                        "The torn record should be dropped and the ones before it kept")
+        );
+    }
+
+    @Test
+    @Tag("reporting")
+    @DisplayName("Should build a report with counts, escaped messages, steps and attachments")
+    void reportOutput() throws IOException {
+        Path results = directory.resolve("segments");
+        try (SegmentResultsWriter writer = new SegmentResultsWriter(results, SegmentResultsWriter.DEFAULT_MAX_SEGMENT_BYTES)) {
+            writer.write(result("r1", "Get book by ID", "BookApiTest", Status.PASSED, null)
+                    .setStart(1_000L).setStop(1_250L));
+            writer.write(result("r2", "Create author", "AuthorApiTest", Status.FAILED, "expected <200> but was <500>")
+                    .setStart(1_000L).setStop(3_000L)
+                    .setSteps(List.of(new StepResult().setName("POST /api/v1/Authors").setStatus(Status.FAILED)
+                            .setAttachments(List.of(new Attachment().setName("Response").setSource("a1-attachment.txt"))))));
+            writer.write(result("r3", "Get book by ID", "BookApiTest", Status.PASSED, null)
+                    .setStart(1_000L).setStop(1_100L));
+            writer.write("a1-attachment.txt", attachment("{\"status\":500}"));
+        }
+
+        Path report = directory.resolve("report");
+        SegmentReport.Summary summary = SegmentReport.generate(results, report);
+        String html = Files.readString(report.resolve("index.html"));
+
+        assertAll("Report",
+                () -> assertEquals(3, summary.results(), "Retries should be counted as separate results"),
+                () -> assertEquals(1, summary.attachments()),
+                () -> assertEquals(Map.of("passed", 2L, "failed", 1L), summary.statuses()),
+                () -> assertEquals(2_350, summary.duration().toMillis(), "Durations should add up"),
+                () -> assertTrue(html.contains("<td>AuthorApiTest</td>") && html.contains("<td>BookApiTest</td>"),
+                        "Every suite should have a row"),
+                () -> assertTrue(html.contains("expected &lt;200&gt; but was &lt;500&gt;"), "Messages should be escaped"),
+                () -> assertFalse(html.contains("<500>"), "Nothing from a result should be raw HTML"),
+                () -> assertTrue(html.contains("<li class=\"failed\">POST /api/v1/Authors"), "Steps should be listed"),
+                () -> assertTrue(html.contains("href=\"attachments/a1-attachment.txt\""), "Attachments should be linked"),
+                () -> assertTrue(html.indexOf("Create author") < html.indexOf("Get book by ID"),
+                        "The slowest test should be listed first"),
+                () -> assertTrue(html.endsWith("</body></html>\n"), "The rows should be followed by the footer"),
+                () -> assertEquals("{\"status\":500}", Files.readString(report.resolve("attachments/a1-attachment.txt"))),
+                () -> assertFalse(Files.exists(report.resolve("tests.part")), "The temporary rows file should be removed")
+        );
+    }
+
+    @Test
+    @Tag("reporting")
+    @DisplayName("Should show the previous runs in the report and keep only the most recent ones in the trend file")
+    void reportTrend() throws IOException {
+        Path results = directory.resolve("segments");
+        try (SegmentResultsWriter writer = new SegmentResultsWriter(results, SegmentResultsWriter.DEFAULT_MAX_SEGMENT_BYTES)) {
+            writer.write(result("r1", "Get book by ID", "BookApiTest", Status.PASSED, null));
+            writer.write(result("r2", "Create author", "AuthorApiTest", Status.BROKEN, "Connection reset"));
+        }
+        Path trendFile = directory.resolve("history/trend.jsonl");
+        List<String> previous = new ArrayList<>();
+        for (int i = 0; i < ReportTrend.MAX_RUNS; i++) {
+            previous.add("{\"generated\":\"run-" + i + "\",\"statuses\":{\"passed\":" + i + "},\"millis\":" + i + "}");
+        }
+        previous.add(5, "not json");
+        Files.createDirectories(trendFile.getParent());
+        Files.write(trendFile, previous);
+
+        Path report = directory.resolve("report");
+        SegmentReport.generate(results, report, trendFile);
+        String html = Files.readString(report.resolve("index.html"));
+        List<ReportTrend.Run> runs = ReportTrend.load(trendFile).getRuns();
+
+        assertAll("Trend",
+                () -> assertTrue(html.contains("<h2>Trend</h2>"), "The report should have a trend section"),
+                () -> assertTrue(html.contains("<td>run-0</td>") && html.contains("<td>run-19</td>"),
+                        "Every previous run should have a row"),
+                () -> assertTrue(html.indexOf("<h2>Trend</h2>") < html.indexOf("<h2>Tests</h2>"),
+                        "The trend should come before the test rows"),
+                () -> assertTrue(html.endsWith("</body></html>\n"), "The rows should still be followed by the footer"),
+                () -> assertEquals(ReportTrend.MAX_RUNS, runs.size(), "The oldest run should be dropped"),
+                () -> assertEquals("run-1", runs.getFirst().generated()),
+                () -> assertEquals(Map.of("passed", 1L, "broken", 1L), runs.getLast().statuses(),
+                        "This run should be appended"),
+                () -> assertFalse(Files.exists(directory.resolve("history/trend.jsonl.tmp")),
+                        "The temporary trend file should be moved into place")
+        );
+    }
+
+    private static TestResult result(String uuid, String name, String suite, Status status, String message) {
+        TestResult result = new TestResult()
+                .setUuid(uuid)
+                .setName(name)
+                .setFullName("com.apitest.tests." + suite + "." + name)
+                .setStatus(status)
+                .setLabels(List.of(new Label().setName("suite").setValue(suite)));
+        if (message != null) {
+            result.setStatusDetails(new StatusDetails().setMessage(message));
+        }
+        return result;
+    }
+
+    private static ByteArrayInputStream attachment(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<SegmentRecord> readAll(Path results) {
+        List<SegmentRecord> records = new ArrayList<>();
+        SegmentReader.forEach(results, records::add);
+        return records;
+    }
+}
@@ -0,0 +1,47 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.config.ConnectionPools;
+import com.apitest.helpers.CrudScenarios;
+import com.apitest.services.ApiClientFactory;
+import com.apitest.soak.JvmSampler;
+import com.apitest.soak.SoakReport;
+import com.apitest.soak.SoakRunner;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Soak / Endurance")
+@EnabledIfSystemProperty(named = "api.soak.enabled", matches = "true")
+class SoakTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private ApiClientFactory apiClientFactory;
+
+    @Autowired
+    private ConnectionPools connectionPools;
+
+    @Test
+    @Tag("soak")
+    @DisplayName("Should sustain CRUD traffic without leaks or latency drift")
+    void soakCrudScenarios() throws InterruptedException {
+        SoakRunner runner = new SoakRunner(
+                apiClientFactory.bulkFor(ApiConfig.DEFAULT_ENVIRONMENT),
+                new JvmSampler(connectionPools),
+                apiConfig.getSoak());
+
+        SoakReport report = runner.run(CrudScenarios.booksAndAuthors());
+        Allure.addAttachment("Soak report", "text/plain", report.toText());
+
+        assertTrue(report.isHealthy(), () -> "Soak run flagged degradation:" + System.lineSeparator() + report.toText());
+    }
+}
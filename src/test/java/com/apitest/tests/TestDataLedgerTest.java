@@ -0,0 +1,88 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.cleanup.LedgerEntry;
+import com.apitest.cleanup.ReclaimResult;
+import com.apitest.cleanup.TestDataLedger;
+import com.apitest.helpers.AuthorTestDataBuilder;
+import com.apitest.helpers.BookTestDataBuilder;
+import com.apitest.models.Author;
+import com.apitest.models.Book;
+import com.apitest.services.AuthorService;
+import com.apitest.services.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Test Data Cleanup Tests")
+class TestDataLedgerTest extends BaseTest {
+
+    @Autowired
+    private TestDataLedger ledger;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @BeforeEach
+    void requireLedger() {
+        assumeTrue(ledger.isEnabled(), "Test data cleanup is disabled");
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Created entities should be registered and reclaimed in the background")
+    void createdEntitiesAreReclaimed() throws Exception {
+        Book book = new BookTestDataBuilder().build();
+        assertEquals(200, bookService.create(book).getStatusCode(), "Book should be created");
+
+        String owner = getClass().getName();
+        List<LedgerEntry> registered = ledger.outstanding(owner);
+        assertTrue(registered.stream().anyMatch(entry -> entry.id() == book.getId()
+                        && entry.path().equals("/api/v1/Books/{id}")),
+                "Created book " + book.getId() + " should be in the ledger, was: " + registered);
+
+        ReclaimResult result = ledger.reclaim(owner).get(30, TimeUnit.SECONDS);
+
+        assertAll("Reclaim of " + owner,
+                () -> assertTrue(result.failed().isEmpty(), "No delete should fail: " + result.failed()),
+                () -> assertTrue(result.deleted() >= 1, "The created book should be deleted"),
+                () -> assertTrue(ledger.outstanding(owner).isEmpty(), "Nothing of this class should be outstanding")
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Entities a test deletes itself should leave the ledger")
+    void deletedEntitiesLeaveLedger() {
+        Author author = new AuthorTestDataBuilder().build();
+        assertEquals(200, authorService.create(author).getStatusCode(), "Author should be created");
+        assertEquals(200, authorService.delete(author.getId()).getStatusCode(), "Author should be deleted");
+
+        assertTrue(ledger.outstanding().stream().noneMatch(entry -> entry.id() == author.getId()
+                        && entry.path().equals("/api/v1/Authors/{id}")),
+                "Deleted author " + author.getId() + " should not be outstanding");
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Creates that reuse an existing id should not be registered")
+    void reusedIdsAreNotRegistered() {
+        Book reused = new BookTestDataBuilder().withId(1).build();
+        assertEquals(200, bookService.create(reused).getStatusCode(), "Book should be accepted");
+
+        assertTrue(ledger.outstanding().stream().noneMatch(entry -> entry.id() == 1
+                        && entry.path().equals("/api/v1/Books/{id}")),
+                "Existing book 1 must never be scheduled for deletion");
+    }
+}
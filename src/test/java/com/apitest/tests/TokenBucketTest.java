@@ -0,0 +1,113 @@
+package com.apitest.tests;
+
+import com.apitest.ratelimit.RateLimitFilter;
+import com.apitest.ratelimit.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Token Bucket")
+class TokenBucketTest {
+
+    private static final long MILLIS = 1_000_000L;
+    private static final long SECONDS = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * 10/s with a burst of 2, halved per throttle down to 1/s, and 9s to climb from 1/s back to 10/s, i.e. 1/s
+     * gained per second.
+     */
+    private TokenBucket bucket() {
+        return new TokenBucket("api.example.com", 10, 2, 1, 0.5, Duration.ofSeconds(9), clock::get);
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Should hand out the burst and the current token at once and then pace reservations at the rate")
+    void burstThenPacing() {
+        TokenBucket bucket = bucket();
+
+        assertAll("Pacing",
+                () -> assertEquals(0, bucket.reserve(), "First burst token"),
+                () -> assertEquals(0, bucket.reserve(), "Second burst token"),
+                () -> assertEquals(0, bucket.reserve(), "The token due now, on top of the burst"),
+                () -> assertEquals(100 * MILLIS, bucket.reserve(), "Then one token every 100 ms"),
+                () -> assertEquals(200 * MILLIS, bucket.reserve(), "Reservations queue up in order")
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Should hold reservations back until Retry-After has passed and halve the rate")
+    void retryAfterDelaysAndBacksOff() {
+        TokenBucket bucket = bucket();
+        bucket.throttled(Duration.ofSeconds(3));
+
+        assertAll("Throttled",
+                () -> assertEquals(1, bucket.getThrottledCount()),
+                () -> assertEquals(5.0, bucket.getCurrentRate(), 1e-9, "Rate should be halved"),
+                () -> assertEquals(3 * SECONDS, bucket.reserve(), "Saved-up burst should be dropped until Retry-After"),
+                () -> assertEquals(3 * SECONDS + 200 * MILLIS, bucket.reserve(), "Then paced at the lowered rate")
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Should back off to the minimum rate and recover linearly to the configured rate")
+    void backoffFloorAndLinearRecovery() {
+        TokenBucket bucket = bucket();
+        for (int i = 0; i < 5; i++) {
+            bucket.throttled(null);
+        }
+        double floor = bucket.getCurrentRate();
+
+        clock.addAndGet(4_500 * MILLIS);
+        long waitAfterIdle = bucket.reserve();
+        double halfway = bucket.getCurrentRate();
+
+        clock.addAndGet(10 * SECONDS);
+        bucket.reserve();
+        double recovered = bucket.getCurrentRate();
+
+        assertAll("Backoff and recovery",
+                () -> assertEquals(1.0, floor, 1e-9, "10 -> 5 -> 2.5 -> 1.25 -> 1 and no lower"),
+                () -> assertEquals(0, waitAfterIdle, "Tokens should accumulate while idle"),
+                () -> assertEquals(5.5, halfway, 1e-9, "4.5s at 1/s per second should add 4.5/s"),
+                () -> assertEquals(10.0, recovered, 1e-9, "Recovery should stop at the configured rate")
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Should parse Retry-After as delta-seconds or HTTP-date and clamp huge delays")
+    void parsesAndClampsRetryAfter() {
+        String inTwoMinutes = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(120));
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusHours(1));
+        Duration date = RateLimitFilter.parseRetryAfter(inTwoMinutes);
+
+        TokenBucket bucket = bucket();
+        bucket.throttled(RateLimitFilter.parseRetryAfter(String.valueOf(Long.MAX_VALUE)));
+
+        assertAll("Retry-After",
+                () -> assertEquals(Duration.ofSeconds(120), RateLimitFilter.parseRetryAfter(" 120 ")),
+                () -> assertEquals(Duration.ZERO, RateLimitFilter.parseRetryAfter("-3"), "Negative delays mean now"),
+                () -> assertNull(RateLimitFilter.parseRetryAfter(null)),
+                () -> assertNull(RateLimitFilter.parseRetryAfter("soon"), "Unparseable values should be ignored"),
+                () -> assertTrue(date.compareTo(Duration.ofSeconds(110)) > 0 && date.compareTo(Duration.ofSeconds(120)) <= 0,
+                        "HTTP-date two minutes ahead: " + date),
+                () -> assertEquals(Duration.ZERO, RateLimitFilter.parseRetryAfter(past), "A past date means now"),
+                () -> assertEquals(RateLimitFilter.MAX_RETRY_AFTER, RateLimitFilter.parseRetryAfter("Fri, 31 Dec 9999 23:59:59 GMT")),
+                () -> assertEquals(RateLimitFilter.MAX_RETRY_AFTER.toNanos(), bucket.reserve(),
+                        "A huge delta-seconds should be clamped instead of overflowing the bucket's clock")
+        );
+    }
+}
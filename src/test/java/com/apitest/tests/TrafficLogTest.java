@@ -0,0 +1,115 @@
+package com.apitest.tests;
+
+import com.apitest.recording.RecordedExchange;
+import com.apitest.recording.TrafficLogReader;
+import com.apitest.recording.TrafficLogWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Traffic Log")
+class TrafficLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @Tag("recording")
+    @DisplayName("Should read back every exchange written across sessions")
+    void roundTrip() {
+        Path file = directory.resolve("traffic.trl");
+        writeSession(file, "GET", 3);
+        writeSession(file, "PUT", 2);
+
+        List<RecordedExchange> exchanges = readAll(file);
+
+        assertAll("Round trip",
+                () -> assertEquals(5, exchanges.size(), "Every exchange should be read back"),
+                () -> assertEquals(List.of("GET", "GET", "GET", "PUT", "PUT"),
+                        exchanges.stream().map(RecordedExchange::getMethod).toList(), "Order should be kept"),
+                () -> assertEquals("/api/v1/Books/{id}", exchanges.getFirst().getPathTemplate()),
+                () -> assertEquals(Map.of("id", "1"), exchanges.getFirst().getPathParams())
+        );
+    }
+
+    @Test
+    @Tag("recording")
+    @DisplayName("Should drop a torn trailing block and keep appending after the last intact one")
+    void tornTail() throws IOException {
+        Path file = directory.resolve("traffic.trl");
+        writeSession(file, "GET", 1);
+        long intact = Files.size(file);
+        writeSession(file, "POST", 1);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 5);
+        }
+        writeSession(file, "DELETE", 1);
+
+        List<RecordedExchange> exchanges = readAll(file);
+
+        assertAll("Torn tail",
+                () -> assertEquals(List.of("GET", "DELETE"), exchanges.stream().map(RecordedExchange::getMethod).toList(),
+                        "The torn block should be dropped and the next session should still be readable"),
+                () -> assertTrue(Files.size(file) > intact, "The new session should be appended")
+        );
+    }
+
+    @Test
+    @Tag("recording")
+    @DisplayName("Should recover from a partial block header left by a crash")
+    void tornHeader() throws IOException {
+        Path file = directory.resolve("traffic.trl");
+        writeSession(file, "GET", 2);
+        Files.write(file, new byte[]{0, 0, 1}, StandardOpenOption.APPEND);
+        writeSession(file, "PUT", 1);
+
+        assertEquals(List.of("GET", "GET", "PUT"), readAll(file).stream().map(RecordedExchange::getMethod).toList());
+    }
+
+    @Test
+    @Tag("recording")
+    @DisplayName("Should refuse to append to a file that is not a traffic log")
+    void rejectsForeignFile() throws IOException {
+        Path file = directory.resolve("notes.txt");
+        Files.writeString(file, "not a traffic log");
+
+        assertThrows(IllegalArgumentException.class, () -> new TrafficLogWriter(file, 16, 16));
+        assertEquals("not a traffic log", Files.readString(file), "The file should be left untouched");
+    }
+
+    private static void writeSession(Path file, String method, int count) {
+        try (TrafficLogWriter writer = new TrafficLogWriter(file, 16, 16)) {
+            for (int i = 0; i < count; i++) {
+                writer.offer(RecordedExchange.builder()
+                        .method(method)
+                        .baseUri("http://localhost")
+                        .pathTemplate("/api/v1/Books/{id}")
+                        .pathParams(Map.of("id", "1"))
+                        .status(200)
+                        .startedAtMicros(System.currentTimeMillis() * 1_000)
+                        .durationMicros(1_000L)
+                        .build());
+            }
+        }
+    }
+
+    private static List<RecordedExchange> readAll(Path file) {
+        List<RecordedExchange> exchanges = new ArrayList<>();
+        try (TrafficLogReader reader = new TrafficLogReader(file)) {
+            reader.forEachRemaining(exchanges::add);
+        }
+        return exchanges;
+    }
+}
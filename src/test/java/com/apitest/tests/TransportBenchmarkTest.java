@@ -0,0 +1,50 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.config.RestAssuredConfig;
+import com.apitest.transport.TransportBenchmark;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Transport Benchmark")
+@EnabledIfSystemProperty(named = "api.transport.benchmark.enabled", matches = "true")
+class TransportBenchmarkTest extends BaseTest {
+
+    @Autowired
+    private ApiConfig apiConfig;
+
+    @Autowired
+    private RestAssuredConfig restAssuredConfig;
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("HTTP/2 transport should serve the same load at least as fast as the Apache transport")
+    void compareTransports() throws InterruptedException {
+        ApiConfig.TransportConfig config = apiConfig.getTransport();
+        List<TransportBenchmark.Result> results = new TransportBenchmark(restAssuredConfig,
+                config.getBenchmarkRequests(), config.getBenchmarkConcurrency())
+                .run(List.of(ApiConfig.Transport.APACHE, ApiConfig.Transport.HTTP2));
+        Allure.addAttachment("Transport benchmark", "text/plain", TransportBenchmark.toText(results));
+
+        results.forEach(result -> assertEquals(0, result.errors(),
+                result.transport() + " transport had failed requests" + System.lineSeparator() + TransportBenchmark.toText(results)));
+
+        TransportBenchmark.Result apache = results.get(0);
+        TransportBenchmark.Result http2 = results.get(1);
+        assumeTrue("HTTP/2".equals(http2.protocol()),
+                "Target negotiated " + http2.protocol() + ", so there is no multiplexing to measure");
+        assertTrue(http2.throughput() >= apache.throughput() * config.getBenchmarkMinSpeedup(),
+                String.format("HTTP/2 throughput %.1f/s is below %.2f x Apache's %.1f/s%n%s", http2.throughput(),
+                        config.getBenchmarkMinSpeedup(), apache.throughput(), TransportBenchmark.toText(results)));
+    }
+}
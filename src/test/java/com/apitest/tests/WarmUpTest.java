@@ -0,0 +1,89 @@
+package com.apitest.tests;
+
+import com.apitest.base.BaseTest;
+import com.apitest.config.ApiConfig;
+import com.apitest.metrics.EndpointMetrics;
+import com.apitest.metrics.MetricsRegistry;
+import com.apitest.services.BookService;
+import com.apitest.warmup.WarmUp;
+import com.apitest.warmup.WarmUpReport;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Warm-up Tests")
+class WarmUpTest extends BaseTest {
+
+    @Autowired
+    private WarmUp warmUp;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Warm-up should run once and reach every environment")
+    void warmUpRunsOnce() {
+        WarmUpReport report = warmUp.runOnce();
+        Allure.addAttachment("Warm-up report", "text/plain", report.toText());
+
+        assertAll("Warm-up report",
+                () -> assertSame(report, warmUp.runOnce(), "Warm-up should only run once"),
+                () -> assertFalse(report.environments().isEmpty(), "Warm-up should cover at least one environment"),
+                () -> report.environments().forEach(result -> assertTrue(result.addresses() > 0,
+                        "Host of " + result.environment() + " should resolve")),
+                () -> report.environments().forEach(result -> assertEquals(0, result.failures(),
+                        "Warm-up requests to " + result.environment() + " should not fail"))
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Requests sent while recording is suspended should not reach latency metrics")
+    void suspendedRecordingIsExcluded() {
+        EndpointMetrics metrics = metricsRegistry.endpoint(ApiConfig.DEFAULT_ENVIRONMENT, "GET /api/v1/Books/{id}");
+        long recordedBefore = metrics.getLatency().getCount();
+
+        Response response = metricsRegistry.withoutRecording(() -> bookService.getById(1));
+
+        assertAll("Suspended recording",
+                () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
+                () -> assertEquals(recordedBefore, metrics.getLatency().getCount(), "Request should not be recorded")
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Suspending recording on one thread should not drop requests from other threads")
+    void suspensionIsPerThread() {
+        EndpointMetrics metrics = metricsRegistry.endpoint(ApiConfig.DEFAULT_ENVIRONMENT, "GET /api/v1/Books/{id}");
+        long recordedBefore = metrics.getLatency().getCount();
+
+        Response response;
+        try (ExecutorService otherThread = Executors.newSingleThreadExecutor()) {
+            response = metricsRegistry.withoutRecording(() -> {
+                assertFalse(metricsRegistry.isRecording(), "Recording should be suspended on this thread");
+                return CompletableFuture.supplyAsync(() -> bookService.getById(1), otherThread).join();
+            });
+        }
+
+        assertAll("Per-thread suspension",
+                () -> assertEquals(200, response.getStatusCode(), "Status code should be 200"),
+                () -> assertTrue(metricsRegistry.isRecording(), "Recording should resume afterwards"),
+                () -> assertTrue(metrics.getLatency().getCount() > recordedBefore,
+                        "Request from another thread should be recorded")
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.apitest.tests;
+
+import com.apitest.fingerprint.XxHash64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("XXH64")
+class XxHash64Test {
+
+    // 39 bytes: one 32-byte stripe, then an 8-byte lane would overrun, so a 4-byte word and three single bytes
+    private static final byte[] SPAM = "Nobody inspects the spammish repetition".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Should match the reference XXH64 values")
+    void matchesReferenceVectors() {
+        assertAll("Reference vectors, seed 0",
+                () -> assertEquals(39, SPAM.length),
+                () -> assertEquals(0xEF46DB3751D8E999L, XxHash64.hash(new byte[0]), "empty input"),
+                () -> assertEquals(0x44BC2CF5AD770999L, XxHash64.hash("abc".getBytes(StandardCharsets.US_ASCII)), "\"abc\""),
+                () -> assertEquals(0xFBCEA83C8A378BF1L, XxHash64.hash(SPAM), "39-byte input")
+        );
+    }
+
+    @Test
+    @Tag("regression")
+    @DisplayName("Should hash a slice like the same bytes on their own")
+    void hashesSlices() {
+        byte[] padded = new byte[SPAM.length + 7];
+        System.arraycopy(SPAM, 0, padded, 3, SPAM.length);
+        assertEquals(XxHash64.hash(SPAM), XxHash64.hash(padded, 3, SPAM.length, 0));
+    }
+}